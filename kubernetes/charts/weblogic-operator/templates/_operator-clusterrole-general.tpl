@@ -27,6 +27,14 @@ rules:
 - apiGroups: ["apiextensions.k8s.io"]
   resources: ["customresourcedefinitions"]
   verbs: ["get", "list", "watch", "create", "update", "patch"]
+{{- if .clusterWideWatch }}
+- apiGroups: [""]
+  resources: ["pods", "services", "events", "configmaps"]
+  verbs: ["list", "watch"]
+- apiGroups: ["batch"]
+  resources: ["jobs"]
+  verbs: ["list", "watch"]
+{{- end }}
 {{- end }}
 - apiGroups: ["weblogic.oracle"]
   resources: ["domains", "domains/status"]
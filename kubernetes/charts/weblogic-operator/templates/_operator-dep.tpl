@@ -56,6 +56,10 @@ spec:
         - name: "MOCK_WLS"
           value: "true"
         {{- end }}
+        {{- if .engineExecutorMode }}
+        - name: "ENGINE_EXECUTOR_MODE"
+          value: {{ .engineExecutorMode | quote }}
+        {{- end }}
         resources:
           requests:
             cpu: "100m"
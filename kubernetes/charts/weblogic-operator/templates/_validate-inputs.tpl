@@ -40,6 +40,8 @@
 {{-   end -}}
 {{- end -}}
 {{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "dedicated") -}}
+{{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "clusterWideWatch") -}}
 {{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "mockWLS") -}}
+{{- $ignore := include "utils.verifyOptionalEnum" (list $scope "engineExecutorMode" (list "SCHEDULED" "WORK_STEALING")) -}}
 {{- $ignore := include "utils.endValidation" $scope -}}
 {{- end -}}
@@ -0,0 +1,78 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import io.kubernetes.client.openapi.ApiException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the number of records per second which the operator log formatter can produce. Run with the
+ * "gc" profiler (the default for the benchmarks profile) to also report the bytes allocated per record,
+ * as gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class LoggingFormatterBenchmark {
+
+  private final LoggingFormatter formatter = new LoggingFormatter();
+  private LogRecord simpleRecord;
+  private LogRecord parameterizedRecord;
+  private LogRecord exceptionRecord;
+
+  private static LogRecord createRecord(String message) {
+    LogRecord record = new LogRecord(Level.INFO, message);
+    record.setSourceClassName("oracle.kubernetes.operator.DomainProcessorImpl");
+    record.setSourceMethodName("makeRightDomainPresence");
+    return record;
+  }
+
+  /** Creates the records to format. */
+  @Setup
+  public void setUp() {
+    simpleRecord = createRecord("Job domain1-introspect-domain-job in namespace default is completed");
+
+    parameterizedRecord = createRecord("Creating pod {0} for server {1} in namespace {2}");
+    parameterizedRecord.setParameters(new Object[] {"domain1-managed-server1", "managed-server1", "default"});
+
+    exceptionRecord = createRecord("Failed to replace pod\nwill retry");
+    exceptionRecord.setThrown(new ApiException(409,
+          Collections.singletonMap("Content-Type", Collections.singletonList("application/json")),
+          "{\"kind\":\"Status\",\"reason\":\"Conflict\"}"));
+  }
+
+  @Benchmark
+  public String formatSimpleRecord() {
+    return formatter.format(simpleRecord);
+  }
+
+  @Benchmark
+  public String formatParameterizedRecord() {
+    return formatter.format(parameterizedRecord);
+  }
+
+  @Benchmark
+  public String formatExceptionRecord() {
+    return formatter.format(exceptionRecord);
+  }
+}
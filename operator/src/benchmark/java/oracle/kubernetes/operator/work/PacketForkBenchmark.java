@@ -0,0 +1,81 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of preparing the packet for one forked server, as the managed server start-up
+ * does: a clone of the domain's packet, followed by the puts of the server-specific values. Run with
+ * the "gc" profiler (the default for the benchmarks profile) to report the bytes allocated per server,
+ * as gc.alloc.rate.norm. The copyingFork benchmark repeats the work with the full copy which packets
+ * made before they shared entries, as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PacketForkBenchmark {
+  private static final int DOMAIN_VALUES = 30;
+  private static final int DOMAIN_COMPONENTS = 5;
+
+  private final Packet packet = new Packet();
+  private final Map<String, Object> values = new ConcurrentHashMap<>();
+  private final Map<String, Component> components = new ConcurrentHashMap<>();
+  private final Object serverConfig = new Object();
+
+  /** Fills the domain's packet with typical numbers of values and components. */
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < DOMAIN_VALUES; i++) {
+      packet.put("value" + i, "value" + i);
+    }
+    for (int i = 0; i < DOMAIN_COMPONENTS; i++) {
+      packet.getComponents().put("component" + i, Component.createFor(Integer.valueOf(i)));
+    }
+    values.putAll(packet);
+    components.putAll(packet.getComponents());
+  }
+
+  @Benchmark
+  public Packet sharingFork() {
+    Packet p = packet.clone();
+    p.put("serverScan", serverConfig);
+    p.put("clusterName", "cluster-1");
+    p.put("envVars", serverConfig);
+    p.put("serverName", "managed-server1");
+    return p;
+  }
+
+  @Benchmark
+  public Map<String, Object> copyingFork() {
+    Map<String, Component> copiedComponents = new ConcurrentHashMap<>(components);
+    Map<String, Object> copiedValues = new ConcurrentHashMap<>(values);
+    copiedValues.put("serverScan", serverConfig);
+    copiedValues.put("clusterName", "cluster-1");
+    copiedValues.put("envVars", serverConfig);
+    copiedValues.put("serverName", "managed-server1");
+    return copiedComponents.isEmpty() ? null : copiedValues;
+  }
+
+  @Benchmark
+  public Component createResponseComponent() {
+    return Component.createFor(Map.class, values);
+  }
+}
@@ -0,0 +1,164 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1Event;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.builders.WatchI;
+import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+/**
+ * Watches a single resource type in all namespaces over one connection, and passes each event to the listener
+ * registered for the namespace of the changed resource. Events for namespaces without a registered listener
+ * are discarded, so that the operator only sees changes in the namespaces it manages.
+ *
+ * @param <T> the type of resource watched
+ */
+class ClusterWideWatcher<T> implements WatchListener<T> {
+  private final String resourceType;
+  private final WatchCreator<T> watchCreator;
+  private final Function<T, V1ObjectMeta> getMetadata;
+  private final Map<String, WatchListener<T>> listeners = new ConcurrentHashMap<>();
+  private final AtomicBoolean stopping = new AtomicBoolean(false);
+  private Watcher<T> watcher;
+
+  private ClusterWideWatcher(
+      String resourceType, WatchCreator<T> watchCreator, Function<T, V1ObjectMeta> getMetadata) {
+    this.resourceType = resourceType;
+    this.watchCreator = watchCreator;
+    this.getMetadata = getMetadata;
+  }
+
+  static ClusterWideWatcher<V1Pod> forPods() {
+    return new ClusterWideWatcher<>(
+        "Pod",
+        b -> b.withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+              .createPodWatchForAllNamespaces(),
+        V1Pod::getMetadata);
+  }
+
+  static ClusterWideWatcher<V1Service> forServices() {
+    return new ClusterWideWatcher<>(
+        "Service",
+        b -> b.withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+              .createServiceWatchForAllNamespaces(),
+        V1Service::getMetadata);
+  }
+
+  static ClusterWideWatcher<V1Event> forEvents(String fieldSelector) {
+    return new ClusterWideWatcher<>(
+        "Event",
+        b -> b.withFieldSelector(fieldSelector).createEventWatchForAllNamespaces(),
+        V1Event::getMetadata);
+  }
+
+  static ClusterWideWatcher<V1Job> forJobs() {
+    return new ClusterWideWatcher<>(
+        "Job",
+        b -> b.withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+              .createJobWatchForAllNamespaces(),
+        V1Job::getMetadata);
+  }
+
+  static ClusterWideWatcher<V1ConfigMap> forConfigMaps() {
+    return new ClusterWideWatcher<>(
+        "ConfigMap",
+        b -> b.withLabelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL).createConfigMapWatchForAllNamespaces(),
+        V1ConfigMap::getMetadata);
+  }
+
+  static ClusterWideWatcher<Domain> forDomains() {
+    return new ClusterWideWatcher<>("Domain", WatchBuilder::createDomainWatchForAllNamespaces, Domain::getMetadata);
+  }
+
+  /**
+   * Starts the cluster-wide watch, unless it is already running.
+   *
+   * @param factory thread factory
+   * @param initialResourceVersion the resource version from which to start watching
+   * @param tuning watch tuning parameters
+   */
+  synchronized void startIfNeeded(ThreadFactory factory, String initialResourceVersion, WatchTuning tuning) {
+    if (watcher == null) {
+      watcher = new Stream(initialResourceVersion, tuning);
+      watcher.start(factory);
+    }
+  }
+
+  /** Stops the cluster-wide watch. */
+  void stop() {
+    stopping.set(true);
+  }
+
+  /**
+   * Directs events for resources in the namespace to the specified listener.
+   *
+   * @param namespace a managed namespace
+   * @param listener the listener for events in the namespace
+   */
+  void addNamespace(String namespace, WatchListener<T> listener) {
+    listeners.put(namespace, listener);
+  }
+
+  /**
+   * Stops passing on events for resources in the namespace.
+   *
+   * @param namespace a namespace no longer managed
+   */
+  void removeNamespace(String namespace) {
+    listeners.remove(namespace);
+  }
+
+  Set<String> getNamespaces() {
+    return Collections.unmodifiableSet(listeners.keySet());
+  }
+
+  @Override
+  public void receivedResponse(Watch.Response<T> item) {
+    Optional.ofNullable(item.object)
+        .map(getMetadata)
+        .map(V1ObjectMeta::getNamespace)
+        .map(listeners::get)
+        .ifPresent(listener -> listener.receivedResponse(item));
+  }
+
+  @FunctionalInterface
+  interface WatchCreator<T> {
+    WatchI<T> createWatch(WatchBuilder watchBuilder) throws ApiException;
+  }
+
+  private class Stream extends Watcher<T> {
+    Stream(String initialResourceVersion, WatchTuning tuning) {
+      super(initialResourceVersion, tuning, stopping, ClusterWideWatcher.this);
+    }
+
+    @Override
+    String getStreamId() {
+      return ClusterWideWatcher.class.getSimpleName() + "/" + resourceType;
+    }
+
+    @Override
+    public WatchI<T> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+      return watchCreator.createWatch(watchBuilder);
+    }
+  }
+}
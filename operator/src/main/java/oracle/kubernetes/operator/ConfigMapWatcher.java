@@ -53,6 +53,11 @@ public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
     return watcher;
   }
 
+  @Override
+  String getNamespace() {
+    return ns;
+  }
+
   @Override
   public WatchI<V1ConfigMap> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
     return watchBuilder
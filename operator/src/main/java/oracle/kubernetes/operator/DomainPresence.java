@@ -8,6 +8,7 @@ import java.util.Optional;
 public class DomainPresence {
   private static final int DEFAULT_TIMEOUT_SECONDS = 5;
   private static final int DEFAULT_RETRY_MAX_COUNT = 5;
+  private static final long DEFAULT_DEBOUNCE_MILLIS = 0;
 
   static int getDomainPresenceFailureRetrySeconds() {
     return Optional.ofNullable(TuningParameters.getInstance())
@@ -20,4 +21,10 @@ public class DomainPresence {
         .map(parameters -> parameters.getMainTuning().domainPresenceFailureRetryMaxCount)
         .orElse(DEFAULT_RETRY_MAX_COUNT);
   }
+
+  static long getDomainPresenceDebounceMillis() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> parameters.getMainTuning().domainPresenceDebounceMillis)
+        .orElse(DEFAULT_DEBOUNCE_MILLIS);
+  }
 }
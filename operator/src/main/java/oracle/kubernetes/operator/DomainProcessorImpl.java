@@ -7,11 +7,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 
@@ -50,6 +53,7 @@ import oracle.kubernetes.operator.steps.DeleteDomainStep;
 import oracle.kubernetes.operator.steps.DomainPresenceStep;
 import oracle.kubernetes.operator.steps.ManagedServersUpStep;
 import oracle.kubernetes.operator.steps.WatchPodReadyAdminStep;
+import oracle.kubernetes.operator.watcher.SharedInformers;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
@@ -61,6 +65,7 @@ import oracle.kubernetes.operator.work.Step.StepAndPacket;
 import oracle.kubernetes.weblogic.domain.model.AdminServer;
 import oracle.kubernetes.weblogic.domain.model.AdminService;
 import oracle.kubernetes.weblogic.domain.model.Channel;
+import oracle.kubernetes.weblogic.domain.model.Cluster;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 
@@ -70,20 +75,36 @@ public class DomainProcessorImpl implements DomainProcessor {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
-  private static final Map<String, FiberGate> makeRightFiberGates = new ConcurrentHashMap<>();
+  private static final String MAKE_RIGHT_GATE = "makeRight";
+  private static final String STATUS_GATE = "status";
+  private static Map<String, FiberGate> makeRightFiberGates = new ConcurrentHashMap<>();
   private static final Map<String, FiberGate> statusFiberGates = new ConcurrentHashMap<>();
   // Map from namespace to map of domainUID to Domain
   private static Map<String, Map<String, DomainPresenceInfo>> DOMAINS =
         new ConcurrentHashMap<>();
-  private static final ConcurrentMap<String, ConcurrentMap<String, ScheduledFuture<?>>>
+  private static final ConcurrentMap<String, ConcurrentMap<String, StatusUpdater>>
         statusUpdaters = new ConcurrentHashMap<>();
   private final DomainProcessorDelegate delegate;
+  private final MakeRightCoalescer makeRightCoalescer = new MakeRightCoalescer(this::internalMakeRightDomainPresence);
 
   public DomainProcessorImpl(DomainProcessorDelegate delegate) {
     this.delegate = delegate;
   }
 
-  private static DomainPresenceInfo getExistingDomainPresenceInfo(String ns, String domainUid) {
+  /**
+   * Returns the gates which run the fibers of this processor, keyed first by their purpose, "makeRight" or
+   * "status", and then by namespace.
+   *
+   * @return a map of purpose to a map of namespace to fiber gate
+   */
+  public static Map<String, Map<String, FiberGate>> getFiberGates() {
+    Map<String, Map<String, FiberGate>> gates = new TreeMap<>();
+    gates.put(MAKE_RIGHT_GATE, new TreeMap<>(makeRightFiberGates));
+    gates.put(STATUS_GATE, new TreeMap<>(statusFiberGates));
+    return gates;
+  }
+
+  static DomainPresenceInfo getExistingDomainPresenceInfo(String ns, String domainUid) {
     return DOMAINS.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).get(domainUid);
   }
 
@@ -98,27 +119,32 @@ public class DomainProcessorImpl implements DomainProcessor {
     if (map != null) {
       map.remove(domainUid);
     }
+    DomainPresenceInfo.removeDomainState(ns, domainUid);
   }
 
   private static void registerStatusUpdater(
-        String ns, String domainUid, ScheduledFuture<?> future) {
-    ScheduledFuture<?> existing =
-          statusUpdaters.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).put(domainUid, future);
+        String ns, String domainUid, StatusUpdater updater) {
+    StatusUpdater existing =
+          statusUpdaters.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).put(domainUid, updater);
     if (existing != null) {
       existing.cancel(false);
     }
   }
 
   private static void unregisterStatusUpdater(String ns, String domainUid) {
-    ConcurrentMap<String, ScheduledFuture<?>> map = statusUpdaters.get(ns);
+    ConcurrentMap<String, StatusUpdater> map = statusUpdaters.get(ns);
     if (map != null) {
-      ScheduledFuture<?> existing = map.remove(domainUid);
+      StatusUpdater existing = map.remove(domainUid);
       if (existing != null) {
         existing.cancel(true);
       }
     }
   }
 
+  private static Optional<StatusUpdater> getStatusUpdater(String ns, String domainUid) {
+    return Optional.ofNullable(statusUpdaters.get(ns)).map(m -> m.get(domainUid));
+  }
+
   private static void onEvent(V1Event event) {
     V1ObjectReference ref = event.getInvolvedObject();
     if (ref == null) {
@@ -145,6 +171,34 @@ public class DomainProcessorImpl implements DomainProcessor {
           .orElse(null);
   }
 
+  // Returns true if the shared informers hold a complete view of the pods and services in the namespace,
+  // so that they can be read in place of a list call.
+  private static boolean isCachedNamespace(String ns) {
+    SharedInformers informers = SharedInformers.getInstance();
+    return informers.getPods().isSynced(ns) && informers.getServices().isSynced(ns);
+  }
+
+  // selects the same resources as the list calls, which require the created-by-operator label
+  private static void populateFromCache(DomainPresenceInfo info) {
+    SharedInformers informers = SharedInformers.getInstance();
+    for (V1Pod pod : informers.getPods().listForDomain(info.getNamespace(), info.getDomainUid())) {
+      if (hasCreatedByOperatorLabel(pod.getMetadata())) {
+        Optional.ofNullable(PodHelper.getPodServerName(pod)).ifPresent(name -> info.setServerPod(name, pod));
+      }
+    }
+    for (V1Service service : informers.getServices().listForDomain(info.getNamespace(), info.getDomainUid())) {
+      if (hasCreatedByOperatorLabel(service.getMetadata())) {
+        ServiceHelper.addToPresence(info, service);
+      }
+    }
+  }
+
+  private static boolean hasCreatedByOperatorLabel(V1ObjectMeta metadata) {
+    return Optional.ofNullable(metadata.getLabels())
+        .map(labels -> labels.containsKey(LabelConstants.CREATEDBYOPERATOR_LABEL))
+        .orElse(false);
+  }
+
   private static Step readExistingPods(DomainPresenceInfo info) {
     return new CallBuilder()
           .withLabelSelectors(
@@ -247,7 +301,12 @@ public class DomainProcessorImpl implements DomainProcessor {
         info.setServerPodBeingDeleted(serverName, Boolean.FALSE);
         // fall through
       case "MODIFIED":
+        boolean statusMayHaveChanged = mayHaveChangedServerStatus(info.getServerPod(serverName), pod);
         info.setServerPodFromEvent(serverName, pod);
+        if (statusMayHaveChanged) {
+          info.requestServerStatusPoll(serverName);
+          getStatusUpdater(info.getNamespace(), domainUid).ifPresent(StatusUpdater::requestRun);
+        }
         break;
       case "DELETED":
         boolean removed = info.deleteServerPodFromEvent(serverName, pod);
@@ -262,6 +321,28 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
+  // A server's state is likely to have changed when its pod becomes ready or unready, a container restarts,
+  // the pod is deleted, or a new pod replaces it.
+  private boolean mayHaveChangedServerStatus(V1Pod current, V1Pod event) {
+    return current == null
+        || !Objects.equals(getUid(current), getUid(event))
+        || PodHelper.isReady(current) != PodHelper.isReady(event)
+        || PodHelper.isDeleting(current) != PodHelper.isDeleting(event)
+        || getRestartCount(current) != getRestartCount(event);
+  }
+
+  private String getUid(V1Pod pod) {
+    return Optional.ofNullable(pod.getMetadata()).map(V1ObjectMeta::getUid).orElse(null);
+  }
+
+  private int getRestartCount(V1Pod pod) {
+    return Optional.ofNullable(pod.getStatus())
+        .map(V1PodStatus::getContainerStatuses)
+        .map(statuses -> statuses.stream().map(V1ContainerStatus::getRestartCount).filter(Objects::nonNull)
+            .mapToInt(Integer::intValue).sum())
+        .orElse(0);
+  }
+
   private String getNamespace(V1Pod pod) {
     return Optional.ofNullable(pod)
         .map(V1Pod::getMetadata)
@@ -389,6 +470,10 @@ public class DomainProcessorImpl implements DomainProcessor {
       case "MODIFIED":
         d = item.object;
         domainUid = d.getDomainUid();
+        if (isSelfInducedStatusChange(d)) {
+          LOGGER.fine(MessageKeys.NOT_STARTING_DOMAINUID_THREAD, domainUid);
+          break;
+        }
         LOGGER.info(MessageKeys.WATCH_DOMAIN, domainUid);
         makeRightDomainPresence(new DomainPresenceInfo(d), false, false, true);
         break;
@@ -404,60 +489,136 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
-  private void scheduleDomainStatusUpdating(DomainPresenceInfo info) {
-    final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
+  // An event caused only by a status write of the operator itself needs no processing beyond caching the
+  // domain it reports, and is recognized without starting a make-right.
+  private static boolean isSelfInducedStatusChange(Domain domain) {
+    DomainPresenceInfo existing = getExistingDomainPresenceInfo(domain.getMetadata().getNamespace(),
+        domain.getDomainUid());
+    if (existing == null || !existing.getStatusWriter().isSelfInduced(existing.getDomain(), domain)) {
+      return false;
+    }
 
+    if (!KubernetesUtils.isFirstNewer(existing.getDomain().getMetadata(), domain.getMetadata())) {
+      existing.setDomain(domain);
+    }
+    return true;
+  }
+
+  private void scheduleDomainStatusUpdating(DomainPresenceInfo info) {
     MainTuning main = TuningParameters.getInstance().getMainTuning();
-    registerStatusUpdater(
-        info.getNamespace(),
-        info.getDomainUid(),
+    StatusUpdater updater = new StatusUpdater(info, main.statusUpdateTimeoutSeconds);
+    registerStatusUpdater(info.getNamespace(), info.getDomainUid(), updater);
+
+    // Each cycle reads only the servers whose next read is due, so a short cycle costs little
+    // for a domain whose servers are stable.
+    updater.setFuture(
         delegate.scheduleWithFixedDelay(
-            () -> {
-              try {
-                V1SubjectRulesReviewStatus srrs = delegate.getSubjectRulesReviewStatus(info.getNamespace());
-                Packet packet = new Packet();
-                packet
-                    .getComponents()
-                    .put(
-                        ProcessingConstants.DOMAIN_COMPONENT_NAME,
-                        Component.createFor(info, delegate.getVersion(),
-                            V1SubjectRulesReviewStatus.class, srrs));
-                packet.put(LoggingFilter.LOGGING_FILTER_PACKET_KEY, loggingFilter);
-                Step strategy =
-                    ServerStatusReader.createStatusStep(main.statusUpdateTimeoutSeconds, null);
-                FiberGate gate = getStatusFiberGate(info.getNamespace());
-
-                Fiber f =
-                    gate.startFiberIfNoCurrentFiber(
-                        info.getDomainUid(),
-                        strategy,
-                        packet,
-                        new CompletionCallback() {
-                          @Override
-                          public void onCompletion(Packet packet) {
-                            AtomicInteger serverHealthRead =
-                                packet.getValue(
-                                    ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
-                            if (serverHealthRead == null || serverHealthRead.get() == 0) {
-                              loggingFilter.setFiltering(false).resetLogHistory();
-                            } else {
-                              loggingFilter.setFiltering(true);
-                            }
-                          }
-
-                          @Override
-                          public void onThrowable(Packet packet, Throwable throwable) {
-                            LOGGER.severe(MessageKeys.EXCEPTION, throwable);
-                            loggingFilter.setFiltering(true);
-                          }
-                        });
-              } catch (Throwable t) {
-                LOGGER.severe(MessageKeys.EXCEPTION, t);
+            updater, main.initialShortDelay, main.initialShortDelay, TimeUnit.SECONDS));
+  }
+
+  /**
+   * Runs a status cycle for a domain. It is run periodically, and also when a pod event suggests that the
+   * state of a server has changed; a requested cycle which finds another still running is run again once
+   * that one completes.
+   */
+  private class StatusUpdater implements Runnable {
+    private final DomainPresenceInfo info;
+    private final int timeoutSeconds;
+    private final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
+    private final AtomicBoolean rerunRequested = new AtomicBoolean();
+    private volatile ScheduledFuture<?> future;
+    private volatile boolean cancelled;
+
+    StatusUpdater(DomainPresenceInfo info, int timeoutSeconds) {
+      this.info = info;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    void setFuture(ScheduledFuture<?> future) {
+      this.future = future;
+      if (cancelled) {
+        future.cancel(false);
+      }
+    }
+
+    void cancel(boolean mayInterruptIfRunning) {
+      cancelled = true;
+      Optional.ofNullable(future).ifPresent(f -> f.cancel(mayInterruptIfRunning));
+    }
+
+    // runs a cycle on the executor, as reading the access rules blocks, and must not delay the watch thread
+    void requestRun() {
+      getStatusFiberGate(info.getNamespace()).getExecutor().execute(() -> runCycle(true));
+    }
+
+    @Override
+    public void run() {
+      runCycle(false);
+    }
+
+    private void runCycle(boolean requested) {
+      if (cancelled) {
+        return;
+      }
+
+      try {
+        V1SubjectRulesReviewStatus srrs = delegate.getSubjectRulesReviewStatus(info.getNamespace());
+        Packet packet = new Packet();
+        packet
+            .getComponents()
+            .put(
+                ProcessingConstants.DOMAIN_COMPONENT_NAME,
+                Component.createFor(info, delegate.getVersion(),
+                    V1SubjectRulesReviewStatus.class, srrs));
+        packet.put(LoggingFilter.LOGGING_FILTER_PACKET_KEY, loggingFilter);
+        Step strategy = ServerStatusReader.createStatusStep(timeoutSeconds, null);
+        FiberGate gate = getStatusFiberGate(info.getNamespace());
+
+        Fiber fiber = gate.startFiberIfNoCurrentFiber(
+            info.getDomainUid(),
+            strategy,
+            packet,
+            new CompletionCallback() {
+              @Override
+              public void onCompletion(Packet packet) {
+                AtomicInteger serverHealthRead =
+                    packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ_KEY);
+                if (serverHealthRead == null || serverHealthRead.get() == 0) {
+                  loggingFilter.setFiltering(false).resetLogHistory();
+                } else {
+                  loggingFilter.setFiltering(true);
+                }
+                runRequestedCycle();
+              }
+
+              @Override
+              public void onThrowable(Packet packet, Throwable throwable) {
+                LOGGER.severe(MessageKeys.EXCEPTION, throwable);
+                loggingFilter.setFiltering(true);
+                runRequestedCycle();
               }
-            },
-            main.initialShortDelay,
-            main.initialShortDelay,
-            TimeUnit.SECONDS));
+            });
+        if (fiber == null && requested) {
+          deferRequestedCycle(gate);
+        }
+      } catch (Throwable t) {
+        LOGGER.severe(MessageKeys.EXCEPTION, t);
+      }
+    }
+
+    // the running cycle may have completed before the request was recorded, in which case run it now
+    private void deferRequestedCycle(FiberGate gate) {
+      rerunRequested.set(true);
+      if (!gate.getCurrentFibers().containsKey(info.getDomainUid())) {
+        runRequestedCycle();
+      }
+    }
+
+    private void runRequestedCycle() {
+      if (rerunRequested.compareAndSet(true, false)) {
+        requestRun();
+      }
+    }
   }
 
   /**
@@ -502,10 +663,34 @@ public class DomainProcessorImpl implements DomainProcessor {
         }
       }
 
-      internalMakeRightDomainPresence(info, isDeleting, isWillInterrupt);
+      makeRightCoalescer.request(info, isDeleting, isWillInterrupt, isDeleting || isScaleDown(existing, domain),
+          getMakeRightFiberGate(ns).getExecutor(), DomainPresence.getDomainPresenceDebounceMillis());
     }
   }
 
+  // A request which reduces the replicas of a cluster skips the debounce window, so that the servers
+  // which are no longer wanted are shut down promptly.
+  private static boolean isScaleDown(DomainPresenceInfo existing, Domain domain) {
+    Domain current = Optional.ofNullable(existing).map(DomainPresenceInfo::getDomain).orElse(null);
+    if (current == null || domain == null) {
+      return false;
+    }
+
+    if (getDefaultReplicas(domain) < getDefaultReplicas(current)) {
+      return true;
+    }
+    for (Cluster cluster : current.getSpec().getClusters()) {
+      if (domain.getReplicaCount(cluster.getClusterName()) < current.getReplicaCount(cluster.getClusterName())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int getDefaultReplicas(Domain domain) {
+    return Optional.ofNullable(domain.getSpec().getReplicas()).orElse(0);
+  }
+
   private void internalMakeRightDomainPresence(
       @Nullable DomainPresenceInfo info, boolean isDeleting, boolean isWillInterrupt) {
     if (info == null) {
@@ -706,7 +891,7 @@ public class DomainProcessorImpl implements DomainProcessor {
           }
         }
       }
-      return doNext(packet);
+      return doContinueListOrNext(callResponse, packet);
     }
   }
 
@@ -732,7 +917,11 @@ public class DomainProcessorImpl implements DomainProcessor {
       registerDomainPresenceInfo(info);
       Step strategy = getNext();
       if (!info.isPopulated() && info.isNotDeleting()) {
-        strategy = Step.chain(readExistingPods(info), readExistingServices(info), strategy);
+        if (isCachedNamespace(info.getNamespace())) {
+          populateFromCache(info);
+        } else {
+          strategy = Step.chain(readExistingPods(info), readExistingServices(info), strategy);
+        }
       }
       return doNext(strategy, packet);
     }
@@ -845,7 +1034,7 @@ public class DomainProcessorImpl implements DomainProcessor {
         return;
       }
       
-      DomainStatusPatch.updateSynchronously(domain, reason, message);
+      DomainStatusPatch.updateSynchronously(domain, delegate.getVersion(), reason, message);
     }
 
     private V1ContainerStatus getMatchingContainerStatus() {
@@ -25,8 +25,11 @@ import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.calls.FailureStatusSource;
 import oracle.kubernetes.operator.calls.UnrecoverableErrorBuilder;
 import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.CrdHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
+import oracle.kubernetes.operator.helpers.DomainStatusWriter;
+import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -37,6 +40,10 @@ import oracle.kubernetes.operator.rest.ScanCache;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -49,9 +56,10 @@ import oracle.kubernetes.weblogic.domain.model.ServerStatus;
 
 import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
-import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
-import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
-import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_COMPONENT_NAME;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY_KEY;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP_KEY;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP_KEY;
 import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Available;
@@ -170,36 +178,128 @@ public class DomainStatusUpdater {
       DomainStatusUpdaterContext context = createContext(packet);
       DomainStatus newStatus = context.getNewStatus();
 
-      return context.isStatusChanged(newStatus)
+      return context.isStatusUnchanged(newStatus) || !context.offer(newStatus, createFlush(packet))
             ? doNext(packet)
-            : doNext(createDomainStatusPatchStep(context, newStatus), packet);
+            : doNext(createDomainStatusPatchStep(context, newStatus, getNext()), packet);
     }
 
-    private Step createDomainStatusPatchStep(DomainStatusUpdaterContext context, DomainStatus newStatus) {
-      JsonPatchBuilder builder = Json.createPatchBuilder();
-      newStatus.createPatchFrom(builder, context.getStatus());
-      LOGGER.info(MessageKeys.DOMAIN_STATUS, context.getDomainUid(), newStatus);
+    // Returns an action which writes the status held back by the status writer, on a fiber of its own.
+    private Runnable createFlush(Packet packet) {
+      Engine engine = Fiber.current().owner;
+      Packet flushPacket = packet.clone();
+      return () -> engine.createFiber().start(new FlushStep(), flushPacket, new FlushCompletionCallback());
+    }
+  }
+
+  static Step createDomainStatusPatchStep(DomainStatusUpdaterContext context, DomainStatus newStatus, Step next) {
+    JsonPatchBuilder builder = Json.createPatchBuilder();
+    newStatus.createPatchFrom(builder, context.getStatus());
+    LOGGER.info(MessageKeys.DOMAIN_STATUS, context.getDomainUid(), newStatus);
+
+    V1Patch patch = new V1Patch(builder.build().toString());
+    PatchResponseStep responseStep = new PatchResponseStep(context, newStatus, next);
+    return context.isStatusSubresourceEnabled()
+          ? new CallBuilder().patchDomainStatusAsync(
+              context.getDomainName(), context.getNamespace(), patch, responseStep)
+          : new CallBuilder().patchDomainAsync(context.getDomainName(), context.getNamespace(), patch, responseStep);
+  }
+
+  /**
+   * A step which writes the pending status of a domain, if any. It is run when the status writer of the domain
+   * has held back changes, and again after a failed patch has been followed by a refresh of the domain.
+   */
+  static class WritePendingStatusStep extends Step {
+
+    WritePendingStatusStep(Step next) {
+      super(next);
+    }
+
+    DomainStatus getStatusToWrite(DomainStatusWriter writer) {
+      return writer.getPendingStatusToWrite();
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainStatusUpdaterContext context = new DomainStatusUpdaterContext(packet, null);
+      DomainStatus status = context.getDomain() == null ? null : getStatusToWrite(context.getWriter());
+      if (status == null) {
+        return doNext(packet);
+      } else if (status.equals(context.getStatus())) {
+        context.getWriter().recordWritten(status);
+        return doNext(packet);
+      }
+
+      return doNext(createDomainStatusPatchStep(context, status, getNext()), packet);
+    }
+  }
+
+  // Writes against the domain presence currently registered, if any, since the one in the packet of the flush
+  // may have been replaced, along with its cached domain, while the flush was waiting.
+  private static class FlushStep extends WritePendingStatusStep {
+
+    FlushStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      DomainPresenceInfo current
+          = DomainProcessorImpl.getExistingDomainPresenceInfo(info.getNamespace(), info.getDomainUid());
+      if (current != null && current != info) {
+        packet.getComponents().put(
+            DOMAIN_COMPONENT_NAME, Component.createFor(current, packet.getSpi(KubernetesVersion.class)));
+      }
+      return super.apply(packet);
+    }
 
-      return new CallBuilder().patchDomainAsync(
-            context.getDomainName(),
-            context.getNamespace(),
-            new V1Patch(builder.build().toString()),
-            createResponseStep(context, getNext()));
+    @Override
+    DomainStatus getStatusToWrite(DomainStatusWriter writer) {
+      return writer.startFlush();
     }
+  }
 
-    private ResponseStep<Domain> createResponseStep(DomainStatusUpdaterContext context, Step next) {
-      return new PatchResponseStep(this, context, next);
+  private static class FlushCompletionCallback implements CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      LOGGER.severe(MessageKeys.EXCEPTION, throwable);
     }
   }
 
   static class PatchResponseStep extends DefaultResponseStep<Domain> {
-    private final DomainStatusUpdaterStep updaterStep;
     private final DomainStatusUpdaterContext context;
+    private final DomainStatus newStatus;
 
-    public PatchResponseStep(DomainStatusUpdaterStep updaterStep, DomainStatusUpdaterContext context, Step nextStep) {
+    PatchResponseStep(DomainStatusUpdaterContext context, DomainStatus newStatus, Step nextStep) {
       super(nextStep);
-      this.updaterStep = updaterStep;
       this.context = context;
+      this.newStatus = newStatus;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+      if (callResponse.getResult() != null && context.getDomain() != null) {
+        context.getInfo().setDomain(withStatus(context.getDomain(), callResponse.getResult().getStatus()));
+        context.getWriter().recordProducedVersion(callResponse.getResult().getMetadata());
+      }
+      context.getWriter().recordWritten(newStatus);
+      return doNext(packet);
+    }
+
+    // Only the status of the cached domain is replaced, so that a change to the spec made since the domain
+    // was cached is still seen as new when its watch event arrives.
+    private Domain withStatus(Domain cached, DomainStatus status) {
+      Domain domain = new Domain()
+            .withApiVersion(cached.getApiVersion())
+            .withKind(cached.getKind())
+            .withMetadata(cached.getMetadata())
+            .withSpec(cached.getSpec());
+      domain.setStatus(status);
+      return domain;
     }
 
     @Override
@@ -211,8 +311,14 @@ public class DomainStatusUpdater {
       return doNext(createRetry(context, getNext()), packet);
     }
 
+    @Override
+    protected NextAction onFailureNoRetry(Packet packet, CallResponse<Domain> callResponse) {
+      context.getWriter().recordWriteFailed(newStatus);
+      return super.onFailureNoRetry(packet, callResponse);
+    }
+
     public Step createRetry(DomainStatusUpdaterContext context, Step next) {
-      return Step.chain(createDomainRefreshStep(context), updaterStep, next);
+      return Step.chain(createDomainRefreshStep(context), new WritePendingStatusStep(next));
     }
 
     private boolean isPatchFailure(CallResponse<Domain> callResponse) {
@@ -234,10 +340,12 @@ public class DomainStatusUpdater {
 
   static class DomainStatusUpdaterContext {
     private final DomainPresenceInfo info;
+    private final KubernetesVersion version;
     private final DomainStatusUpdaterStep domainStatusUpdaterStep;
 
     DomainStatusUpdaterContext(Packet packet, DomainStatusUpdaterStep domainStatusUpdaterStep) {
       info = packet.getSpi(DomainPresenceInfo.class);
+      version = packet.getSpi(KubernetesVersion.class);
       this.domainStatusUpdaterStep = domainStatusUpdaterStep;
     }
 
@@ -251,8 +359,22 @@ public class DomainStatusUpdater {
       return getDomain().getDomainUid();
     }
 
-    boolean isStatusChanged(DomainStatus newStatus) {
-      return newStatus.equals(getStatus());
+    // A status is compared with the one last written, rather than the pending one, so that a status whose
+    // write has been lost is written again. While a status is pending, a new one always replaces it.
+    boolean isStatusUnchanged(DomainStatus newStatus) {
+      return newStatus.equals(getStatus()) && !getWriter().hasPendingStatus();
+    }
+
+    boolean offer(DomainStatus newStatus, Runnable flush) {
+      return getWriter().offer(newStatus, Fiber.current().owner.getExecutor(), flush);
+    }
+
+    DomainStatusWriter getWriter() {
+      return info.getStatusWriter();
+    }
+
+    boolean isStatusSubresourceEnabled() {
+      return CrdHelper.isStatusSubresourceEnabled(version);
     }
 
     private String getNamespace() {
@@ -271,6 +393,10 @@ public class DomainStatusUpdater {
       return getDomain().getStatus();
     }
 
+    DomainStatus getLatestStatus() {
+      return getWriter().getLatestStatus(getStatus());
+    }
+
     Domain getDomain() {
       return info.getDomain();
     }
@@ -284,7 +410,7 @@ public class DomainStatusUpdater {
     }
 
     DomainStatus cloneStatus() {
-      return Optional.ofNullable(getStatus()).map(DomainStatus::new).orElse(new DomainStatus());
+      return Optional.ofNullable(getLatestStatus()).map(DomainStatus::new).orElse(new DomainStatus());
     }
   }
 
@@ -312,9 +438,9 @@ public class DomainStatusUpdater {
 
       StatusUpdateContext(Packet packet, StatusUpdateStep statusUpdateStep) {
         super(packet, statusUpdateStep);
-        config = packet.getValue(DOMAIN_TOPOLOGY);
-        serverState = packet.getValue(SERVER_STATE_MAP);
-        serverHealth = packet.getValue(SERVER_HEALTH_MAP);
+        config = packet.getValue(DOMAIN_TOPOLOGY_KEY);
+        serverState = packet.getValue(SERVER_STATE_MAP_KEY);
+        serverHealth = packet.getValue(SERVER_HEALTH_MAP_KEY);
       }
 
       @Override
@@ -53,6 +53,11 @@ public class DomainWatcher extends Watcher<Domain> {
     return watcher;
   }
 
+  @Override
+  String getNamespace() {
+    return ns;
+  }
+
   @Override
   public WatchI<Domain> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
     return watchBuilder.createDomainWatch(ns);
@@ -58,6 +58,11 @@ public class EventWatcher extends Watcher<V1Event> {
     return watcher;
   }
 
+  @Override
+  String getNamespace() {
+    return ns;
+  }
+
   @Override
   public WatchI<V1Event> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
     return watchBuilder.withFieldSelector(fieldSelector).createEventWatch(ns);
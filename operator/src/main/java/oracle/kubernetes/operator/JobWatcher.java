@@ -3,7 +3,6 @@
 
 package oracle.kubernetes.operator;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -36,7 +35,7 @@ import oracle.kubernetes.weblogic.domain.model.Domain;
 /** Watches for Jobs to become Ready or leave Ready state. */
 public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
-  private static final Map<String, JobWatcher> JOB_WATCHERS = new HashMap<>();
+  private static final Map<String, JobWatcher> JOB_WATCHERS = new ConcurrentHashMap<>();
   private static JobWatcherFactory factory;
 
   private final String namespace;
@@ -76,6 +75,19 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
     return JOB_WATCHERS.computeIfAbsent(getNamespace(domain), n -> factory.createFor(domain));
   }
 
+  /**
+   * Returns the cached JobWatcher for the namespace, if present; otherwise, creates one which does not open
+   * a watch of its own, but receives the events for its namespace from a cluster-wide job watch.
+   *
+   * @param ns Namespace
+   * @param tuning Watch tuning parameters
+   * @param isStopping Stop signal
+   * @return Job watcher for the namespace
+   */
+  static JobWatcher getOrCreateForClusterWideWatch(String ns, WatchTuning tuning, AtomicBoolean isStopping) {
+    return JOB_WATCHERS.computeIfAbsent(ns, n -> new JobWatcher(n, "", tuning, isStopping));
+  }
+
   static void removeNamespace(String ns) {
     JOB_WATCHERS.remove(ns);
   }
@@ -84,6 +96,11 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
     return domain.getMetadata().getNamespace();
   }
 
+  @Override
+  String getNamespace() {
+    return namespace;
+  }
+
   /**
    * Creates a new JobWatcher and caches it by namespace.
    *
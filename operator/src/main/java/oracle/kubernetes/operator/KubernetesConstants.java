@@ -20,6 +20,7 @@ public interface KubernetesConstants {
   String[] DOMAIN_ALTERNATE_VERSIONS = {"v2", "v3", "v4", "v5"};
 
   String DOMAIN_PATH = "/apis/" + DOMAIN_GROUP + "/" + DOMAIN_VERSION + "/namespaces/{namespace}/" + DOMAIN_PLURAL;
+  String ALL_DOMAINS_PATH = "/apis/" + DOMAIN_GROUP + "/" + DOMAIN_VERSION + "/" + DOMAIN_PLURAL;
   String DOMAIN_SPECIFIC_PATH = DOMAIN_PATH + "/{name}";
   String DOMAIN_SCALE_PATH = DOMAIN_SPECIFIC_PATH + "/scale";
   String DOMAIN_STATUS_PATH = DOMAIN_SPECIFIC_PATH + "/status";
@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -29,7 +30,10 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1Event;
 import io.kubernetes.client.openapi.models.V1EventList;
+import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1Pod;
@@ -50,12 +54,16 @@ import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
+import oracle.kubernetes.operator.http.AuthenticatedClientCache;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.rest.RestConfigImpl;
 import oracle.kubernetes.operator.rest.RestServer;
 import oracle.kubernetes.operator.steps.ConfigMapAfterStep;
+import oracle.kubernetes.operator.watcher.ResourceCache;
+import oracle.kubernetes.operator.watcher.SharedInformers;
+import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
@@ -66,6 +74,7 @@ import oracle.kubernetes.operator.work.FiberGate;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.StuckFiberDetector;
 import oracle.kubernetes.operator.work.ThreadFactorySingleton;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
@@ -79,9 +88,10 @@ public class Main {
   private static final String DPI_MAP = "DPI_MAP";
 
   private static final Container container = new Container();
-  private static final ThreadFactory threadFactory = new WrappedThreadFactory();
+  private static final ThreadFactory threadFactory =
+      new WrappedThreadFactory(ThreadFactorySingleton.getInstance());
   private static final ScheduledExecutorService wrappedExecutorService =
-      Engine.wrappedExecutorService("operator", container);
+      Engine.wrappedExecutorService("operator", container, getEngineExecutorMode());
   private static final TuningParameters tuningAndConfig;
   private static final CallBuilderFactory callBuilderFactory = new CallBuilderFactory();
   private static Map<String, NamespaceStatus> namespaceStatuses = new ConcurrentHashMap<>();
@@ -100,11 +110,25 @@ public class Main {
   private static final DomainProcessor processor = new DomainProcessorImpl(delegate);
   private static final String READINESS_PROBE_FAILURE_EVENT_FILTER =
       "reason=Unhealthy,type=Warning,involvedObject.fieldPath=spec.containers{weblogic-server}";
+  private static final ClusterWideWatcher<V1Pod> clusterWidePodWatcher = ClusterWideWatcher.forPods();
+  private static final ClusterWideWatcher<V1Service> clusterWideServiceWatcher = ClusterWideWatcher.forServices();
+  private static final ClusterWideWatcher<V1Event> clusterWideEventWatcher =
+      ClusterWideWatcher.forEvents(READINESS_PROBE_FAILURE_EVENT_FILTER);
+  private static final ClusterWideWatcher<Domain> clusterWideDomainWatcher = ClusterWideWatcher.forDomains();
+  private static final ClusterWideWatcher<V1Job> clusterWideJobWatcher = ClusterWideWatcher.forJobs();
+  private static final ClusterWideWatcher<V1ConfigMap> clusterWideConfigMapWatcher =
+      ClusterWideWatcher.forConfigMaps();
+  private static boolean clusterWideWatch;
   private static final Semaphore shutdownSignal = new Semaphore(0);
   private static final Engine engine = new Engine(wrappedExecutorService);
   private static String principal;
   private static KubernetesVersion version = null;
 
+  // read directly from the environment, as the executor is needed before the tuning parameters are read
+  private static Engine.ExecutorMode getEngineExecutorMode() {
+    return Engine.ExecutorMode.fromName(System.getenv("ENGINE_EXECUTOR_MODE"));
+  }
+
   static {
     try {
       // suppress System.err since we catch all necessary output with Logger
@@ -182,6 +206,7 @@ public class Main {
     JobWatcher.defineFactory(
         threadFactory, tuningAndConfig.getWatchTuning(), Main::isNamespaceStopping);
 
+    clusterWideWatch = isClusterWideWatch();
     Collection<String> targetNamespaces = getTargetNamespaces();
     LOGGER.info(MessageKeys.OP_CONFIG_TARGET_NAMESPACES, StringUtils.join(targetNamespaces, ", "));
     LOGGER.info(MessageKeys.OP_CONFIG_SERVICE_ACCOUNT, serviceAccountName);
@@ -210,6 +235,9 @@ public class Main {
       // start the REST server
       startRestServer(principal, isNamespaceStopping.keySet());
 
+      engine.setStuckFiberDetector(new StuckFiberDetector(
+          tuningAndConfig.getMainTuning().fiberStuckThresholdSeconds, TimeUnit.SECONDS));
+
       // start periodic retry and recheck
       int recheckInterval = tuningAndConfig.getMainTuning().targetNamespaceRecheckIntervalSeconds;
       engine
@@ -242,7 +270,15 @@ public class Main {
     podWatchers.remove(ns);
     serviceWatchers.remove(ns);
     configMapWatchers.remove(ns);
+    AuthenticatedClientCache.getInstance().removeNamespace(ns);
     JobWatcher.removeNamespace(ns);
+    clusterWidePodWatcher.removeNamespace(ns);
+    clusterWideServiceWatcher.removeNamespace(ns);
+    clusterWideEventWatcher.removeNamespace(ns);
+    clusterWideDomainWatcher.removeNamespace(ns);
+    clusterWideJobWatcher.removeNamespace(ns);
+    clusterWideConfigMapWatcher.removeNamespace(ns);
+    SharedInformers.getInstance().removeNamespace(ns);
   }
 
   private static void stopNamespaces(Collection<String> targetNamespaces,
@@ -311,12 +347,33 @@ public class Main {
         new ReadExistingResourcesBeforeStep(),
         ConfigMapHelper.createScriptConfigMapStep(operatorNamespace, ns),
         createConfigMapStep(ns),
+        clusterWideWatch ? readClusterWideResources(ns) : readNamespacedResources(ns));
+  }
+
+  private static Step readNamespacedResources(String ns) {
+    return Step.chain(
         readExistingPods(ns),
         readExistingEvents(ns),
         readExistingServices(ns),
         readExistingDomains(ns));
   }
 
+  // With cluster-wide watches, the namespace must be registered before it is listed, so that no event
+  // between the list and the registration is lost. Once the caches for the namespace are filled, they are
+  // kept current by the watches and periodic rechecks may read them rather than listing again.
+  private static Step readClusterWideResources(String ns) {
+    return Step.chain(
+        new AddClusterWideListenersStep(ns),
+        isCachedNamespace(ns) ? new ReadCachedResourcesStep(ns) : readNamespacedResources(ns));
+  }
+
+  private static boolean isCachedNamespace(String ns) {
+    SharedInformers informers = SharedInformers.getInstance();
+    return informers.getPods().isSynced(ns)
+        && informers.getServices().isSynced(ns)
+        && informers.getDomains().isSynced(ns);
+  }
+
   private static Step readExistingDomains(String ns) {
     LOGGER.fine(MessageKeys.LISTING_DOMAINS);
     return callBuilderFactory.create().listDomainAsync(ns, new DomainListStep(ns));
@@ -344,7 +401,10 @@ public class Main {
     return new CallBuilder().listNamespaceAsync(new NamespaceListStep());
   }
 
-  private static ConfigMapAfterStep createConfigMapStep(String ns) {
+  private static Step createConfigMapStep(String ns) {
+    if (clusterWideWatch) {
+      return new StartClusterWideConfigMapWatchStep(ns);
+    }
     return new ConfigMapAfterStep(
         ns,
         configMapWatchers,
@@ -389,6 +449,18 @@ public class Main {
         .orElse(tuningAndConfig.get("dedicated")));
   }
 
+  /**
+   * Returns true if the operator should watch resources with one cluster-scoped watch per resource type,
+   * rather than with a set of watches in each target namespace. Ignored for a dedicated operator,
+   * which is not permitted to watch outside its own namespace.
+   * @return true if cluster-wide watches are to be used
+   */
+  static boolean isClusterWideWatch() {
+    return !isDedicated()
+        && "true".equalsIgnoreCase(Optional.ofNullable(getHelmVariable.apply("OPERATOR_CLUSTER_WIDE_WATCH"))
+            .orElse(tuningAndConfig.get("clusterWideWatch")));
+  }
+
   private static void startRestServer(String principal, Collection<String> targetNamespaces)
       throws Exception {
     RestServer.create(new RestConfigImpl(principal, targetNamespaces));
@@ -429,6 +501,12 @@ public class Main {
     }
 
     isNamespaceStopping.forEach((key, value) -> value.set(true));
+    clusterWidePodWatcher.stop();
+    clusterWideServiceWatcher.stop();
+    clusterWideEventWatcher.stop();
+    clusterWideDomainWatcher.stop();
+    clusterWideJobWatcher.stop();
+    clusterWideConfigMapWatcher.stop();
   }
 
   private static EventWatcher createEventWatcher(String ns, String initialResourceVersion) {
@@ -438,7 +516,7 @@ public class Main {
         READINESS_PROBE_FAILURE_EVENT_FILTER,
         initialResourceVersion,
         tuningAndConfig.getWatchTuning(),
-        processor::dispatchEventWatch,
+        createEventListener(),
         isNamespaceStopping(ns));
   }
 
@@ -448,7 +526,7 @@ public class Main {
         ns,
         initialResourceVersion,
         tuningAndConfig.getWatchTuning(),
-        processor::dispatchPodWatch,
+        createPodListener(),
         isNamespaceStopping(ns));
   }
 
@@ -458,7 +536,7 @@ public class Main {
         ns,
         initialResourceVersion,
         tuningAndConfig.getWatchTuning(),
-        processor::dispatchServiceWatch,
+        createServiceListener(),
         isNamespaceStopping(ns));
   }
 
@@ -468,10 +546,62 @@ public class Main {
         ns,
         initialResourceVersion,
         tuningAndConfig.getWatchTuning(),
-        processor::dispatchDomainWatch,
+        createDomainListener(),
         isNamespaceStopping(ns));
   }
 
+  private static WatchListener<V1Event> createEventListener() {
+    return processor::dispatchEventWatch;
+  }
+
+  private static WatchListener<V1Pod> createPodListener() {
+    return SharedInformers.getInstance().getPods().andThen(processor::dispatchPodWatch);
+  }
+
+  private static WatchListener<V1Service> createServiceListener() {
+    return SharedInformers.getInstance().getServices().andThen(processor::dispatchServiceWatch);
+  }
+
+  private static WatchListener<Domain> createDomainListener() {
+    return SharedInformers.getInstance().getDomains().andThen(processor::dispatchDomainWatch);
+  }
+
+  private static void startPodWatch(String ns, String initialResourceVersion) {
+    if (clusterWideWatch) {
+      clusterWidePodWatcher.startIfNeeded(
+          threadFactory, initialResourceVersion, tuningAndConfig.getWatchTuning());
+    } else if (!podWatchers.containsKey(ns)) {
+      podWatchers.put(ns, createPodWatcher(ns, initialResourceVersion));
+    }
+  }
+
+  private static void startEventWatch(String ns, String initialResourceVersion) {
+    if (clusterWideWatch) {
+      clusterWideEventWatcher.startIfNeeded(
+          threadFactory, initialResourceVersion, tuningAndConfig.getWatchTuning());
+    } else if (!eventWatchers.containsKey(ns)) {
+      eventWatchers.put(ns, createEventWatcher(ns, initialResourceVersion));
+    }
+  }
+
+  private static void startServiceWatch(String ns, String initialResourceVersion) {
+    if (clusterWideWatch) {
+      clusterWideServiceWatcher.startIfNeeded(
+          threadFactory, initialResourceVersion, tuningAndConfig.getWatchTuning());
+    } else if (!serviceWatchers.containsKey(ns)) {
+      serviceWatchers.put(ns, createServiceWatcher(ns, initialResourceVersion));
+    }
+  }
+
+  private static void startDomainWatch(String ns, String initialResourceVersion) {
+    if (clusterWideWatch) {
+      clusterWideDomainWatcher.startIfNeeded(
+          threadFactory, initialResourceVersion, tuningAndConfig.getWatchTuning());
+    } else if (!domainWatchers.containsKey(ns)) {
+      domainWatchers.put(ns, createDomainWatcher(ns, initialResourceVersion));
+    }
+  }
+
   private static NamespaceWatcher createNamespaceWatcher(String initialResourceVersion) {
     return NamespaceWatcher.create(
         threadFactory,
@@ -527,7 +657,11 @@ public class Main {
   }
 
   private static class WrappedThreadFactory implements ThreadFactory {
-    private final ThreadFactory delegate = ThreadFactorySingleton.getInstance();
+    private final ThreadFactory delegate;
+
+    WrappedThreadFactory(ThreadFactory delegate) {
+      this.delegate = delegate;
+    }
 
     @Override
     public Thread newThread(@Nonnull Runnable r) {
@@ -658,6 +792,62 @@ public class Main {
     }
   }
 
+  private static class AddClusterWideListenersStep extends Step {
+    private final String ns;
+
+    AddClusterWideListenersStep(String ns) {
+      this.ns = ns;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      PodWatcher podWatcher = podWatchers.computeIfAbsent(ns, n -> PodWatcher.createForClusterWideWatch(
+          n, tuningAndConfig.getWatchTuning(), createPodListener(), isNamespaceStopping(n)));
+      clusterWidePodWatcher.addNamespace(ns, podWatcher);
+      clusterWideEventWatcher.addNamespace(ns, createEventListener());
+      clusterWideServiceWatcher.addNamespace(ns, createServiceListener());
+      clusterWideDomainWatcher.addNamespace(ns, createDomainListener());
+      clusterWideJobWatcher.addNamespace(ns, JobWatcher.getOrCreateForClusterWideWatch(
+          ns, tuningAndConfig.getWatchTuning(), isNamespaceStopping(ns)));
+      clusterWideJobWatcher.startIfNeeded(threadFactory, "", tuningAndConfig.getWatchTuning());
+      return doNext(packet);
+    }
+  }
+
+  private static class StartClusterWideConfigMapWatchStep extends Step {
+    private final String ns;
+
+    StartClusterWideConfigMapWatchStep(String ns) {
+      this.ns = ns;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      V1ConfigMap result = (V1ConfigMap) packet.get(ProcessingConstants.SCRIPT_CONFIG_MAP);
+      clusterWideConfigMapWatcher.addNamespace(ns, processor::dispatchConfigMapWatch);
+      clusterWideConfigMapWatcher.startIfNeeded(threadFactory,
+          result != null ? result.getMetadata().getResourceVersion() : "", tuningAndConfig.getWatchTuning());
+      return doNext(packet);
+    }
+  }
+
+  private static class ReadCachedResourcesStep extends Step {
+    private final String ns;
+
+    ReadCachedResourcesStep(String ns) {
+      this.ns = ns;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      SharedInformers informers = SharedInformers.getInstance();
+      PodListStep.addPods(packet, ns, informers.getPods().list(ns));
+      ServiceListStep.addServices(packet, ns, informers.getServices().list(ns));
+      DomainListStep.processDomains(packet, informers.getDomains().list(ns));
+      return doNext(packet);
+    }
+  }
+
   private static class DomainListStep extends ResponseStep<DomainList> {
     private final String ns;
 
@@ -672,8 +862,22 @@ public class Main {
           : super.onFailure(packet, callResponse);
     }
 
+    // The pages of the list are gathered in the domain cache; the domains are processed together once the
+    // last page has arrived, since any domain missing from the whole list is treated as deleted.
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<DomainList> callResponse) {
+      ResourceCache<Domain> domains = SharedInformers.getInstance().getDomains();
+      domains.replacePage(ns, getItems(callResponse.getResult()), getResourceVersion(callResponse.getResult()),
+          callResponse.isFirstPage(), callResponse.isLastPage());
+
+      if (callResponse.isLastPage()) {
+        processDomains(packet, domains.list(ns));
+        startDomainWatch(ns, getResourceVersion(callResponse.getResult()));
+      }
+      return doContinueListOrNext(callResponse, packet);
+    }
+
+    static void processDomains(Packet packet, List<Domain> domains) {
       @SuppressWarnings("unchecked")
       Map<String, DomainPresenceInfo> dpis = (Map<String, DomainPresenceInfo>) packet.get(DPI_MAP);
 
@@ -681,8 +885,8 @@ public class Main {
       DomainProcessor dp = x != null ? x : processor;
 
       Set<String> domainUids = new HashSet<>();
-      if (callResponse.getResult() != null) {
-        for (Domain dom : callResponse.getResult().getItems()) {
+      if (domains != null) {
+        for (Domain dom : domains) {
           String domainUid = dom.getDomainUid();
           domainUids.add(domainUid);
           DomainPresenceInfo info =
@@ -709,17 +913,15 @@ public class Main {
               dp.makeRightDomainPresence(value, true, true, false);
             }
           });
-
-      if (!domainWatchers.containsKey(ns)) {
-        domainWatchers.put(
-            ns, createDomainWatcher(ns, getResourceVersion(callResponse.getResult())));
-      }
-      return doNext(packet);
     }
 
     String getResourceVersion(DomainList result) {
       return result != null ? result.getMetadata().getResourceVersion() : "";
     }
+
+    private List<Domain> getItems(DomainList result) {
+      return result != null ? result.getItems() : null;
+    }
   }
 
   private static class ServiceListStep extends ResponseStep<V1ServiceList> {
@@ -740,24 +942,30 @@ public class Main {
     public NextAction onSuccess(Packet packet, CallResponse<V1ServiceList> callResponse) {
       V1ServiceList result = callResponse.getResult();
 
+      SharedInformers.getInstance().getServices().replacePage(ns, result != null ? result.getItems() : null,
+          getInitialResourceVersion(result), callResponse.isFirstPage(), callResponse.isLastPage());
+      if (result != null) {
+        addServices(packet, ns, result.getItems());
+      }
+
+      if (callResponse.isLastPage()) {
+        startServiceWatch(ns, getInitialResourceVersion(result));
+      }
+      return doContinueListOrNext(callResponse, packet);
+    }
+
+    static void addServices(Packet packet, String ns, List<V1Service> services) {
       @SuppressWarnings("unchecked")
       Map<String, DomainPresenceInfo> dpis = (Map<String, DomainPresenceInfo>) packet.get(DPI_MAP);
 
-      if (result != null) {
-        for (V1Service service : result.getItems()) {
-          String domainUid = ServiceHelper.getServiceDomainUid(service);
-          if (domainUid != null) {
-            DomainPresenceInfo info =
-                dpis.computeIfAbsent(domainUid, k -> new DomainPresenceInfo(ns, domainUid));
-            ServiceHelper.addToPresence(info, service);
-          }
+      for (V1Service service : services) {
+        String domainUid = ServiceHelper.getServiceDomainUid(service);
+        if (domainUid != null) {
+          DomainPresenceInfo info =
+              dpis.computeIfAbsent(domainUid, k -> new DomainPresenceInfo(ns, domainUid));
+          ServiceHelper.addToPresence(info, service);
         }
       }
-
-      if (!serviceWatchers.containsKey(ns)) {
-        serviceWatchers.put(ns, createServiceWatcher(ns, getInitialResourceVersion(result)));
-      }
-      return doNext(packet);
     }
 
     private String getInitialResourceVersion(V1ServiceList result) {
@@ -783,11 +991,10 @@ public class Main {
     public NextAction onSuccess(Packet packet, CallResponse<V1EventList> callResponse) {
       V1EventList result = callResponse.getResult();
       // don't bother processing pre-existing events
-
-      if (!eventWatchers.containsKey(ns)) {
-        eventWatchers.put(ns, createEventWatcher(ns, getInitialResourceVersion(result)));
+      if (callResponse.isLastPage()) {
+        startEventWatch(ns, getInitialResourceVersion(result));
       }
-      return doNext(packet);
+      return doContinueListOrNext(callResponse, packet);
     }
 
     private String getInitialResourceVersion(V1EventList result) {
@@ -813,25 +1020,31 @@ public class Main {
     public NextAction onSuccess(Packet packet, CallResponse<V1PodList> callResponse) {
       V1PodList result = callResponse.getResult();
 
+      SharedInformers.getInstance().getPods().replacePage(ns, result != null ? result.getItems() : null,
+          getInitialResourceVersion(result), callResponse.isFirstPage(), callResponse.isLastPage());
+      if (result != null) {
+        addPods(packet, ns, result.getItems());
+      }
+
+      if (callResponse.isLastPage()) {
+        startPodWatch(ns, getInitialResourceVersion(result));
+      }
+      return doContinueListOrNext(callResponse, packet);
+    }
+
+    static void addPods(Packet packet, String ns, List<V1Pod> pods) {
       @SuppressWarnings("unchecked")
       Map<String, DomainPresenceInfo> dpis = (Map<String, DomainPresenceInfo>) packet.get(DPI_MAP);
 
-      if (result != null) {
-        for (V1Pod pod : result.getItems()) {
-          String domainUid = PodHelper.getPodDomainUid(pod);
-          String serverName = PodHelper.getPodServerName(pod);
-          if (domainUid != null && serverName != null) {
-            DomainPresenceInfo info =
-                dpis.computeIfAbsent(domainUid, k -> new DomainPresenceInfo(ns, domainUid));
-            info.setServerPod(serverName, pod);
-          }
+      for (V1Pod pod : pods) {
+        String domainUid = PodHelper.getPodDomainUid(pod);
+        String serverName = PodHelper.getPodServerName(pod);
+        if (domainUid != null && serverName != null) {
+          DomainPresenceInfo info =
+              dpis.computeIfAbsent(domainUid, k -> new DomainPresenceInfo(ns, domainUid));
+          info.setServerPod(serverName, pod);
         }
       }
-
-      if (!podWatchers.containsKey(ns)) {
-        podWatchers.put(ns, createPodWatcher(ns, getInitialResourceVersion(result)));
-      }
-      return doNext(packet);
     }
 
     private String getInitialResourceVersion(V1PodList result) {
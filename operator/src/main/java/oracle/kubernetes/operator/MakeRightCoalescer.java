@@ -0,0 +1,95 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+
+/**
+ * Collapses the make-right requests for a domain which arrive within a debounce window into a single
+ * make-right, which runs at the end of the window with the presence info of the latest request. A
+ * priority request, such as one to delete a domain or to scale one of its clusters down, runs at once,
+ * and replaces any request which is waiting for its window to end.
+ */
+class MakeRightCoalescer {
+
+  private final Map<String, Request> pending = new ConcurrentHashMap<>();
+  private final MakeRight makeRight;
+
+  MakeRightCoalescer(MakeRight makeRight) {
+    this.makeRight = makeRight;
+  }
+
+  private static String getKey(DomainPresenceInfo info) {
+    return info.getNamespace() + "/" + info.getDomainUid();
+  }
+
+  /**
+   * Requests a make-right of the domain described by the specified info.
+   *
+   * @param info the domain presence info
+   * @param isDeleting true if the domain is being deleted
+   * @param isWillInterrupt true if the make-right should interrupt any which is already running
+   * @param isPriority true if the make-right should run without waiting for the debounce window
+   * @param executor the executor on which to wait for the end of the window
+   * @param debounceMillis the length of the window; if not positive, the make-right runs at once
+   */
+  void request(DomainPresenceInfo info, boolean isDeleting, boolean isWillInterrupt, boolean isPriority,
+               ScheduledExecutorService executor, long debounceMillis) {
+    String key = getKey(info);
+    if (isPriority || debounceMillis <= 0) {
+      Request replaced = pending.remove(key);
+      makeRight.run(info, isDeleting, isWillInterrupt || (replaced != null && replaced.isWillInterrupt));
+      return;
+    }
+
+    Request request = new Request(info, isDeleting, isWillInterrupt);
+    if (pending.merge(key, request, Request::combine) == request) {
+      executor.schedule(() -> runPending(key), debounceMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void runPending(String key) {
+    Request request = pending.remove(key);
+    if (request != null) {
+      makeRight.run(request.info, request.isDeleting, request.isWillInterrupt);
+    }
+  }
+
+  /**
+   * Returns true if a make-right for the specified domain is waiting for its debounce window to end.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @return true if a request is pending
+   */
+  boolean isPending(String namespace, String domainUid) {
+    return pending.containsKey(namespace + "/" + domainUid);
+  }
+
+  interface MakeRight {
+    void run(DomainPresenceInfo info, boolean isDeleting, boolean isWillInterrupt);
+  }
+
+  private static class Request {
+    private final DomainPresenceInfo info;
+    private final boolean isDeleting;
+    private final boolean isWillInterrupt;
+
+    Request(DomainPresenceInfo info, boolean isDeleting, boolean isWillInterrupt) {
+      this.info = info;
+      this.isDeleting = isDeleting;
+      this.isWillInterrupt = isWillInterrupt;
+    }
+
+    // the later request supplies the info; an interrupt requested by either is kept
+    Request combine(Request later) {
+      return new Request(later.info, later.isDeleting, isWillInterrupt || later.isWillInterrupt);
+    }
+  }
+}
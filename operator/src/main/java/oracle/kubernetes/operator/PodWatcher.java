@@ -79,6 +79,24 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     return watcher;
   }
 
+  /**
+   * Creates a PodWatcher which does not open a watch of its own, but receives the events for its namespace
+   * from a cluster-wide pod watch.
+   *
+   * @param ns Namespace
+   * @param tuning Watch tuning parameters
+   * @param listener Callback for watch events
+   * @param isStopping Stop signal
+   * @return Pod watcher for the namespace
+   */
+  static PodWatcher createForClusterWideWatch(
+      String ns,
+      WatchTuning tuning,
+      WatchListener<V1Pod> listener,
+      AtomicBoolean isStopping) {
+    return new PodWatcher(ns, "", tuning, listener, isStopping);
+  }
+
   private void addOnModifiedCallback(String podName, Consumer<V1Pod> callback) {
     synchronized (modifiedCallbackRegistrations) {
       modifiedCallbackRegistrations.computeIfAbsent(podName, k -> new ArrayList<>()).add(callback);
@@ -115,6 +133,11 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     }
   }
 
+  @Override
+  String getNamespace() {
+    return namespace;
+  }
+
   @Override
   public WatchI<V1Pod> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
     return watchBuilder
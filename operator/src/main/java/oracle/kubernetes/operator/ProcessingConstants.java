@@ -3,6 +3,18 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.PacketKey;
+import oracle.kubernetes.operator.work.Step.StepAndPacket;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
+
 /** Constants used in asynchronous processing. */
 public interface ProcessingConstants {
 
@@ -30,4 +42,17 @@ public interface ProcessingConstants {
   public static final String SIT_CONFIG_MAP = "sitConfigMap";
 
   public static final String REMAINING_SERVERS_HEALTH_TO_READ = "serverHealthRead";
+
+  // Typed keys for the most used of the packet entries above.
+  public static final PacketKey<WlsServerConfig> SERVER_SCAN_KEY = PacketKey.of(SERVER_SCAN);
+  public static final PacketKey<List<V1EnvVar>> ENVVARS_KEY = PacketKey.of(ENVVARS);
+  public static final PacketKey<String> SERVER_NAME_KEY = PacketKey.of(SERVER_NAME);
+  public static final PacketKey<String> CLUSTER_NAME_KEY = PacketKey.of(CLUSTER_NAME);
+  public static final PacketKey<Map<String, StepAndPacket>> SERVERS_TO_ROLL_KEY = PacketKey.of(SERVERS_TO_ROLL);
+  public static final PacketKey<ConcurrentMap<String, String>> SERVER_STATE_MAP_KEY = PacketKey.of(SERVER_STATE_MAP);
+  public static final PacketKey<ConcurrentMap<String, ServerHealth>> SERVER_HEALTH_MAP_KEY =
+      PacketKey.of(SERVER_HEALTH_MAP);
+  public static final PacketKey<WlsDomainConfig> DOMAIN_TOPOLOGY_KEY = PacketKey.of(DOMAIN_TOPOLOGY);
+  public static final PacketKey<AtomicInteger> REMAINING_SERVERS_HEALTH_TO_READ_KEY =
+      PacketKey.of(REMAINING_SERVERS_HEALTH_TO_READ);
 }
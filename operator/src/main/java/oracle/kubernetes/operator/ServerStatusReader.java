@@ -8,6 +8,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
@@ -35,17 +36,19 @@ import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
-import org.joda.time.DateTime;
 
 import static oracle.kubernetes.operator.KubernetesConstants.CONTAINER_NAME;
-import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
-import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP_KEY;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP_KEY;
 
 /** Creates an asynchronous step to read the WebLogic server state from a particular pod. */
 public class ServerStatusReader {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static KubernetesExecFactory EXEC_FACTORY = new KubernetesExecFactoryImpl();
   private static Function<Step, Step> STEP_FACTORY = ReadHealthStep::createReadHealthStep;
+  private static final String HEALTH_OK = "ok";
+  private static final int MAX_BACKOFF_DOUBLINGS = 16;
+  private static final int DEFAULT_MAX_CONCURRENT_SERVER_READS = 10;
 
   private ServerStatusReader() {
   }
@@ -67,7 +70,57 @@ public class ServerStatusReader {
   private static Step createServerStatusReaderStep(
       DomainPresenceInfo info, V1Pod pod, String serverName, long timeoutSeconds) {
     return new ServerStatusReaderStep(
-        info, pod, serverName, timeoutSeconds, new ServerHealthStep(serverName, pod, null));
+        info, pod, serverName, timeoutSeconds,
+        new ServerHealthStep(info, serverName, pod, timeoutSeconds,
+            new ScheduleNextPollStep(info, pod, serverName)));
+  }
+
+  /**
+   * Returns the time to wait before the status of a server is next read. A server which is starting,
+   * stopping, being rolled or is not healthy is read on every status cycle. Once it has reported the same
+   * RUNNING state unchangedCountToDelayStatusRecheck times in a row with OK health, the interval doubles
+   * with each further unchanged read, up to eventualLongDelay. Pod events which may signal a change cause
+   * the server to be read again at once; see {@link DomainPresenceInfo#requestServerStatusPoll(String)}.
+   *
+   * @param lastKnownStatus the last state read from the server
+   * @param health the last health read from the server
+   * @param pod the server pod
+   * @param main the tuning parameters
+   * @return a time in seconds
+   */
+  static long getPollIntervalSeconds(
+      LastKnownStatus lastKnownStatus, ServerHealth health, V1Pod pod, TuningParameters.MainTuning main) {
+    if (!isStable(lastKnownStatus, health, pod)) {
+      return main.initialShortDelay;
+    }
+
+    int unchangedReadsAfterThreshold = lastKnownStatus.getUnchangedCount() - main.unchangedCountToDelayStatusRecheck;
+    if (unchangedReadsAfterThreshold < 0) {
+      return main.initialShortDelay;
+    }
+    long interval = main.initialShortDelay << Math.min(unchangedReadsAfterThreshold + 1, MAX_BACKOFF_DOUBLINGS);
+    return Math.max(main.initialShortDelay, Math.min(main.eventualLongDelay, interval));
+  }
+
+  private static boolean isStable(LastKnownStatus lastKnownStatus, ServerHealth health, V1Pod pod) {
+    return lastKnownStatus != null
+        && WebLogicConstants.RUNNING_STATE.equals(lastKnownStatus.getStatus())
+        && PodHelper.getReadyStatus(pod)
+        && !PodHelper.isDeleting(pod)
+        && health != null
+        && HEALTH_OK.equalsIgnoreCase(health.getOverallHealth());
+  }
+
+  private static boolean isRestStateReaderEnabled() {
+    return TuningParameters.getInstance().getMainTuning().restStateReader;
+  }
+
+  // The REST API can only be reached once the pod has an address and the server has a service.
+  private static boolean canReadStateWithRest(DomainPresenceInfo info, V1Pod pod, String serverName) {
+    return isRestStateReaderEnabled()
+        && pod.getStatus() != null
+        && pod.getStatus().getPodIP() != null
+        && info.getServerService(serverName) != null;
   }
 
   /**
@@ -82,6 +135,12 @@ public class ServerStatusReader {
     return new StatusUpdateHookStep(timeoutSeconds, next);
   }
 
+  private static int getMaxConcurrentServerReads() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> parameters.getMainTuning().maxConcurrentServerReads)
+        .orElse(DEFAULT_MAX_CONCURRENT_SERVER_READS);
+  }
+
   private static class DomainStatusReaderStep extends Step {
     private final DomainPresenceInfo info;
     private final long timeoutSeconds;
@@ -94,11 +153,11 @@ public class ServerStatusReader {
 
     @Override
     public NextAction apply(Packet packet) {
-      packet.put(SERVER_STATE_MAP, new ConcurrentHashMap<String, String>());
-      packet.put(SERVER_HEALTH_MAP, new ConcurrentHashMap<String, ServerHealth>());
+      packet.put(SERVER_STATE_MAP_KEY, new ConcurrentHashMap<String, String>());
+      packet.put(SERVER_HEALTH_MAP_KEY, new ConcurrentHashMap<String, ServerHealth>());
 
       AtomicInteger remainingServerHealthToRead = new AtomicInteger();
-      packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, remainingServerHealthToRead);
+      packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ_KEY, remainingServerHealthToRead);
 
       Collection<StepAndPacket> startDetails =
           info.getServerPods()
@@ -109,7 +168,7 @@ public class ServerStatusReader {
         return doNext(packet);
       } else {
         remainingServerHealthToRead.set(startDetails.size());
-        return doForkJoin(getNext(), packet, startDetails);
+        return doForkJoin(getNext(), packet, startDetails, getMaxConcurrentServerReads());
       }
     }
 
@@ -137,29 +196,91 @@ public class ServerStatusReader {
 
     @Override
     public NextAction apply(Packet packet) {
-      @SuppressWarnings("unchecked")
-      ConcurrentMap<String, String> serverStateMap =
-          (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+      ConcurrentMap<String, String> serverStateMap = packet.getValue(SERVER_STATE_MAP_KEY);
 
-      TuningParameters.MainTuning main = TuningParameters.getInstance().getMainTuning();
       LastKnownStatus lastKnownStatus = info.getLastKnownServerStatus(serverName);
-      if (lastKnownStatus != null
-          && !WebLogicConstants.UNKNOWN_STATE.equals(lastKnownStatus.getStatus())
-          && lastKnownStatus.getUnchangedCount() >= main.unchangedCountToDelayStatusRecheck) {
-        if (DateTime.now()
-            .isBefore(lastKnownStatus.getTime().plusSeconds((int) main.eventualLongDelay))) {
-          String state = lastKnownStatus.getStatus();
-          serverStateMap.put(serverName, state);
-          return doNext(packet);
-        }
+      if (lastKnownStatus != null && !info.isServerStatusPollDue(serverName)) {
+        serverStateMap.put(serverName, lastKnownStatus.getStatus());
+        Optional.ofNullable(info.getLastKnownServerHealth(serverName))
+            .ifPresent(health -> recordUnchangedHealth(packet, health));
+        return doEnd(packet);
       }
 
-      if (PodHelper.getReadyStatus(pod)) {
+      if (PodHelper.getReadyStatus(pod) || canReadStateWithRest(info, pod, serverName)) {
         // set default to UNKNOWN; will be corrected in ReadHealthStep
         serverStateMap.put(serverName, WebLogicConstants.UNKNOWN_STATE);
         return doNext(packet);
       }
 
+      return doNext(new ReadStateWithExecStep(info, pod, serverName, timeoutSeconds, getNext()), packet);
+    }
+
+    private void recordUnchangedHealth(Packet packet, ServerHealth health) {
+      ConcurrentMap<String, ServerHealth> serverHealthMap = packet.getValue(SERVER_HEALTH_MAP_KEY);
+      serverHealthMap.put(serverName, health);
+      AtomicInteger remainingServersHealthToRead =
+          packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ_KEY);
+      remainingServersHealthToRead.getAndDecrement();
+    }
+  }
+
+  /**
+   * Records the health which was read, and decides when the server should next be read.
+   */
+  private static class ScheduleNextPollStep extends Step {
+    private final DomainPresenceInfo info;
+    private final V1Pod pod;
+    private final String serverName;
+
+    ScheduleNextPollStep(DomainPresenceInfo info, V1Pod pod, String serverName) {
+      super(null);
+      this.info = info;
+      this.pod = pod;
+      this.serverName = serverName;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      ConcurrentMap<String, ServerHealth> serverHealthMap = packet.getValue(SERVER_HEALTH_MAP_KEY);
+      ServerHealth health = serverHealthMap.get(serverName);
+
+      info.updateLastKnownServerHealth(serverName, health);
+      info.scheduleServerStatusPoll(
+          serverName,
+          getPollIntervalSeconds(
+              info.getLastKnownServerStatus(serverName),
+              health,
+              pod,
+              TuningParameters.getInstance().getMainTuning()));
+      return doNext(packet);
+    }
+  }
+
+  /**
+   * Reads the server state by running the readState script in the server pod. As this requires an exec
+   * connection through the Kubernetes API server and a thread blocked for the life of the script,
+   * it is used only when the state cannot be read with the WebLogic REST API.
+   */
+  private static class ReadStateWithExecStep extends Step {
+    private final DomainPresenceInfo info;
+    private final V1Pod pod;
+    private final String serverName;
+    private final long timeoutSeconds;
+
+    ReadStateWithExecStep(
+        DomainPresenceInfo info, V1Pod pod, String serverName, long timeoutSeconds, Step next) {
+      super(next);
+      this.info = info;
+      this.pod = pod;
+      this.serverName = serverName;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      ConcurrentMap<String, String> serverStateMap = packet.getValue(SERVER_STATE_MAP_KEY);
+      LastKnownStatus lastKnownStatus = info.getLastKnownServerStatus(serverName);
+
       // Even though we don't need input data for this call, the API server is
       // returning 400 Bad Request any time we set these to false.  There is likely some bug in the
       // client
@@ -234,30 +355,55 @@ public class ServerStatusReader {
   }
 
   private static class ServerHealthStep extends Step {
+    private final DomainPresenceInfo info;
     private final String serverName;
     private final V1Pod pod;
+    private final long timeoutSeconds;
 
-    ServerHealthStep(String serverName, V1Pod pod, Step next) {
+    ServerHealthStep(DomainPresenceInfo info, String serverName, V1Pod pod, long timeoutSeconds, Step next) {
       super(next);
+      this.info = info;
       this.serverName = serverName;
       this.pod = pod;
+      this.timeoutSeconds = timeoutSeconds;
     }
 
     @Override
     public NextAction apply(Packet packet) {
-      @SuppressWarnings("unchecked")
-      ConcurrentMap<String, String> serverStateMap =
-          (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+      ConcurrentMap<String, String> serverStateMap = packet.getValue(SERVER_STATE_MAP_KEY);
       String state = serverStateMap.get(serverName);
 
+      if (canReadStateWithRest(info, pod, serverName)) {
+        packet.put(ProcessingConstants.SERVER_NAME_KEY, serverName);
+        return doNext(STEP_FACTORY.apply(new ExecFallbackStep(getNext())), packet);
+      }
+
       if (PodHelper.getReadyStatus(pod)
           || WebLogicConstants.STATES_SUPPORTING_REST.contains(state)) {
-        packet.put(ProcessingConstants.SERVER_NAME, serverName);
+        packet.put(ProcessingConstants.SERVER_NAME_KEY, serverName);
         return doNext(STEP_FACTORY.apply(getNext()), packet);
       }
 
       return doNext(packet);
     }
+
+    // Falls back to reading the state with exec if the REST call did not report it.
+    private class ExecFallbackStep extends Step {
+      ExecFallbackStep(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction apply(Packet packet) {
+        ConcurrentMap<String, String> serverStateMap = packet.getValue(SERVER_STATE_MAP_KEY);
+        String state = serverStateMap.get(serverName);
+
+        if (state == null || WebLogicConstants.UNKNOWN_STATE.equals(state)) {
+          return doNext(new ReadStateWithExecStep(info, pod, serverName, timeoutSeconds, getNext()), packet);
+        }
+        return doNext(packet);
+      }
+    }
   }
 
   static class StatusUpdateHookStep extends Step {
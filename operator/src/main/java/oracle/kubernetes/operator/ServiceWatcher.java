@@ -53,6 +53,11 @@ public class ServiceWatcher extends Watcher<V1Service> {
     return watcher;
   }
 
+  @Override
+  String getNamespace() {
+    return ns;
+  }
+
   @Override
   public WatchI<V1Service> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
     return watchBuilder
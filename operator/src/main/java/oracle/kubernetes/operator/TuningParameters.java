@@ -39,6 +39,15 @@ public interface TuningParameters extends Map<String, String> {
     public final int unchangedCountToDelayStatusRecheck;
     public final long initialShortDelay;
     public final long eventualLongDelay;
+    public final boolean restStateReader;
+    public final int maxConcurrentServerReads;
+    public final int maxConcurrentServerStarts;
+    public final int maxConcurrentServerRestarts;
+    public final boolean fiberTraceEnabled;
+    public final int fiberStuckThresholdSeconds;
+    public final long domainPresenceDebounceMillis;
+    public final long statusUpdateMinIntervalMillis;
+    public final int restAccessReviewCacheTtlSeconds;
 
     /**
      * create main tuning.
@@ -50,6 +59,15 @@ public interface TuningParameters extends Map<String, String> {
      * @param unchangedCountToDelayStatusRecheck unchanged count to delay status recheck
      * @param initialShortDelay initial short delay
      * @param eventualLongDelay eventual long delay
+     * @param restStateReader true if server state is to be read with the WebLogic REST API
+     * @param maxConcurrentServerReads maximum number of concurrent REST reads for the servers of one domain
+     * @param maxConcurrentServerStarts maximum number of servers of one domain to start or verify at once
+     * @param maxConcurrentServerRestarts maximum number of servers of one domain to restart at once
+     * @param fiberTraceEnabled true if fibers are to record traces of the steps they run
+     * @param fiberStuckThresholdSeconds time for which a fiber may stay suspended by one step before it is reported
+     * @param domainPresenceDebounceMillis time within which make-right requests for one domain are coalesced
+     * @param statusUpdateMinIntervalMillis minimum time between writes of the status of one domain
+     * @param restAccessReviewCacheTtlSeconds time for which the REST server reuses a token or access review result
      */
     public MainTuning(
         int domainPresenceFailureRetrySeconds,
@@ -59,7 +77,16 @@ public interface TuningParameters extends Map<String, String> {
         int statusUpdateTimeoutSeconds,
         int unchangedCountToDelayStatusRecheck,
         long initialShortDelay,
-        long eventualLongDelay) {
+        long eventualLongDelay,
+        boolean restStateReader,
+        int maxConcurrentServerReads,
+        int maxConcurrentServerStarts,
+        int maxConcurrentServerRestarts,
+        boolean fiberTraceEnabled,
+        int fiberStuckThresholdSeconds,
+        long domainPresenceDebounceMillis,
+        long statusUpdateMinIntervalMillis,
+        int restAccessReviewCacheTtlSeconds) {
       this.domainPresenceFailureRetrySeconds = domainPresenceFailureRetrySeconds;
       this.domainPresenceFailureRetryMaxCount = domainPresenceFailureRetryMaxCount;
       this.domainPresenceRecheckIntervalSeconds = domainPresenceRecheckIntervalSeconds;
@@ -68,6 +95,15 @@ public interface TuningParameters extends Map<String, String> {
       this.unchangedCountToDelayStatusRecheck = unchangedCountToDelayStatusRecheck;
       this.initialShortDelay = initialShortDelay;
       this.eventualLongDelay = eventualLongDelay;
+      this.restStateReader = restStateReader;
+      this.maxConcurrentServerReads = maxConcurrentServerReads;
+      this.maxConcurrentServerStarts = maxConcurrentServerStarts;
+      this.maxConcurrentServerRestarts = maxConcurrentServerRestarts;
+      this.fiberTraceEnabled = fiberTraceEnabled;
+      this.fiberStuckThresholdSeconds = fiberStuckThresholdSeconds;
+      this.domainPresenceDebounceMillis = domainPresenceDebounceMillis;
+      this.statusUpdateMinIntervalMillis = statusUpdateMinIntervalMillis;
+      this.restAccessReviewCacheTtlSeconds = restAccessReviewCacheTtlSeconds;
     }
 
     @Override
@@ -81,6 +117,15 @@ public interface TuningParameters extends Map<String, String> {
           .append("unchangedCountToDelayStatusRecheck", unchangedCountToDelayStatusRecheck)
           .append("initialShortDelay", initialShortDelay)
           .append("eventualLongDelay", eventualLongDelay)
+          .append("restStateReader", restStateReader)
+          .append("maxConcurrentServerReads", maxConcurrentServerReads)
+          .append("maxConcurrentServerStarts", maxConcurrentServerStarts)
+          .append("maxConcurrentServerRestarts", maxConcurrentServerRestarts)
+          .append("fiberTraceEnabled", fiberTraceEnabled)
+          .append("fiberStuckThresholdSeconds", fiberStuckThresholdSeconds)
+          .append("domainPresenceDebounceMillis", domainPresenceDebounceMillis)
+          .append("statusUpdateMinIntervalMillis", statusUpdateMinIntervalMillis)
+          .append("restAccessReviewCacheTtlSeconds", restAccessReviewCacheTtlSeconds)
           .toString();
     }
 
@@ -95,6 +140,15 @@ public interface TuningParameters extends Map<String, String> {
           .append(unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay)
           .append(eventualLongDelay)
+          .append(restStateReader)
+          .append(maxConcurrentServerReads)
+          .append(maxConcurrentServerStarts)
+          .append(maxConcurrentServerRestarts)
+          .append(fiberTraceEnabled)
+          .append(fiberStuckThresholdSeconds)
+          .append(domainPresenceDebounceMillis)
+          .append(statusUpdateMinIntervalMillis)
+          .append(restAccessReviewCacheTtlSeconds)
           .toHashCode();
     }
 
@@ -116,6 +170,15 @@ public interface TuningParameters extends Map<String, String> {
           .append(unchangedCountToDelayStatusRecheck, mt.unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay, mt.initialShortDelay)
           .append(eventualLongDelay, mt.eventualLongDelay)
+          .append(restStateReader, mt.restStateReader)
+          .append(maxConcurrentServerReads, mt.maxConcurrentServerReads)
+          .append(maxConcurrentServerStarts, mt.maxConcurrentServerStarts)
+          .append(maxConcurrentServerRestarts, mt.maxConcurrentServerRestarts)
+          .append(fiberTraceEnabled, mt.fiberTraceEnabled)
+          .append(fiberStuckThresholdSeconds, mt.fiberStuckThresholdSeconds)
+          .append(domainPresenceDebounceMillis, mt.domainPresenceDebounceMillis)
+          .append(statusUpdateMinIntervalMillis, mt.statusUpdateMinIntervalMillis)
+          .append(restAccessReviewCacheTtlSeconds, mt.restAccessReviewCacheTtlSeconds)
           .isEquals();
     }
   }
@@ -124,17 +187,28 @@ public interface TuningParameters extends Map<String, String> {
     public final int callRequestLimit;
     public final int callMaxRetryCount;
     public final int callTimeoutSeconds;
+    public final int callRateLimitPerSecond;
+    public final int callRateBurst;
 
     /**
      * Create call builder tuning.
      * @param callRequestLimit call request limit
      * @param callMaxRetryCount call max retry count
      * @param callTimeoutSeconds call timeout
+     * @param callRateLimitPerSecond sustained number of asynchronous API calls per second, or zero for no limit
+     * @param callRateBurst number of asynchronous API calls which may be made at once after a quiet period
      */
-    public CallBuilderTuning(int callRequestLimit, int callMaxRetryCount, int callTimeoutSeconds) {
+    public CallBuilderTuning(
+        int callRequestLimit,
+        int callMaxRetryCount,
+        int callTimeoutSeconds,
+        int callRateLimitPerSecond,
+        int callRateBurst) {
       this.callRequestLimit = callRequestLimit;
       this.callMaxRetryCount = callMaxRetryCount;
       this.callTimeoutSeconds = callTimeoutSeconds;
+      this.callRateLimitPerSecond = callRateLimitPerSecond;
+      this.callRateBurst = callRateBurst;
     }
 
     @Override
@@ -143,6 +217,8 @@ public interface TuningParameters extends Map<String, String> {
           .append("callRequestLimit", callRequestLimit)
           .append("callMaxRetryCount", callMaxRetryCount)
           .append("callTimeoutSeconds", callTimeoutSeconds)
+          .append("callRateLimitPerSecond", callRateLimitPerSecond)
+          .append("callRateBurst", callRateBurst)
           .toString();
     }
 
@@ -152,6 +228,8 @@ public interface TuningParameters extends Map<String, String> {
           .append(callRequestLimit)
           .append(callMaxRetryCount)
           .append(callTimeoutSeconds)
+          .append(callRateLimitPerSecond)
+          .append(callRateBurst)
           .toHashCode();
     }
 
@@ -168,6 +246,8 @@ public interface TuningParameters extends Map<String, String> {
           .append(callRequestLimit, cbt.callRequestLimit)
           .append(callMaxRetryCount, cbt.callMaxRetryCount)
           .append(callTimeoutSeconds, cbt.callTimeoutSeconds)
+          .append(callRateLimitPerSecond, cbt.callRateLimitPerSecond)
+          .append(callRateBurst, cbt.callRateBurst)
           .isEquals();
     }
   }
@@ -8,10 +8,12 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import oracle.kubernetes.operator.calls.CallScheduler;
 import oracle.kubernetes.operator.helpers.ConfigMapConsumer;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.Fiber;
 
 public class TuningParametersImpl extends ConfigMapConsumer implements TuningParameters {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -55,13 +57,24 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("statusUpdateTimeoutSeconds", 10),
             (int) readTuningParameter("statusUpdateUnchangedCountToDelayStatusRecheck", 10),
             readTuningParameter("statusUpdateInitialShortDelay", 3),
-            readTuningParameter("statusUpdateEventualLongDelay", 30));
+            readTuningParameter("statusUpdateEventualLongDelay", 30),
+            readBooleanTuningParameter("statusUpdateRestStateReader", true),
+            (int) readTuningParameter("statusUpdateMaxConcurrentServerReads", 10),
+            (int) readTuningParameter("domainPresenceMaxConcurrentServerStarts", 20),
+            (int) readTuningParameter("domainPresenceMaxConcurrentServerRestarts", 20),
+            readBooleanTuningParameter("fiberTraceEnabled", false),
+            (int) readTuningParameter("fiberStuckThresholdSeconds", 600),
+            readTuningParameter("domainPresenceDebounceMillis", 500),
+            readTuningParameter("statusUpdateMinIntervalMillis", 2000),
+            (int) readTuningParameter("restAccessReviewCacheTtlSeconds", 30));
 
     CallBuilderTuning callBuilder =
         new CallBuilderTuning(
             (int) readTuningParameter("callRequestLimit", 500),
             (int) readTuningParameter("callMaxRetryCount", 5),
-            (int) readTuningParameter("callTimeoutSeconds", 10));
+            (int) readTuningParameter("callTimeoutSeconds", 10),
+            (int) readTuningParameter("callRateLimitPerSecond", 50),
+            (int) readTuningParameter("callRateBurst", 100));
 
     WatchTuning watch =
         new WatchTuning(
@@ -93,6 +106,8 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
     } finally {
       lock.writeLock().unlock();
     }
+    Fiber.setTracingEnabled(main.fiberTraceEnabled);
+    CallScheduler.getInstance().setRate(callBuilder.callRateLimitPerSecond, callBuilder.callRateBurst);
   }
 
   @Override
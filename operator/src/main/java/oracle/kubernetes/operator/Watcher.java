@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator;
 
 import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -18,6 +19,7 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.operator.watcher.WatchStreamMetrics;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.net.HttpURLConnection.HTTP_GONE;
@@ -26,6 +28,10 @@ import static java.net.HttpURLConnection.HTTP_GONE;
  * This class handles the Watching interface and drives the watch support for a specific type of
  * object. It runs in a separate thread to drive watching asynchronously to the main thread.
  *
+ * <p>Each watcher keeps its own thread, since the watch client reads a stream only through a blocking
+ * iterator. The number of such threads is bounded by the cluster-wide watch mode, which uses one watcher
+ * of each type for all namespaces, rather than by serving several streams from one thread.
+ *
  * @param <T> The type of the object to be watched.
  */
 abstract class Watcher<T> {
@@ -40,6 +46,8 @@ abstract class Watcher<T> {
   private WatchListener<T> listener;
   private Thread thread = null;
   private long lastInitialize = 0;
+  private long lastWatchEnded = 0;
+  private WatchStreamMetrics metrics;
 
   /**
    * Constructs a watcher without specifying a listener. Needed when the listener is the watch
@@ -101,6 +109,7 @@ abstract class Watcher<T> {
 
   private void doWatch() {
     setIsDraining(false);
+    metrics = WatchStreamMetrics.register(getStreamId());
 
     while (!isDraining()) {
       if (isStopping()) {
@@ -109,6 +118,24 @@ abstract class Watcher<T> {
         watchForEvents();
       }
     }
+    metrics.unregister();
+  }
+
+  /**
+   * Returns the namespace watched by this watcher, or null if the watch is not limited to a namespace.
+   * @return a namespace name
+   */
+  String getNamespace() {
+    return null;
+  }
+
+  /**
+   * Returns the identifier used to report metrics for this watch stream.
+   * @return a stream identifier
+   */
+  String getStreamId() {
+    String type = getClass().getSimpleName();
+    return Optional.ofNullable(getNamespace()).map(ns -> type + "/" + ns).orElse(type);
   }
 
   // Are we draining?
@@ -139,6 +166,7 @@ abstract class Watcher<T> {
     } else {
       lastInitialize = now;
     }
+    recordReconnect();
     try (WatchI<T> watch =
         initiateWatch(
             new WatchBuilder()
@@ -162,6 +190,14 @@ abstract class Watcher<T> {
       }
     } catch (Throwable ex) {
       LOGGER.warning(MessageKeys.EXCEPTION, ex);
+    } finally {
+      lastWatchEnded = System.currentTimeMillis();
+    }
+  }
+
+  private void recordReconnect() {
+    if (lastWatchEnded != 0) {
+      metrics.recordReconnect(System.currentTimeMillis() - lastWatchEnded);
     }
   }
 
@@ -189,6 +225,7 @@ abstract class Watcher<T> {
 
   private void handleRegularUpdate(Watch.Response<T> item) {
     LOGGER.fine(MessageKeys.WATCH_EVENT, item.type, item.object);
+    metrics.recordEvent();
     trackResourceVersion(item.type, item.object);
     if (listener != null) {
       listener.receivedResponse(item);
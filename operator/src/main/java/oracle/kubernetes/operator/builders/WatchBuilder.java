@@ -35,6 +35,9 @@ public class WatchBuilder {
 
   private static final Boolean ALLOW_BOOKMARKS = false;
 
+  /** Selects a cluster-scoped watch in place of a namespace. */
+  private static final String ALL_NAMESPACES = null;
+
   private static WatchFactory FACTORY = new WatchFactoryImpl();
 
   private final CallParamsImpl callParams = new CallParamsImpl();
@@ -76,6 +79,16 @@ public class WatchBuilder {
         new ListNamespacedServiceCall(namespace));
   }
 
+  /**
+   * Creates a web hook object to track service calls in all namespaces.
+   *
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public WatchI<V1Service> createServiceWatchForAllNamespaces() throws ApiException {
+    return createServiceWatch(ALL_NAMESPACES);
+  }
+
   /**
    * Creates a web hook object to track pods.
    *
@@ -88,6 +101,16 @@ public class WatchBuilder {
         ClientPool.getInstance(), callParams, V1Pod.class, new ListPodCall(namespace));
   }
 
+  /**
+   * Creates a web hook object to track pods in all namespaces.
+   *
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public WatchI<V1Pod> createPodWatchForAllNamespaces() throws ApiException {
+    return createPodWatch(ALL_NAMESPACES);
+  }
+
   /**
    * Creates a web hook object to track jobs.
    *
@@ -100,6 +123,16 @@ public class WatchBuilder {
         ClientPool.getInstance(), callParams, V1Job.class, new ListJobCall(namespace));
   }
 
+  /**
+   * Creates a web hook object to track jobs in all namespaces.
+   *
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public WatchI<V1Job> createJobWatchForAllNamespaces() throws ApiException {
+    return createJobWatch(ALL_NAMESPACES);
+  }
+
   /**
    * Creates a web hook object to track events.
    *
@@ -112,6 +145,16 @@ public class WatchBuilder {
         ClientPool.getInstance(), callParams, V1Event.class, new ListEventCall(namespace));
   }
 
+  /**
+   * Creates a web hook object to track events in all namespaces.
+   *
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public WatchI<V1Event> createEventWatchForAllNamespaces() throws ApiException {
+    return createEventWatch(ALL_NAMESPACES);
+  }
+
   /**
    * Creates a web hook object to track changes to weblogic domains in one namespaces.
    *
@@ -124,6 +167,16 @@ public class WatchBuilder {
         ClientPool.getInstance(), callParams, Domain.class, new ListDomainsCall(namespace));
   }
 
+  /**
+   * Creates a web hook object to track changes to weblogic domains in all namespaces.
+   *
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public WatchI<Domain> createDomainWatchForAllNamespaces() throws ApiException {
+    return createDomainWatch(ALL_NAMESPACES);
+  }
+
   /**
    * Creates a web hook object to track config map calls.
    *
@@ -139,6 +192,16 @@ public class WatchBuilder {
         new ListNamespacedConfigMapCall(namespace));
   }
 
+  /**
+   * Creates a web hook object to track config maps in all namespaces.
+   *
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public WatchI<V1ConfigMap> createConfigMapWatchForAllNamespaces() throws ApiException {
+    return createConfigMapWatch(ALL_NAMESPACES);
+  }
+
   /**
    * Creates a web hook object to track namespace calls.
    *
@@ -237,6 +300,20 @@ public class WatchBuilder {
       client.setHttpClient(httpClient);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listServiceForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedServiceCall(
                 namespace,
@@ -272,6 +349,20 @@ public class WatchBuilder {
       client.setHttpClient(httpClient);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listPodForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedPodCall(
                 namespace,
@@ -307,6 +398,20 @@ public class WatchBuilder {
       client.setHttpClient(httpClient);
 
       try {
+        if (namespace == null) {
+          return new BatchV1Api(client)
+              .listJobForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new BatchV1Api(client)
             .listNamespacedJobCall(
                 namespace,
@@ -342,6 +447,20 @@ public class WatchBuilder {
       client.setHttpClient(httpClient);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listEventForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedEventCall(
                 namespace,
@@ -377,6 +496,19 @@ public class WatchBuilder {
       client.setHttpClient(httpClient);
 
       try {
+        if (namespace == null) {
+          return new WeblogicApi(client)
+              .listDomainForAllNamespacesCall(
+                  callParams.getPretty(),
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getResourceVersion(),
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new WeblogicApi(client)
             .listNamespacedDomainCall(
                 namespace,
@@ -411,6 +543,20 @@ public class WatchBuilder {
       client.setHttpClient(httpClient);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listConfigMapForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedConfigMapCall(
                 namespace,
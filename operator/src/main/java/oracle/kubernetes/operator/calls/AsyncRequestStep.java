@@ -3,19 +3,17 @@
 
 package oracle.kubernetes.operator.calls;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.kubernetes.client.openapi.ApiCallback;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
-import io.kubernetes.client.openapi.models.V1ListMeta;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.ResponseStep;
@@ -23,6 +21,7 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -36,10 +35,10 @@ import static oracle.kubernetes.operator.logging.MessageKeys.ASYNC_SUCCESS;
 public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
   public static final String RESPONSE_COMPONENT_NAME = "response";
   private static final Random R = new Random();
-  private static final int HIGH = 200;
-  private static final int LOW = 10;
-  private static final int SCALE = 100;
+  private static final int BASE = 200;
   private static final int MAX = 10000;
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final int SERVICE_UNAVAILABLE = 503;
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private final ClientPool helper;
@@ -49,6 +48,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
   private final String fieldSelector;
   private final String labelSelector;
   private final String resourceVersion;
+  private final int queueTimeoutSeconds;
   private int timeoutSeconds;
 
   /**
@@ -78,6 +78,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     this.helper = helper;
     this.requestParams = requestParams;
     this.factory = factory;
+    this.queueTimeoutSeconds = timeoutSeconds;
     this.timeoutSeconds = timeoutSeconds;
     this.maxRetryCount = maxRetryCount;
     this.fieldSelector = fieldSelector;
@@ -86,26 +87,6 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     next.setPrevious(this);
   }
 
-  private static String accessContinue(Object result) {
-    String cont = "";
-    if (result != null) {
-      try {
-        Method m = result.getClass().getMethod("getMetadata");
-        Object meta = m.invoke(result);
-        if (meta instanceof V1ListMeta) {
-          return ((V1ListMeta) meta).getContinue();
-        }
-      } catch (NoSuchMethodException
-          | SecurityException
-          | IllegalAccessException
-          | IllegalArgumentException
-          | InvocationTargetException e) {
-        // no-op, no-log
-      }
-    }
-    return cont;
-  }
-
   @Override
   protected String getDetail() {
     return requestParams.call;
@@ -127,7 +108,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
       CallResponse<T> old = oldResponse.getSpi(CallResponse.class);
       if (old != null && old.getResult() != null) {
         // called again, access continue value, if available
-        cont = accessContinue(old.getResult());
+        cont = old.getContinue();
       }
 
       retry = oldResponse.getSpi(RetryStrategy.class);
@@ -149,121 +130,185 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         labelSelector,
         resourceVersion);
 
-    AtomicBoolean didResume = new AtomicBoolean(false);
-    ApiClient client = helper.take();
-    return doSuspend(
-        (fiber) -> {
-          ApiCallback<T> callback =
-              new BaseApiCallback<>() {
-                @Override
-                public void onFailure(
-                    ApiException ae, int statusCode, Map<String, List<String>> responseHeaders) {
-                  if (didResume.compareAndSet(false, true)) {
-                    if (statusCode != CallBuilder.NOT_FOUND) {
-                      LOGGER.info(
-                          MessageKeys.ASYNC_FAILURE,
-                          identityHash(),
-                          ae.getMessage(),
-                          statusCode,
-                          responseHeaders,
-                          requestParams.call,
-                          requestParams.namespace,
-                          requestParams.name,
-                          requestParams.body,
-                          fieldSelector,
-                          labelSelector,
-                          resourceVersion,
-                          ae.getResponseBody());
-                    }
-
-                    helper.recycle(client);
-                    packet
-                        .getComponents()
-                        .put(
-                            RESPONSE_COMPONENT_NAME,
-                            Component.createFor(
-                                RetryStrategy.class,
-                                r,
-                                CallResponse.createFailure(ae, statusCode).withResponseHeaders(responseHeaders)));
-                    fiber.resume(packet);
-                  }
+    CircuitBreaker breaker = CircuitBreaker.forCall(requestParams);
+    if (!breaker.allows(requestParams.call)) {
+      return shedCall(packet, breaker, r);
+    }
+
+    return doSuspend((fiber) -> submitCall(fiber, packet, c, r));
+  }
+
+  // postpones the call until the breaker is half-open, without counting it against the retry strategy
+  private NextAction shedCall(Packet packet, CircuitBreaker breaker, RetryStrategy r) {
+    CallMetrics.recordShedCall();
+    packet.getComponents().put(RESPONSE_COMPONENT_NAME, Component.createFor(RetryStrategy.class, r));
+    return doDelay(this, packet, breaker.getNanosUntilHalfOpen(), TimeUnit.NANOSECONDS);
+  }
+
+  // queues the call with the call scheduler. A call which is still queued when its queue deadline passes is
+  // queued again, without counting as a retry or lengthening its timeout, which starts only once the call is
+  // made. A call whose fiber is cancelled before its turn is never made.
+  private void submitCall(Fiber fiber, Packet packet, String cont, RetryStrategy r) {
+    AtomicBoolean dequeued = new AtomicBoolean(false);
+    CallScheduler.getInstance().submit(
+        requestParams,
+        fiber.owner.getExecutor(),
+        () -> dequeued.get() || fiber.isCancelled(),
+        () -> {
+          if (dequeued.compareAndSet(false, true)) {
+            makeCall(fiber, packet, cont, r);
+          }
+        });
+
+    if (!dequeued.get()) {
+      fiber
+          .owner
+          .getExecutor()
+          .schedule(
+              () -> {
+                if (dequeued.compareAndSet(false, true) && !fiber.isCancelled()) {
+                  CallMetrics.recordQueueTimeout();
+                  LOGGER.fine(
+                      MessageKeys.ASYNC_QUEUE_TIMEOUT,
+                      identityHash(),
+                      requestParams.call,
+                      requestParams.namespace,
+                      requestParams.name);
+                  submitCall(fiber, packet, cont, r);
                 }
+              },
+              queueTimeoutSeconds,
+              TimeUnit.SECONDS);
+    }
+  }
 
-                @Override
-                public void onSuccess(
-                    T result, int statusCode, Map<String, List<String>> responseHeaders) {
-                  if (didResume.compareAndSet(false, true)) {
-                    LOGGER.fine(ASYNC_SUCCESS, identityHash(), requestParams.call, result, statusCode, responseHeaders);
-
-                    helper.recycle(client);
-                    packet
-                        .getComponents()
-                        .put(
-                            RESPONSE_COMPONENT_NAME,
-                            Component.createFor(
-                                CallResponse.createSuccess(result, statusCode).withResponseHeaders(responseHeaders)));
-                    fiber.resume(packet);
-                  }
+  // makes the call once the call scheduler allows it, and resumes the fiber with its response
+  private void makeCall(Fiber fiber, Packet packet, String cont, RetryStrategy r) {
+    AtomicBoolean didResume = new AtomicBoolean(false);
+    AtomicReference<CancellableCall> cancellableCall = new AtomicReference<>();
+    fiber
+        .owner
+        .getExecutor()
+        .schedule(
+            () -> {
+              if (didResume.compareAndSet(false, true)) {
+                CallMetrics.recordTimeout();
+                try {
+                  Optional.ofNullable(cancellableCall.get()).ifPresent(CancellableCall::cancel);
+                } finally {
+                  LOGGER.fine(
+                      MessageKeys.ASYNC_TIMEOUT,
+                      identityHash(),
+                      requestParams.call,
+                      requestParams.namespace,
+                      requestParams.name,
+                      requestParams.body,
+                      fieldSelector,
+                      labelSelector,
+                      resourceVersion);
+                  packet
+                      .getComponents()
+                      .put(
+                          RESPONSE_COMPONENT_NAME,
+                          Component.createFor(RetryStrategy.class, r));
+                  fiber.resume(packet);
                 }
-              };
-
-          try {
-            CancellableCall cc = factory.generate(requestParams, client, c, callback);
-
-            // timeout handling
-            fiber
-                .owner
-                .getExecutor()
-                .schedule(
-                    () -> {
-                      if (didResume.compareAndSet(false, true)) {
-                        try {
-                          cc.cancel();
-                        } finally {
-                          LOGGER.fine(
-                              MessageKeys.ASYNC_TIMEOUT,
-                              identityHash(),
-                              requestParams.call,
-                              requestParams.namespace,
-                              requestParams.name,
-                              requestParams.body,
-                              fieldSelector,
-                              labelSelector,
-                              resourceVersion);
-                          packet
-                              .getComponents()
-                              .put(
-                                  RESPONSE_COMPONENT_NAME,
-                                  Component.createFor(RetryStrategy.class, r));
-                          fiber.resume(packet);
-                        }
-                      }
-                    },
-                    timeoutSeconds,
-                    TimeUnit.SECONDS);
-          } catch (Throwable t) {
-            String responseBody = (t instanceof ApiException) ? ((ApiException) t).getResponseBody() : "";
-            LOGGER.warning(
-                MessageKeys.ASYNC_FAILURE,
-                t.getMessage(),
-                0,
-                null,
-                requestParams,
-                requestParams.namespace,
-                requestParams.name,
-                requestParams.body,
-                fieldSelector,
-                labelSelector,
-                resourceVersion,
-                responseBody);
+              }
+            },
+            timeoutSeconds,
+            TimeUnit.SECONDS);
+
+    CircuitBreaker breaker = CircuitBreaker.forCall(requestParams);
+    ApiClient client = helper.take();
+    ApiCallback<T> callback =
+        new BaseApiCallback<>() {
+          @Override
+          public void onFailure(
+              ApiException ae, int statusCode, Map<String, List<String>> responseHeaders) {
             if (didResume.compareAndSet(false, true)) {
+              if (CircuitBreaker.isFailure(statusCode)) {
+                breaker.recordFailure();
+              } else {
+                breaker.recordSuccess();
+              }
+              if (statusCode == TOO_MANY_REQUESTS || statusCode == SERVICE_UNAVAILABLE) {
+                CallScheduler.getInstance().pauseIfRequested(responseHeaders);
+              }
+              if (statusCode != CallBuilder.NOT_FOUND) {
+                LOGGER.info(
+                    MessageKeys.ASYNC_FAILURE,
+                    identityHash(),
+                    ae.getMessage(),
+                    statusCode,
+                    responseHeaders,
+                    requestParams.call,
+                    requestParams.namespace,
+                    requestParams.name,
+                    requestParams.body,
+                    fieldSelector,
+                    labelSelector,
+                    resourceVersion,
+                    ae.getResponseBody());
+              }
+
+              helper.recycle(client);
               packet
                   .getComponents()
-                  .put(RESPONSE_COMPONENT_NAME, Component.createFor(RetryStrategy.class, r));
+                  .put(
+                      RESPONSE_COMPONENT_NAME,
+                      Component.createFor(
+                          RetryStrategy.class,
+                          r,
+                          CallResponse.createFailure(ae, statusCode).withResponseHeaders(responseHeaders)));
               fiber.resume(packet);
             }
           }
-        });
+
+          @Override
+          public void onSuccess(
+              T result, int statusCode, Map<String, List<String>> responseHeaders) {
+            if (didResume.compareAndSet(false, true)) {
+              LOGGER.fine(ASYNC_SUCCESS, identityHash(), requestParams.call, result, statusCode, responseHeaders);
+              breaker.recordSuccess();
+
+              helper.recycle(client);
+              packet
+                  .getComponents()
+                  .put(
+                      RESPONSE_COMPONENT_NAME,
+                      Component.createFor(
+                          CallResponse.createSuccess(result, statusCode)
+                              .withResponseHeaders(responseHeaders)
+                              .withListPosition(cont.isEmpty(), factory.getContinue(result))));
+              fiber.resume(packet);
+            }
+          }
+        };
+
+    try {
+      cancellableCall.set(factory.generate(requestParams, client, cont, callback));
+    } catch (Throwable t) {
+      String responseBody = (t instanceof ApiException) ? ((ApiException) t).getResponseBody() : "";
+      LOGGER.warning(
+          MessageKeys.ASYNC_FAILURE,
+          t.getMessage(),
+          0,
+          null,
+          requestParams,
+          requestParams.namespace,
+          requestParams.name,
+          requestParams.body,
+          fieldSelector,
+          labelSelector,
+          resourceVersion,
+          responseBody);
+      if (didResume.compareAndSet(false, true)) {
+        packet
+            .getComponents()
+            .put(RESPONSE_COMPONENT_NAME, Component.createFor(RetryStrategy.class, r));
+        fiber.resume(packet);
+      }
+    }
   }
 
   // creates a unique ID that allows matching requests to responses
@@ -288,6 +333,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     private final int maxRetryCount;
     private final Step retryStep;
     private final RetryStrategyListener listener;
+    private final JitteredBackoff backoff = new JitteredBackoff(BASE, MAX, R);
 
     DefaultRetryStrategy(int maxRetryCount, Step retryStep, RetryStrategyListener listener) {
       this.maxRetryCount = maxRetryCount;
@@ -305,8 +351,10 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
           || statusCode == 503 /* StatusServiceUnavailable */
           || statusCode == 504 /* StatusServerTimeout */) {
 
-        // exponential back-off
-        long waitTime = Math.min((2 << ++retryCount) * SCALE, MAX) + (R.nextInt(HIGH - LOW) + LOW);
+        // exponential back-off, with decorrelated jitter
+        retryCount++;
+        long waitTime = backoff.nextDelayMillis();
+        CallMetrics.recordRetry();
 
         if (statusCode == 0 || statusCode == 504 /* StatusServerTimeout */) {
           listener.listenTimeoutDoubled();
@@ -325,8 +373,10 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         // simply retry the request.  Instead, application code needs to rebuild
         // the request based on latest contents.  If provided, a conflict step will do that.
 
-        // exponential back-off
-        long waitTime = Math.min((2 << ++retryCount) * SCALE, MAX) + (R.nextInt(HIGH - LOW) + LOW);
+        // exponential back-off, with decorrelated jitter
+        retryCount++;
+        long waitTime = backoff.nextDelayMillis();
+        CallMetrics.recordRetry();
 
         LOGGER.info(MessageKeys.ASYNC_RETRY, identityHash(), String.valueOf(waitTime));
         NextAction na = new NextAction();
@@ -341,6 +391,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     @Override
     public void reset() {
       retryCount = 0;
+      backoff.reset();
     }
   }
 }
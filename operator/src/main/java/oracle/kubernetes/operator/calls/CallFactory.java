@@ -12,4 +12,14 @@ public interface CallFactory<T> {
   CancellableCall generate(
       RequestParams requestParams, ApiClient client, String cont, ApiCallback<T> callback)
       throws ApiException;
+
+  /**
+   * Returns the token with which the next page of a list may be requested.
+   *
+   * @param result the result of a call made by this factory
+   * @return the continue token, or null if the result is not a page of a list, or is its last page
+   */
+  default String getContinue(T result) {
+    return null;
+  }
 }
@@ -0,0 +1,53 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts recorded by the asynchronous calls to the Kubernetes API: the retries of failed calls, the calls
+ * which timed out, the calls which were still queued by the call scheduler at their queue deadline, and the
+ * calls which were postponed because the circuit breaker for their kind of call was open.
+ */
+public final class CallMetrics {
+  private static final LongAdder RETRIES = new LongAdder();
+  private static final LongAdder TIMEOUTS = new LongAdder();
+  private static final LongAdder QUEUE_TIMEOUTS = new LongAdder();
+  private static final LongAdder SHED_CALLS = new LongAdder();
+
+  private CallMetrics() {
+  }
+
+  static void recordRetry() {
+    RETRIES.increment();
+  }
+
+  static void recordTimeout() {
+    TIMEOUTS.increment();
+  }
+
+  static void recordQueueTimeout() {
+    QUEUE_TIMEOUTS.increment();
+  }
+
+  static void recordShedCall() {
+    SHED_CALLS.increment();
+  }
+
+  public static long getRetryCount() {
+    return RETRIES.sum();
+  }
+
+  public static long getTimeoutCount() {
+    return TIMEOUTS.sum();
+  }
+
+  public static long getQueueTimeoutCount() {
+    return QUEUE_TIMEOUTS.sum();
+  }
+
+  public static long getShedCallCount() {
+    return SHED_CALLS.sum();
+  }
+}
@@ -14,6 +14,8 @@ public final class CallResponse<T> {
   private final ApiException ex;
   private final int statusCode;
   private Map<String, List<String>> responseHeaders;
+  private boolean isFirstPage = true;
+  private String cont;
 
   public static <R> CallResponse createSuccess(R result, int statusCode) {
     return new CallResponse<>(result, null, statusCode);
@@ -32,6 +34,12 @@ public final class CallResponse<T> {
     return this;
   }
 
+  CallResponse<T> withListPosition(boolean isFirstPage, String cont) {
+    this.isFirstPage = isFirstPage;
+    this.cont = cont;
+    return this;
+  }
+
   /**
    * Constructor for CallResponse.
    *
@@ -65,6 +73,33 @@ public final class CallResponse<T> {
     return statusCode;
   }
 
+  /**
+   * Returns true if the result is the first page of a list, or is not part of a list.
+   *
+   * @return true for a first page
+   */
+  public boolean isFirstPage() {
+    return isFirstPage;
+  }
+
+  /**
+   * Returns true if the result is the last page of a list, or is not part of a list.
+   *
+   * @return true for a last page
+   */
+  public boolean isLastPage() {
+    return cont == null || cont.isEmpty();
+  }
+
+  /**
+   * Returns the token with which the page after this one may be requested.
+   *
+   * @return the continue token, or null if there are no more pages
+   */
+  public String getContinue() {
+    return cont;
+  }
+
   public String getHeadersString() {
     return Optional.ofNullable(responseHeaders).map(Object::toString).orElse("");
   }
@@ -0,0 +1,234 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+/**
+ * Dispatches the asynchronous calls to the Kubernetes API, limiting the rate at which they are made with
+ * a token bucket. Calls which cannot be made at once are queued by priority and then by namespace. The
+ * highest priority queue is always served first, and within a priority the namespaces take turns, so that
+ * many calls for one domain do not delay the calls for the domains in other namespaces. When the API
+ * server asks the operator to retry after a delay, no calls are made until that delay has passed. A queued
+ * call which has been abandoned, because it passed its queue deadline or its fiber was cancelled, is dropped
+ * when its turn comes, without using a permit.
+ */
+public class CallScheduler {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final CallScheduler INSTANCE = new CallScheduler(System::nanoTime);
+  private static final String RETRY_AFTER = "Retry-After";
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  /** The priority of a call. Calls which change resources are made before reads, and status updates last. */
+  public enum Priority {
+    STATUS, READ, WRITE;
+
+    /**
+     * Returns the priority of the specified call.
+     *
+     * @param call the name of the call, as in {@link RequestParams#call}
+     * @return the priority of the call
+     */
+    public static Priority of(String call) {
+      if (call.endsWith("Status")) {
+        return STATUS;
+      } else if (call.startsWith("list") || call.startsWith("read") || call.startsWith("get")) {
+        return READ;
+      } else {
+        return WRITE;
+      }
+    }
+  }
+
+  private final LongSupplier clock;
+  private final List<Map<String, Queue<QueuedCall>>> queues = new ArrayList<>();
+  private int numQueued;
+  private double permitsPerSecond;
+  private double burst;
+  private double permits;
+  private long lastRefillNanos;
+  private long pausedUntilNanos;
+  private boolean wakeUpScheduled;
+
+  CallScheduler(LongSupplier clock) {
+    this.clock = clock;
+    lastRefillNanos = pausedUntilNanos = clock.getAsLong();
+    for (int i = 0; i < Priority.values().length; i++) {
+      queues.add(new LinkedHashMap<>());
+    }
+  }
+
+  public static CallScheduler getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Sets the rate at which calls may be made.
+   *
+   * @param permitsPerSecond the sustained number of calls per second; if not positive, the rate is not limited
+   * @param burst the number of calls which may be made at once after a period without calls
+   */
+  public synchronized void setRate(double permitsPerSecond, int burst) {
+    boolean wasLimited = isLimited();
+    refill(clock.getAsLong());
+    this.permitsPerSecond = Math.max(0, permitsPerSecond);
+    this.burst = Math.max(1, burst);
+    permits = wasLimited ? Math.min(permits, this.burst) : this.burst;
+  }
+
+  private boolean isLimited() {
+    return permitsPerSecond > 0;
+  }
+
+  /**
+   * Returns the number of calls which are waiting to be made.
+   *
+   * @return the number of queued calls
+   */
+  public synchronized int getQueuedCallCount() {
+    return numQueued;
+  }
+
+  /**
+   * Makes the specified call as soon as the rate limit allows.
+   *
+   * @param requestParams the parameters of the call, which determine its priority and namespace
+   * @param executor the executor on which to wait until the call can be made
+   * @param abandoned returns true if the call is no longer wanted, and should be dropped
+   * @param call the action which makes the call
+   */
+  void submit(RequestParams requestParams, ScheduledExecutorService executor,
+              BooleanSupplier abandoned, Runnable call) {
+    List<Runnable> ready;
+    synchronized (this) {
+      queues.get(Priority.of(requestParams.call).ordinal())
+          .computeIfAbsent(String.valueOf(requestParams.namespace), k -> new ArrayDeque<>())
+          .add(new QueuedCall(abandoned, call));
+      numQueued++;
+      ready = takeReadyCalls(executor);
+    }
+    ready.forEach(Runnable::run);
+  }
+
+  /**
+   * Stops making calls until the delay requested by a response's Retry-After header, if any, has passed.
+   *
+   * @param responseHeaders the headers of a failed response
+   */
+  void pauseIfRequested(Map<String, List<String>> responseHeaders) {
+    if (responseHeaders != null) {
+      for (Map.Entry<String, List<String>> entry : responseHeaders.entrySet()) {
+        if (RETRY_AFTER.equalsIgnoreCase(entry.getKey()) && !entry.getValue().isEmpty()) {
+          pauseFor(entry.getValue().get(0));
+        }
+      }
+    }
+  }
+
+  // Only the delay-seconds form of the header is honored; an HTTP date is ignored.
+  private void pauseFor(String retryAfter) {
+    try {
+      long seconds = Long.parseLong(retryAfter.trim());
+      if (seconds > 0) {
+        pauseFor(seconds, TimeUnit.SECONDS);
+      }
+    } catch (NumberFormatException e) {
+      LOGGER.fine(MessageKeys.EXCEPTION, e);
+    }
+  }
+
+  synchronized void pauseFor(long delay, TimeUnit unit) {
+    long until = clock.getAsLong() + unit.toNanos(delay);
+    if (until - pausedUntilNanos > 0) {
+      pausedUntilNanos = until;
+    }
+  }
+
+  private void refill(long now) {
+    if (isLimited()) {
+      permits = Math.min(burst, permits + (now - lastRefillNanos) * permitsPerSecond / NANOS_PER_SECOND);
+    }
+    lastRefillNanos = now;
+  }
+
+  private List<Runnable> takeReadyCalls(ScheduledExecutorService executor) {
+    long now = clock.getAsLong();
+    refill(now);
+    List<Runnable> ready = new ArrayList<>();
+    while (numQueued > 0 && now - pausedUntilNanos >= 0 && (!isLimited() || permits >= 1)) {
+      QueuedCall call = pollNextCall();
+      if (!call.abandoned.getAsBoolean()) {
+        ready.add(call.call);
+        if (isLimited()) {
+          permits--;
+        }
+      }
+    }
+
+    if (numQueued > 0 && !wakeUpScheduled) {
+      wakeUpScheduled = true;
+      executor.schedule(() -> wakeUp(executor), getNanosUntilReady(now), TimeUnit.NANOSECONDS);
+    }
+    return ready;
+  }
+
+  private long getNanosUntilReady(long now) {
+    long untilResumed = Math.max(0, pausedUntilNanos - now);
+    long untilPermit = isLimited() ? (long) Math.ceil((1 - permits) * NANOS_PER_SECOND / permitsPerSecond) : 0;
+    return Math.max(1, Math.max(untilResumed, untilPermit));
+  }
+
+  private void wakeUp(ScheduledExecutorService executor) {
+    List<Runnable> ready;
+    synchronized (this) {
+      wakeUpScheduled = false;
+      ready = takeReadyCalls(executor);
+    }
+    ready.forEach(Runnable::run);
+  }
+
+  // Takes the first call of the first namespace with calls at the highest priority, and then moves
+  // that namespace behind the others, so that the namespaces are served in turn.
+  private QueuedCall pollNextCall() {
+    for (int i = queues.size() - 1; i >= 0; i--) {
+      Iterator<Map.Entry<String, Queue<QueuedCall>>> namespaces = queues.get(i).entrySet().iterator();
+      if (namespaces.hasNext()) {
+        Map.Entry<String, Queue<QueuedCall>> namespace = namespaces.next();
+        namespaces.remove();
+        QueuedCall call = namespace.getValue().remove();
+        if (!namespace.getValue().isEmpty()) {
+          queues.get(i).put(namespace.getKey(), namespace.getValue());
+        }
+        numQueued--;
+        return call;
+      }
+    }
+    throw new IllegalStateException("No queued call");
+  }
+
+  private static class QueuedCall {
+    private final BooleanSupplier abandoned;
+    private final Runnable call;
+
+    QueuedCall(BooleanSupplier abandoned, Runnable call) {
+      this.abandoned = abandoned;
+      this.call = call;
+    }
+  }
+}
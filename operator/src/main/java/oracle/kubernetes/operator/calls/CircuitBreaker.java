@@ -0,0 +1,129 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import oracle.kubernetes.operator.calls.CallScheduler.Priority;
+
+/**
+ * Tracks the health of one kind of call to the Kubernetes API, such as replaceDomainStatus, made in one
+ * namespace, so that failures in one namespace do not hold back the calls made in others. The breaker opens
+ * when the API server answers several calls in a row with 429 or a 5xx status, and while it is open, calls
+ * which the operator can do without, such as status updates, are shed: they are postponed until the breaker
+ * becomes half-open, which happens once it has been open for a while. A half-open breaker lets every call
+ * through again: the next success closes it, and the next failure opens it again.
+ */
+public class CircuitBreaker {
+  static final int FAILURE_THRESHOLD = 5;
+  static final long OPEN_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+  private static final Map<String, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private final String call;
+  private final String namespace;
+  private final LongSupplier clock;
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openedAtNanos;
+
+  CircuitBreaker(LongSupplier clock) {
+    this(null, null, clock);
+  }
+
+  CircuitBreaker(String call, String namespace, LongSupplier clock) {
+    this.call = call;
+    this.namespace = namespace;
+    this.clock = clock;
+  }
+
+  static CircuitBreaker forCall(RequestParams requestParams) {
+    return BREAKERS.computeIfAbsent(toKey(requestParams.call, requestParams.namespace),
+        k -> new CircuitBreaker(requestParams.call, requestParams.namespace, System::nanoTime));
+  }
+
+  private static String toKey(String call, String namespace) {
+    return namespace == null ? call : call + "/" + namespace;
+  }
+
+  /**
+   * Returns the breaker for each kind of call which has been made in each namespace, sorted by call
+   * and namespace.
+   *
+   * @return a list of breakers
+   */
+  public static List<CircuitBreaker> getAll() {
+    return Collections.unmodifiableList(new ArrayList<>(new TreeMap<>(BREAKERS).values()));
+  }
+
+  public String getCall() {
+    return call;
+  }
+
+  /**
+   * Returns the namespace in which the calls tracked by this breaker are made.
+   * @return a namespace name, or null for calls which are not made in a namespace
+   */
+  public String getNamespace() {
+    return namespace;
+  }
+
+  static boolean isFailure(int statusCode) {
+    return statusCode == 429 || statusCode >= 500;
+  }
+
+  /**
+   * Returns the current state of the breaker.
+   * @return the state
+   */
+  public synchronized State getState() {
+    if (state == State.OPEN && clock.getAsLong() - openedAtNanos >= OPEN_NANOS) {
+      state = State.HALF_OPEN;
+    }
+    return state;
+  }
+
+  /**
+   * Returns true if a call of the specified name should be made now. Only calls with the lowest priority
+   * are shed while the breaker is open.
+   *
+   * @param call the name of the call
+   * @return true if the call should be made
+   */
+  boolean allows(String call) {
+    return getState() != State.OPEN || Priority.of(call) != Priority.STATUS;
+  }
+
+  /**
+   * Returns the time until an open breaker becomes half-open and lets every call through again.
+   * @return a time in nanoseconds, zero if the breaker is not open
+   */
+  synchronized long getNanosUntilHalfOpen() {
+    return getState() == State.OPEN ? openedAtNanos + OPEN_NANOS - clock.getAsLong() : 0;
+  }
+
+  synchronized void recordSuccess() {
+    consecutiveFailures = 0;
+    state = State.CLOSED;
+  }
+
+  synchronized void recordFailure() {
+    consecutiveFailures++;
+    if (getState() == State.HALF_OPEN || consecutiveFailures >= FAILURE_THRESHOLD) {
+      state = State.OPEN;
+      openedAtNanos = clock.getAsLong();
+    }
+  }
+}
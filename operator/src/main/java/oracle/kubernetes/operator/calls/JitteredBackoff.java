@@ -0,0 +1,36 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.Random;
+
+/**
+ * Computes the delays between the retries of a call with decorrelated jitter: each delay is chosen at random
+ * between a base delay and three times the previous delay, up to a cap. The delays grow roughly exponentially,
+ * but calls which failed at the same moment do not retry at the same moments, as they would with a fixed
+ * schedule, so that the API server is not hit by waves of retries while it recovers.
+ */
+class JitteredBackoff {
+  private final long baseMillis;
+  private final long capMillis;
+  private final Random random;
+  private long lastMillis;
+
+  JitteredBackoff(long baseMillis, long capMillis, Random random) {
+    this.baseMillis = baseMillis;
+    this.capMillis = capMillis;
+    this.random = random;
+    this.lastMillis = baseMillis;
+  }
+
+  long nextDelayMillis() {
+    long upperMillis = Math.max(baseMillis, lastMillis * 3);
+    lastMillis = Math.min(capMillis, baseMillis + (long) (random.nextDouble() * (upperMillis - baseMillis)));
+    return lastMillis;
+  }
+
+  void reset() {
+    lastMillis = baseMillis;
+  }
+}
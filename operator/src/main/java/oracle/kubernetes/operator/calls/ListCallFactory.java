@@ -0,0 +1,46 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+
+/**
+ * A factory for the calls which list a kind of resource. Each call returns one page of the list, and the
+ * continue token in the metadata of that page, if any, is used to request the next.
+ *
+ * @param <T> the type of the list
+ */
+public class ListCallFactory<T> implements CallFactory<T> {
+  private final CallFactory<T> factory;
+  private final Function<T, V1ListMeta> getMetadata;
+
+  /**
+   * Creates a factory for list calls.
+   *
+   * @param factory the factory which makes the call for one page
+   * @param getMetadata a function to select the metadata from a page
+   */
+  public ListCallFactory(CallFactory<T> factory, Function<T, V1ListMeta> getMetadata) {
+    this.factory = factory;
+    this.getMetadata = getMetadata;
+  }
+
+  @Override
+  public CancellableCall generate(
+      RequestParams requestParams, ApiClient client, String cont, ApiCallback<T> callback)
+      throws ApiException {
+    return factory.generate(requestParams, client, cont, callback);
+  }
+
+  @Override
+  public String getContinue(T result) {
+    return Optional.ofNullable(result).map(getMetadata).map(V1ListMeta::getContinue).orElse(null);
+  }
+}
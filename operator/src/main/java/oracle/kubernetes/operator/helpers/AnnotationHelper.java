@@ -3,9 +3,12 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
@@ -18,7 +21,12 @@ public class AnnotationHelper {
   static final String SHA256_ANNOTATION = "weblogic.sha256";
   private static final boolean DEBUG = false;
   private static final String HASHED_STRING = "hashedString";
-  private static Function<Object, String> HASH_FUNCTION = o -> DigestUtils.sha256Hex(Yaml.dump(o));
+  // Hashes are tagged with the version of the algorithm which computed them. Untagged hashes were computed by
+  // earlier operator versions from a YAML dump of the recipe.
+  private static final String HASH_VERSION_PREFIX = "v2:";
+  private static final Pattern LEGACY_HASH = Pattern.compile("[0-9a-f]{64}");
+  private static Function<Object, String> HASH_FUNCTION = o -> HASH_VERSION_PREFIX + CanonicalHasher.sha256Hex(o);
+  private static final Function<Object, String> LEGACY_HASH_FUNCTION = o -> DigestUtils.sha256Hex(Yaml.dump(o));
 
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from the
@@ -68,6 +76,57 @@ public class AnnotationHelper {
     return getAnnotation(service.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
 
+  /**
+   * Returns true if the specified pod was created from a recipe which matches the model. A pod whose hash
+   * was computed by an earlier version of the operator is compared with the legacy hash of the recipe, so
+   * that upgrading the operator does not by itself cause pods to be replaced.
+   *
+   * @param model the desired pod, annotated with its hash
+   * @param current the existing pod
+   * @param recipe supplies the recipe from which the model was created, before it was annotated
+   * @return true if the existing pod may be kept
+   */
+  static boolean hasMatchingHash(V1Pod model, V1Pod current, Supplier<V1Pod> recipe) {
+    return hasMatchingHash(getHash(model), getHash(current), recipe::get);
+  }
+
+  /**
+   * Returns true if the specified service was created from a recipe which matches the model, allowing
+   * for a hash computed by an earlier version of the operator.
+   *
+   * @param model the desired service, annotated with its hash
+   * @param current the existing service
+   * @param recipe supplies the recipe from which the model was created, before it was annotated
+   * @return true if the existing service may be kept
+   */
+  static boolean hasMatchingHash(V1Service model, V1Service current, Supplier<V1Service> recipe) {
+    return hasMatchingHash(getHash(model), getHash(current), recipe::get);
+  }
+
+  private static boolean hasMatchingHash(String modelHash, String currentHash, Supplier<Object> recipe) {
+    return currentHash.equals(modelHash)
+        || (isLegacyHash(currentHash) && currentHash.equals(LEGACY_HASH_FUNCTION.apply(recipe.get())));
+  }
+
+  /**
+   * Returns true if the hash annotation on the specified pod was computed by an earlier version of the
+   * operator, and should be replaced.
+   *
+   * @param pod an existing pod
+   * @return true if the hash should be updated
+   */
+  static boolean hasLegacyHash(V1Pod pod) {
+    return isLegacyHash(getHash(pod));
+  }
+
+  private static boolean isLegacyHash(String hash) {
+    return hash != null && LEGACY_HASH.matcher(hash).matches();
+  }
+
+  static Map<String, String> getHashAnnotation(V1Pod pod) {
+    return Collections.singletonMap(SHA256_ANNOTATION, getHash(pod));
+  }
+
   static String getDebugString(V1Pod pod) {
     return getAnnotation(pod.getMetadata(), AnnotationHelper::getDebugHashAnnotation);
   }
@@ -44,6 +44,7 @@ import oracle.kubernetes.operator.calls.AsyncRequestStep;
 import oracle.kubernetes.operator.calls.CallFactory;
 import oracle.kubernetes.operator.calls.CallWrapper;
 import oracle.kubernetes.operator.calls.CancellableCall;
+import oracle.kubernetes.operator.calls.ListCallFactory;
 import oracle.kubernetes.operator.calls.RequestParams;
 import oracle.kubernetes.operator.calls.SynchronousCallDispatcher;
 import oracle.kubernetes.operator.calls.SynchronousCallFactory;
@@ -99,6 +100,15 @@ public class CallBuilder {
                   requestParams.namespace,
                   (V1Patch) requestParams.body,
                   callback));
+  private final CallFactory<Domain> patchDomainStatus =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchDomainStatusAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Patch) requestParams.body,
+                  callback));
   private final CallFactory<Domain> replaceDomainStatus =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -213,28 +223,34 @@ public class CallBuilder {
   /* Domains */
   private Integer maxRetryCount = 10;
   private final Boolean watch = Boolean.FALSE;
-  private final CallFactory<DomainList> listDomain =
+  private final CallFactory<DomainList> listDomain = new ListCallFactory<>(
       (requestParams, usage, cont, callback) ->
-          wrap(listDomainAsync(usage, requestParams.namespace, cont, callback));
-  private final CallFactory<V1PodList> listPod =
+          wrap(listDomainAsync(usage, requestParams.namespace, cont, callback)),
+      DomainList::getMetadata);
+  private final CallFactory<V1PodList> listPod = new ListCallFactory<>(
       (requestParams, usage, cont, callback) ->
-          wrap(listPodAsync(usage, requestParams.namespace, cont, callback));
+          wrap(listPodAsync(usage, requestParams.namespace, cont, callback)),
+      V1PodList::getMetadata);
   private final CallFactory<V1Status> deletecollectionPod =
       (requestParams, usage, cont, callback) ->
           wrap(deleteCollectionPodAsync(usage, requestParams.namespace, cont,
               (V1DeleteOptions) requestParams.body, callback));
-  private final CallFactory<V1SecretList> listSecrets =
+  private final CallFactory<V1SecretList> listSecrets = new ListCallFactory<>(
       (requestParams, usage, cont, callback) ->
-          wrap(listSecretsAsync(usage, requestParams.namespace, cont, callback));
-  private final CallFactory<V1ServiceList> listService =
+          wrap(listSecretsAsync(usage, requestParams.namespace, cont, callback)),
+      V1SecretList::getMetadata);
+  private final CallFactory<V1ServiceList> listService = new ListCallFactory<>(
       (requestParams, usage, cont, callback) ->
-          wrap(listServiceAsync(usage, requestParams.namespace, cont, callback));
-  private final CallFactory<V1EventList> listEvent =
+          wrap(listServiceAsync(usage, requestParams.namespace, cont, callback)),
+      V1ServiceList::getMetadata);
+  private final CallFactory<V1EventList> listEvent = new ListCallFactory<>(
       (requestParams, usage, cont, callback) ->
-          wrap(listEventAsync(usage, requestParams.namespace, cont, callback));
-  private final CallFactory<V1NamespaceList> listNamespace =
+          wrap(listEventAsync(usage, requestParams.namespace, cont, callback)),
+      V1EventList::getMetadata);
+  private final CallFactory<V1NamespaceList> listNamespace = new ListCallFactory<>(
       (requestParams, usage, cont, callback) ->
-          wrap(listNamespaceAsync(usage, cont, callback));
+          wrap(listNamespaceAsync(usage, cont, callback)),
+      V1NamespaceList::getMetadata);
   private final Boolean exact = Boolean.FALSE;
   private final Boolean export = Boolean.FALSE;
   private final CallFactory<Domain> readDomain =
@@ -351,6 +367,11 @@ public class CallBuilder {
           new WeblogicApi(client)
               .patchNamespacedDomain(
                   requestParams.name, requestParams.namespace, (V1Patch) requestParams.body);
+  private final SynchronousCallFactory<Domain> patchDomainStatusCall =
+      (client, requestParams) ->
+          new WeblogicApi(client)
+              .patchNamespacedDomainStatus(
+                  requestParams.name, requestParams.namespace, (V1Patch) requestParams.body);
 
   /* Config Maps */
   private SynchronousCallFactory<V1PersistentVolume> createPvCall =
@@ -672,6 +693,45 @@ public class CallBuilder {
         patchDomain);
   }
 
+  /**
+   * Patch the status subresource of a domain.
+   *
+   * @param uid the domain uid (unique within the k8s cluster)
+   * @param namespace the namespace containing the domain
+   * @param patchBody the patch to apply to the domain status
+   * @return Updated domain
+   * @throws ApiException APIException
+   */
+  public Domain patchDomainStatus(String uid, String namespace, V1Patch patchBody) throws ApiException {
+    RequestParams requestParams =
+        new RequestParams("patchDomainStatus", namespace, uid, patchBody);
+    return executeSynchronousCall(requestParams, patchDomainStatusCall);
+  }
+
+  private Call patchDomainStatusAsync(
+      ApiClient client, String name, String namespace, V1Patch patch, ApiCallback<Domain> callback)
+      throws ApiException {
+    return new WeblogicApi(client)
+        .patchNamespacedDomainStatusAsync(name, namespace, patch, callback);
+  }
+
+  /**
+   * Asynchronous step for patching the status subresource of a domain.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param patchBody instructions on what to patch in the domain status
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchDomainStatusAsync(
+      String name, String namespace, V1Patch patchBody, ResponseStep<Domain> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchDomainStatus", namespace, name, patchBody),
+        patchDomainStatus);
+  }
+
   private Call replaceDomainStatusAsync(
       ApiClient client, String name, String namespace, Domain body, ApiCallback<Domain> callback)
       throws ApiException {
@@ -0,0 +1,209 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.gson.annotations.SerializedName;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Computes a SHA-256 hash of a Kubernetes model object by streaming its canonical form directly into a
+ * message digest, without first serializing it to a string.
+ *
+ * <p>The canonical form depends only on the JSON names and the values of the fields which are set. Object
+ * fields and map entries are hashed in the order of their names, null fields and empty collections are
+ * ignored, and numbers are hashed by their decimal representation. The hash of a recipe is therefore
+ * unchanged by a new version of the Kubernetes client which reorders fields, changes the Java type of a
+ * number, or adds fields which the operator does not set.
+ */
+class CanonicalHasher {
+  private static final String ALGORITHM = "SHA-256";
+
+  private static final byte NULL = 0;
+  private static final byte STRING = 1;
+  private static final byte NUMBER = 2;
+  private static final byte BOOLEAN = 3;
+  private static final byte LIST = 4;
+  private static final byte MAP = 5;
+  private static final byte OBJECT = 6;
+  private static final byte END = 7;
+
+  private static final ClassValue<List<ModelField>> MODEL_FIELDS = new ClassValue<>() {
+    @Override
+    protected List<ModelField> computeValue(Class<?> type) {
+      return getModelFields(type);
+    }
+  };
+
+  private final MessageDigest digest;
+
+  private CanonicalHasher() {
+    try {
+      digest = MessageDigest.getInstance(ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Returns the hash of the specified object as a hexadecimal string.
+   *
+   * @param object a Kubernetes model object
+   * @return a 64 character string
+   */
+  static String sha256Hex(Object object) {
+    CanonicalHasher hasher = new CanonicalHasher();
+    hasher.addValue(object);
+    return Hex.encodeHexString(hasher.digest.digest());
+  }
+
+  private static List<ModelField> getModelFields(Class<?> type) {
+    List<ModelField> fields = new ArrayList<>();
+    for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        if (isModelField(field)) {
+          field.setAccessible(true);
+          fields.add(new ModelField(field));
+        }
+      }
+    }
+    fields.sort(Comparator.comparing(f -> f.name));
+    return fields;
+  }
+
+  private static boolean isModelField(Field field) {
+    return !Modifier.isStatic(field.getModifiers()) && field.getAnnotation(SerializedName.class) != null;
+  }
+
+  private static boolean isEmpty(Object value) {
+    return value == null
+        || (value instanceof Collection && ((Collection<?>) value).isEmpty())
+        || (value instanceof Map && ((Map<?, ?>) value).isEmpty());
+  }
+
+  private void addValue(Object value) {
+    if (value == null) {
+      digest.update(NULL);
+    } else if (value instanceof String) {
+      addString((String) value);
+    } else if (value instanceof Number) {
+      addTagged(NUMBER, value.toString());
+    } else if (value instanceof Boolean) {
+      digest.update(BOOLEAN);
+      digest.update((byte) ((Boolean) value ? 1 : 0));
+    } else if (value instanceof IntOrString) {
+      addIntOrString((IntOrString) value);
+    } else if (value instanceof Quantity) {
+      addString(((Quantity) value).toSuffixedString());
+    } else if (value instanceof Collection) {
+      addCollection((Collection<?>) value);
+    } else if (value instanceof Map) {
+      addMap((Map<?, ?>) value);
+    } else if (value instanceof byte[]) {
+      addString(Base64.getEncoder().encodeToString((byte[]) value));
+    } else if (value instanceof Enum || isScalar(value.getClass())) {
+      addString(value.toString());
+    } else {
+      addObject(value);
+    }
+  }
+
+  // Any class without fields named for JSON, such as a date, is hashed by its string form.
+  private boolean isScalar(Class<?> type) {
+    return MODEL_FIELDS.get(type).isEmpty();
+  }
+
+  private void addString(String value) {
+    addTagged(STRING, value);
+  }
+
+  private void addTagged(byte tag, String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    digest.update(tag);
+    addLength(bytes.length);
+    digest.update(bytes);
+  }
+
+  private void addLength(int length) {
+    digest.update((byte) (length >>> 24));
+    digest.update((byte) (length >>> 16));
+    digest.update((byte) (length >>> 8));
+    digest.update((byte) length);
+  }
+
+  private void addIntOrString(IntOrString value) {
+    if (value.isInteger()) {
+      addTagged(NUMBER, value.getIntValue().toString());
+    } else {
+      addString(value.getStrValue());
+    }
+  }
+
+  private void addCollection(Collection<?> values) {
+    digest.update(LIST);
+    addLength(values.size());
+    for (Object value : values) {
+      addValue(value);
+    }
+  }
+
+  private void addMap(Map<?, ?> map) {
+    digest.update(MAP);
+    addLength(map.size());
+    for (Map.Entry<String, ?> entry : sortByKey(map).entrySet()) {
+      addString(entry.getKey());
+      addValue(entry.getValue());
+    }
+  }
+
+  private Map<String, ?> sortByKey(Map<?, ?> map) {
+    Map<String, Object> sorted = new TreeMap<>();
+    map.forEach((k, v) -> sorted.put(String.valueOf(k), v));
+    return sorted;
+  }
+
+  private void addObject(Object object) {
+    digest.update(OBJECT);
+    for (ModelField field : MODEL_FIELDS.get(object.getClass())) {
+      Object value = field.get(object);
+      if (!isEmpty(value)) {
+        addString(field.name);
+        addValue(value);
+      }
+    }
+    digest.update(END);
+  }
+
+  private static class ModelField {
+    private final Field field;
+    private final String name;
+
+    ModelField(Field field) {
+      this.field = field;
+      this.name = field.getAnnotation(SerializedName.class).value();
+    }
+
+    Object get(Object object) {
+      try {
+        return field.get(object);
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
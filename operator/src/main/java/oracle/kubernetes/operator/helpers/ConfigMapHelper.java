@@ -379,7 +379,7 @@ public class ConfigMapHelper {
         WlsDomainConfig wlsDomainConfig = domainTopology.getDomain();
         ScanCache.INSTANCE.registerScan(
             info.getNamespace(), info.getDomainUid(), new Scan(wlsDomainConfig, new DateTime()));
-        packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, wlsDomainConfig);
+        packet.put(ProcessingConstants.DOMAIN_TOPOLOGY_KEY, wlsDomainConfig);
         LOGGER.info(
             MessageKeys.WLS_CONFIGURATION_READ,
             (System.currentTimeMillis() - ((Long) packet.get(JobHelper.START_TIME))),
@@ -593,7 +593,7 @@ public class ConfigMapHelper {
                 info.getNamespace(),
                 info.getDomainUid(),
                 new Scan(wlsDomainConfig, new DateTime()));
-            packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, wlsDomainConfig);
+            packet.put(ProcessingConstants.DOMAIN_TOPOLOGY_KEY, wlsDomainConfig);
           }
         }
       }
@@ -11,6 +11,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -74,6 +75,18 @@ public class CrdHelper {
     }
   }
 
+  /**
+   * Returns true if the domain CRD for the specified version of Kubernetes declares the status subresource,
+   * in which case the status of a domain can only be written through it. The subresource is declared only
+   * from Kubernetes 1.13, since earlier versions did not reliably apply the status written through it;
+   * below that, the status is written with the rest of the domain.
+   * @param version the version of Kubernetes, or null if it is not known
+   * @return true if domain status is to be written through the status subresource
+   */
+  public static boolean isStatusSubresourceEnabled(KubernetesVersion version) {
+    return version == null || version.isCrdStatusSubresourceSupported();
+  }
+
   /**
    * Factory for {@link Step} that creates Domain CRD.
    *
@@ -154,16 +167,16 @@ public class CrdHelper {
               .names(getCrdNames())
               .validation(createSchemaValidation());
       if (version == null || version.isCrdSubresourcesSupported()) {
-        spec.setSubresources(
+        V1beta1CustomResourceSubresources subresources =
             new V1beta1CustomResourceSubresources()
                 .scale(
                     new V1beta1CustomResourceSubresourceScale()
                         .specReplicasPath(".spec.replicas")
-                        .statusReplicasPath(".status.replicas")));
-        // Remove status for now because seeing status not updated on some k8s environments
-        // Consider adding this only for K8s version 1.13+
-        // See the note in KubernetesVersion
-        // .status(new HashMap<String, Object>()));
+                        .statusReplicasPath(".status.replicas"));
+        if (isStatusSubresourceEnabled(version)) {
+          subresources.status(new HashMap<String, Object>());
+        }
+        spec.setSubresources(subresources);
       }
       return spec;
     }
@@ -6,6 +6,7 @@ package oracle.kubernetes.operator.helpers;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -20,19 +21,32 @@ import io.kubernetes.client.openapi.models.V1EnvVar;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.WebLogicConstants;
+import oracle.kubernetes.operator.http.RequestLimiter;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import oracle.kubernetes.weblogic.domain.model.ServerSpec;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.joda.time.DateTime;
 
 /**
  * Operator's mapping between custom resource Domain and runtime details about that domain,
  * including the scan and the Pods and Services for servers.
  */
 public class DomainPresenceInfo {
+  private static final int DEFAULT_MAX_CONCURRENT_SERVER_READS = 10;
+  private static final long DEFAULT_STATUS_UPDATE_MIN_INTERVAL_MILLIS = 0;
+  // Map from namespace to map of domainUID to the status writer of the domain. Writers are kept per domain,
+  // rather than per instance, since an instance is replaced each time the domain is made right.
+  private static final Map<String, Map<String, DomainStatusWriter>> STATUS_WRITERS = new ConcurrentHashMap<>();
+  // Map from namespace to map of domainUID to the limiter of REST requests sent to the servers of the domain,
+  // kept per domain for the same reason.
+  private static final Map<String, Map<String, RequestLimiter>> SERVER_READ_LIMITERS = new ConcurrentHashMap<>();
+
   private final String namespace;
   private final String domainUid;
   private final AtomicReference<Domain> domain;
@@ -272,6 +286,56 @@ public class DomainPresenceInfo {
             });
   }
 
+  /**
+   * Returns the health last read from the specified server.
+   *
+   * @param serverName the name of the server
+   * @return the server health, or null if it has not been read
+   */
+  public ServerHealth getLastKnownServerHealth(String serverName) {
+    return getSko(serverName).getLastKnownHealth().get();
+  }
+
+  /**
+   * Records the health last read from the specified server.
+   *
+   * @param serverName the name of the server
+   * @param health the health read
+   */
+  public void updateLastKnownServerHealth(String serverName, ServerHealth health) {
+    getSko(serverName).getLastKnownHealth().set(health);
+  }
+
+  /**
+   * Returns true if the status of the specified server should be read in the current status cycle.
+   *
+   * @param serverName the name of the server
+   * @return true if a read is due
+   */
+  public boolean isServerStatusPollDue(String serverName) {
+    DateTime nextPoll = getSko(serverName).getNextStatusPoll().get();
+    return nextPoll == null || !nextPoll.isAfterNow();
+  }
+
+  /**
+   * Defers the next read of the status of the specified server.
+   *
+   * @param serverName the name of the server
+   * @param delaySeconds the time until the server should be read again
+   */
+  public void scheduleServerStatusPoll(String serverName, long delaySeconds) {
+    getSko(serverName).getNextStatusPoll().set(DateTime.now().plusSeconds((int) delaySeconds));
+  }
+
+  /**
+   * Requests that the status of the specified server be read in the next status cycle.
+   *
+   * @param serverName the name of the server
+   */
+  public void requestServerStatusPoll(String serverName) {
+    getSko(serverName).getNextStatusPoll().set(null);
+  }
+
   /**
    * Applies an add or modify event for a server service. If the current service is newer than the
    * one associated with the event, ignores the event.
@@ -450,6 +514,57 @@ public class DomainPresenceInfo {
     this.serverStartupInfo.set(serverStartupInfo);
   }
 
+  /**
+   * Returns the limiter for REST requests sent to the servers of this domain. The limiter is shared by all
+   * instances for the domain, so that replacing an instance does not allow more concurrent requests.
+   *
+   * @return a request limiter
+   */
+  public RequestLimiter getServerReadLimiter() {
+    return SERVER_READ_LIMITERS.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(domainUid, k -> new RequestLimiter(DomainPresenceInfo::getMaxConcurrentServerReads));
+  }
+
+  private static int getMaxConcurrentServerReads() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> parameters.getMainTuning().maxConcurrentServerReads)
+        .orElse(DEFAULT_MAX_CONCURRENT_SERVER_READS);
+  }
+
+  /**
+   * Returns the writer which limits the rate of writes of the status of this domain. The writer is shared by
+   * all instances for the domain, so that replacing an instance neither resets the interval between writes
+   * nor loses a pending status.
+   *
+   * @return a status writer
+   */
+  public DomainStatusWriter getStatusWriter() {
+    return STATUS_WRITERS.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(domainUid, k -> createStatusWriter());
+  }
+
+  private static DomainStatusWriter createStatusWriter() {
+    return new DomainStatusWriter(DomainPresenceInfo::getStatusUpdateMinIntervalMillis, System::currentTimeMillis);
+  }
+
+  /**
+   * Discards the state which is shared by all instances for the specified domain, once it is no longer
+   * managed.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public static void removeDomainState(String namespace, String domainUid) {
+    Optional.ofNullable(STATUS_WRITERS.get(namespace)).ifPresent(writers -> writers.remove(domainUid));
+    Optional.ofNullable(SERVER_READ_LIMITERS.get(namespace)).ifPresent(limiters -> limiters.remove(domainUid));
+  }
+
+  private static long getStatusUpdateMinIntervalMillis() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> parameters.getMainTuning().statusUpdateMinIntervalMillis)
+        .orElse(DEFAULT_STATUS_UPDATE_MIN_INTERVAL_MILLIS);
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder("DomainPresenceInfo{");
@@ -17,21 +17,24 @@ public class DomainStatusPatch {
 
   private final String name;
   private final String namespace;
+  private final KubernetesVersion version;
   private final JsonPatchBuilder patchBuilder;
 
   /**
    * Update the domain status synchronously. This may involve either replacing the current status or adding to it.
    * @param domain the domain to update
+   * @param version the version of Kubernetes, which determines whether the status subresource is used
    * @param reason the reason, a camel-cased string with no spaces
    * @param message a text description of the new status; may include multiple lines
    */
-  public static void updateSynchronously(Domain domain, String reason, String message) {
-    new DomainStatusPatch(domain, reason, message).update();
+  public static void updateSynchronously(Domain domain, KubernetesVersion version, String reason, String message) {
+    new DomainStatusPatch(domain, version, reason, message).update();
   }
 
-  private DomainStatusPatch(Domain domain, String reason, String message) {
+  private DomainStatusPatch(Domain domain, KubernetesVersion version, String reason, String message) {
     name = domain.getMetadata().getName();
     namespace = domain.getMetadata().getNamespace();
+    this.version = version;
     patchBuilder = getPatchBuilder(domain, reason, message);
   }
 
@@ -58,7 +61,11 @@ public class DomainStatusPatch {
 
   private void update() {
     try {
-      new CallBuilder().patchDomain(name, namespace, getPatchBody());
+      if (CrdHelper.isStatusSubresourceEnabled(version)) {
+        new CallBuilder().patchDomainStatus(name, namespace, getPatchBody());
+      } else {
+        new CallBuilder().patchDomain(name, namespace, getPatchBody());
+      }
     } catch (ApiException ignored) {
       /* extraneous comment to fool checkstyle into thinking that this is not an empty catch block. */
     }
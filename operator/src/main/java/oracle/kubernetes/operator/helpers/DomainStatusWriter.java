@@ -0,0 +1,222 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+
+/**
+ * Limits the rate at which the status of one domain is written. A status change made within the minimum
+ * interval after a write is held back as the pending status of the domain, replacing any change held back
+ * before it, and is written in a single patch once the interval ends. Later changes are computed from the
+ * pending status, so that no change is lost, and the pending status is discarded once it has been written,
+ * or once its write has failed without being retried.
+ *
+ * <p>The writer also remembers the resource versions produced by its writes, so that the watch events which
+ * report them can be recognized as caused by the operator itself.
+ */
+public class DomainStatusWriter {
+  static final int MAX_PRODUCED_VERSIONS = 16;
+
+  private static final LongAdder patchesSent = new LongAdder();
+  private static final LongAdder patchesSuppressed = new LongAdder();
+  private static final LongAdder selfInducedEvents = new LongAdder();
+
+  private final LongSupplier minIntervalSupplier;
+  private final LongSupplier clock;
+  private final Queue<String> producedVersions = new ArrayDeque<>();
+  private DomainStatus pendingStatus;
+  private boolean hasWritten;
+  private long lastWriteMillis;
+  private boolean flushScheduled;
+
+  /**
+   * Creates a writer.
+   *
+   * @param minIntervalSupplier supplies the minimum time, in milliseconds, between writes of the status
+   * @param clock supplies the current time in milliseconds
+   */
+  DomainStatusWriter(LongSupplier minIntervalSupplier, LongSupplier clock) {
+    this.minIntervalSupplier = minIntervalSupplier;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the number of status patches which have been sent for all domains.
+   *
+   * @return a count of patches
+   */
+  public static long getPatchesSent() {
+    return patchesSent.sum();
+  }
+
+  /**
+   * Returns the number of status changes which were not sent at once, but held back to be combined with
+   * later changes.
+   *
+   * @return a count of status changes
+   */
+  public static long getPatchesSuppressed() {
+    return patchesSuppressed.sum();
+  }
+
+  /**
+   * Returns the number of domain watch events which were recognized as caused only by status writes of the
+   * operator, and so were not processed further.
+   *
+   * @return a count of events
+   */
+  public static long getSelfInducedEventCount() {
+    return selfInducedEvents.sum();
+  }
+
+  /**
+   * Returns the most recent status wanted for the domain.
+   *
+   * @param writtenStatus the status last read from the domain resource
+   * @return the pending status, if any; otherwise the specified status
+   */
+  public synchronized DomainStatus getLatestStatus(DomainStatus writtenStatus) {
+    return pendingStatus != null ? pendingStatus : writtenStatus;
+  }
+
+  /**
+   * Records a new status for the domain and returns true if it should be written now. Otherwise, the status
+   * is held back, and the specified flush action is scheduled to run when the minimum interval has passed.
+   *
+   * @param status the new status
+   * @param executor the executor on which to schedule the flush
+   * @param flush an action which writes the pending status
+   * @return true if the caller should write the status now
+   */
+  public synchronized boolean offer(DomainStatus status, ScheduledExecutorService executor, Runnable flush) {
+    pendingStatus = status;
+    long now = clock.getAsLong();
+    long minIntervalMillis = minIntervalSupplier.getAsLong();
+    if (!flushScheduled && (!hasWritten || now - lastWriteMillis >= minIntervalMillis)) {
+      recordWrite(now);
+      return true;
+    }
+
+    patchesSuppressed.increment();
+    if (!flushScheduled) {
+      flushScheduled = true;
+      executor.schedule(flush, lastWriteMillis + minIntervalMillis - now, TimeUnit.MILLISECONDS);
+    }
+    return false;
+  }
+
+  /**
+   * Called when the flush action runs. Returns the status to be written, if any.
+   *
+   * @return the pending status, or null if there is nothing to write
+   */
+  public synchronized DomainStatus startFlush() {
+    flushScheduled = false;
+    return getPendingStatusToWrite();
+  }
+
+  /**
+   * Returns the pending status, if any, recording that it is about to be written.
+   *
+   * @return the pending status, or null if there is nothing to write
+   */
+  public synchronized DomainStatus getPendingStatusToWrite() {
+    if (pendingStatus != null) {
+      recordWrite(clock.getAsLong());
+    }
+    return pendingStatus;
+  }
+
+  private void recordWrite(long now) {
+    hasWritten = true;
+    lastWriteMillis = now;
+    patchesSent.increment();
+  }
+
+  /**
+   * Records that the specified status has been written. If no later status is pending, nothing is left to write.
+   *
+   * @param status a status which was written successfully
+   */
+  public synchronized void recordWritten(DomainStatus status) {
+    if (pendingStatus == status) {
+      pendingStatus = null;
+    }
+  }
+
+  /**
+   * Records that the write of the specified status has failed and will not be retried. The status is
+   * discarded unless a later one is pending, so that the next status computed starts again from the status
+   * last written, and is written even if it matches the failed one.
+   *
+   * @param status a status whose write failed
+   */
+  public synchronized void recordWriteFailed(DomainStatus status) {
+    if (pendingStatus == status) {
+      pendingStatus = null;
+    }
+  }
+
+  /**
+   * Returns true if a status is waiting to be written, or is being written.
+   *
+   * @return true if there is a pending status
+   */
+  public synchronized boolean hasPendingStatus() {
+    return pendingStatus != null;
+  }
+
+  /**
+   * Records the resource version of the domain produced by a successful status write.
+   *
+   * @param metadata the metadata of the domain returned by the write
+   */
+  public synchronized void recordProducedVersion(V1ObjectMeta metadata) {
+    if (metadata != null && metadata.getResourceVersion() != null) {
+      producedVersions.add(metadata.getResourceVersion());
+      if (producedVersions.size() > MAX_PRODUCED_VERSIONS) {
+        producedVersions.remove();
+      }
+    }
+  }
+
+  /**
+   * Returns true if the specified watch event was caused only by a status write of this writer: it reports
+   * a resource version produced by such a write, and the generation of the spec which the operator already
+   * has. Each produced version is recognized only once.
+   *
+   * @param cached the domain last seen by the operator
+   * @param event the domain reported by a watch event
+   * @return true if the event needs no further processing
+   */
+  public synchronized boolean isSelfInduced(Domain cached, Domain event) {
+    if (cached == null || !producedVersions.remove(event.getMetadata().getResourceVersion())) {
+      return false;
+    } else if (!Objects.equals(cached.getMetadata().getGeneration(), event.getMetadata().getGeneration())) {
+      return false;
+    }
+
+    selfInducedEvents.increment();
+    return true;
+  }
+
+  /**
+   * Returns true if a flush has been scheduled and has not yet run.
+   *
+   * @return true if changes are being held back
+   */
+  public synchronized boolean isFlushScheduled() {
+    return flushScheduled;
+  }
+}
@@ -62,7 +62,7 @@ public class JobHelper {
   }
 
   private static boolean runIntrospector(Packet packet, DomainPresenceInfo info) {
-    WlsDomainConfig topology = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    WlsDomainConfig topology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     LOGGER.fine("runIntrospector topology: " + topology);
     LOGGER.fine("runningServersCount: " + runningServersCount(info));
     LOGGER.fine("creatingServers: " + creatingServers(info));
@@ -330,7 +330,7 @@ public class JobHelper {
       if (result != null) {
         convertJobLogsToOperatorLogs(result);
         if (!severeStatuses.isEmpty()) {
-          updateStatus(packet.getSpi(DomainPresenceInfo.class));
+          updateStatus(packet.getSpi(DomainPresenceInfo.class), packet.getSpi(KubernetesVersion.class));
         }
         packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, result);
       }
@@ -410,9 +410,9 @@ public class JobHelper {
       return logMsg.split(EOL_PATTERN)[0];
     }
 
-    private void updateStatus(DomainPresenceInfo domainPresenceInfo) {
-      DomainStatusPatch.updateSynchronously(
-            domainPresenceInfo.getDomain(), DomainStatusPatch.ERR_INTROSPECTOR, onSeparateLines(severeStatuses));
+    private void updateStatus(DomainPresenceInfo domainPresenceInfo, KubernetesVersion version) {
+      DomainStatusPatch.updateSynchronously(domainPresenceInfo.getDomain(), version,
+            DomainStatusPatch.ERR_INTROSPECTOR, onSeparateLines(severeStatuses));
     }
 
     private String onSeparateLines(List<String> lines) {
@@ -468,7 +468,7 @@ public class JobHelper {
         }
       }
 
-      return doNext(packet);
+      return doContinueListOrNext(callResponse, packet);
     }
   }
 }
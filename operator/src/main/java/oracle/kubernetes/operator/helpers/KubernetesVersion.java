@@ -119,6 +119,10 @@ public class KubernetesVersion {
     return this.major > 1 || (this.major == 1 && this.minor >= 10);
   }
 
+  boolean isCrdStatusSubresourceSupported() {
+    return this.major > 1 || (this.major == 1 && this.minor >= 13);
+  }
+
   @Override
   public boolean equals(Object o) {
     return this == o || o instanceof KubernetesVersion && equals((KubernetesVersion) o);
@@ -318,7 +318,7 @@ public class PodHelper {
     ManagedPodStepContext(Step conflictStep, Packet packet) {
       super(conflictStep, packet);
       this.packet = packet;
-      clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
+      clusterName = packet.getValue(ProcessingConstants.CLUSTER_NAME_KEY);
 
       init();
     }
@@ -362,9 +362,7 @@ public class PodHelper {
     // let the pod rolling step update the pod
     Step replaceCurrentPod(Step next) {
       synchronized (packet) {
-        @SuppressWarnings("unchecked")
-        Map<String, Step.StepAndPacket> rolling =
-            (Map<String, Step.StepAndPacket>) packet.get(ProcessingConstants.SERVERS_TO_ROLL);
+        Map<String, Step.StepAndPacket> rolling = packet.getValue(ProcessingConstants.SERVERS_TO_ROLL_KEY);
         if (rolling != null) {
           rolling.put(
               getServerName(),
@@ -427,7 +425,7 @@ public class PodHelper {
     @Override
     @SuppressWarnings("unchecked")
     List<V1EnvVar> getConfiguredEnvVars(TuningParameters tuningParameters) {
-      List<V1EnvVar> envVars = createCopy((List<V1EnvVar>) packet.get(ProcessingConstants.ENVVARS));
+      List<V1EnvVar> envVars = createCopy(packet.getValue(ProcessingConstants.ENVVARS_KEY));
 
       List<V1EnvVar> vars = new ArrayList<>();
       if (envVars != null) {
@@ -76,8 +76,8 @@ public abstract class PodStepContext extends BasePodStepContext {
   PodStepContext(Step conflictStep, Packet packet) {
     this.conflictStep = conflictStep;
     info = packet.getSpi(DomainPresenceInfo.class);
-    domainTopology = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
-    scan = (WlsServerConfig) packet.get(ProcessingConstants.SERVER_SCAN);
+    domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
+    scan = packet.getValue(ProcessingConstants.SERVER_SCAN_KEY);
   }
 
   private static boolean isCustomerItem(Map.Entry<String, String> entry) {
@@ -314,6 +314,13 @@ public abstract class PodStepContext extends BasePodStepContext {
         "/metadata/annotations/",
         currentPod.getMetadata().getAnnotations(),
         getPodAnnotations());
+    if (AnnotationHelper.hasLegacyHash(currentPod)) {
+      KubernetesUtils.addPatches(
+          patchBuilder,
+          "/metadata/annotations/",
+          currentPod.getMetadata().getAnnotations(),
+          AnnotationHelper.getHashAnnotation(getPodModel()));
+    }
 
     return new CallBuilder()
         .patchPodAsync(getPodName(), getNamespace(),
@@ -351,12 +358,12 @@ public abstract class PodStepContext extends BasePodStepContext {
   private boolean mustPatchPod(V1Pod currentPod) {
     return KubernetesUtils.isMissingValues(currentPod.getMetadata().getLabels(), getPodLabels())
         || KubernetesUtils.isMissingValues(
-            currentPod.getMetadata().getAnnotations(), getPodAnnotations());
+            currentPod.getMetadata().getAnnotations(), getPodAnnotations())
+        || AnnotationHelper.hasLegacyHash(currentPod);
   }
 
   private boolean canUseCurrentPod(V1Pod currentPod) {
-    boolean useCurrent =
-        AnnotationHelper.getHash(getPodModel()).equals(AnnotationHelper.getHash(currentPod));
+    boolean useCurrent = AnnotationHelper.hasMatchingHash(getPodModel(), currentPod, this::createPodRecipe);
     if (!useCurrent && AnnotationHelper.getDebugString(currentPod).length() > 0) {
       LOGGER.info(
           MessageKeys.POD_DUMP,
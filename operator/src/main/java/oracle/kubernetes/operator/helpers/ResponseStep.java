@@ -103,6 +103,19 @@ public abstract class ResponseStep<T> extends Step {
     return doNext(previousStep, packet);
   }
 
+  /**
+   * Returns next action after a page of a list has been processed: a request for the next page, if the
+   * list has more, or else the next step. A list is processed one page at a time, so that only the current
+   * page is held in memory.
+   *
+   * @param callResponse the response which returned the page
+   * @param packet Packet
+   * @return Next action for list continue, or for the next step
+   */
+  protected final NextAction doContinueListOrNext(CallResponse<T> callResponse, Packet packet) {
+    return callResponse.isLastPage() ? doNext(packet) : doContinueList(packet);
+  }
+
   /**
    * Returns next action when the Kubernetes API server call should be retried, null otherwise.
    *
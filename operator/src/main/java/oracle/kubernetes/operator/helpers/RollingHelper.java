@@ -9,11 +9,13 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import io.kubernetes.client.openapi.models.V1Pod;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -34,6 +36,7 @@ import oracle.kubernetes.weblogic.domain.model.Domain;
  */
 public class RollingHelper {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final int DEFAULT_MAX_CONCURRENT_SERVER_RESTARTS = 20;
 
   private RollingHelper() {
   }
@@ -54,6 +57,12 @@ public class RollingHelper {
     return new RollingStep(rolling, next);
   }
 
+  private static int getMaxConcurrentServerRestarts() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> parameters.getMainTuning().maxConcurrentServerRestarts)
+        .orElse(DEFAULT_MAX_CONCURRENT_SERVER_RESTARTS);
+  }
+
   private static List<String> getReadyServers(DomainPresenceInfo info) {
     // These are presently Ready servers
     List<String> availableServers = new ArrayList<>();
@@ -102,7 +111,7 @@ public class RollingHelper {
 
         // If this server isn't part of a cluster, then it can also be safely restarted now
         Packet p = entry.getValue().packet;
-        String clusterName = (String) p.get(ProcessingConstants.CLUSTER_NAME);
+        String clusterName = p.getValue(ProcessingConstants.CLUSTER_NAME_KEY);
         if (clusterName == null) {
           servers.add(entry.getKey());
           serversThatCanRestartNow.add(entry.getValue());
@@ -156,7 +165,7 @@ public class RollingHelper {
 
     @Override
     public NextAction apply(Packet packet) {
-      return doForkJoin(getNext(), packet, serversThatCanRestartNow);
+      return doForkJoin(getNext(), packet, serversThatCanRestartNow, getMaxConcurrentServerRestarts());
     }
   }
 
@@ -179,7 +188,7 @@ public class RollingHelper {
     @Override
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
-      WlsDomainConfig config = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      WlsDomainConfig config = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
 
       // Refresh as this is constantly changing
       Domain dom = info.getDomain();
@@ -211,7 +220,7 @@ public class RollingHelper {
       for (int i = 0; i < countToRestartNow; i++) {
         restarts.add(new StepAndPacket(new RestartOneClusteredServerStep(servers, null), packet));
       }
-      return doForkJoin(getNext(), packet, restarts);
+      return doForkJoin(getNext(), packet, restarts, getMaxConcurrentServerRestarts());
     }
   }
 
@@ -8,12 +8,16 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
+import org.joda.time.DateTime;
 
 /** Kubernetes pods and services associated with a single WebLogic server. */
 class ServerKubernetesObjects {
   private final AtomicReference<V1Pod> pod = new AtomicReference<>(null);
   private final AtomicBoolean isPodBeingDeleted = new AtomicBoolean(false);
   private final AtomicReference<LastKnownStatus> lastKnownStatus = new AtomicReference<>(null);
+  private final AtomicReference<ServerHealth> lastKnownHealth = new AtomicReference<>(null);
+  private final AtomicReference<DateTime> nextStatusPoll = new AtomicReference<>(null);
   private final AtomicReference<V1Service> service = new AtomicReference<>(null);
   private final AtomicReference<V1Service> externalService = new AtomicReference<>();
 
@@ -47,6 +51,24 @@ class ServerKubernetesObjects {
     return lastKnownStatus;
   }
 
+  /**
+   * Managed server health, as of the last time it was read.
+   *
+   * @return Health
+   */
+  AtomicReference<ServerHealth> getLastKnownHealth() {
+    return lastKnownHealth;
+  }
+
+  /**
+   * The time at which the server's status is next to be read; null if it should be read as soon as possible.
+   *
+   * @return Time of next status read
+   */
+  AtomicReference<DateTime> getNextStatusPoll() {
+    return nextStatusPoll;
+  }
+
   /**
    * The Service.
    *
@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
@@ -161,8 +162,8 @@ public class ServiceHelper {
     return new ClusterStepContext(null, packet).createModel();
   }
 
-  private static boolean canUseCurrentService(V1Service model, V1Service current) {
-    return AnnotationHelper.getHash(model).equals(AnnotationHelper.getHash(current));
+  private static boolean canUseCurrentService(V1Service model, V1Service current, Supplier<V1Service> recipe) {
+    return AnnotationHelper.hasMatchingHash(model, current, recipe);
   }
 
   /**
@@ -220,9 +221,9 @@ public class ServiceHelper {
     ServerServiceStepContext(boolean isPreserveServices, Step conflictStep, Packet packet) {
       super(conflictStep, packet, OperatorServiceType.SERVER);
       this.isPreserveServices = isPreserveServices;
-      serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
-      clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
-      scan = (WlsServerConfig) packet.get(ProcessingConstants.SERVER_SCAN);
+      serverName = packet.getValue(ProcessingConstants.SERVER_NAME_KEY);
+      clusterName = packet.getValue(ProcessingConstants.CLUSTER_NAME_KEY);
+      scan = packet.getValue(ProcessingConstants.SERVER_SCAN_KEY);
       version = packet.getSpi(KubernetesVersion.class);
     }
 
@@ -386,7 +387,7 @@ public class ServiceHelper {
     ServiceStepContext(Step conflictStep, Packet packet, OperatorServiceType serviceType) {
       this.conflictStep = conflictStep;
       info = packet.getSpi(DomainPresenceInfo.class);
-      domainTopology = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
       this.serviceType = serviceType;
     }
 
@@ -508,7 +509,7 @@ public class ServiceHelper {
       V1Service service = getServiceFromRecord();
       if (service == null) {
         return createNewService(next);
-      } else if (canUseCurrentService(createModel(), service)) {
+      } else if (canUseCurrentService(createModel(), service, this::createRecipe)) {
         logServiceExists();
         return next;
       } else {
@@ -687,8 +688,8 @@ public class ServiceHelper {
 
     ClusterStepContext(Step conflictStep, Packet packet) {
       super(conflictStep, packet, OperatorServiceType.CLUSTER);
-      clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
-      config = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      clusterName = packet.getValue(ProcessingConstants.CLUSTER_NAME_KEY);
+      config = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     }
 
     protected V1ServiceSpec createServiceSpec() {
@@ -796,7 +797,7 @@ public class ServiceHelper {
 
     ExternalServiceStepContext(Step conflictStep, Packet packet) {
       super(conflictStep, packet, OperatorServiceType.EXTERNAL);
-      adminServerName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+      adminServerName = packet.getValue(ProcessingConstants.SERVER_NAME_KEY);
     }
 
     @Override
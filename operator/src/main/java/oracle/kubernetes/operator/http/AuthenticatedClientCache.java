@@ -0,0 +1,70 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of the authenticated HTTP clients built from the WebLogic credentials secrets of the domains.
+ * Secrets are not watched; instead, a client is discarded as soon as a server rejects its credentials,
+ * so that the secret is read again, and any new credentials used, by the next request.
+ */
+public class AuthenticatedClientCache {
+  private static final AuthenticatedClientCache INSTANCE = new AuthenticatedClientCache();
+
+  private final Map<String, HttpClient> clients = new ConcurrentHashMap<>();
+
+  AuthenticatedClientCache() {
+  }
+
+  public static AuthenticatedClientCache getInstance() {
+    return INSTANCE;
+  }
+
+  private static String toKey(String namespace, String secretName) {
+    return namespace + "/" + secretName;
+  }
+
+  /**
+   * Returns the cached client built from the specified secret, if any.
+   *
+   * @param namespace the namespace of the secret
+   * @param secretName the name of the secret
+   * @return a client, or null if none is cached
+   */
+  HttpClient get(String namespace, String secretName) {
+    return clients.get(toKey(namespace, secretName));
+  }
+
+  /**
+   * Caches a client built from the specified secret.
+   *
+   * @param namespace the namespace of the secret
+   * @param secretName the name of the secret
+   * @param client the client built from the secret
+   */
+  void put(String namespace, String secretName, HttpClient client) {
+    clients.put(toKey(namespace, secretName), client);
+  }
+
+  /**
+   * Discards the specified client, if it is cached. A client which is no longer cached is ignored, so
+   * that a client built from newer credentials is kept.
+   *
+   * @param client a client whose credentials were rejected
+   */
+  void discard(HttpClient client) {
+    clients.values().remove(client);
+  }
+
+  /**
+   * Discards all clients built from secrets in the specified namespace.
+   *
+   * @param namespace a namespace no longer managed
+   */
+  public void removeNamespace(String namespace) {
+    clients.keySet().removeIf(key -> key.startsWith(namespace + "/"));
+  }
+}
@@ -3,8 +3,13 @@
 
 package oracle.kubernetes.operator.http;
 
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
@@ -25,6 +30,9 @@ import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
+import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
+import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
+
 /** HTTP Client. */
 public class HttpClient {
   public static final String KEY = "httpClient";
@@ -32,6 +40,19 @@ public class HttpClient {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String HTTP_PROTOCOL = "http://";
   private static final String HTTPS_PROTOCOL = "https://";
+
+  // All authenticated clients share a single JAX-RS client, so that connections to the servers are kept
+  // alive and reused from one status read to the next. The credentials are sent with each request.
+  private static final Client SHARED_CLIENT = ClientBuilder.newClient();
+
+  // Asynchronous requests are sent with the JDK client, which does not block a thread while waiting for a
+  // response. It keeps a pool of HTTP/1.1 connections to each server, reused across status cycles.
+  private static final java.net.http.HttpClient SHARED_ASYNC_CLIENT =
+      java.net.http.HttpClient.newBuilder()
+          .version(java.net.http.HttpClient.Version.HTTP_1_1)
+          .followRedirects(java.net.http.HttpClient.Redirect.NEVER)
+          .build();
+
   private final Client httpClient;
   private final String encodedCredentials;
 
@@ -53,8 +74,7 @@ public class HttpClient {
    */
   public static Step createAuthenticatedClientForServer(
       String namespace, String adminSecretName, Step next) {
-    return new AuthenticatedClientForServerStep(
-        namespace, adminSecretName, new WithSecretDataStep(next));
+    return new AuthenticatedClientForServerStep(namespace, adminSecretName, next);
   }
 
   /**
@@ -76,8 +96,6 @@ public class HttpClient {
    */
   private static HttpClient createAuthenticatedClient(
       final byte[] username, final byte[] password) {
-    // build client with authentication information.
-    Client client = ClientBuilder.newClient();
     String encodedCredentials = null;
     if (username != null && password != null) {
       byte[] usernameAndPassword = new byte[username.length + password.length + 1];
@@ -86,7 +104,7 @@ public class HttpClient {
       System.arraycopy(password, 0, usernameAndPassword, username.length + 1, password.length);
       encodedCredentials = java.util.Base64.getEncoder().encodeToString(usernameAndPassword);
     }
-    return new HttpClient(client, encodedCredentials);
+    return new HttpClient(SHARED_CLIENT, encodedCredentials);
   }
 
   /**
@@ -188,22 +206,78 @@ public class HttpClient {
             .header("Authorization", "Basic " + encodedCredentials)
             .header("X-Requested-By", "Weblogic Operator");
     Response response = invocationBuilder.post(Entity.json(payload));
-    LOGGER.finer("Response is  " + response.getStatusInfo());
-    String responseString = null;
-    int status = response.getStatus();
-    boolean successful = false;
-    if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
-      successful = true;
-      if (response.hasEntity()) {
-        responseString = String.valueOf(response.readEntity(String.class));
+    try {
+      LOGGER.finer("Response is  " + response.getStatusInfo());
+      String responseString = null;
+      int status = response.getStatus();
+      boolean successful = false;
+      if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+        successful = true;
+        if (response.hasEntity()) {
+          responseString = String.valueOf(response.readEntity(String.class));
+        }
+      } else {
+        LOGGER.fine(MessageKeys.HTTP_METHOD_FAILED, "POST", url, response.getStatus());
+        discardIfRejected(status);
+        if (throwOnFailure) {
+          throw new HttpException(status);
+        }
       }
+      return new Result(responseString, status, successful);
+    } finally {
+      // releases the connection for reuse by the next request to the server
+      response.close();
+    }
+  }
+
+  /**
+   * Constructs a URL using the provided service URL and request URL, and use the resulting URL and
+   * the payload provided to issue an asynchronous HTTP POST request. The calling thread is not blocked
+   * while waiting for the response.
+   *
+   * @param requestUrl The request URL containing the request of the REST call
+   * @param serviceUrl The service URL containing the host and port of the server where the HTTP
+   *     request is to be sent to
+   * @param payload The payload to be used in the HTTP POST request
+   * @param timeout The maximum time to wait for the response
+   * @return A future which completes with a Result object containing the response from the REST call,
+   *     or exceptionally if the request could not be completed
+   */
+  public CompletableFuture<Result> executePostUrlOnServiceClusterIPAsync(
+      String requestUrl, String serviceUrl, String payload, Duration timeout) {
+    String url = serviceUrl + requestUrl;
+    HttpRequest request =
+        HttpRequest.newBuilder(URI.create(url))
+            .timeout(timeout)
+            .header("Accept", "application/json")
+            .header("Content-Type", "application/json")
+            .header("Authorization", "Basic " + encodedCredentials)
+            .header("X-Requested-By", "Weblogic Operator")
+            .POST(HttpRequest.BodyPublishers.ofString(payload))
+            .build();
+    return SHARED_ASYNC_CLIENT
+        .sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        .thenApply(response -> createResult(url, response));
+  }
+
+  private Result createResult(String url, HttpResponse<String> response) {
+    LOGGER.finer("Response is  " + response.statusCode());
+    int status = response.statusCode();
+    if (Response.Status.Family.familyOf(status) == Response.Status.Family.SUCCESSFUL) {
+      String body = response.body();
+      return new Result(body == null || body.isEmpty() ? null : body, status, true);
     } else {
-      LOGGER.fine(MessageKeys.HTTP_METHOD_FAILED, "POST", url, response.getStatus());
-      if (throwOnFailure) {
-        throw new HttpException(status);
-      }
+      LOGGER.fine(MessageKeys.HTTP_METHOD_FAILED, "POST", url, status);
+      discardIfRejected(status);
+      return new Result(null, status, false);
+    }
+  }
+
+  // A server which rejects the credentials may have been given new ones, so the secret must be read again.
+  private void discardIfRejected(int status) {
+    if (status == HTTP_UNAUTHORIZED || status == HTTP_FORBIDDEN) {
+      AuthenticatedClientCache.getInstance().discard(this);
     }
-    return new Result(responseString, status, successful);
   }
 
   private static class AuthenticatedClientForServerStep extends Step {
@@ -218,17 +292,30 @@ public class HttpClient {
 
     @Override
     public NextAction apply(Packet packet) {
+      HttpClient cachedClient = AuthenticatedClientCache.getInstance().get(namespace, adminSecretName);
+      if (cachedClient != null) {
+        packet.put(KEY, cachedClient);
+        return doNext(packet);
+      }
+
       Step readSecret =
           SecretHelper.getSecretData(
-              SecretType.WebLogicCredentials, adminSecretName, namespace, getNext());
+              SecretType.WebLogicCredentials,
+              adminSecretName,
+              namespace,
+              new WithSecretDataStep(namespace, adminSecretName, getNext()));
       return doNext(readSecret, packet);
     }
   }
 
   private static class WithSecretDataStep extends Step {
+    private final String namespace;
+    private final String adminSecretName;
 
-    WithSecretDataStep(Step next) {
+    WithSecretDataStep(String namespace, String adminSecretName, Step next) {
       super(next);
+      this.namespace = namespace;
+      this.adminSecretName = adminSecretName;
     }
 
     @Override
@@ -239,7 +326,11 @@ public class HttpClient {
       if (secretData != null) {
         byte[] username = secretData.get(SecretHelper.ADMIN_SERVER_CREDENTIALS_USERNAME);
         byte[] password = secretData.get(SecretHelper.ADMIN_SERVER_CREDENTIALS_PASSWORD);
-        packet.put(KEY, createAuthenticatedClient(username, password));
+        HttpClient client = createAuthenticatedClient(username, password);
+        packet.put(KEY, client);
+        if (username != null && password != null) {
+          AuthenticatedClientCache.getInstance().put(namespace, adminSecretName, client);
+        }
 
         clearCredential(username);
         clearCredential(password);
@@ -0,0 +1,122 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of asynchronous requests in progress at one time. Requests submitted while the limit
+ * is reached are queued, and started in order as earlier requests complete. No thread is ever blocked
+ * waiting for a request to be started. A request which is still queued when its timeout expires is never
+ * started; it fails with a {@link TimeoutException} instead.
+ */
+public class RequestLimiter {
+  private final IntSupplier limitSupplier;
+  private final Queue<Runnable> waiting = new ArrayDeque<>();
+  private int inProgress;
+
+  /**
+   * Creates a limiter.
+   *
+   * @param limitSupplier supplies the maximum number of requests to run at once. It is consulted each
+   *     time a request is to be started, so that changes to the limit take effect without a restart.
+   */
+  public RequestLimiter(IntSupplier limitSupplier) {
+    this.limitSupplier = limitSupplier;
+  }
+
+  /**
+   * Starts the specified request as soon as the limit permits.
+   *
+   * @param request a function to start the request
+   * @param timeout the maximum time to wait for the request to be started
+   * @param <T> the type of result of the request
+   * @return a future which completes with the result of the request
+   */
+  public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> request, Duration timeout) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    Runnable start = () -> start(request, result);
+    if (canStartNow(start)) {
+      start.run();
+    } else {
+      CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS)
+          .execute(() -> expire(start, result, timeout));
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of requests which have been started and not yet completed.
+   *
+   * @return a count of requests
+   */
+  public synchronized int getInProgressCount() {
+    return inProgress;
+  }
+
+  /**
+   * Returns the number of requests which are waiting to be started.
+   *
+   * @return a count of requests
+   */
+  public synchronized int getWaitingCount() {
+    return waiting.size();
+  }
+
+  private synchronized boolean canStartNow(Runnable start) {
+    if (inProgress < Math.max(1, limitSupplier.getAsInt())) {
+      inProgress++;
+      return true;
+    }
+    waiting.add(start);
+    return false;
+  }
+
+  private <T> void expire(Runnable start, CompletableFuture<T> result, Duration timeout) {
+    if (removeWaiting(start)) {
+      result.completeExceptionally(new TimeoutException("Request not started within " + timeout));
+    }
+  }
+
+  private synchronized boolean removeWaiting(Runnable start) {
+    return waiting.remove(start);
+  }
+
+  private <T> void start(Supplier<CompletableFuture<T>> request, CompletableFuture<T> result) {
+    try {
+      request.get().whenComplete((r, t) -> complete(result, r, t));
+    } catch (RuntimeException e) {
+      complete(result, null, e);
+    }
+  }
+
+  private <T> void complete(CompletableFuture<T> result, T value, Throwable throwable) {
+    Runnable next = release();
+    if (next != null) {
+      next.run();
+    }
+
+    if (throwable != null) {
+      result.completeExceptionally(throwable);
+    } else {
+      result.complete(value);
+    }
+  }
+
+  // The permit of the completed request passes directly to the first waiting request, if any.
+  private synchronized Runnable release() {
+    Runnable next = waiting.poll();
+    if (next == null) {
+      inProgress--;
+    }
+    return next;
+  }
+}
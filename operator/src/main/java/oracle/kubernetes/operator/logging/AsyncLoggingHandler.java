@@ -0,0 +1,301 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * A handler which passes records to a target handler on a single writer thread, so that slow log output
+ * never stalls the threads which are logging. Records wait in a bounded ring buffer; when it is full,
+ * the overflow policy decides whether records are dropped or their loggers wait for space. Under the default
+ * policy, a logging thread never waits. Dropped records are counted, and the count is reported in the log
+ * once records are published again.
+ *
+ * <p>The handler may be listed in the "handlers" logging property, in which case it is configured,
+ * like {@link java.util.logging.MemoryHandler}, with the following properties:
+ * <ul>
+ *   <li>oracle.kubernetes.operator.logging.AsyncLoggingHandler.target - the class name of the target handler
+ *   <li>oracle.kubernetes.operator.logging.AsyncLoggingHandler.capacity - the number of records buffered
+ *       (default 8192)
+ *   <li>oracle.kubernetes.operator.logging.AsyncLoggingHandler.overflowPolicy - DROP_FINE or BLOCK
+ *       (default DROP_FINE)
+ *   <li>oracle.kubernetes.operator.logging.AsyncLoggingHandler.level - the level of records accepted
+ *       (default ALL)
+ * </ul>
+ * Setting oracle.kubernetes.operator.logging.AsyncLoggingHandler.enabled to true also makes the operator
+ * loggers wrap their console handlers with this class.
+ */
+public class AsyncLoggingHandler extends Handler {
+
+  static final int DEFAULT_CAPACITY = 8192;
+
+  private static final String PREFIX = AsyncLoggingHandler.class.getName();
+  private static final String WRITER_THREAD_NAME = "operator-log-writer";
+  private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+  private final Handler target;
+  private final OverflowPolicy overflowPolicy;
+  private final LogRecord[] buffer;
+  private final int reserve;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  private final AtomicLong droppedCount = new AtomicLong();
+  private final Thread writer;
+  private int head;
+  private int count;
+  private boolean closed;
+  private long reportedDroppedCount;
+
+  /**
+   * Creates a handler configured from the logging properties, as described in the class comment.
+   */
+  public AsyncLoggingHandler() {
+    this(createTarget(getProperty("target", null)), getCapacity(), getOverflowPolicy());
+    setLevel(getLevelProperty("level", Level.ALL));
+  }
+
+  /**
+   * Creates a handler which passes records to the specified target.
+   *
+   * @param target the handler which publishes the records
+   * @param capacity the maximum number of records waiting to be published
+   * @param overflowPolicy what to do with records logged while the buffer is full
+   */
+  public AsyncLoggingHandler(Handler target, int capacity, OverflowPolicy overflowPolicy) {
+    this.target = target;
+    this.overflowPolicy = overflowPolicy;
+    this.buffer = new LogRecord[Math.max(1, capacity)];
+    this.reserve = buffer.length / 4;
+
+    writer = new Thread(this::writeRecords, WRITER_THREAD_NAME);
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  /**
+   * Returns true if the logging properties ask for operator loggers to publish asynchronously.
+   *
+   * @return true if asynchronous logging is enabled
+   */
+  static boolean isEnabled() {
+    return Boolean.parseBoolean(getProperty("enabled", "false"));
+  }
+
+  static int getCapacity() {
+    return getIntProperty("capacity", DEFAULT_CAPACITY);
+  }
+
+  static OverflowPolicy getOverflowPolicy() {
+    return getPolicyProperty("overflowPolicy", OverflowPolicy.DROP_FINE);
+  }
+
+  private static String getProperty(String name, String defaultValue) {
+    String value = LogManager.getLogManager().getProperty(PREFIX + "." + name);
+    return value == null ? defaultValue : value.trim();
+  }
+
+  private static int getIntProperty(String name, int defaultValue) {
+    try {
+      return Integer.parseInt(getProperty(name, Integer.toString(defaultValue)));
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  private static OverflowPolicy getPolicyProperty(String name, OverflowPolicy defaultValue) {
+    try {
+      return OverflowPolicy.valueOf(getProperty(name, defaultValue.name()));
+    } catch (IllegalArgumentException e) {
+      return defaultValue;
+    }
+  }
+
+  private static Level getLevelProperty(String name, Level defaultValue) {
+    try {
+      return Level.parse(getProperty(name, defaultValue.getName()));
+    } catch (IllegalArgumentException e) {
+      return defaultValue;
+    }
+  }
+
+  private static Handler createTarget(String className) {
+    if (className == null) {
+      throw new IllegalStateException("No target handler specified in property " + PREFIX + ".target");
+    }
+    try {
+      Class<?> handlerClass = ClassLoader.getSystemClassLoader().loadClass(className);
+      return (Handler) handlerClass.getDeclaredConstructor().newInstance();
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      throw new IllegalStateException("Unable to create target handler " + className, e);
+    }
+  }
+
+  private static boolean isDroppable(LogRecord record) {
+    return record.getLevel().intValue() <= Level.FINE.intValue();
+  }
+
+  /**
+   * Returns the number of records dropped because the buffer was full.
+   *
+   * @return a count of records
+   */
+  public long getDroppedCount() {
+    return droppedCount.get();
+  }
+
+  /**
+   * Returns the number of records waiting to be published.
+   *
+   * @return a count of records
+   */
+  public int getQueuedCount() {
+    lock.lock();
+    try {
+      return count;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void publish(LogRecord record) {
+    if (record == null || !isLoggable(record)) {
+      return;
+    }
+
+    // the fiber and thread are only known on the thread which is logging
+    LogRecord captured = LoggingFormatter.captureContext(record);
+    lock.lock();
+    try {
+      if (!awaitSpace(captured)) {
+        droppedCount.incrementAndGet();
+        return;
+      }
+      buffer[(head + count) % buffer.length] = captured;
+      count++;
+      notEmpty.signal();
+    } catch (InterruptedException e) {
+      droppedCount.incrementAndGet();
+      Thread.currentThread().interrupt();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Unless the policy is to block, records are refused at once when there is no space for them, so that a
+  // stalled output cannot stall the threads which are logging. Records which may be dropped are refused once
+  // they would use up the reserve, so that space is normally available for more important records.
+  private boolean awaitSpace(LogRecord record) throws InterruptedException {
+    if (overflowPolicy == OverflowPolicy.DROP_FINE) {
+      return !closed && count < (isDroppable(record) ? buffer.length - reserve : buffer.length);
+    }
+
+    while (!closed && count == buffer.length) {
+      notFull.await();
+    }
+    return !closed;
+  }
+
+  private void writeRecords() {
+    LogRecord record;
+    while ((record = take()) != null) {
+      publishToTarget(record);
+      reportDroppedRecords();
+      if (getQueuedCount() == 0) {
+        target.flush();
+      }
+    }
+    target.flush();
+  }
+
+  // Returns the next record to publish, or null once the handler is closed and the buffer is empty.
+  private LogRecord take() {
+    lock.lock();
+    try {
+      while (count == 0) {
+        if (closed) {
+          return null;
+        }
+        notEmpty.awaitUninterruptibly();
+      }
+      LogRecord record = buffer[head];
+      buffer[head] = null;
+      head = (head + 1) % buffer.length;
+      count--;
+      notFull.signal();
+      return record;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void publishToTarget(LogRecord record) {
+    try {
+      target.publish(record);
+    } catch (RuntimeException e) {
+      reportError(null, e, ErrorManager.WRITE_FAILURE);
+    }
+  }
+
+  private void reportDroppedRecords() {
+    long dropped = droppedCount.get();
+    if (dropped > reportedDroppedCount) {
+      LogRecord record = new LogRecord(Level.WARNING, MessageKeys.LOG_RECORDS_DROPPED);
+      record.setResourceBundle(ResourceBundle.getBundle("Operator"));
+      record.setParameters(new Object[] {dropped - reportedDroppedCount});
+      record.setSourceClassName(PREFIX);
+      record.setSourceMethodName("publish");
+      reportedDroppedCount = dropped;
+      publishToTarget(record);
+    }
+  }
+
+  @Override
+  public void flush() {
+    // the writer thread flushes the target whenever it empties the buffer
+  }
+
+  /**
+   * Stops accepting records, waits for the buffered records to be published, and closes the target.
+   */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      closed = true;
+      notEmpty.signal();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+
+    try {
+      writer.join(CLOSE_TIMEOUT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    target.close();
+  }
+
+  /** What to do with a record logged while the buffer is full. */
+  public enum OverflowPolicy {
+    /**
+     * Drop records at level FINE and below, which may only fill three quarters of the buffer. More
+     * important records may also use the last quarter; they are dropped, and counted as well, only if the
+     * buffer is full. No logging thread ever waits.
+     */
+    DROP_FINE,
+    /** Wait for space to become available. */
+    BLOCK
+  }
+}
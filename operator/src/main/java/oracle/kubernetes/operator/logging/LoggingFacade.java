@@ -34,7 +34,14 @@ public class LoggingFacade {
 
     ConsoleHandler handler = new ConsoleHandler();
     handler.setFormatter(new LoggingFormatter());
-    logger.addHandler(handler);
+    logger.addHandler(AsyncLoggingHandler.isEnabled() ? createAsyncHandler(handler) : handler);
+  }
+
+  private static Handler createAsyncHandler(Handler target) {
+    AsyncLoggingHandler handler = new AsyncLoggingHandler(target,
+          AsyncLoggingHandler.getCapacity(), AsyncLoggingHandler.getOverflowPolicy());
+    handler.setLevel(target.getLevel());
+    return handler;
   }
 
   /**
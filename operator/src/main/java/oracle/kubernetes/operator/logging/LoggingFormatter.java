@@ -3,19 +3,22 @@
 
 package oracle.kubernetes.operator.logging;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.Temporal;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.JSON;
 import io.swagger.annotations.ApiModel;
@@ -25,8 +28,6 @@ import oracle.kubernetes.operator.work.Packet;
 
 /** Custom log formatter to format log messages in JSON format. */
 public class LoggingFormatter extends Formatter {
-  private static final Map<String, List<String>> PLACEHOLDER = new HashMap<String, List<String>>();
-
   private static final String LOG_LEVEL = "level";
   private static final String TIMESTAMP = "timestamp";
   private static final String THREAD = "thread";
@@ -44,7 +45,15 @@ public class LoggingFormatter extends Formatter {
   private static final String RESPONSE_HEADERS = "headers";
   private static final String RESPONSE_BODY = "body";
 
-  private final SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT);
+  // Both are immutable and may be shared by all threads. Each record is streamed by its own generator.
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final DateTimeFormatter DATE_FORMATTER =
+      DateTimeFormatter.ofPattern(DATE_FORMAT).withZone(ZoneId.systemDefault());
+
+  // Records are formatted into a per-thread buffer, which is reused unless an unusually large record
+  // has caused it to grow.
+  private static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+  private static final ThreadLocal<StringWriter> BUFFER = ThreadLocal.withInitial(StringWriter::new);
 
   @Override
   public String format(LogRecord record) {
@@ -67,31 +76,86 @@ public class LoggingFormatter extends Formatter {
       if (parameters != null) {
         for (int i = 0; i < parameters.length; i++) {
           Object pi = parameters[i];
-          if (pi != null) {
-            if (pi.getClass().getAnnotation(ApiModel.class) != null
-                || pi.getClass().getName().startsWith("oracle.kubernetes.weblogic.domain.")) {
-              // this is a model object
-              parameters[i] = j.serialize(pi);
-            }
+          if (isModelObject(pi)) {
+            parameters[i] = j.serialize(pi);
           }
         }
       }
     }
 
     final String message = formatMessage(record);
+    String level = record.getLevel().getLocalizedName();
+    long rawTime = record.getMillis();
+    final String dateString = DATE_FORMATTER.format(Instant.ofEpochMilli(rawTime));
+    final long threadId;
+    final String fiberName;
+    final String domainUid;
+    if (record instanceof ContextLogRecord) {
+      ContextLogRecord context = (ContextLogRecord) record;
+      threadId = context.threadId;
+      fiberName = context.fiberName;
+      domainUid = context.domainUid;
+    } else {
+      Fiber fiber = Fiber.getCurrentIfSet();
+      threadId = Thread.currentThread().getId();
+      fiberName = getFiberName(fiber);
+      domainUid = getDomainUid(fiber);
+    }
+
+    StringWriter buffer = getBuffer();
+    // the generator escapes any new lines in the message, exception and body
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffer)) {
+      generator.writeStartObject();
+      generator.writeStringField(TIMESTAMP, dateString);
+      generator.writeNumberField(THREAD, threadId);
+      generator.writeStringField(FIBER, fiberName);
+      generator.writeStringField(DOMAIN_UID, domainUid);
+      generator.writeStringField(LOG_LEVEL, level);
+      generator.writeStringField(SOURCE_CLASS, sourceClassName);
+      generator.writeStringField(SOURCE_METHOD, sourceMethodName);
+      generator.writeNumberField(TIME_IN_MILLIS, rawTime);
+      generator.writeStringField(MESSAGE, message != null ? message : "");
+      writeThrown(generator, record.getThrown());
+      generator.writeEndObject();
+    } catch (IOException e) {
+      String tmp =
+          "{\"@timestamp\":%1$s,\"level\":%2$s, \"class\":%3$s, \"method\":\"format\", \"timeInMillis\":%4$d, "
+              + "\"@message\":\"Exception while preparing json object\",\"exception\":%5$s}\n";
+      return String.format(
+          tmp,
+          dateString,
+          level,
+          LoggingFormatter.class.getName(),
+          rawTime,
+          e.getLocalizedMessage());
+    }
+    return buffer.append('\n').toString();
+  }
+
+  private static StringWriter getBuffer() {
+    StringWriter buffer = BUFFER.get();
+    if (buffer.getBuffer().capacity() > MAX_RETAINED_BUFFER_SIZE) {
+      buffer = new StringWriter();
+      BUFFER.set(buffer);
+    }
+    buffer.getBuffer().setLength(0);
+    return buffer;
+  }
+
+  private void writeThrown(JsonGenerator generator, Throwable thrown) throws IOException {
     String code = "";
-    Map<String, List<String>> headers = PLACEHOLDER;
+    Map<String, List<String>> headers = Collections.emptyMap();
     String body = "";
     String throwable = "";
-    if (record.getThrown() != null) {
+    if (thrown != null) {
       StringWriter sw = new StringWriter();
       PrintWriter pw = new PrintWriter(sw);
       pw.println();
-      record.getThrown().printStackTrace(pw);
+      thrown.printStackTrace(pw);
       pw.close();
       throwable = sw.toString();
-      if (record.getThrown() instanceof ApiException) {
-        ApiException ae = (ApiException) record.getThrown();
+      if (thrown instanceof ApiException) {
+        ApiException ae = (ApiException) thrown;
         code = String.valueOf(ae.getCode());
         if (ae.getResponseHeaders() != null) {
           headers = ae.getResponseHeaders();
@@ -102,46 +166,28 @@ public class LoggingFormatter extends Formatter {
         }
       }
     }
-    String level = record.getLevel().getLocalizedName();
-    Map<String, Object> map = new LinkedHashMap<>();
-    long rawTime = record.getMillis();
-    final String dateString = dateFormat.format(new Date(rawTime));
-    long thread = Thread.currentThread().getId();
-    Fiber fiber = Fiber.getCurrentIfSet();
-
-    map.put(TIMESTAMP, dateString);
-    map.put(THREAD, thread);
-    map.put(FIBER, fiber != null ? fiber.toString() : "");
-    map.put(DOMAIN_UID, getDomainUid(fiber));
-    map.put(LOG_LEVEL, level);
-    map.put(SOURCE_CLASS, sourceClassName);
-    map.put(SOURCE_METHOD, sourceMethodName);
-    map.put(TIME_IN_MILLIS, rawTime);
-    // if message or throwable have new lines in them, we need to replace with JSON newline control
-    // character \n
-    map.put(MESSAGE, message != null ? message.replaceAll("\n", "\\\n") : "");
-    map.put(EXCEPTION, throwable.replaceAll("\n", "\\\n"));
-    map.put(RESPONSE_CODE, code);
-    map.put(RESPONSE_HEADERS, headers);
-    map.put(RESPONSE_BODY, body.replaceAll("\n", "\\\n"));
-    String json = "";
-    try {
-      ObjectMapper mapper = new ObjectMapper();
-      json = mapper.writeValueAsString(map);
-
-    } catch (JsonProcessingException e) {
-      String tmp =
-          "{\"@timestamp\":%1$s,\"level\":%2$s, \"class\":%3$s, \"method\":\"format\", \"timeInMillis\":%4$d, "
-              + "\"@message\":\"Exception while preparing json object\",\"exception\":%5$s}\n";
-      return String.format(
-          tmp,
-          dateString,
-          level,
-          LoggingFormatter.class.getName(),
-          rawTime,
-          e.getLocalizedMessage());
+
+    generator.writeStringField(EXCEPTION, throwable);
+    generator.writeStringField(RESPONSE_CODE, code);
+    generator.writeObjectFieldStart(RESPONSE_HEADERS);
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      writeHeader(generator, header.getKey(), header.getValue());
+    }
+    generator.writeEndObject();
+    generator.writeStringField(RESPONSE_BODY, body);
+  }
+
+  private void writeHeader(JsonGenerator generator, String name, List<String> values) throws IOException {
+    generator.writeFieldName(String.valueOf(name));
+    if (values == null) {
+      generator.writeNull();
+    } else {
+      generator.writeStartArray();
+      for (String value : values) {
+        generator.writeString(value);
+      }
+      generator.writeEndArray();
     }
-    return json + "\n";
   }
 
   /**
@@ -150,7 +196,7 @@ public class LoggingFormatter extends Formatter {
    * @param fiber The current Fiber
    * @return the domain UID or empty string
    */
-  private String getDomainUid(Fiber fiber) {
+  private static String getDomainUid(Fiber fiber) {
 
     Packet packet = fiber == null ? null : fiber.getPacket();
     if (packet != null) {
@@ -160,4 +206,73 @@ public class LoggingFormatter extends Formatter {
       return "";
     }
   }
+
+  private static String getFiberName(Fiber fiber) {
+    return fiber != null ? fiber.toString() : "";
+  }
+
+  private static boolean isModelObject(Object parameter) {
+    return parameter != null
+        && (parameter.getClass().getAnnotation(ApiModel.class) != null
+            || parameter.getClass().getName().startsWith("oracle.kubernetes.weblogic.domain."));
+  }
+
+  // Values which cannot change are kept, so that message formats may still apply to them; any other
+  // object is converted to text at once, since the thread which logged it may go on to modify it.
+  private static Object captureParameter(Object parameter) {
+    if (parameter == null || isImmutable(parameter)) {
+      return parameter;
+    } else if (isModelObject(parameter) && LoggingFactory.getJson() != null) {
+      return LoggingFactory.getJson().serialize(parameter);
+    } else {
+      return String.valueOf(parameter);
+    }
+  }
+
+  private static boolean isImmutable(Object parameter) {
+    return parameter instanceof String
+        || parameter instanceof Number && parameter.getClass().getName().startsWith("java.lang.")
+        || parameter instanceof Boolean
+        || parameter instanceof Character
+        || parameter instanceof Enum
+        || parameter instanceof Temporal;
+  }
+
+  /**
+   * Returns a copy of the specified record which also holds the thread, fiber and domain UID reported by
+   * this formatter, and whose parameters have been converted to text unless they are immutable values.
+   * Handlers which format records on another thread must capture them first.
+   *
+   * @param record a record logged on the current thread
+   * @return a record which may be formatted on any thread
+   */
+  static LogRecord captureContext(LogRecord record) {
+    return record instanceof ContextLogRecord ? record : new ContextLogRecord(record);
+  }
+
+  private static class ContextLogRecord extends LogRecord {
+    private final long threadId;
+    private final String fiberName;
+    private final String domainUid;
+
+    ContextLogRecord(LogRecord record) {
+      super(record.getLevel(), record.getMessage());
+      setLoggerName(record.getLoggerName());
+      setResourceBundle(record.getResourceBundle());
+      setResourceBundleName(record.getResourceBundleName());
+      setInstant(record.getInstant());
+      setSequenceNumber(record.getSequenceNumber());
+      setSourceClassName(record.getSourceClassName());
+      setSourceMethodName(record.getSourceMethodName());
+      setParameters(record.getParameters() == null
+          ? null
+          : Arrays.stream(record.getParameters()).map(LoggingFormatter::captureParameter).toArray());
+      setThrown(record.getThrown());
+
+      Fiber fiber = Fiber.getCurrentIfSet();
+      threadId = Thread.currentThread().getId();
+      fiberName = getFiberName(fiber);
+      domainUid = getDomainUid(fiber);
+    }
+  }
 }
@@ -119,6 +119,12 @@ public class MessageKeys {
   public static final String DOMAIN_VALIDATION_FAILED = "WLSKO-0157";
   public static final String NO_INTERNAL_CERTIFICATE = "WLSKO-162";
   public static final String NO_EXTERNAL_CERTIFICATE = "WLSKO-163";
+  public static final String LOG_RECORDS_DROPPED = "WLSKO-0164";
+  public static final String FIBER_STUCK = "WLSKO-0165";
+  public static final String SCALE_CLUSTER_NOT_FOUND = "WLSKO-0166";
+  public static final String DUPLICATE_SCALE_REQUEST = "WLSKO-0167";
+  public static final String ASYNC_QUEUE_TIMEOUT = "WLSKO-0168";
+  public static final String MISSING_SCALE_REQUEST = "WLSKO-0169";
 
   // domain status messages
   public static final String DUPLICATE_SERVER_NAME_FOUND = "WLSDO-0001";
@@ -0,0 +1,166 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of the results of the token and access reviews which the REST server asks Kubernetes to
+ * make. A result is reused until its time to live has passed, after which the review is made again; when
+ * the cache is full, the least recently used result is dropped. Only results which the caller marks as
+ * cacheable are kept, so that a failed review is always retried.
+ *
+ * @param <V> the type of review result
+ */
+public class AccessReviewCache<V> {
+  static final int MAX_ENTRIES = 1000;
+
+  private static final Map<String, AccessReviewCache<?>> CACHES = new ConcurrentHashMap<>();
+
+  private final LongSupplier ttlMillisSupplier;
+  private final LongSupplier clock;
+  private final Map<String, CachedResult<V>> entries = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, CachedResult<V>> eldest) {
+      return size() > MAX_ENTRIES;
+    }
+  };
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Creates a cache.
+   *
+   * @param ttlMillisSupplier supplies the time, in milliseconds, for which a result is reused. If it is not
+   *     positive, nothing is cached.
+   * @param clock supplies the current time in nanoseconds
+   */
+  AccessReviewCache(LongSupplier ttlMillisSupplier, LongSupplier clock) {
+    this.ttlMillisSupplier = ttlMillisSupplier;
+    this.clock = clock;
+  }
+
+  /**
+   * Creates a cache and registers it under the specified name, so that its metrics are reported.
+   *
+   * @param name the name of the cache
+   * @param ttlMillisSupplier supplies the time, in milliseconds, for which a result is reused
+   * @param <V> the type of review result
+   * @return the new cache
+   */
+  static <V> AccessReviewCache<V> create(String name, LongSupplier ttlMillisSupplier) {
+    AccessReviewCache<V> cache = new AccessReviewCache<>(ttlMillisSupplier, System::nanoTime);
+    CACHES.put(name, cache);
+    return cache;
+  }
+
+  /**
+   * Returns a snapshot of the registered caches, sorted by name.
+   *
+   * @return a map of cache name to cache
+   */
+  public static Map<String, AccessReviewCache<?>> getAll() {
+    return Collections.unmodifiableMap(new TreeMap<>(CACHES));
+  }
+
+  /**
+   * Drops the cached results of all registered caches, so that every review is made again.
+   */
+  static void clearAll() {
+    CACHES.values().forEach(AccessReviewCache::clear);
+  }
+
+  private synchronized void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Returns a key under which a credential may be cached without holding the credential itself.
+   *
+   * @param credential a secret, such as an access token
+   * @return a digest of the credential
+   */
+  static String hash(String credential) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return Base64.getEncoder().encodeToString(digest.digest(credential.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  /**
+   * Returns the cached result for the key, or makes the review if no live result is cached.
+   *
+   * @param key the key which identifies the review
+   * @param review makes the review and returns its result
+   * @param isCacheable returns true if a result may be reused
+   * @return the result of the review
+   */
+  V get(String key, Supplier<V> review, Predicate<V> isCacheable) {
+    long ttlMillis = ttlMillisSupplier.getAsLong();
+    V result = ttlMillis > 0 ? getLiveResult(key) : null;
+    if (result != null) {
+      hits.increment();
+      return result;
+    }
+
+    misses.increment();
+    result = review.get();
+    if (ttlMillis > 0 && result != null && isCacheable.test(result)) {
+      putResult(key, result, clock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(ttlMillis));
+    }
+    return result;
+  }
+
+  private synchronized V getLiveResult(String key) {
+    CachedResult<V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    } else if (clock.getAsLong() - entry.expiresAtNanos >= 0) {
+      entries.remove(key);
+      return null;
+    }
+    return entry.result;
+  }
+
+  private synchronized void putResult(String key, V result, long expiresAtNanos) {
+    entries.put(key, new CachedResult<>(result, expiresAtNanos));
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  private static class CachedResult<V> {
+    private final V result;
+    private final long expiresAtNanos;
+
+    CachedResult(V result, long expiresAtNanos) {
+      this.result = result;
+      this.expiresAtNanos = expiresAtNanos;
+    }
+  }
+}
@@ -6,14 +6,21 @@ package oracle.kubernetes.operator.rest;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
 import javax.json.JsonPatchBuilder;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Response;
@@ -24,6 +31,7 @@ import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
@@ -34,6 +42,10 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
+import oracle.kubernetes.operator.rest.model.ClusterScaleParamsModel;
+import oracle.kubernetes.operator.rest.model.ClusterScaleResultModel;
+import oracle.kubernetes.operator.watcher.ResourceCache;
+import oracle.kubernetes.operator.watcher.SharedInformers;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.weblogic.domain.model.Domain;
@@ -43,12 +55,19 @@ import oracle.kubernetes.weblogic.domain.model.DomainList;
  * RestBackendImpl implements the backend of the WebLogic operator REST api by making calls to
  * Kubernetes and WebLogic. A separate instance is created for each REST request since we need to
  * hold some per-request state.
+ *
+ * <p>Domains are looked up in the operator's watch-updated domain cache, indexed by domain UID. Only
+ * namespaces whose cache is not yet filled are listed, at most once per request. Authorization
+ * decisions are also remembered for the rest of the request, so that the checks made by the
+ * parent resources of a request are not repeated.
+ *
+ * <p>Successful token reviews and allowed access reviews are shared between requests for a
+ * configurable time, so that a burst of requests made with the same token, such as those of a
+ * scaling script, makes no further reviews.
  */
 public class RestBackendImpl implements RestBackend {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
-  private static final String NEW_CLUSTER =
-      "{'clusterName':'%s','replicas':%d}".replaceAll("'", "\"");
   private static TopologyRetriever INSTANCE =
       (String ns, String domainUid) -> {
         Scan s = ScanCache.INSTANCE.lookupScan(ns, domainUid);
@@ -57,10 +76,16 @@ public class RestBackendImpl implements RestBackend {
         }
         return null;
       };
+  private static final AccessReviewCache<V1TokenReviewStatus> TOKEN_REVIEWS =
+      AccessReviewCache.create("tokenReview", RestBackendImpl::getAccessReviewCacheTtlMillis);
+  private static final AccessReviewCache<Boolean> SUBJECT_ACCESS_REVIEWS =
+      AccessReviewCache.create("subjectAccessReview", RestBackendImpl::getAccessReviewCacheTtlMillis);
   private final AuthenticationProxy atn = new AuthenticationProxy();
   private final AuthorizationProxy atz = new AuthorizationProxy();
   private final String principal;
   private final Collection<String> targetNamespaces;
+  private final Map<String, Boolean> authorizations = new HashMap<>();
+  private final Map<String, List<Domain>> listedDomains = new HashMap<>();
   private V1UserInfo userInfo;
 
   /**
@@ -83,28 +108,8 @@ public class RestBackendImpl implements RestBackend {
 
   private void authorize(String domainUid, Operation operation) {
     LOGGER.entering(domainUid, operation);
-    boolean authorized;
-    if (domainUid == null) {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              null,
-              Scope.cluster,
-              null);
-    } else {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              domainUid,
-              Scope.namespace,
-              getNamespace(domainUid));
-    }
+    boolean authorized =
+        authorizations.computeIfAbsent(operation + "/" + domainUid, k -> isAuthorized(domainUid, operation));
     if (authorized) {
       LOGGER.exiting();
       return;
@@ -115,25 +120,56 @@ public class RestBackendImpl implements RestBackend {
     throw e;
   }
 
-  private String getNamespace(String domainUid) {
+  private static long getAccessReviewCacheTtlMillis() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> TimeUnit.SECONDS.toMillis(parameters.getMainTuning().restAccessReviewCacheTtlSeconds))
+        .orElse(0L);
+  }
+
+  // only allowed decisions are shared, since a failed review is reported as a denial
+  private boolean isAuthorized(String domainUid, Operation operation) {
+    String namespace = domainUid == null ? null : getNamespace(domainUid);
+    String key = String.join("|", userInfo.getUsername(), String.valueOf(userInfo.getGroups()),
+        operation.name(), Resource.DOMAINS.name(), domainUid, namespace);
+    return SUBJECT_ACCESS_REVIEWS.get(key, () -> checkAccess(domainUid, namespace, operation), Boolean::booleanValue);
+  }
+
+  private boolean checkAccess(String domainUid, String namespace, Operation operation) {
     if (domainUid == null) {
-      throw new AssertionError(formatMessage(MessageKeys.NULL_DOMAIN_UID));
+      return atz.check(
+          userInfo.getUsername(),
+          userInfo.getGroups(),
+          operation,
+          Resource.DOMAINS,
+          null,
+          Scope.cluster,
+          null);
+    } else {
+      return atz.check(
+          userInfo.getUsername(),
+          userInfo.getGroups(),
+          operation,
+          Resource.DOMAINS,
+          domainUid,
+          Scope.namespace,
+          namespace);
     }
-
-    return getNamespace(domainUid, getDomainsList());
   }
 
-  private String getNamespace(String domainUid, List<Domain> domains) {
+  private String getNamespace(String domainUid) {
     if (domainUid == null) {
       throw new AssertionError(formatMessage(MessageKeys.NULL_DOMAIN_UID));
     }
-    Domain domain = findDomain(domainUid, domains);
-    return domain.getMetadata().getNamespace();
+
+    return findDomain(domainUid).getMetadata().getNamespace();
   }
 
   private V1UserInfo authenticate(String accessToken) {
     LOGGER.entering();
-    V1TokenReviewStatus status = atn.check(principal, accessToken);
+    V1TokenReviewStatus status = TOKEN_REVIEWS.get(
+        principal + "|" + AccessReviewCache.hash(String.valueOf(accessToken)),
+        () -> atn.check(principal, accessToken),
+        RestBackendImpl::isAuthenticated);
     if (status == null) {
       throw new AssertionError(formatMessage(MessageKeys.NULL_TOKEN_REVIEW_STATUS));
     }
@@ -157,44 +193,80 @@ public class RestBackendImpl implements RestBackend {
     return userInfo;
   }
 
+  private static boolean isAuthenticated(V1TokenReviewStatus status) {
+    return status.getError() == null && Boolean.TRUE.equals(status.getAuthenticated()) && status.getUser() != null;
+  }
+
   @Override
   public Set<String> getDomainUids() {
     LOGGER.entering();
     authorize(null, Operation.list);
     Set<String> result = new TreeSet<>();
-    List<Domain> domains = getDomainsList();
-    for (Domain domain : domains) {
-      result.add(domain.getDomainUid());
+    for (String ns : targetNamespaces) {
+      for (Domain domain : getDomains(ns)) {
+        result.add(domain.getDomainUid());
+      }
     }
     LOGGER.exiting(result);
     return result;
   }
 
-  private List<Domain> getDomainsList() {
-    Collection<List<Domain>> c = new ArrayList<>();
-    try {
-      for (String ns : targetNamespaces) {
-        DomainList dl = new CallBuilder().listDomain(ns);
+  // Reads the domains from the shared informer cache when the namespace is being watched,
+  // and falls back to listing them otherwise.
+  private List<Domain> getDomains(String ns) {
+    ResourceCache<Domain> cache = getDomainCache();
+    return cache.isSynced(ns) ? cache.list(ns) : getListedDomains(ns);
+  }
 
-        if (dl != null) {
-          c.add(dl.getItems());
-        }
-      }
-      return c.stream().flatMap(Collection::stream).collect(Collectors.toList());
+  private ResourceCache<Domain> getDomainCache() {
+    return SharedInformers.getInstance().getDomains();
+  }
+
+  private List<Domain> getListedDomains(String ns) {
+    return listedDomains.computeIfAbsent(ns, this::listDomains);
+  }
+
+  private List<Domain> listDomains(String ns) {
+    try {
+      DomainList dl = new CallBuilder().listDomain(ns);
+      return dl != null ? dl.getItems() : Collections.emptyList();
     } catch (ApiException e) {
       throw handleApiException(e);
     }
   }
 
+  private Optional<Domain> getDomain(String domainUid) {
+    for (String ns : targetNamespaces) {
+      Optional<Domain> domain = getDomain(ns, domainUid);
+      if (domain.isPresent()) {
+        return domain;
+      }
+    }
+    return Optional.empty();
+  }
+
+  private Optional<Domain> getDomain(String ns, String domainUid) {
+    ResourceCache<Domain> cache = getDomainCache();
+    List<Domain> domains = cache.isSynced(ns) ? cache.listForDomain(ns, domainUid) : getListedDomains(ns);
+    return domains.stream().filter(d -> Objects.equals(domainUid, d.getDomainUid())).findFirst();
+  }
+
   @Override
   public boolean isDomainUid(String domainUid) {
     LOGGER.entering(domainUid);
     authorize(null, Operation.list);
-    boolean result = getDomainUids().contains(domainUid);
+    boolean result = getDomain(domainUid).isPresent();
     LOGGER.exiting(result);
     return result;
   }
 
+  @Override
+  public void verifyDiagnosticsAccess() {
+    LOGGER.entering();
+    authorize(null, Operation.list);
+    LOGGER.exiting();
+  }
+
   @Override
   public Set<String> getClusters(String domainUid) {
     LOGGER.entering(domainUid);
@@ -231,29 +303,121 @@ public class RestBackendImpl implements RestBackend {
 
     authorize(domainUid, Operation.update);
 
-    List<Domain> domains = getDomainsList();
-    Domain domain = findDomain(domainUid, domains);
+    Domain domain = findDomain(domainUid);
 
     verifyWlsConfiguredClusterCapacity(domain, cluster, managedServerCount);
 
-    patchDomain(domain, cluster, managedServerCount);
+    patchDomain(domain, Collections.singletonMap(cluster, managedServerCount));
     LOGGER.exiting();
   }
 
-  private void patchDomain(Domain domain, String cluster, int replicas) {
-    if (replicas == domain.getReplicaCount(cluster)) {
-      return;
+  @Override
+  public List<ClusterScaleResultModel> scaleClusters(List<ClusterScaleParamsModel> requests) {
+    LOGGER.entering(requests);
+    List<ClusterScaleResultModel> results = new ArrayList<>();
+    Map<String, List<ClusterScaleResultModel>> resultsByDomain = new LinkedHashMap<>();
+    for (ClusterScaleParamsModel request : requests) {
+      if (request == null) {
+        results.add(createMissingRequestResult(results.size()));
+        continue;
+      }
+      ClusterScaleResultModel result = new ClusterScaleResultModel(request);
+      results.add(result);
+      resultsByDomain.computeIfAbsent(request.getDomainUid(), uid -> new ArrayList<>()).add(result);
     }
 
+    resultsByDomain.forEach(this::scaleDomainClusters);
+    LOGGER.exiting(results);
+    return results;
+  }
+
+  // A missing item names no domain, so it fails on its own without affecting the other items.
+  private ClusterScaleResultModel createMissingRequestResult(int index) {
+    ClusterScaleResultModel result = new ClusterScaleResultModel();
+    recordFailure(result, createWebApplicationException(Status.BAD_REQUEST, MessageKeys.MISSING_SCALE_REQUEST, index));
+    return result;
+  }
+
+  // Validates the requested size of each cluster of one domain, then applies the valid sizes in a
+  // single patch. A failure which affects the whole domain is recorded for each cluster not yet failed.
+  private void scaleDomainClusters(String domainUid, List<ClusterScaleResultModel> results) {
     try {
-      JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+      Domain domain = findDomain(domainUid);
+      authorize(domainUid, Operation.update);
+
+      Map<String, Integer> replicas = new LinkedHashMap<>();
+      for (ClusterScaleResultModel result : results) {
+        try {
+          verifyClusterScale(domain, result.getCluster(), result.getManagedServerCount(), replicas.keySet());
+          replicas.put(result.getCluster(), result.getManagedServerCount());
+        } catch (WebApplicationException e) {
+          recordFailure(result, e);
+        }
+      }
+
+      patchDomain(domain, replicas);
+    } catch (WebApplicationException e) {
+      results.stream().filter(r -> r.getStatus() == Status.OK.getStatusCode()).forEach(r -> recordFailure(r, e));
+    }
+  }
+
+  private void verifyClusterScale(Domain domain, String cluster, int replicas, Set<String> scaledClusters) {
+    if (replicas < 0) {
+      throw createWebApplicationException(Status.BAD_REQUEST, MessageKeys.INVALID_MANAGE_SERVER_COUNT, replicas);
+    } else if (!getWlsConfiguredClusters(domain.getDomainUid()).containsKey(cluster)) {
+      throw createWebApplicationException(
+          Status.NOT_FOUND, MessageKeys.SCALE_CLUSTER_NOT_FOUND, cluster, domain.getDomainUid());
+    } else if (scaledClusters.contains(cluster)) {
+      throw createWebApplicationException(
+          Status.BAD_REQUEST, MessageKeys.DUPLICATE_SCALE_REQUEST, cluster, domain.getDomainUid());
+    }
+
+    verifyWlsConfiguredClusterCapacity(domain, cluster, replicas);
+  }
+
+  private void recordFailure(ClusterScaleResultModel result, WebApplicationException e) {
+    Object entity = e.getResponse().getEntity();
+    result.setStatus(e.getResponse().getStatus());
+    result.setMessage(entity instanceof String ? (String) entity : null);
+  }
+
+  // Applies the specified cluster sizes to the domain with a single patch, unless they are already set.
+  // The domain may have been read from a cache, so each replacement first tests that the cluster is still
+  // at the index from which it was read; otherwise the whole patch is rejected rather than resizing another cluster.
+  private void patchDomain(Domain domain, Map<String, Integer> replicas) {
+    JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+    JsonArrayBuilder newClusters = Json.createArrayBuilder();
+    boolean hasChanges = false;
+    boolean hasNewClusters = false;
+    for (Map.Entry<String, Integer> entry : replicas.entrySet()) {
+      String cluster = entry.getKey();
+      int replicaCount = entry.getValue();
+      if (replicaCount == domain.getReplicaCount(cluster)) {
+        continue;
+      }
+
       int index = getClusterIndex(domain, cluster);
-      if (index < 0) {
-        patchBuilder.add("/spec/clusters/0", String.format(NEW_CLUSTER, cluster, replicas));
+      if (index >= 0) {
+        patchBuilder
+            .test("/spec/clusters/" + index + "/clusterName", cluster)
+            .replace("/spec/clusters/" + index + "/replicas", replicaCount);
+      } else if (domain.getSpec().getClusters().isEmpty()) {
+        newClusters.add(createClusterPatchValue(cluster, replicaCount));
+        hasNewClusters = true;
       } else {
-        patchBuilder.replace("/spec/clusters/" + index + "/replicas", replicas);
+        patchBuilder.add("/spec/clusters/-", createClusterPatchValue(cluster, replicaCount));
       }
+      hasChanges = true;
+    }
 
+    if (hasNewClusters) {
+      patchBuilder.add("/spec/clusters", newClusters.build());
+    }
+    if (!hasChanges) {
+      return;
+    }
+
+    try {
       new CallBuilder()
           .patchDomain(
               domain.getDomainUid(), domain.getMetadata().getNamespace(),
@@ -263,6 +427,10 @@ public class RestBackendImpl implements RestBackend {
     }
   }
 
+  private JsonObject createClusterPatchValue(String cluster, int replicas) {
+    return Json.createObjectBuilder().add("clusterName", cluster).add("replicas", replicas).build();
+  }
+
   private int getClusterIndex(Domain domain, String cluster) {
     for (int i = 0; i < domain.getSpec().getClusters().size(); i++) {
       if (cluster.equals(domain.getSpec().getClusters().get(i).getClusterName())) {
@@ -317,15 +485,10 @@ public class RestBackendImpl implements RestBackend {
     return new WlsDomainConfig(null);
   }
 
-  private Domain findDomain(String domainUid, List<Domain> domains) {
-    for (Domain domain : domains) {
-      if (domainUid.equals(domain.getDomainUid())) {
-        return domain;
-      }
-    }
-
-    throw createWebApplicationException(
-        Status.NOT_FOUND, MessageKeys.MATCHING_DOMAIN_NOT_FOUND, domainUid);
+  private Domain findDomain(String domainUid) {
+    return getDomain(domainUid)
+        .orElseThrow(() -> createWebApplicationException(
+            Status.NOT_FOUND, MessageKeys.MATCHING_DOMAIN_NOT_FOUND, domainUid));
   }
 
   private WebApplicationException handleApiException(ApiException e) {
@@ -3,8 +3,12 @@
 
 package oracle.kubernetes.operator.rest.backend;
 
+import java.util.List;
 import java.util.Set;
 
+import oracle.kubernetes.operator.rest.model.ClusterScaleParamsModel;
+import oracle.kubernetes.operator.rest.model.ClusterScaleResultModel;
+
 /**
  * The RestBackend interface is to implement all of the WebLogic Operator REST resources that need
  * to talk to Kubernetes and WebLogic to get their work done. It separates the jaxrs part of the
@@ -28,6 +32,12 @@ public interface RestBackend {
    */
   public boolean isDomainUid(String domainUid);
 
+  /**
+   * Verifies that the caller may list the WebLogic domains registered with the WebLogic operator, which
+   * is required to read the operator's diagnostics. Throws a WebApplicationException if not.
+   */
+  public void verifyDiagnosticsAccess();
+
   /**
    * Get the names of the clusters in a WebLogic domain.
    *
@@ -63,4 +73,14 @@ public interface RestBackend {
    * @param managedServerCount - the desired number of WebLogic managed servers.
    */
   public void scaleCluster(String domainUid, String cluster, int managedServerCount);
+
+  /**
+   * Scales any number of WebLogic clusters in any number of domains. Each request is validated against
+   * the WebLogic topology of its domain, and the accepted requests for each domain are applied to it in
+   * a single update. A request which cannot be applied does not prevent the others from being applied.
+   *
+   * @param requests - the clusters to scale and the desired number of managed servers in each.
+   * @return the outcome for each request, in the order of the requests.
+   */
+  public List<ClusterScaleResultModel> scaleClusters(List<ClusterScaleParamsModel> requests);
 }
@@ -0,0 +1,97 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * ClusterScaleParamsModel describes one WebLogic cluster to be scaled by the batch scaling operation.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ClusterScaleParamsModel extends BaseModel {
+
+  @JsonProperty("domainUID")
+  private String domainUid;
+  private String cluster;
+  private int managedServerCount;
+
+  /** Construct an empty ClusterScaleParamsModel. */
+  public ClusterScaleParamsModel() {
+  }
+
+  /**
+   * Construct a populated ClusterScaleParamsModel.
+   *
+   * @param domainUid - the unique identifier of the WebLogic domain that contains the cluster.
+   * @param cluster - the cluster's name.
+   * @param managedServerCount - the desired number of managed servers.
+   */
+  public ClusterScaleParamsModel(String domainUid, String cluster, int managedServerCount) {
+    setDomainUid(domainUid);
+    setCluster(cluster);
+    setManagedServerCount(managedServerCount);
+  }
+
+  /**
+   * Get the unique identifier of the WebLogic domain that contains the cluster.
+   *
+   * @return the domain's unique identifier.
+   */
+  public String getDomainUid() {
+    return domainUid;
+  }
+
+  /**
+   * Set the unique identifier of the WebLogic domain that contains the cluster.
+   *
+   * @param domainUid - the domain's unique identifier.
+   */
+  public void setDomainUid(String domainUid) {
+    this.domainUid = domainUid;
+  }
+
+  /**
+   * Get the cluster's name.
+   *
+   * @return the cluster's name.
+   */
+  public String getCluster() {
+    return cluster;
+  }
+
+  /**
+   * Set the cluster's name.
+   *
+   * @param cluster - the cluster's name.
+   */
+  public void setCluster(String cluster) {
+    this.cluster = cluster;
+  }
+
+  /**
+   * Get the desired number of managed servers in the WebLogic cluster.
+   *
+   * @return the desired number of managed servers.
+   */
+  public int getManagedServerCount() {
+    return managedServerCount;
+  }
+
+  /**
+   * Set the desired number of managed servers in the WebLogic cluster.
+   *
+   * @param managedServerCount - the desired number of managed servers.
+   */
+  public void setManagedServerCount(int managedServerCount) {
+    this.managedServerCount = managedServerCount;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "domainUID=" + getDomainUid()
+        + ", cluster=" + getCluster()
+        + ", managedServerCount=" + getManagedServerCount(); // super has no properties
+  }
+}
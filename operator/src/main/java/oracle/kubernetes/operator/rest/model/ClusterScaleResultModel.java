@@ -0,0 +1,139 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+import java.net.HttpURLConnection;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * ClusterScaleResultModel describes the outcome of scaling one WebLogic cluster in a batch scaling
+ * operation.
+ */
+public class ClusterScaleResultModel extends ItemModel {
+
+  @JsonProperty("domainUID")
+  private String domainUid;
+  private String cluster;
+  private int managedServerCount;
+  private int status;
+  private String message;
+
+  /** Construct an empty ClusterScaleResultModel. */
+  public ClusterScaleResultModel() {
+  }
+
+  /**
+   * Construct a ClusterScaleResultModel for a requested cluster, which is successful until a failure
+   * is recorded.
+   *
+   * @param params - the requested cluster and size.
+   */
+  public ClusterScaleResultModel(ClusterScaleParamsModel params) {
+    setDomainUid(params.getDomainUid());
+    setCluster(params.getCluster());
+    setManagedServerCount(params.getManagedServerCount());
+    setStatus(HttpURLConnection.HTTP_OK);
+  }
+
+  /**
+   * Get the unique identifier of the WebLogic domain that contains the cluster.
+   *
+   * @return the domain's unique identifier.
+   */
+  public String getDomainUid() {
+    return domainUid;
+  }
+
+  /**
+   * Set the unique identifier of the WebLogic domain that contains the cluster.
+   *
+   * @param domainUid - the domain's unique identifier.
+   */
+  public void setDomainUid(String domainUid) {
+    this.domainUid = domainUid;
+  }
+
+  /**
+   * Get the cluster's name.
+   *
+   * @return the cluster's name.
+   */
+  public String getCluster() {
+    return cluster;
+  }
+
+  /**
+   * Set the cluster's name.
+   *
+   * @param cluster - the cluster's name.
+   */
+  public void setCluster(String cluster) {
+    this.cluster = cluster;
+  }
+
+  /**
+   * Get the requested number of managed servers in the WebLogic cluster.
+   *
+   * @return the requested number of managed servers.
+   */
+  public int getManagedServerCount() {
+    return managedServerCount;
+  }
+
+  /**
+   * Set the requested number of managed servers in the WebLogic cluster.
+   *
+   * @param managedServerCount - the requested number of managed servers.
+   */
+  public void setManagedServerCount(int managedServerCount) {
+    this.managedServerCount = managedServerCount;
+  }
+
+  /**
+   * Get the HTTP status code which describes the outcome for this cluster.
+   *
+   * @return 200 if the cluster was scaled, otherwise the status of the failure.
+   */
+  public int getStatus() {
+    return status;
+  }
+
+  /**
+   * Set the HTTP status code which describes the outcome for this cluster.
+   *
+   * @param status - the status code.
+   */
+  public void setStatus(int status) {
+    this.status = status;
+  }
+
+  /**
+   * Get the message which explains a failure.
+   *
+   * @return the message, or null if the cluster was scaled.
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * Set the message which explains a failure.
+   *
+   * @param message - the message.
+   */
+  public void setMessage(String message) {
+    this.message = message;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "domainUID=" + getDomainUid()
+        + ", cluster=" + getCluster()
+        + ", managedServerCount=" + getManagedServerCount()
+        + ", status=" + getStatus()
+        + ", message=" + getMessage()
+        + ", " + super.propertiesToString();
+  }
+}
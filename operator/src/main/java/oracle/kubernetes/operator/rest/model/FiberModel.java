@@ -0,0 +1,204 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import oracle.kubernetes.operator.work.FiberStatus;
+
+/**
+ * FiberModel describes a fiber which is running in the operator, and the fibers which it has started and
+ * which are still running. The gate, namespace and domain UID are set only for the fibers started by a
+ * fiber gate.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FiberModel extends BaseModel {
+
+  private String gate;
+  private String namespace;
+  private String domainUid;
+  private String name;
+  private String step;
+  private boolean suspended;
+  private double suspendedSeconds;
+  private List<FiberModel> children = new ArrayList<>();
+
+  /** Construct an empty FiberModel. */
+  public FiberModel() {
+  }
+
+  /**
+   * Construct a FiberModel from the status of a fiber.
+   *
+   * @param status - the status of the fiber.
+   */
+  public FiberModel(FiberStatus status) {
+    setName(status.getName());
+    setStep(status.getStepName());
+    setSuspended(status.isSuspended());
+    setSuspendedSeconds(status.getSuspendedNanos() / (double) TimeUnit.SECONDS.toNanos(1));
+    for (FiberStatus child : status.getChildren()) {
+      children.add(new FiberModel(child));
+    }
+  }
+
+  /**
+   * Get the purpose of the fiber gate which started the fiber.
+   *
+   * @return the gate, either 'makeRight' or 'status'.
+   */
+  public String getGate() {
+    return gate;
+  }
+
+  /**
+   * Set the purpose of the fiber gate which started the fiber.
+   *
+   * @param gate - the gate.
+   */
+  public void setGate(String gate) {
+    this.gate = gate;
+  }
+
+  /**
+   * Get the namespace of the domain for which the fiber was started.
+   *
+   * @return the namespace.
+   */
+  public String getNamespace() {
+    return namespace;
+  }
+
+  /**
+   * Set the namespace of the domain for which the fiber was started.
+   *
+   * @param namespace - the namespace.
+   */
+  public void setNamespace(String namespace) {
+    this.namespace = namespace;
+  }
+
+  /**
+   * Get the unique identifier of the domain for which the fiber was started.
+   *
+   * @return the domain UID.
+   */
+  public String getDomainUid() {
+    return domainUid;
+  }
+
+  /**
+   * Set the unique identifier of the domain for which the fiber was started.
+   *
+   * @param domainUid - the domain UID.
+   */
+  public void setDomainUid(String domainUid) {
+    this.domainUid = domainUid;
+  }
+
+  /**
+   * Get the name of the fiber.
+   *
+   * @return the fiber name.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Set the name of the fiber.
+   *
+   * @param name - the fiber name.
+   */
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Get the name of the step which suspended the fiber, or which it is running.
+   *
+   * @return the step name.
+   */
+  public String getStep() {
+    return step;
+  }
+
+  /**
+   * Set the name of the step which suspended the fiber, or which it is running.
+   *
+   * @param step - the step name.
+   */
+  public void setStep(String step) {
+    this.step = step;
+  }
+
+  /**
+   * Get whether the fiber is suspended.
+   *
+   * @return whether the fiber is suspended.
+   */
+  public boolean isSuspended() {
+    return suspended;
+  }
+
+  /**
+   * Set whether the fiber is suspended.
+   *
+   * @param suspended - whether the fiber is suspended.
+   */
+  public void setSuspended(boolean suspended) {
+    this.suspended = suspended;
+  }
+
+  /**
+   * Get the time for which the fiber has been suspended.
+   *
+   * @return the time in seconds, or zero if the fiber is not suspended.
+   */
+  public double getSuspendedSeconds() {
+    return suspendedSeconds;
+  }
+
+  /**
+   * Set the time for which the fiber has been suspended.
+   *
+   * @param suspendedSeconds - the time in seconds.
+   */
+  public void setSuspendedSeconds(double suspendedSeconds) {
+    this.suspendedSeconds = suspendedSeconds;
+  }
+
+  /**
+   * Get the running fibers which this fiber started.
+   *
+   * @return the child fibers.
+   */
+  public List<FiberModel> getChildren() {
+    return children;
+  }
+
+  /**
+   * Set the running fibers which this fiber started.
+   *
+   * @param children - the child fibers.
+   */
+  public void setChildren(List<FiberModel> children) {
+    this.children = children;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "gate=" + getGate()
+        + ", namespace=" + getNamespace()
+        + ", domainUid=" + getDomainUid()
+        + ", name=" + getName()
+        + ", step=" + getStep()
+        + ", suspended=" + isSuspended()
+        + ", suspendedSeconds=" + getSuspendedSeconds()
+        + ", children=" + getChildren();
+  }
+}
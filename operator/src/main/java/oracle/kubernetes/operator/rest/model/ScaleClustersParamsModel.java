@@ -0,0 +1,42 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * ScaleClustersParamsModel describes the input parameters to the batch scaling operation, which
+ * scales any number of WebLogic clusters in any number of domains at once.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ScaleClustersParamsModel extends BaseModel {
+
+  private List<ClusterScaleParamsModel> clusters = new ArrayList<>();
+
+  /**
+   * Get the clusters to scale.
+   *
+   * @return a List of the clusters and their desired sizes.
+   */
+  public List<ClusterScaleParamsModel> getClusters() {
+    return clusters;
+  }
+
+  /**
+   * Set the clusters to scale.
+   *
+   * @param clusters - a List of the clusters and their desired sizes.
+   */
+  public void setClusters(List<ClusterScaleParamsModel> clusters) {
+    this.clusters = clusters;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "clusters=" + getClusters(); // super has no properties
+  }
+}
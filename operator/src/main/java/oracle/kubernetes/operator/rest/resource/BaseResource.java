@@ -5,7 +5,9 @@ package oracle.kubernetes.operator.rest.resource;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
@@ -75,6 +77,21 @@ public class BaseResource {
     lc.addLink(rel, href(rel));
   }
 
+  /**
+   * Completes a suspended request with the result of the specified operation. If the operation fails,
+   * the request is completed with the exception instead, so that it is mapped to an error response.
+   *
+   * @param response the suspended response
+   * @param operation the operation which computes the response entity
+   */
+  protected void resume(AsyncResponse response, Supplier<?> operation) {
+    try {
+      response.resume(operation.get());
+    } catch (RuntimeException e) {
+      response.resume(e);
+    }
+  }
+
   protected WebApplicationException notFound(String pathSegment) {
     String notFoundHref = href(pathSegment);
     return new WebApplicationException(
@@ -8,12 +8,15 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.model.ClusterModel;
 import oracle.kubernetes.operator.rest.model.CollectionModel;
+import org.glassfish.jersey.server.ManagedAsync;
 
 /**
  * ClustersResource is a jaxrs resource that implements the REST api for the
@@ -35,13 +38,19 @@ public class ClustersResource extends BaseResource {
   }
 
   /**
-   * List a WebLogic domain's clusters.
+   * List a WebLogic domain's clusters. The request is completed asynchronously.
    *
-   * @return a collection of ClusterModels describing the clusters.
+   * @param response - the suspended response, which is completed with a collection of ClusterModels
+   *     describing the clusters.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public CollectionModel<ClusterModel> get() {
+  @ManagedAsync
+  public void get(@Suspended AsyncResponse response) {
+    resume(response, this::getClusters);
+  }
+
+  private CollectionModel<ClusterModel> getClusters() {
     LOGGER.entering(href());
     String domainUid = getDomainUid();
     CollectionModel<ClusterModel> collection = new CollectionModel<ClusterModel>();
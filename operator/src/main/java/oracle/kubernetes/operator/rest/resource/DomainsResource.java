@@ -8,12 +8,15 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.model.CollectionModel;
 import oracle.kubernetes.operator.rest.model.DomainModel;
+import org.glassfish.jersey.server.ManagedAsync;
 
 /**
  * DomainsResource is a jaxrs resource that implements the REST api for the
@@ -35,13 +38,20 @@ public class DomainsResource extends BaseResource {
   }
 
   /**
-   * List the WebLogic domains that are registered with the WebLogic operator.
+   * List the WebLogic domains that are registered with the WebLogic operator. The request is completed
+   * asynchronously, so that the server's request threads are not held while the backend works.
    *
-   * @return a collection of DomainModels describing the domains.
+   * @param response - the suspended response, which is completed with a collection of DomainModels
+   *     describing the domains.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public CollectionModel<DomainModel> get() {
+  @ManagedAsync
+  public void get(@Suspended AsyncResponse response) {
+    resume(response, this::getDomains);
+  }
+
+  private CollectionModel<DomainModel> getDomains() {
     LOGGER.entering(href());
     CollectionModel<DomainModel> collection = new CollectionModel<DomainModel>();
     for (String domainUid : getBackend().getDomainUids()) {
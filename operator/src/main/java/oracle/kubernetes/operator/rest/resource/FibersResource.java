@@ -0,0 +1,81 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.model.FiberModel;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberGate;
+
+/**
+ * FibersResource is a jaxrs resource that implements the REST api for the /fibers path. It reports
+ * diagnostics for the fibers which are running in the operator.
+ */
+@Path("fibers")
+public class FibersResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /** Construct a FibersResource. */
+  public FibersResource() {
+    super(null, "fibers");
+  }
+
+  /**
+   * Returns the fibers which the operator's fiber gates have started and which are still running, with
+   * the steps by which they and their children are suspended.
+   *
+   * @return a list of fibers
+   */
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public List<FiberModel> get() {
+    LOGGER.entering();
+    getBackend().verifyDiagnosticsAccess();
+    List<FiberModel> fibers = new ArrayList<>();
+    for (Map.Entry<String, Map<String, FiberGate>> purpose : DomainProcessorImpl.getFiberGates().entrySet()) {
+      for (Map.Entry<String, FiberGate> namespace : purpose.getValue().entrySet()) {
+        for (Map.Entry<String, Fiber> entry : namespace.getValue().getCurrentFibers().entrySet()) {
+          FiberModel fiber = new FiberModel(entry.getValue().getStatus());
+          fiber.setGate(purpose.getKey());
+          fiber.setNamespace(namespace.getKey());
+          fiber.setDomainUid(entry.getKey());
+          fibers.add(fiber);
+        }
+      }
+    }
+    LOGGER.exiting(fibers);
+    return fibers;
+  }
+
+  /**
+   * Returns the traces of the running top-level fibers, one per line. Only fibers started while the
+   * fiberTraceEnabled tuning parameter was set, or the operator was logging at FINE, have traces.
+   *
+   * @return the fiber traces
+   */
+  @GET
+  @Path("traces")
+  @Produces(MediaType.TEXT_PLAIN)
+  public String getTraces() {
+    LOGGER.entering();
+    getBackend().verifyDiagnosticsAccess();
+    StringBuilder sb = new StringBuilder();
+    for (Map.Entry<String, String> entry : Fiber.getTraces().entrySet()) {
+      sb.append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+    }
+    LOGGER.exiting();
+    return sb.toString();
+  }
+}
@@ -0,0 +1,231 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.calls.CallMetrics;
+import oracle.kubernetes.operator.calls.CallScheduler;
+import oracle.kubernetes.operator.calls.CircuitBreaker;
+import oracle.kubernetes.operator.helpers.DomainStatusWriter;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.AccessReviewCache;
+import oracle.kubernetes.operator.watcher.WatchStreamMetrics;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.ExecutorGauges;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.FiberMetrics;
+import oracle.kubernetes.operator.work.FiberMetrics.StepMetrics;
+import oracle.kubernetes.operator.work.Histogram;
+
+/**
+ * MetricsResource is a jaxrs resource that implements the REST api for the /metrics path. It reports
+ * the operator's internal timings and counters in the Prometheus text exposition format.
+ */
+@Path("metrics")
+public class MetricsResource extends BaseResource {
+
+  static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4; charset=utf-8";
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final String PREFIX = "weblogic_operator_";
+
+  /** Construct a MetricsResource. */
+  public MetricsResource() {
+    super(null, "metrics");
+  }
+
+  private static String escape(String labelValue) {
+    return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  private static String formatBound(double bound) {
+    return bound == Math.rint(bound) ? Long.toString((long) bound) : Double.toString(bound);
+  }
+
+  /**
+   * Returns the current metrics.
+   *
+   * @return the metrics in Prometheus text format
+   */
+  @GET
+  @Produces(PROMETHEUS_TEXT)
+  public String get() {
+    LOGGER.entering();
+    getBackend().verifyDiagnosticsAccess();
+    StringBuilder sb = new StringBuilder();
+    Map<String, StepMetrics> steps = FiberMetrics.getStepMetrics();
+    addHistograms(sb, "step_apply_seconds", "Time spent in the apply method of each class of step.",
+        "step", steps, StepMetrics::getApplyTime);
+    addHistograms(sb, "step_suspended_seconds", "Time for which fibers were suspended by each class of step.",
+        "step", steps, StepMetrics::getSuspendedTime);
+    addHistograms(sb, "fiber_duration_seconds", "Time from start to completion of top-level fibers.",
+        "first_step", FiberMetrics.getFiberDurations(), Function.identity());
+
+    Map<String, WatchStreamMetrics> streams = WatchStreamMetrics.getAll();
+    addCounters(sb, "watch_events_total", "Events received by each watch stream.",
+        streams, WatchStreamMetrics::getEventsReceived);
+    addCounters(sb, "watch_reconnects_total", "Times each watch stream was re-established.",
+        streams, WatchStreamMetrics::getReconnects);
+    addLagGauges(sb, "watch_reconnect_lag_seconds",
+        "Time between the end of the previous watch request of each stream and its latest re-establishment.",
+        streams, WatchStreamMetrics::getLastReconnectLagMillis);
+    addLagGauges(sb, "watch_reconnect_lag_max_seconds",
+        "Longest time between the end of a watch request of each stream and its re-establishment.",
+        streams, WatchStreamMetrics::getMaxReconnectLagMillis);
+
+    Map<String, ExecutorGauges> executors = Engine.getExecutorGauges();
+    addGauges(sb, "executor_queued_tasks", "Tasks ready to run, waiting for an engine thread.",
+        executors, ExecutorGauges::getQueuedTaskCount);
+    addGauges(sb, "executor_scheduled_tasks", "Tasks waiting for their scheduled time.",
+        executors, ExecutorGauges::getScheduledTaskCount);
+    addGauges(sb, "executor_active_threads", "Engine threads running tasks.",
+        executors, ExecutorGauges::getActiveThreadCount);
+    addGauges(sb, "executor_pool_threads", "Engine threads started to run tasks.",
+        executors, ExecutorGauges::getPoolSize);
+
+    addLongestSuspendedGauges(sb);
+    addHeader(sb, "fibers_stuck_total", "Times a fiber was found suspended by one step for too long.", "counter");
+    addSample(sb, "fibers_stuck_total", "", Long.toString(FiberMetrics.getStuckFiberCount()));
+    addHeader(sb, "api_calls_queued", "Kubernetes API calls waiting for the call rate limit.", "gauge");
+    addSample(sb, "api_calls_queued", "", Integer.toString(CallScheduler.getInstance().getQueuedCallCount()));
+    addCounter(sb, "api_call_retries_total", "Retries of failed Kubernetes API calls.", CallMetrics.getRetryCount());
+    addCounter(sb, "api_call_timeouts_total", "Kubernetes API calls which timed out.", CallMetrics.getTimeoutCount());
+    addCounter(sb, "api_call_queue_timeouts_total",
+        "Kubernetes API calls still waiting for the call rate limit at their queue deadline, and so queued again.",
+        CallMetrics.getQueueTimeoutCount());
+    addCounter(sb, "api_calls_shed_total", "Kubernetes API calls postponed because their circuit breaker was open.",
+        CallMetrics.getShedCallCount());
+    addCircuitBreakerGauges(sb);
+    addCounter(sb, "domain_status_patches_sent_total", "Patches sent to the status of domains.",
+        DomainStatusWriter.getPatchesSent());
+    addCounter(sb, "domain_status_patches_suppressed_total",
+        "Domain status changes held back to be combined with later changes.",
+        DomainStatusWriter.getPatchesSuppressed());
+    addCounter(sb, "domain_events_self_induced_total",
+        "Domain watch events caused only by the operator's own status writes, and so not processed.",
+        DomainStatusWriter.getSelfInducedEventCount());
+    addAccessReviewCacheCounters(sb, "rest_access_review_cache_hits_total",
+        "REST server token and access reviews answered from the cache.", AccessReviewCache::getHits);
+    addAccessReviewCacheCounters(sb, "rest_access_review_cache_misses_total",
+        "REST server token and access reviews not found in the cache, and so made by Kubernetes.",
+        AccessReviewCache::getMisses);
+    LOGGER.exiting();
+    return sb.toString();
+  }
+
+  private <T> void addHistograms(StringBuilder sb, String name, String help, String label,
+                                 Map<String, T> sources, Function<T, Histogram> getHistogram) {
+    addHeader(sb, name, help, "histogram");
+    double[] bounds = Histogram.getBucketBounds();
+    for (Map.Entry<String, T> entry : sources.entrySet()) {
+      Histogram histogram = getHistogram.apply(entry.getValue());
+      String labels = label + "=\"" + escape(entry.getKey()) + "\"";
+      long[] counts = histogram.getCumulativeCounts();
+      for (int i = 0; i < bounds.length; i++) {
+        String bucketLabels = labels + ",le=\"" + formatBound(bounds[i]) + "\"";
+        addSample(sb, name + "_bucket", bucketLabels, Long.toString(counts[i]));
+      }
+      addSample(sb, name + "_bucket", labels + ",le=\"+Inf\"", Long.toString(histogram.getCount()));
+      addSample(sb, name + "_sum", labels, Double.toString(histogram.getSumSeconds()));
+      addSample(sb, name + "_count", labels, Long.toString(histogram.getCount()));
+    }
+  }
+
+  private void addCounters(StringBuilder sb, String name, String help,
+                           Map<String, WatchStreamMetrics> streams, ToLongFunction<WatchStreamMetrics> getValue) {
+    addHeader(sb, name, help, "counter");
+    for (Map.Entry<String, WatchStreamMetrics> entry : streams.entrySet()) {
+      addSample(sb, name, "stream=\"" + escape(entry.getKey()) + "\"",
+          Long.toString(getValue.applyAsLong(entry.getValue())));
+    }
+  }
+
+  private void addLagGauges(StringBuilder sb, String name, String help,
+                            Map<String, WatchStreamMetrics> streams, ToLongFunction<WatchStreamMetrics> getMillis) {
+    addHeader(sb, name, help, "gauge");
+    for (Map.Entry<String, WatchStreamMetrics> entry : streams.entrySet()) {
+      addSample(sb, name, "stream=\"" + escape(entry.getKey()) + "\"",
+          Double.toString(getMillis.applyAsLong(entry.getValue()) / (double) TimeUnit.SECONDS.toMillis(1)));
+    }
+  }
+
+  private void addGauges(StringBuilder sb, String name, String help,
+                         Map<String, ExecutorGauges> executors, ToIntFunction<ExecutorGauges> getValue) {
+    addHeader(sb, name, help, "gauge");
+    for (Map.Entry<String, ExecutorGauges> entry : executors.entrySet()) {
+      addSample(sb, name, "executor=\"" + escape(entry.getKey()) + "\"",
+          Integer.toString(getValue.applyAsInt(entry.getValue())));
+    }
+  }
+
+  private void addCounter(StringBuilder sb, String name, String help, long value) {
+    addHeader(sb, name, help, "counter");
+    addSample(sb, name, "", Long.toString(value));
+  }
+
+  private void addAccessReviewCacheCounters(StringBuilder sb, String name, String help,
+                                            ToLongFunction<AccessReviewCache<?>> getValue) {
+    addHeader(sb, name, help, "counter");
+    for (Map.Entry<String, AccessReviewCache<?>> entry : AccessReviewCache.getAll().entrySet()) {
+      addSample(sb, name, "cache=\"" + escape(entry.getKey()) + "\"",
+          Long.toString(getValue.applyAsLong(entry.getValue())));
+    }
+  }
+
+  private void addCircuitBreakerGauges(StringBuilder sb) {
+    String name = "api_circuit_breaker_state";
+    addHeader(sb, name, "State of the circuit breaker for each kind of Kubernetes API call in each namespace: "
+        + "0 closed, 1 open, 2 half-open.", "gauge");
+    for (CircuitBreaker breaker : CircuitBreaker.getAll()) {
+      addSample(sb, name,
+          "call=\"" + escape(breaker.getCall()) + "\",namespace=\"" + escape(getNamespace(breaker)) + "\"",
+          Integer.toString(breaker.getState().ordinal()));
+    }
+  }
+
+  private String getNamespace(CircuitBreaker breaker) {
+    return Optional.ofNullable(breaker.getNamespace()).orElse("");
+  }
+
+  private void addLongestSuspendedGauges(StringBuilder sb) {
+    String name = "fiber_longest_suspended_seconds";
+    addHeader(sb, name, "Longest time for which a running fiber of each kind of fiber gate has been suspended.",
+        "gauge");
+    for (Map.Entry<String, Map<String, FiberGate>> purpose : DomainProcessorImpl.getFiberGates().entrySet()) {
+      long longest = 0;
+      for (FiberGate gate : purpose.getValue().values()) {
+        for (Fiber fiber : gate.getCurrentFibers().values()) {
+          longest = Math.max(longest, fiber.getStatus().getSuspendedNanos());
+        }
+      }
+      addSample(sb, name, "gate=\"" + escape(purpose.getKey()) + "\"",
+          Double.toString(longest / (double) TimeUnit.SECONDS.toNanos(1)));
+    }
+  }
+
+  private void addHeader(StringBuilder sb, String name, String help, String type) {
+    sb.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+    sb.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+  }
+
+  private void addSample(StringBuilder sb, String name, String labels, String value) {
+    sb.append(PREFIX).append(name);
+    if (!labels.isEmpty()) {
+      sb.append('{').append(labels).append('}');
+    }
+    sb.append(' ').append(value).append('\n');
+  }
+}
@@ -5,11 +5,15 @@ package oracle.kubernetes.operator.rest.resource;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
+import org.glassfish.jersey.server.ManagedAsync;
 
 /**
  * ScaleResource is a jaxrs resource that implements the REST api for the
@@ -33,17 +37,25 @@ public class ScaleClusterResource extends BaseResource {
   /**
    * Scale this WebLogic cluster up or down. This method configures the specified numer of managed
    * servers at both the Kubernetes and WebLogic levels, then returns. It does not wait for the new
-   * managed servers to start or removed managed servers to stop.
+   * managed servers to start or removed managed servers to stop. The request is completed
+   * asynchronously, so that a burst of scaling requests does not hold the server's request threads.
    *
    * @param params - a ScaleClusterParamsModel that specifies the desired number of managed servers
    *     in the cluster
+   * @param response - the suspended response, which is completed once the domain has been updated
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
-  public void post(final ScaleClusterParamsModel params) {
+  @ManagedAsync
+  public void post(final ScaleClusterParamsModel params, @Suspended AsyncResponse response) {
+    resume(response, () -> scale(params));
+  }
+
+  private Response scale(ScaleClusterParamsModel params) {
     LOGGER.entering(href(), params);
     getBackend().scaleCluster(getDomainUid(), getCluster(), params.getManagedServerCount());
     LOGGER.exiting();
+    return Response.noContent().build();
   }
 
   private String getCluster() {
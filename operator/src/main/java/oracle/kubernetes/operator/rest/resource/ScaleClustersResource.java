@@ -0,0 +1,77 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import java.util.Collections;
+import java.util.List;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.MediaType;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.model.ClusterScaleParamsModel;
+import oracle.kubernetes.operator.rest.model.ClusterScaleResultModel;
+import oracle.kubernetes.operator.rest.model.CollectionModel;
+import oracle.kubernetes.operator.rest.model.ScaleClustersParamsModel;
+import org.glassfish.jersey.server.ManagedAsync;
+
+/**
+ * ScaleClustersResource is a jaxrs resource that implements the REST api for the
+ * /operator/{version}/scale path. It can be used to scale several WebLogic clusters, in one or more
+ * domains, with a single request.
+ */
+public class ScaleClustersResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Construct a ScaleClustersResource.
+   *
+   * @param parent - the jaxrs resource that parents this resource.
+   * @param pathSegment - the last path segment in the url to this resource.
+   */
+  public ScaleClustersResource(BaseResource parent, String pathSegment) {
+    super(parent, pathSegment);
+  }
+
+  /**
+   * Scale the specified WebLogic clusters up or down. Each cluster is validated and scaled on its own,
+   * so that one invalid request does not prevent the others; the changes to the clusters of one domain
+   * are applied together. The request is completed asynchronously.
+   *
+   * @param params - a ScaleClustersParamsModel that lists the clusters and their desired number of
+   *     managed servers
+   * @param response - the suspended response, which is completed with a collection of
+   *     ClusterScaleResultModels describing the outcome for each cluster
+   */
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  @ManagedAsync
+  public void post(final ScaleClustersParamsModel params, @Suspended AsyncResponse response) {
+    resume(response, () -> scale(params));
+  }
+
+  private CollectionModel<ClusterScaleResultModel> scale(ScaleClustersParamsModel params) {
+    LOGGER.entering(href(), params);
+    CollectionModel<ClusterScaleResultModel> collection = new CollectionModel<>();
+    for (ClusterScaleResultModel item : getBackend().scaleClusters(getRequests(params))) {
+      collection.addItem(item);
+    }
+    addSelfAndParentLinks(collection);
+    LOGGER.exiting(collection);
+    return collection;
+  }
+
+  private List<ClusterScaleParamsModel> getRequests(ScaleClustersParamsModel params) {
+    if (params == null || params.getClusters() == null) {
+      return Collections.emptyList();
+    }
+    return params.getClusters();
+  }
+}
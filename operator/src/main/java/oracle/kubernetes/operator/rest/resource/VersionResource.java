@@ -49,6 +49,7 @@ public class VersionResource extends BaseResource {
             VersionUtils.getLifecycle(version));
     addSelfAndParentLinks(item);
     addLink(item, "domains");
+    addActionLink(item, "scale");
     addLink(item, "swagger");
     LOGGER.exiting(item);
     return item;
@@ -67,6 +68,19 @@ public class VersionResource extends BaseResource {
     return result;
   }
 
+  /**
+   * Construct and return the 'scale' jaxrs child resource.
+   *
+   * @return the scale sub resource.
+   */
+  @Path("scale")
+  public ScaleClustersResource getScaleClustersResource() {
+    LOGGER.entering(href());
+    ScaleClustersResource result = new ScaleClustersResource(this, "scale");
+    LOGGER.exiting(result);
+    return result;
+  }
+
   /**
    * Construct and return the 'swagger' jaxrs child resource.
    *
@@ -16,11 +16,10 @@ public class BeforeAdminServiceStep extends Step {
 
   @Override
   public NextAction apply(Packet packet) {
-    WlsDomainConfig domainTopology =
-        (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    WlsDomainConfig domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     String adminServerName = domainTopology.getAdminServerName();
-    packet.put(ProcessingConstants.SERVER_NAME, adminServerName);
-    packet.put(ProcessingConstants.SERVER_SCAN, domainTopology.getServerConfig(adminServerName));
+    packet.put(ProcessingConstants.SERVER_NAME_KEY, adminServerName);
+    packet.put(ProcessingConstants.SERVER_SCAN_KEY, domainTopology.getServerConfig(adminServerName));
 
     return doNext(packet);
   }
@@ -26,12 +26,12 @@ public class ClusterServicesStep extends Step {
     Collection<StepAndPacket> startDetails = new ArrayList<>();
 
     // Add cluster services
-    WlsDomainConfig config = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    WlsDomainConfig config = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     if (config != null) {
       for (Map.Entry<String, WlsClusterConfig> entry : config.getClusterConfigs().entrySet()) {
         Packet p = packet.clone();
         WlsClusterConfig clusterConfig = entry.getValue();
-        p.put(ProcessingConstants.CLUSTER_NAME, clusterConfig.getClusterName());
+        p.put(ProcessingConstants.CLUSTER_NAME_KEY, clusterConfig.getClusterName());
 
         startDetails.add(new StepAndPacket(ServiceHelper.createForClusterStep(null), p));
       }
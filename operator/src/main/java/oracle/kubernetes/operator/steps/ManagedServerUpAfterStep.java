@@ -26,9 +26,7 @@ public class ManagedServerUpAfterStep extends Step {
 
   @Override
   public NextAction apply(Packet packet) {
-    @SuppressWarnings("unchecked")
-    Map<String, StepAndPacket> rolling =
-        (Map<String, StepAndPacket>) packet.get(ProcessingConstants.SERVERS_TO_ROLL);
+    Map<String, StepAndPacket> rolling = packet.getValue(ProcessingConstants.SERVERS_TO_ROLL_KEY);
 
     if (LOGGER.isFineEnabled()) {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
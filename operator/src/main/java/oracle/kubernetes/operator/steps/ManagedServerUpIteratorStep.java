@@ -7,9 +7,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
 import oracle.kubernetes.operator.helpers.PodHelper;
@@ -23,6 +25,7 @@ import oracle.kubernetes.weblogic.domain.model.Domain;
 
 public class ManagedServerUpIteratorStep extends Step {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final int DEFAULT_MAX_CONCURRENT_SERVER_STARTS = 20;
 
   private final Collection<ServerStartupInfo> cols;
 
@@ -43,6 +46,12 @@ public class ManagedServerUpIteratorStep extends Step {
         : ServiceHelper.createForServerStep(PodHelper.createManagedPodStep(next));
   }
 
+  private static int getMaxConcurrentServerStarts() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> parameters.getMainTuning().maxConcurrentServerStarts)
+        .orElse(DEFAULT_MAX_CONCURRENT_SERVER_STARTS);
+  }
+
   @Override
   protected String getDetail() {
     List<String> serversToStart = new ArrayList<>();
@@ -56,15 +65,15 @@ public class ManagedServerUpIteratorStep extends Step {
   public NextAction apply(Packet packet) {
     Collection<StepAndPacket> startDetails = new ArrayList<>();
     Map<String, StepAndPacket> rolling = new ConcurrentHashMap<>();
-    packet.put(ProcessingConstants.SERVERS_TO_ROLL, rolling);
+    packet.put(ProcessingConstants.SERVERS_TO_ROLL_KEY, rolling);
 
     for (ServerStartupInfo ssi : cols) {
       Packet p = packet.clone();
-      p.put(ProcessingConstants.SERVER_SCAN, ssi.serverConfig);
-      p.put(ProcessingConstants.CLUSTER_NAME, ssi.getClusterName());
-      p.put(ProcessingConstants.ENVVARS, ssi.getEnvironment());
+      p.put(ProcessingConstants.SERVER_SCAN_KEY, ssi.serverConfig);
+      p.put(ProcessingConstants.CLUSTER_NAME_KEY, ssi.getClusterName());
+      p.put(ProcessingConstants.ENVVARS_KEY, ssi.getEnvironment());
 
-      p.put(ProcessingConstants.SERVER_NAME, ssi.serverConfig.getName());
+      p.put(ProcessingConstants.SERVER_NAME_KEY, ssi.serverConfig.getName());
 
       startDetails.add(new StepAndPacket(bringManagedServerUp(ssi, null), p));
     }
@@ -88,6 +97,7 @@ public class ManagedServerUpIteratorStep extends Step {
     if (startDetails.isEmpty()) {
       return doNext(packet);
     }
-    return doForkJoin(new ManagedServerUpAfterStep(getNext()), packet, startDetails);
+    return doForkJoin(
+        new ManagedServerUpAfterStep(getNext()), packet, startDetails, getMaxConcurrentServerStarts());
   }
 }
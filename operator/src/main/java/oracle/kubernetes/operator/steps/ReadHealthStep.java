@@ -4,11 +4,16 @@
 package oracle.kubernetes.operator.steps;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,6 +22,7 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
 import oracle.kubernetes.operator.Pair;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.http.HttpClient;
@@ -30,6 +36,7 @@ import oracle.kubernetes.operator.rest.ScanCache;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -39,7 +46,7 @@ import oracle.kubernetes.weblogic.domain.model.SubsystemHealth;
 import org.joda.time.DateTime;
 
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
-import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP_KEY;
 
 public class ReadHealthStep extends Step {
 
@@ -47,6 +54,7 @@ public class ReadHealthStep extends Step {
   public static final String OVERALL_HEALTH_FOR_SERVER_OVERLOADED =
       OVERALL_HEALTH_NOT_AVAILABLE + " (possibly overloaded)";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final int DEFAULT_READ_TIMEOUT_SECONDS = 10;
 
   private ReadHealthStep(Step next) {
     super(next);
@@ -80,7 +88,7 @@ public class ReadHealthStep extends Step {
     V1ObjectMeta meta = dom.getMetadata();
     String namespace = meta.getNamespace();
 
-    String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+    String serverName = packet.getValue(ProcessingConstants.SERVER_NAME_KEY);
 
     String secretName = dom.getWebLogicCredentialsSecretName();
 
@@ -110,13 +118,12 @@ public class ReadHealthStep extends Step {
       try {
         HttpClient httpClient = (HttpClient) packet.get(HttpClient.KEY);
         DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
-        WlsDomainConfig domainConfig =
-            (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+        WlsDomainConfig domainConfig = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
         if (domainConfig == null) {
           Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid());
           domainConfig = scan.getWlsDomainConfig();
         }
-        String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+        String serverName = packet.getValue(ProcessingConstants.SERVER_NAME_KEY);
         WlsServerConfig serverConfig = domainConfig.getServerConfig(serverName);
 
         if (serverConfig == null) {
@@ -140,47 +147,84 @@ public class ReadHealthStep extends Step {
                   serverConfig.getAdminProtocolChannelName(),
                   serverConfig.getListenPort());
           if (serviceUrl != null) {
-            Result result =
-                httpClient.executePostUrlOnServiceClusterIP(
-                    getRetrieveHealthSearchUrl(),
-                    serviceUrl,
-                    getRetrieveHealthSearchPayload(),
-                    false);
-
-            Pair<String, ServerHealth> pair = createServerHealthFromResult(result);
-
-            String state = pair.getLeft();
-            if (state != null && !state.isEmpty()) {
-              ConcurrentMap<String, String> serverStateMap =
-                  (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
-              info.updateLastKnownServerStatus(serverName, state);
-              serverStateMap.put(serverName, state);
+            CompletableFuture<Result> result = sendReadHealthRequest(info, httpClient, serviceUrl);
+            if (result.isDone()) {
+              recordServerHealth(packet, info, serverName, result.join());
+            } else {
+              return doSuspend(fiber -> result.whenComplete((r, t) -> resume(fiber, packet, info, serverName, r, t)));
             }
-
-            @SuppressWarnings("unchecked")
-            ConcurrentMap<String, ServerHealth> serverHealthMap =
-                (ConcurrentMap<String, ServerHealth>)
-                    packet.get(ProcessingConstants.SERVER_HEALTH_MAP);
-
-            serverHealthMap.put(
-                (String) packet.get(ProcessingConstants.SERVER_NAME), pair.getRight());
-            AtomicInteger remainingServersHealthToRead =
-                packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
-            remainingServersHealthToRead.getAndDecrement();
           }
         }
         return doNext(packet);
       } catch (Throwable t) {
-        // do not retry for health check
-        LOGGER.info(
-            (LoggingFilter) packet.get(LoggingFilter.LOGGING_FILTER_PACKET_KEY),
-            MessageKeys.WLS_HEALTH_READ_FAILED,
-            packet.get(ProcessingConstants.SERVER_NAME),
-            t);
+        logReadFailure(packet, t);
         return doNext(packet);
       }
     }
 
+    // The requests for the servers of a domain share the domain's limiter, so that a large domain cannot
+    // open an unbounded number of connections at once. A request waits for its turn no longer than the
+    // read timeout.
+    private CompletableFuture<Result> sendReadHealthRequest(
+        DomainPresenceInfo info, HttpClient httpClient, String serviceUrl) {
+      Duration timeout = Duration.ofSeconds(getReadTimeoutSeconds());
+      Supplier<CompletableFuture<Result>> request =
+          () -> httpClient.executePostUrlOnServiceClusterIPAsync(
+                    getRetrieveHealthSearchUrl(),
+                    serviceUrl,
+                    getRetrieveHealthSearchPayload(),
+                    timeout);
+      return info == null ? request.get() : info.getServerReadLimiter().submit(request, timeout);
+    }
+
+    private void resume(
+        Fiber fiber, Packet packet, DomainPresenceInfo info, String serverName, Result result, Throwable t) {
+      try {
+        if (t != null) {
+          logReadFailure(packet, t);
+        } else {
+          recordServerHealth(packet, info, serverName, result);
+        }
+      } catch (Throwable e) {
+        logReadFailure(packet, e);
+      }
+      fiber.resume(packet);
+    }
+
+    private void recordServerHealth(Packet packet, DomainPresenceInfo info, String serverName, Result result)
+        throws IOException {
+      Pair<String, ServerHealth> pair = createServerHealthFromResult(result);
+
+      String state = pair.getLeft();
+      if (state != null && !state.isEmpty()) {
+        ConcurrentMap<String, String> serverStateMap = packet.getValue(SERVER_STATE_MAP_KEY);
+        info.updateLastKnownServerStatus(serverName, state);
+        serverStateMap.put(serverName, state);
+      }
+
+      ConcurrentMap<String, ServerHealth> serverHealthMap = packet.getValue(ProcessingConstants.SERVER_HEALTH_MAP_KEY);
+
+      serverHealthMap.put(serverName, pair.getRight());
+      AtomicInteger remainingServersHealthToRead =
+          packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ_KEY);
+      remainingServersHealthToRead.getAndDecrement();
+    }
+
+    private void logReadFailure(Packet packet, Throwable t) {
+      // do not retry for health check
+      LOGGER.info(
+          (LoggingFilter) packet.get(LoggingFilter.LOGGING_FILTER_PACKET_KEY),
+          MessageKeys.WLS_HEALTH_READ_FAILED,
+          packet.get(ProcessingConstants.SERVER_NAME),
+          t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+    }
+
+    private int getReadTimeoutSeconds() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(parameters -> parameters.getMainTuning().statusUpdateTimeoutSeconds)
+          .orElse(DEFAULT_READ_TIMEOUT_SECONDS);
+    }
+
     private Pair<String, ServerHealth> createServerHealthFromResult(Result restResult)
         throws IOException {
       if (restResult.isSuccessful()) {
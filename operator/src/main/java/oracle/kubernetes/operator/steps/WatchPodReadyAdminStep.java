@@ -25,8 +25,7 @@ public class WatchPodReadyAdminStep extends Step {
   @Override
   public NextAction apply(Packet packet) {
     DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
-    WlsDomainConfig domainTopology =
-        (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    WlsDomainConfig domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     V1Pod adminPod = info.getServerPod(domainTopology.getAdminServerName());
 
     PodAwaiterStepFactory pw = podAwaiterStepFactory;
@@ -0,0 +1,350 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.LabelConstants;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+/**
+ * An in-memory store of Kubernetes resources of a single type, partitioned by namespace. Each namespace
+ * partition is filled from the results of the initial list call and then kept current by the watch events
+ * for that namespace. A resource is only replaced by an event that carries a resource version at least as high
+ * as the one already stored, so readers never see an update go backwards. Likewise, the resource version at which
+ * a resource was deleted is remembered until a later list supersedes it, so that an outdated event or list page
+ * cannot bring the resource back.
+ *
+ * <p>Resources are indexed by name and by their domain UID, which is normally the value of their domain UID
+ * label.
+ *
+ * @param <T> the type of resource stored
+ */
+public class ResourceCache<T> implements WatchListener<T> {
+  private final Function<T, V1ObjectMeta> getMetadata;
+  private final Function<T, String> getDomainUid;
+  private final Map<String, NamespaceStore<T>> stores = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a cache for a resource type whose resources are labeled with their domain UID.
+   * @param getMetadata a function to select the metadata from a resource
+   */
+  public ResourceCache(Function<T, V1ObjectMeta> getMetadata) {
+    this(getMetadata, r -> getDomainUidLabel(getMetadata.apply(r)));
+  }
+
+  /**
+   * Creates a cache for a resource type.
+   * @param getMetadata a function to select the metadata from a resource
+   * @param getDomainUid a function to select the domain UID by which a resource is indexed, if any
+   */
+  public ResourceCache(Function<T, V1ObjectMeta> getMetadata, Function<T, String> getDomainUid) {
+    this.getMetadata = getMetadata;
+    this.getDomainUid = getDomainUid;
+  }
+
+  /**
+   * Replaces the contents of a namespace partition with the result of a list call, and marks the
+   * partition as synchronized.
+   * @param namespace the namespace which was listed
+   * @param items the resources returned by the list call, or null if there are none
+   * @param resourceVersion the resource version of the list
+   */
+  public void replace(String namespace, Collection<T> items, String resourceVersion) {
+    replacePage(namespace, items, resourceVersion, true, true);
+  }
+
+  /**
+   * Adds one page of the result of a list call to a namespace partition. Once the last page has been added,
+   * the partition holds the listed resources and is marked as synchronized; resources which were not listed are
+   * discarded, unless a watch event has stored them with a resource version newer than that of the list.
+   * @param namespace the namespace which was listed
+   * @param items the resources on the page, or null if there are none
+   * @param resourceVersion the resource version of the list
+   * @param isFirstPage true if this is the first page of the list
+   * @param isLastPage true if this is the last page of the list
+   */
+  public void replacePage(
+      String namespace, Collection<T> items, String resourceVersion, boolean isFirstPage, boolean isLastPage) {
+    getStore(namespace).replacePage(
+        Optional.ofNullable(items).orElse(Collections.emptyList()), resourceVersion, isFirstPage, isLastPage);
+  }
+
+  /**
+   * Returns true if the namespace partition has been filled from a list call and may be read
+   * in place of listing the resources.
+   * @param namespace the namespace to check
+   * @return true if the namespace contents are known
+   */
+  public boolean isSynced(String namespace) {
+    return Optional.ofNullable(stores.get(namespace)).map(NamespaceStore::isSynced).orElse(false);
+  }
+
+  /**
+   * Returns the highest resource version seen for the namespace, or an empty string if none is known.
+   * @param namespace the namespace
+   * @return a resource version
+   */
+  public String getResourceVersion(String namespace) {
+    return Optional.ofNullable(stores.get(namespace)).map(NamespaceStore::getResourceVersion).orElse("");
+  }
+
+  /**
+   * Returns the named resource.
+   * @param namespace the namespace containing the resource
+   * @param name the name of the resource
+   * @return the stored resource, or null if it is not present
+   */
+  public T get(String namespace, String name) {
+    return Optional.ofNullable(stores.get(namespace)).map(s -> s.get(name)).orElse(null);
+  }
+
+  /**
+   * Returns all resources in the namespace.
+   * @param namespace the namespace
+   * @return a snapshot of the stored resources
+   */
+  public List<T> list(String namespace) {
+    return Optional.ofNullable(stores.get(namespace)).map(NamespaceStore::list).orElse(Collections.emptyList());
+  }
+
+  /**
+   * Returns the resources in the namespace indexed by the specified domain UID.
+   * @param namespace the namespace
+   * @param domainUid the domain UID
+   * @return a snapshot of the matching resources
+   */
+  public List<T> listForDomain(String namespace, String domainUid) {
+    return Optional.ofNullable(stores.get(namespace))
+        .map(s -> s.listForDomain(domainUid))
+        .orElse(Collections.emptyList());
+  }
+
+  /**
+   * Returns the namespaces for which the cache holds a partition.
+   * @return a set of namespace names
+   */
+  public Set<String> getNamespaces() {
+    return Collections.unmodifiableSet(stores.keySet());
+  }
+
+  /**
+   * Discards everything known about the namespace.
+   * @param namespace the namespace
+   */
+  public void removeNamespace(String namespace) {
+    stores.remove(namespace);
+  }
+
+  @Override
+  public void receivedResponse(Watch.Response<T> response) {
+    V1ObjectMeta metadata = Optional.ofNullable(response.object).map(getMetadata).orElse(null);
+    if (metadata == null || metadata.getNamespace() == null) {
+      return;
+    }
+
+    switch (response.type) {
+      case "ADDED":
+      case "MODIFIED":
+        getStore(metadata.getNamespace()).update(response.object);
+        break;
+      case "DELETED":
+        getStore(metadata.getNamespace()).delete(response.object);
+        break;
+      default:
+    }
+  }
+
+  /**
+   * Returns a listener that updates this cache before passing each event to the specified listener, so that
+   * the listener sees the cache already containing the reported change.
+   * @param listener the listener to receive events after the cache
+   * @return a combined listener
+   */
+  public WatchListener<T> andThen(WatchListener<T> listener) {
+    return response -> {
+      receivedResponse(response);
+      listener.receivedResponse(response);
+    };
+  }
+
+  private NamespaceStore<T> getStore(String namespace) {
+    return stores.computeIfAbsent(namespace, n -> new NamespaceStore<>(getMetadata, getDomainUid));
+  }
+
+  private static String getDomainUidLabel(V1ObjectMeta metadata) {
+    return Optional.ofNullable(metadata.getLabels()).map(l -> l.get(LabelConstants.DOMAINUID_LABEL)).orElse(null);
+  }
+
+  private static long toLong(String resourceVersion) {
+    try {
+      return isNullOrEmpty(resourceVersion) ? 0 : Long.parseLong(resourceVersion);
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private static class NamespaceStore<T> {
+    private final Function<T, V1ObjectMeta> getMetadata;
+    private final Function<T, String> getDomainUid;
+    private final Map<String, T> byName = new HashMap<>();
+    private final Map<String, Set<String>> byDomainUid = new HashMap<>();
+    private final Set<String> listedNames = new HashSet<>();
+    private final Map<String, Long> deletedVersions = new HashMap<>();
+    private long listResourceVersion;
+    private long resourceVersion;
+    private boolean synced;
+
+    NamespaceStore(Function<T, V1ObjectMeta> getMetadata, Function<T, String> getDomainUid) {
+      this.getMetadata = getMetadata;
+      this.getDomainUid = getDomainUid;
+    }
+
+    synchronized void replacePage(
+        Collection<T> items, String listResourceVersion, boolean isFirstPage, boolean isLastPage) {
+      if (isFirstPage) {
+        listedNames.clear();
+        synced = false;
+      }
+      for (T item : items) {
+        listedNames.add(getMetadata.apply(item).getName());
+        if (!isDeletedSince(getMetadata.apply(item))) {
+          storeIfNotOlder(item);
+        }
+      }
+      if (isLastPage) {
+        removeUnlisted(toLong(listResourceVersion));
+        recordListed(toLong(listResourceVersion));
+        synced = true;
+      }
+    }
+
+    // once a list has been taken, any event as old as it is outdated, so older deletions need not be remembered
+    private void recordListed(long version) {
+      listResourceVersion = Math.max(listResourceVersion, version);
+      resourceVersion = Math.max(resourceVersion, version);
+      deletedVersions.values().removeIf(deleted -> deleted <= listResourceVersion);
+    }
+
+    // a resource missing from the list is kept only if a watch event stored it after the list was taken
+    private void removeUnlisted(long listResourceVersion) {
+      for (String name : new ArrayList<>(byName.keySet())) {
+        if (!listedNames.contains(name) && getStoredResourceVersion(name) <= listResourceVersion) {
+          remove(name);
+        }
+      }
+      listedNames.clear();
+    }
+
+    synchronized boolean isSynced() {
+      return synced;
+    }
+
+    synchronized String getResourceVersion() {
+      return resourceVersion == 0 ? "" : Long.toString(resourceVersion);
+    }
+
+    synchronized T get(String name) {
+      return byName.get(name);
+    }
+
+    synchronized List<T> list() {
+      return new ArrayList<>(byName.values());
+    }
+
+    synchronized List<T> listForDomain(String domainUid) {
+      List<T> result = new ArrayList<>();
+      for (String name : byDomainUid.getOrDefault(domainUid, Collections.emptySet())) {
+        Optional.ofNullable(byName.get(name)).ifPresent(result::add);
+      }
+      return result;
+    }
+
+    synchronized void update(T resource) {
+      V1ObjectMeta metadata = getMetadata.apply(resource);
+      if (!isDeletedSince(metadata) && !isOlderThanList(metadata)) {
+        storeIfNotOlder(resource);
+      }
+      trackResourceVersion(metadata);
+    }
+
+    synchronized void delete(T resource) {
+      V1ObjectMeta metadata = getMetadata.apply(resource);
+      if (!isOlderThanStored(metadata)) {
+        remove(metadata.getName());
+        deletedVersions.merge(metadata.getName(), toLong(metadata.getResourceVersion()), Math::max);
+      }
+      trackResourceVersion(metadata);
+    }
+
+    private boolean isDeletedSince(V1ObjectMeta metadata) {
+      return Optional.ofNullable(deletedVersions.get(metadata.getName()))
+          .map(deleted -> deleted >= toLong(metadata.getResourceVersion()))
+          .orElse(false);
+    }
+
+    // a resource which is not stored, although a list was taken after the event, was deleted before that list
+    private boolean isOlderThanList(V1ObjectMeta metadata) {
+      return listResourceVersion > 0
+          && !byName.containsKey(metadata.getName())
+          && toLong(metadata.getResourceVersion()) <= listResourceVersion;
+    }
+
+    private void storeIfNotOlder(T resource) {
+      V1ObjectMeta metadata = getMetadata.apply(resource);
+      if (!isOlderThanStored(metadata)) {
+        unindex(metadata.getName());
+        store(resource);
+      }
+    }
+
+    private boolean isOlderThanStored(V1ObjectMeta metadata) {
+      return getStoredResourceVersion(metadata.getName()) > toLong(metadata.getResourceVersion());
+    }
+
+    private long getStoredResourceVersion(String name) {
+      return Optional.ofNullable(byName.get(name))
+          .map(getMetadata)
+          .map(stored -> toLong(stored.getResourceVersion()))
+          .orElse(0L);
+    }
+
+    private void remove(String name) {
+      unindex(name);
+      byName.remove(name);
+    }
+
+    private void trackResourceVersion(V1ObjectMeta metadata) {
+      resourceVersion = Math.max(resourceVersion, toLong(metadata.getResourceVersion()));
+    }
+
+    private void store(T resource) {
+      V1ObjectMeta metadata = getMetadata.apply(resource);
+      byName.put(metadata.getName(), resource);
+      deletedVersions.remove(metadata.getName());
+      Optional.ofNullable(getDomainUid.apply(resource))
+          .ifPresent(uid -> byDomainUid.computeIfAbsent(uid, k -> new HashSet<>()).add(metadata.getName()));
+    }
+
+    private void unindex(String name) {
+      Optional.ofNullable(byName.get(name))
+          .map(getDomainUid)
+          .map(byDomainUid::get)
+          .ifPresent(names -> names.remove(name));
+    }
+  }
+}
@@ -0,0 +1,51 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+/**
+ * The operator-wide set of resource caches, one per watched resource type. The caches are filled by the
+ * operator's watchers and are read by processing that would otherwise need to list resources.
+ */
+public class SharedInformers {
+  private static final SharedInformers INSTANCE = new SharedInformers();
+
+  private final ResourceCache<V1Pod> pods = new ResourceCache<>(V1Pod::getMetadata);
+  private final ResourceCache<V1Service> services = new ResourceCache<>(V1Service::getMetadata);
+  private final ResourceCache<Domain> domains = new ResourceCache<>(Domain::getMetadata, SharedInformers::getDomainUid);
+
+  public static SharedInformers getInstance() {
+    return INSTANCE;
+  }
+
+  // domains are indexed by the UID they define, rather than by a label
+  private static String getDomainUid(Domain domain) {
+    return domain.getSpec() == null ? null : domain.getDomainUid();
+  }
+
+  public ResourceCache<V1Pod> getPods() {
+    return pods;
+  }
+
+  public ResourceCache<V1Service> getServices() {
+    return services;
+  }
+
+  public ResourceCache<Domain> getDomains() {
+    return domains;
+  }
+
+  /**
+   * Discards all cached resources for the namespace.
+   * @param namespace the namespace no longer being managed
+   */
+  public void removeNamespace(String namespace) {
+    pods.removeNamespace(namespace);
+    services.removeNamespace(namespace);
+    domains.removeNamespace(namespace);
+  }
+}
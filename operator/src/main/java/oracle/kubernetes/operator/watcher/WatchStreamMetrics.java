@@ -0,0 +1,90 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters for a single watch stream: the number of events received, the number of times the watch
+ * was re-established, and the delay between the end of one watch request and the start of the next.
+ */
+public class WatchStreamMetrics {
+  private static final Map<String, WatchStreamMetrics> STREAMS = new ConcurrentHashMap<>();
+
+  private final String streamId;
+  private final AtomicLong eventsReceived = new AtomicLong();
+  private final AtomicLong reconnects = new AtomicLong();
+  private final AtomicLong lastReconnectLagMillis = new AtomicLong();
+  private final AtomicLong maxReconnectLagMillis = new AtomicLong();
+
+  private WatchStreamMetrics(String streamId) {
+    this.streamId = streamId;
+  }
+
+  /**
+   * Creates and reports new metrics for the specified stream, replacing any reported for an earlier
+   * watcher of the same stream.
+   * @param streamId an identifier for the stream, such as the watched type and namespace
+   * @return the metrics for the stream
+   */
+  public static WatchStreamMetrics register(String streamId) {
+    WatchStreamMetrics metrics = new WatchStreamMetrics(streamId);
+    STREAMS.put(streamId, metrics);
+    return metrics;
+  }
+
+  /**
+   * Stops reporting these metrics, unless they have already been replaced by those of a newer watcher
+   * of the same stream.
+   */
+  public void unregister() {
+    STREAMS.remove(streamId, this);
+  }
+
+  /**
+   * Returns a snapshot of the metrics for all active streams, sorted by stream identifier.
+   * @return a map of stream identifier to metrics
+   */
+  public static Map<String, WatchStreamMetrics> getAll() {
+    return Collections.unmodifiableMap(new TreeMap<>(STREAMS));
+  }
+
+  public String getStreamId() {
+    return streamId;
+  }
+
+  public void recordEvent() {
+    eventsReceived.incrementAndGet();
+  }
+
+  /**
+   * Records that the watch has been re-established.
+   * @param lagMillis the time since the previous watch request ended
+   */
+  public void recordReconnect(long lagMillis) {
+    reconnects.incrementAndGet();
+    lastReconnectLagMillis.set(lagMillis);
+    maxReconnectLagMillis.accumulateAndGet(lagMillis, Math::max);
+  }
+
+  public long getEventsReceived() {
+    return eventsReceived.get();
+  }
+
+  public long getReconnects() {
+    return reconnects.get();
+  }
+
+  public long getLastReconnectLagMillis() {
+    return lastReconnectLagMillis.get();
+  }
+
+  public long getMaxReconnectLagMillis() {
+    return maxReconnectLagMillis.get();
+  }
+}
@@ -81,8 +81,7 @@ public class UpdateDynamicClusterStep extends Step {
         LOGGER.info(MessageKeys.WLS_UPDATE_CLUSTER_SIZE_STARTING, clusterName, targetClusterSize);
         HttpClient httpClient = (HttpClient) packet.get(HttpClient.KEY);
         DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
-        WlsDomainConfig domainTopology =
-            (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+        WlsDomainConfig domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
         WlsServerConfig adminConfig =
             domainTopology.getServerConfig(domainTopology.getAdminServerName());
 
@@ -3,9 +3,6 @@
 
 package oracle.kubernetes.operator.work;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Interface that allows components to hook up with each other.
  *
@@ -21,7 +18,10 @@ public interface Component {
    * @return Component
    */
   public static Component createFor(Object... objects) {
-    Map<Class<?>, Object> comps = new HashMap<Class<?>, Object>();
+    // components hold only a few objects, so parallel arrays searched in order beat a hash map
+    Class<?>[] keys = new Class<?>[objects.length];
+    Object[] values = new Object[objects.length];
+    int count = 0;
     Class<?> key = null;
     for (Object o : objects) {
       if (o != null) {
@@ -36,24 +36,41 @@ public interface Component {
         } else {
           k = o.getClass();
         }
-        if (comps.put(k, o) != null) {
+        if (indexOf(keys, count, k) >= 0) {
           throw new IllegalStateException();
         }
+        keys[count] = k;
+        values[count++] = o;
       }
     }
 
+    int size = count;
     return new Component() {
       @Override
       public <S> S getSpi(Class<S> spiType) {
-        Object o = comps.get(spiType);
-        if (o == null) {
-          return null;
-        }
-        return spiType.cast(o);
+        int i = indexOf(keys, size, spiType);
+        return i < 0 ? null : spiType.cast(values[i]);
       }
     };
   }
 
+  /**
+   * Returns the index of a key among the first entries of an array, or -1 if it is not present.
+   *
+   * @param keys the keys of a component
+   * @param size the number of keys in use
+   * @param key the key to find
+   * @return an index or -1
+   */
+  private static int indexOf(Class<?>[] keys, int size, Class<?> key) {
+    for (int i = 0; i < size; i++) {
+      if (keys[i] == key) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
   /**
    * Gets the specified SPI.
    *
@@ -3,10 +3,17 @@
 
 package oracle.kubernetes.operator.work;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -15,7 +22,9 @@ import java.util.concurrent.atomic.AtomicReference;
  */
 public class Engine {
   private static final int DEFAULT_THREAD_COUNT = 10;
+  private static final Map<String, ExecutorGauges> EXECUTOR_GAUGES = new ConcurrentHashMap<>();
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference();
+  private volatile StuckFiberDetector stuckFiberDetector;
 
   /**
    * Creates engine with the specified executor.
@@ -42,16 +51,52 @@ public class Engine {
    * @return executor service
    */
   public static ScheduledExecutorService wrappedExecutorService(String id, Container container) {
-    ScheduledThreadPoolExecutor threadPool =
-        new ScheduledThreadPoolExecutor(DEFAULT_THREAD_COUNT, new DaemonThreadFactory(id));
-    threadPool.setRemoveOnCancelPolicy(true);
+    return wrappedExecutorService(id, container, ExecutorMode.SCHEDULED);
+  }
+
+  /**
+   * wrapped executor service of the specified mode.
+   * @param id id
+   * @param container container
+   * @param mode the way in which the executor runs fibers and timers
+   * @return executor service
+   */
+  public static ScheduledExecutorService wrappedExecutorService(
+      String id, Container container, ExecutorMode mode) {
+    if (mode == ExecutorMode.WORK_STEALING) {
+      WorkStealingScheduledExecutor executor = new WorkStealingScheduledExecutor(id, getWorkStealingParallelism());
+      EXECUTOR_GAUGES.put(id, executor);
+      return wrap(container, executor);
+    }
+
+    GaugedScheduledThreadPool threadPool = new GaugedScheduledThreadPool(id);
+    EXECUTOR_GAUGES.put(id, threadPool);
     return wrap(container, threadPool);
   }
 
+  // an executor is reported until it is shut down, unless another with the same id has replaced it
+  static void unregisterExecutorGauges(String id, ExecutorGauges gauges) {
+    EXECUTOR_GAUGES.remove(id, gauges);
+  }
+
+  // steps may block their worker, so do not run fibers on fewer threads than the fixed pool would
+  private static int getWorkStealingParallelism() {
+    return Math.max(DEFAULT_THREAD_COUNT, Runtime.getRuntime().availableProcessors());
+  }
+
   private static ScheduledExecutorService wrap(Container container, ScheduledExecutorService ex) {
     return container != null ? ContainerResolver.getDefault().wrapExecutor(container, ex) : ex;
   }
 
+  /**
+   * Returns the gauges of each executor created by this class, sorted by executor id.
+   *
+   * @return a map of executor id to gauges
+   */
+  public static Map<String, ExecutorGauges> getExecutorGauges() {
+    return Collections.unmodifiableMap(new TreeMap<>(EXECUTOR_GAUGES));
+  }
+
   /**
    * Returns the executor.
    *
@@ -61,6 +106,26 @@ public class Engine {
     return threadPool.get();
   }
 
+  /**
+   * Sets the detector which is to watch the suspensions of this engine's top-level fibers, and starts it
+   * on this engine's executor. Any detector previously set is stopped.
+   *
+   * @param detector a stuck fiber detector, or null to stop detection
+   */
+  public void setStuckFiberDetector(StuckFiberDetector detector) {
+    if (stuckFiberDetector != null) {
+      stuckFiberDetector.stop();
+    }
+    stuckFiberDetector = detector;
+    if (detector != null) {
+      detector.start(getExecutor());
+    }
+  }
+
+  StuckFiberDetector getStuckFiberDetector() {
+    return stuckFiberDetector;
+  }
+
   void addRunnable(Fiber fiber) {
     getExecutor().execute(fiber);
   }
@@ -81,7 +146,76 @@ public class Engine {
     return new Fiber(this, parent);
   }
 
-  private static class DaemonThreadFactory implements ThreadFactory {
+  /** The ways in which an engine's executor may run fibers and timers. */
+  public enum ExecutorMode {
+    /** A fixed pool of threads, which take both ready and delayed tasks from a single queue. */
+    SCHEDULED,
+    /**
+     * A work-stealing pool, with as many threads as {@link #SCHEDULED} or one per available processor if
+     * that is more, which runs ready tasks, and a separate timer thread, which hands each delayed task to
+     * the pool when it becomes ready.
+     */
+    WORK_STEALING;
+
+    /**
+     * Returns the mode with the specified name, ignoring case, or {@link #SCHEDULED} if there is none.
+     *
+     * @param name the name of a mode; may be null
+     * @return an executor mode
+     */
+    public static ExecutorMode fromName(String name) {
+      for (ExecutorMode mode : values()) {
+        if (mode.name().equalsIgnoreCase(name)) {
+          return mode;
+        }
+      }
+      return SCHEDULED;
+    }
+  }
+
+  private static class GaugedScheduledThreadPool extends ScheduledThreadPoolExecutor implements ExecutorGauges {
+    private final String id;
+
+    GaugedScheduledThreadPool(String id) {
+      super(DEFAULT_THREAD_COUNT, new DaemonThreadFactory(id));
+      this.id = id;
+      setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public void shutdown() {
+      unregisterExecutorGauges(id, this);
+      super.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      unregisterExecutorGauges(id, this);
+      return super.shutdownNow();
+    }
+
+    // ready and delayed tasks share the queue, so count those whose scheduled time has passed
+    @Override
+    public int getQueuedTaskCount() {
+      return (int) getQueue().stream().filter(GaugedScheduledThreadPool::isReady).count();
+    }
+
+    private static boolean isReady(Runnable task) {
+      return !(task instanceof Delayed) || ((Delayed) task).getDelay(TimeUnit.NANOSECONDS) <= 0;
+    }
+
+    @Override
+    public int getScheduledTaskCount() {
+      return getQueue().size() - getQueuedTaskCount();
+    }
+
+    @Override
+    public int getActiveThreadCount() {
+      return getActiveCount();
+    }
+  }
+
+  static class DaemonThreadFactory implements ThreadFactory {
     final AtomicInteger threadNumber = new AtomicInteger(1);
     final String namePrefix;
 
@@ -0,0 +1,38 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+/**
+ * Point-in-time measurements of the executor that runs the fibers of an {@link Engine}.
+ */
+public interface ExecutorGauges {
+
+  /**
+   * Returns the number of tasks which are ready to run, but are waiting for a thread.
+   *
+   * @return a task count
+   */
+  int getQueuedTaskCount();
+
+  /**
+   * Returns the number of tasks which are waiting for their scheduled time.
+   *
+   * @return a task count
+   */
+  int getScheduledTaskCount();
+
+  /**
+   * Returns the number of threads which are running tasks.
+   *
+   * @return a thread count
+   */
+  int getActiveThreadCount();
+
+  /**
+   * Returns the number of threads which the executor has started to run tasks, and not yet retired.
+   *
+   * @return a thread count
+   */
+  int getPoolSize();
+}
@@ -5,9 +5,12 @@ package oracle.kubernetes.operator.work;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
@@ -50,6 +53,11 @@ import static oracle.kubernetes.operator.logging.MessageKeys.CURRENT_STEPS;
  * <p>Setting the {@link #LOGGER} for FINE would give you basic start/stop/resume/suspend level
  * logging. Using FINER would cause more detailed logging, which includes what steps are executed in
  * what order and how they behaved.
+ *
+ * <p>When {@link #setTracingEnabled(boolean) tracing is enabled}, or the logger is at FINE, each fiber
+ * also keeps a short trace of the steps it has run, which is logged at FINE when the fiber completes
+ * and may be read for running fibers with {@link #getTraces()}. Fibers started while tracing is
+ * disabled record nothing.
  */
 public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -59,8 +67,12 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   private static final ThreadLocal<Fiber> CURRENT_FIBER = new ThreadLocal<>();
   /** Used to allocate unique number for each fiber. */
   private static final AtomicInteger iotaGen = new AtomicInteger();
+  /** The top-level fibers which are recording a trace and have not yet completed. */
+  private static final Set<Fiber> TRACED_FIBERS = ConcurrentHashMap.newKeySet();
+  private static volatile boolean tracingEnabled;
   public final Engine owner;
   private final Fiber parent;
+  private final Fiber root;
   private final int id;
   /**
    * Replace uses of synchronized(this) with this lock so that we can control unlocking for resume
@@ -78,8 +90,16 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   private volatile Thread currentThread;
   private ExitCallback exitCallback;
   private Collection<Fiber> children = null;
-  // Will only be populated if log level is at least FINE
-  private List<BreadCrumb> breadCrumbs = null;
+  // Will only be created if tracing is enabled, or log level is at least FINE
+  private FiberTrace trace;
+  // the name without the thread prefix, which is the same for the whole life of the fiber
+  private String path;
+  // Timings for FiberMetrics
+  private long startNanos;
+  private String firstStepName;
+  // written before suspendingStep, and so visible to any thread which reads that
+  private long suspendedAtNanos;
+  private volatile Step suspendingStep;
 
   Fiber(Engine engine) {
     this(engine, null);
@@ -88,6 +108,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   Fiber(Engine engine, Fiber parent) {
     this.owner = engine;
     this.parent = parent;
+    this.root = parent == null ? this : parent.root;
     id = iotaGen.incrementAndGet();
 
     // if this is run from another fiber, then we naturally inherit its context
@@ -119,6 +140,29 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     return CURRENT_FIBER.get();
   }
 
+  /**
+   * Enables or disables the recording of traces by fibers started from now on.
+   *
+   * @param enabled true if fibers should record traces
+   */
+  public static void setTracingEnabled(boolean enabled) {
+    tracingEnabled = enabled;
+  }
+
+  /**
+   * Returns the traces of the top-level fibers which are recording them and have not yet completed,
+   * including the traces of their children, sorted by fiber name.
+   *
+   * @return a map of fiber name to trace
+   */
+  public static Map<String, String> getTraces() {
+    Map<String, String> traces = new TreeMap<>();
+    for (Fiber fiber : TRACED_FIBERS) {
+      traces.put(fiber.getName(), fiber.getTrace());
+    }
+    return traces;
+  }
+
   /**
    * Starts the execution of this fiber asynchronously. This method works like {@link
    * Thread#start()}.
@@ -132,10 +176,14 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     this.na = new NextAction();
     this.na.invoke(stepline, packet);
     this.completionCallback = completionCallback;
+    this.startNanos = System.nanoTime();
+    this.firstStepName = stepline == null ? "" : stepline.getClass().getName();
 
     if (status.get() == NOT_COMPLETE) {
+      if (tracingEnabled || LOGGER.isFineEnabled()) {
+        startTrace();
+      }
       if (LOGGER.isFineEnabled()) {
-        breadCrumbs = new ArrayList<>();
         LOGGER.fine("{0} started", getName());
       }
 
@@ -185,6 +233,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
         }
         na.packet = resumePacket;
         if (na.kind == Kind.SUSPEND) {
+          recordSuspendedTime();
           doAddRunnable = true;
           NextAction resume = new NextAction();
           resume.invoke(na.next, na.packet);
@@ -225,9 +274,12 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
       if (na.kind != Kind.SUSPEND) {
         throw new IllegalStateException();
       }
+      recordSuspendedTime();
       na.terminate(t, packet);
 
-      addBreadCrumb(na);
+      if (trace != null) {
+        trace.recordThrow(t);
+      }
       completionCheck();
     } finally {
       lock.unlock();
@@ -248,7 +300,9 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
       }
       children.add(child);
       if (status.get() == NOT_COMPLETE) {
-        addBreadCrumb(child);
+        if (trace != null) {
+          trace.recordChild(child.id);
+        }
       } else {
         // Race condition where child is created after parent is cancelled or done
         child.status.set(CANCELLED);
@@ -288,7 +342,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
         }
       }
 
-      recordBreadCrumb();
+      completeTrace();
     }
 
     return true;
@@ -479,7 +533,10 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
           LOGGER.fine("{0} completed", getName());
         }
 
-        recordBreadCrumb();
+        completeTrace();
+        if (s == NOT_COMPLETE && parent == null && firstStepName != null) {
+          FiberMetrics.recordFiber(firstStepName, System.nanoTime() - startNanos);
+        }
         try {
           if (s == NOT_COMPLETE && completionCallback != null) {
             if (na.throwable != null) {
@@ -583,7 +640,9 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
         return false;
       }
 
-      LOGGER.fine(CURRENT_STEPS, na.next);
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine(CURRENT_STEPS, na.next);
+      }
 
       if (LOGGER.isFinerEnabled()) {
         LOGGER.finer(
@@ -593,17 +652,25 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
             na.packet != null ? "Packet@" + Integer.toHexString(na.packet.hashCode()) : "null");
       }
 
-      addBreadCrumb(na);
+      if (trace != null) {
+        trace.recordInvoke(na.next);
+      }
 
       NextAction result;
+      final Step step = na.next;
+      final long applyStartNanos = System.nanoTime();
       try {
-        result = na.next.apply(na.packet);
+        result = step.apply(na.packet);
+        FiberMetrics.recordApply(step, System.nanoTime() - applyStartNanos);
       } catch (Throwable t) {
+        FiberMetrics.recordApply(step, System.nanoTime() - applyStartNanos);
         Packet p = na.packet;
         na = new NextAction();
         na.terminate(t, p);
 
-        addBreadCrumb(na);
+        if (trace != null) {
+          trace.recordThrow(t);
+        }
         return false;
       }
 
@@ -622,13 +689,20 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
         case INVOKE:
           break;
         case SUSPEND:
-          addBreadCrumb(new SuspendMarkerBreadCrumb());
+          if (trace != null) {
+            trace.recordSuspend();
+          }
+          suspendedAtNanos = System.nanoTime();
+          suspendingStep = step;
+          watchSuspension();
           if (suspend(isRequireUnlock, result.onExit)) {
             return true; // explicitly exiting control loop
           }
           break;
         case THROW:
-          addBreadCrumb(result);
+          if (trace != null) {
+            trace.recordThrow(result.throwable);
+          }
           return false;
         default:
           throw new AssertionError();
@@ -641,25 +715,82 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     return false;
   }
 
+  private void watchSuspension() {
+    StuckFiberDetector detector = parent == null ? owner.getStuckFiberDetector() : null;
+    if (detector != null) {
+      detector.watch(this, suspendedAtNanos);
+    }
+  }
+
+  /**
+   * Returns the step which suspended this fiber, if the fiber is still incomplete, and in the
+   * suspension which started at the specified time.
+   *
+   * @param suspendedAtNanos the value of {@link System#nanoTime()} when the suspension started
+   * @return the suspending step, or null
+   */
+  Step getSuspendingStep(long suspendedAtNanos) {
+    Step step = suspendingStep;
+    return step != null && this.suspendedAtNanos == suspendedAtNanos && status.get() == NOT_COMPLETE
+        ? step : null;
+  }
+
+  boolean isSuspended() {
+    return suspendingStep != null && status.get() == NOT_COMPLETE;
+  }
+
+  long getSuspendedAtNanos() {
+    return suspendedAtNanos;
+  }
+
+  /**
+   * Returns a description of what this fiber, and each of its running children, is doing now.
+   *
+   * @return the status of this fiber
+   */
+  public FiberStatus getStatus() {
+    return getStatus(System.nanoTime());
+  }
+
+  private FiberStatus getStatus(long nowNanos) {
+    Step suspendedBy = suspendingStep;
+    long suspendedNanos = suspendedBy == null ? -1 : nowNanos - suspendedAtNanos;
+    NextAction action = na;
+    Step step = suspendedBy != null ? suspendedBy : Optional.ofNullable(action).map(a -> a.next).orElse(null);
+
+    List<FiberStatus> childStatuses = new ArrayList<>();
+    for (Fiber child : getChildren()) {
+      if (child.status.get() == NOT_COMPLETE) {
+        childStatuses.add(child.getStatus(nowNanos));
+      }
+    }
+    return new FiberStatus(getName(), step == null ? null : step.getName(), suspendedNanos, childStatuses);
+  }
+
+  // Must be called with the lock held, while the fiber is suspended.
+  private void recordSuspendedTime() {
+    if (suspendingStep != null) {
+      FiberMetrics.recordSuspended(suspendingStep, System.nanoTime() - suspendedAtNanos);
+      suspendingStep = null;
+    }
+  }
+
   private boolean isReady() {
     return na.kind != Kind.SUSPEND;
   }
 
+  // The name is prefixed by the thread currently running the top-level fiber, if any. The rest of it is built
+  // on first use, and then kept, so that logging does not rebuild the names of ancestors.
   private String getName() {
-    StringBuilder sb = new StringBuilder();
-    if (parent != null) {
-      sb.append(parent.getName());
-      sb.append("-child-");
-    } else {
-      Thread thread = currentThread;
-      if (thread != null) {
-        sb.append(thread.getName());
-        sb.append("-");
-      }
-      sb.append("fiber-");
-    }
-    sb.append(id);
-    return sb.toString();
+    Thread thread = root.currentThread;
+    return thread == null ? getPath() : thread.getName() + "-" + getPath();
+  }
+
+  private String getPath() {
+    if (path == null) {
+      path = parent == null ? "fiber-" + id : parent.getPath() + "-child-" + id;
+    }
+    return path;
   }
 
   @Override
@@ -754,55 +885,38 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     }
   }
 
-  private synchronized void addBreadCrumb(NextAction na) {
-    if (breadCrumbs != null) {
-      breadCrumbs.add(new NextActionBreadCrumb(na));
+  private void startTrace() {
+    trace = new FiberTrace();
+    if (parent == null) {
+      TRACED_FIBERS.add(this);
     }
   }
 
-  private synchronized void addBreadCrumb(Fiber child) {
-    if (breadCrumbs != null) {
-      breadCrumbs.add(new ChildFiberBreadCrumb(child));
+  private void completeTrace() {
+    if (parent == null && TRACED_FIBERS.remove(this) && LOGGER.isFineEnabled()) {
+      LOGGER.fine("{0} bread crumb: {1}", getName(), getTrace());
     }
   }
 
-  private synchronized void addBreadCrumb(BreadCrumb bc) {
-    if (breadCrumbs != null) {
-      breadCrumbs.add(bc);
-    }
+  private String getTrace() {
+    StringBuilder sb = new StringBuilder();
+    writeTrace(sb);
+    return sb.toString();
   }
 
-  private synchronized void recordBreadCrumb() {
-    if (breadCrumbs != null) {
-      if (parent == null) {
-        StringBuilder sb = new StringBuilder();
-        writeBreadCrumb(sb);
-
-        if (LOGGER.isFineEnabled()) {
-          LOGGER.fine("{0} bread crumb: {1}", getName(), sb.toString());
-        }
-        breadCrumbs = null;
-      }
+  private void writeTrace(StringBuilder sb) {
+    if (trace != null) {
+      trace.writeTo(sb);
+    }
+    for (Fiber child : getChildren()) {
+      sb.append(" {child-").append(child.id).append(": ");
+      child.writeTrace(sb);
+      sb.append('}');
     }
   }
 
-  private synchronized void writeBreadCrumb(StringBuilder sb) {
-    if (breadCrumbs != null) {
-      sb.append('[');
-      Iterator<BreadCrumb> it = breadCrumbs.iterator();
-      BreadCrumb previous = null;
-      while (it.hasNext()) {
-        BreadCrumb bc = it.next();
-        if (!bc.isMarker()) {
-          if (previous != null) {
-            sb.append(previous.isMarker() ? "][" : ",");
-          }
-          bc.writeTo(sb);
-        }
-        previous = bc;
-      }
-      sb.append(']');
-    }
+  private synchronized Collection<Fiber> getChildren() {
+    return children == null ? Collections.emptyList() : new ArrayList<>(children);
   }
 
   @Override
@@ -854,14 +968,6 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     void onExit();
   }
 
-  private interface BreadCrumb {
-    void writeTo(StringBuilder sb);
-
-    default boolean isMarker() {
-      return false;
-    }
-  }
-
   private static final class OnExitRunnableException extends RuntimeException {
     private static final long serialVersionUID = 1L;
 
@@ -873,69 +979,6 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     }
   }
 
-  private static class NextActionBreadCrumb implements BreadCrumb {
-    private final NextAction na;
-
-    NextActionBreadCrumb(NextAction na) {
-      this.na = na;
-    }
-
-    @Override
-    public void writeTo(StringBuilder sb) {
-      switch (na.kind) {
-        case INVOKE:
-        case SUSPEND:
-          if (na.next != null) {
-            sb.append(na.next.getName());
-          }
-          break;
-        case THROW:
-          if (na.throwable != null) {
-            sb.append('(');
-            sb.append(na.throwable.getClass().getSimpleName());
-            sb.append(')');
-          }
-          break;
-        default:
-          throw new AssertionError();
-      }
-    }
-  }
-
-  private static class ChildFiberBreadCrumb implements BreadCrumb {
-    private final Fiber child;
-
-    ChildFiberBreadCrumb(Fiber child) {
-      this.child = child;
-    }
-
-    @Override
-    public void writeTo(StringBuilder sb) {
-      sb.append("{child-");
-      sb.append(child.id);
-      sb.append(": ");
-      if (child.status.get() == NOT_COMPLETE) {
-        sb.append("not-complete");
-      } else {
-        child.writeBreadCrumb(sb);
-      }
-      sb.append("}");
-    }
-  }
-
-  private static class SuspendMarkerBreadCrumb implements BreadCrumb {
-
-    @Override
-    public void writeTo(StringBuilder sb) {
-      // no-op
-    }
-
-    @Override
-    public boolean isMarker() {
-      return true;
-    }
-  }
-
   private static final class Holder<T> {
     T value;
 
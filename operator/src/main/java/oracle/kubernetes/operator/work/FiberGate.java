@@ -3,6 +3,8 @@
 
 package oracle.kubernetes.operator.work;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
@@ -38,6 +40,15 @@ public class FiberGate {
     return engine.getExecutor();
   }
 
+  /**
+   * Returns the fibers which this gate has started, and which have not yet completed.
+   *
+   * @return an unmodifiable map of key to fiber
+   */
+  public Map<String, Fiber> getCurrentFibers() {
+    return Collections.unmodifiableMap(gateMap);
+  }
+
   /**
    * Starts Fiber that cancels any earlier running Fibers with the same key. Fiber map is not
    * updated if no Fiber is started.
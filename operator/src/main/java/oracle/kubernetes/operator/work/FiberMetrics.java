@@ -0,0 +1,97 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timings recorded by fibers as they run: for each class of {@link Step}, the time spent in its apply
+ * method and the time a fiber spent suspended by it; and for each top-level fiber, the time from its start
+ * to its completion, grouped by the class of its first step.
+ */
+public final class FiberMetrics {
+  private static final Map<String, StepMetrics> STEPS = new ConcurrentHashMap<>();
+  private static final Map<String, Histogram> FIBERS = new ConcurrentHashMap<>();
+  private static final LongAdder STUCK_FIBERS = new LongAdder();
+  private static final ClassValue<StepMetrics> STEP_METRICS = new ClassValue<>() {
+    @Override
+    protected StepMetrics computeValue(Class<?> type) {
+      return STEPS.computeIfAbsent(type.getName(), n -> new StepMetrics());
+    }
+  };
+
+  private FiberMetrics() {
+  }
+
+  static void recordApply(Step step, long nanos) {
+    STEP_METRICS.get(step.getClass()).applyTime.record(nanos);
+  }
+
+  static void recordSuspended(Step step, long nanos) {
+    STEP_METRICS.get(step.getClass()).suspendedTime.record(nanos);
+  }
+
+  static void recordFiber(String firstStepName, long nanos) {
+    FIBERS.computeIfAbsent(firstStepName, n -> new Histogram()).record(nanos);
+  }
+
+  static void recordStuckFiber() {
+    STUCK_FIBERS.increment();
+  }
+
+  /**
+   * Returns the metrics for each class of step which has been run, sorted by class name.
+   *
+   * @return a map of step class name to metrics
+   */
+  public static Map<String, StepMetrics> getStepMetrics() {
+    return Collections.unmodifiableMap(new TreeMap<>(STEPS));
+  }
+
+  /**
+   * Returns the durations of completed top-level fibers, by the class name of their first step.
+   *
+   * @return a map of step class name to fiber durations
+   */
+  public static Map<String, Histogram> getFiberDurations() {
+    return Collections.unmodifiableMap(new TreeMap<>(FIBERS));
+  }
+
+  /**
+   * Returns the number of times that a {@link StuckFiberDetector} has found a fiber stuck.
+   *
+   * @return a count of stuck fibers
+   */
+  public static long getStuckFiberCount() {
+    return STUCK_FIBERS.sum();
+  }
+
+  /** The timings for one class of step. */
+  public static class StepMetrics {
+    private final Histogram applyTime = new Histogram();
+    private final Histogram suspendedTime = new Histogram();
+
+    /**
+     * Returns the time spent in the apply method. Its count is the number of invocations.
+     *
+     * @return a histogram of durations
+     */
+    public Histogram getApplyTime() {
+      return applyTime;
+    }
+
+    /**
+     * Returns the time for which fibers were suspended by steps of this class.
+     *
+     * @return a histogram of durations
+     */
+    public Histogram getSuspendedTime() {
+      return suspendedTime;
+    }
+  }
+}
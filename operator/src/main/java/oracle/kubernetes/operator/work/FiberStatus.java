@@ -0,0 +1,56 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A description of what a fiber, and each of its running children, was doing at one moment: the step
+ * it was running, or by which it was suspended, and for how long it had been suspended.
+ */
+public class FiberStatus {
+  private final String name;
+  private final String stepName;
+  private final long suspendedNanos;
+  private final List<FiberStatus> children;
+
+  FiberStatus(String name, String stepName, long suspendedNanos, List<FiberStatus> children) {
+    this.name = name;
+    this.stepName = stepName;
+    this.suspendedNanos = suspendedNanos;
+    this.children = Collections.unmodifiableList(children);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the name of the step which suspended the fiber, or if it is not suspended, of the step which
+   * it is running or about to run.
+   *
+   * @return a step name, or null if the fiber has no step to run
+   */
+  public String getStepName() {
+    return stepName;
+  }
+
+  public boolean isSuspended() {
+    return suspendedNanos >= 0;
+  }
+
+  /**
+   * Returns the time for which the fiber had been suspended.
+   *
+   * @return a duration in nanoseconds, or zero if the fiber was not suspended
+   */
+  public long getSuspendedNanos() {
+    return Math.max(0, suspendedNanos);
+  }
+
+  public List<FiberStatus> getChildren() {
+    return children;
+  }
+}
@@ -0,0 +1,128 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A record of the most recent actions of a fiber, kept in fixed-size arrays of primitives which are
+ * allocated once, when the fiber starts. Each entry holds the kind of action, the id of the step class,
+ * exception class or child fiber concerned, and the time of the action. Recording is lock-free; once the
+ * buffer is full, each new entry replaces the oldest.
+ */
+final class FiberTrace {
+  static final int CAPACITY = 64;
+
+  private static final byte INVOKE = 0;
+  private static final byte SUSPEND = 1;
+  private static final byte THROW = 2;
+  private static final byte CHILD = 3;
+  private static final int MASK = CAPACITY - 1;
+  private static final List<String> CLASS_NAMES = new ArrayList<>();
+  private static final ClassValue<Integer> STEP_IDS = new ClassValue<>() {
+    @Override
+    protected Integer computeValue(Class<?> type) {
+      return addClassName(toStepName(type));
+    }
+  };
+  private static final ClassValue<Integer> THROWABLE_IDS = new ClassValue<>() {
+    @Override
+    protected Integer computeValue(Class<?> type) {
+      return addClassName(type.getSimpleName());
+    }
+  };
+
+  private final long startNanos = System.nanoTime();
+  private final byte[] kinds = new byte[CAPACITY];
+  private final int[] ids = new int[CAPACITY];
+  private final long[] nanos = new long[CAPACITY];
+  private final AtomicInteger count = new AtomicInteger();
+
+  private static String toStepName(Class<?> type) {
+    String name = type.isAnonymousClass() ? type.getName() : type.getSimpleName();
+    name = name.substring(name.lastIndexOf('.') + 1);
+    return name.endsWith("Step") ? name.substring(0, name.length() - 4) : name;
+  }
+
+  private static int addClassName(String name) {
+    synchronized (CLASS_NAMES) {
+      CLASS_NAMES.add(name);
+      return CLASS_NAMES.size() - 1;
+    }
+  }
+
+  private static String getClassName(int id) {
+    synchronized (CLASS_NAMES) {
+      return CLASS_NAMES.get(id);
+    }
+  }
+
+  void recordInvoke(Step step) {
+    record(INVOKE, step == null ? -1 : STEP_IDS.get(step.getClass()));
+  }
+
+  void recordSuspend() {
+    record(SUSPEND, -1);
+  }
+
+  void recordThrow(Throwable throwable) {
+    record(THROW, throwable == null ? -1 : THROWABLE_IDS.get(throwable.getClass()));
+  }
+
+  void recordChild(int childId) {
+    record(CHILD, childId);
+  }
+
+  private void record(byte kind, int id) {
+    int slot = count.getAndIncrement() & MASK;
+    kinds[slot] = kind;
+    ids[slot] = id;
+    nanos[slot] = System.nanoTime();
+  }
+
+  /**
+   * Appends the recorded entries, oldest first. Steps appear by class name and exceptions by class name
+   * in parentheses, each followed by the milliseconds since the fiber started; each suspension closes a
+   * bracketed group. An entry being recorded while this runs may be shown incompletely.
+   *
+   * @param sb the builder to which the trace is appended
+   */
+  void writeTo(StringBuilder sb) {
+    int end = count.get();
+    int start = Math.max(0, end - CAPACITY);
+    sb.append(start > 0 ? "[...," : "[");
+    boolean groupStart = true;
+    for (int i = start; i < end; i++) {
+      int slot = i & MASK;
+      if (!groupStart && kinds[slot] != SUSPEND) {
+        sb.append(',');
+      }
+      groupStart = writeEntry(sb, kinds[slot], ids[slot], nanos[slot]);
+    }
+    sb.append(']');
+  }
+
+  // returns true if the entry closes a group
+  private boolean writeEntry(StringBuilder sb, byte kind, int id, long entryNanos) {
+    switch (kind) {
+      case SUSPEND:
+        sb.append("][");
+        return true;
+      case CHILD:
+        sb.append("{child-").append(id).append('}');
+        break;
+      case THROW:
+        sb.append('(').append(id < 0 ? "throw" : getClassName(id)).append(')');
+        break;
+      default:
+        sb.append(id < 0 ? "end" : getClassName(id));
+        break;
+    }
+    sb.append('@').append(TimeUnit.NANOSECONDS.toMillis(entryNanos - startNanos)).append("ms");
+    return false;
+  }
+}
@@ -0,0 +1,223 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A map which can be forked cheaply. A fork starts with the same entries as the map from which it
+ * was forked, after which the two change independently. The maps share a frozen base of entries, and
+ * each keeps only its own changes, so that a fork allocates nothing more until it is changed.
+ * Null values are not stored: putting one removes the key.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+class ForkableMap<K, V> extends AbstractMap<K, V> {
+  private static final Object REMOVED = new Object();
+
+  // never modified once assigned, so that any number of forks may share it
+  private volatile Map<K, Object> base;
+  // the changes made since the base was assigned, or null if none. REMOVED hides a base entry.
+  private volatile ConcurrentMap<K, Object> changes;
+
+  ForkableMap() {
+    this(Collections.emptyMap());
+  }
+
+  private ForkableMap(Map<K, Object> base) {
+    this.base = base;
+  }
+
+  /**
+   * Returns a new map with the same entries as this one.
+   *
+   * @return a fork of this map
+   */
+  synchronized ForkableMap<K, V> fork() {
+    freeze();
+    return new ForkableMap<>(base);
+  }
+
+  // Folds the changes into a new base. The base is assigned before the changes are cleared,
+  // so that an unsynchronized reader which sees no changes also sees the new base.
+  private void freeze() {
+    Map<K, Object> currentChanges = changes;
+    if (currentChanges == null || currentChanges.isEmpty()) {
+      return;
+    }
+
+    Map<K, Object> merged = new HashMap<>(base);
+    for (Map.Entry<K, Object> entry : currentChanges.entrySet()) {
+      if (entry.getValue() == REMOVED) {
+        merged.remove(entry.getKey());
+      } else {
+        merged.put(entry.getKey(), entry.getValue());
+      }
+    }
+    base = merged;
+    changes = null;
+  }
+
+  /**
+   * Returns the result of applying the specified function to each value in turn, stopping at the
+   * first non-null result. Unlike iteration through {@link #values()}, this allocates no entries.
+   *
+   * @param function a function to apply to values
+   * @param <R> the type of the result
+   * @return the first non-null result, or null
+   */
+  <R> R findFirst(Function<? super V, ? extends R> function) {
+    Map<K, Object> currentChanges = changes;
+    Map<K, Object> currentBase = base;
+    if (currentChanges != null) {
+      for (Object value : currentChanges.values()) {
+        R result = value == REMOVED ? null : function.apply(cast(value));
+        if (result != null) {
+          return result;
+        }
+      }
+    }
+    for (Map.Entry<K, Object> entry : currentBase.entrySet()) {
+      if (currentChanges == null || !currentChanges.containsKey(entry.getKey())) {
+        R result = function.apply(cast(entry.getValue()));
+        if (result != null) {
+          return result;
+        }
+      }
+    }
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private V cast(Object value) {
+    return value == REMOVED ? null : (V) value;
+  }
+
+  @Override
+  public V get(Object key) {
+    Map<K, Object> currentChanges = changes;
+    Object value = currentChanges == null ? null : currentChanges.get(key);
+    return cast(value != null ? value : base.get(key));
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public synchronized V put(K key, V value) {
+    if (value == null) {
+      return remove(key);
+    }
+
+    V old = get(key);
+    getChanges().put(key, value);
+    return old;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public synchronized V remove(Object key) {
+    V old = get(key);
+    if (old == null) {
+      return null;
+    } else if (base.containsKey(key)) {
+      getChanges().put((K) key, REMOVED);
+    } else {
+      changes.remove(key);
+    }
+    return old;
+  }
+
+  private ConcurrentMap<K, Object> getChanges() {
+    if (changes == null) {
+      changes = new ConcurrentHashMap<>();
+    }
+    return changes;
+  }
+
+  @Override
+  public synchronized void clear() {
+    base = Collections.emptyMap();
+    changes = null;
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<K, V>> iterator() {
+        return new EntryIterator();
+      }
+
+      @Override
+      public int size() {
+        int size = 0;
+        for (Iterator<Entry<K, V>> it = iterator(); it.hasNext(); it.next()) {
+          size++;
+        }
+        return size;
+      }
+    };
+  }
+
+  // Visits the changed entries, and then those base entries which have not been changed.
+  private class EntryIterator implements Iterator<Entry<K, V>> {
+    private final Map<K, Object> currentChanges = changes;
+    private final Iterator<Entry<K, Object>> changesIterator =
+        currentChanges == null ? Collections.emptyIterator() : currentChanges.entrySet().iterator();
+    private final Iterator<Entry<K, Object>> baseIterator = base.entrySet().iterator();
+    private Entry<K, V> next;
+    private K lastKey;
+
+    @Override
+    public boolean hasNext() {
+      while (next == null && changesIterator.hasNext()) {
+        Entry<K, Object> entry = changesIterator.next();
+        if (entry.getValue() != REMOVED) {
+          next = new SimpleImmutableEntry<>(entry.getKey(), cast(entry.getValue()));
+        }
+      }
+      while (next == null && baseIterator.hasNext()) {
+        Entry<K, Object> entry = baseIterator.next();
+        if (currentChanges == null || !currentChanges.containsKey(entry.getKey())) {
+          next = new SimpleImmutableEntry<>(entry.getKey(), cast(entry.getValue()));
+        }
+      }
+      return next != null;
+    }
+
+    @Override
+    public Entry<K, V> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Entry<K, V> result = next;
+      next = null;
+      lastKey = result.getKey();
+      return result;
+    }
+
+    @Override
+    public void remove() {
+      if (lastKey == null) {
+        throw new IllegalStateException();
+      }
+      ForkableMap.this.remove(lastKey);
+      lastKey = null;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A distribution of durations, counted in fixed buckets. Recording a value never blocks, so that a
+ * histogram may be updated on every step run by a fiber.
+ */
+public class Histogram {
+  /** The upper bounds of the buckets, in seconds. Values above the last bound are only in the total. */
+  private static final double[] BUCKET_BOUNDS =
+      {0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5, 10, 30, 60, 300, 900};
+  private static final long[] BUCKET_BOUNDS_NANOS = toNanos(BUCKET_BOUNDS);
+
+  private final LongAdder[] bucketCounts = new LongAdder[BUCKET_BOUNDS.length];
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sumNanos = new LongAdder();
+
+  Histogram() {
+    for (int i = 0; i < bucketCounts.length; i++) {
+      bucketCounts[i] = new LongAdder();
+    }
+  }
+
+  private static long[] toNanos(double[] seconds) {
+    long[] nanos = new long[seconds.length];
+    for (int i = 0; i < seconds.length; i++) {
+      nanos[i] = (long) (seconds[i] * TimeUnit.SECONDS.toNanos(1));
+    }
+    return nanos;
+  }
+
+  /**
+   * Returns the upper bounds of the buckets, in seconds.
+   *
+   * @return an array of bounds in ascending order
+   */
+  public static double[] getBucketBounds() {
+    return BUCKET_BOUNDS.clone();
+  }
+
+  void record(long nanos) {
+    count.increment();
+    sumNanos.add(nanos);
+    for (int i = 0; i < BUCKET_BOUNDS_NANOS.length; i++) {
+      if (nanos <= BUCKET_BOUNDS_NANOS[i]) {
+        bucketCounts[i].increment();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of values no greater than each bucket bound, in the order of
+   * {@link #getBucketBounds()}.
+   *
+   * @return an array of cumulative counts
+   */
+  public long[] getCumulativeCounts() {
+    long[] counts = new long[bucketCounts.length];
+    long total = 0;
+    for (int i = 0; i < counts.length; i++) {
+      total += bucketCounts[i].sum();
+      counts[i] = total;
+    }
+    return counts;
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public double getSumSeconds() {
+    return sumNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1);
+  }
+}
@@ -7,25 +7,29 @@ import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
-/** Context of a single processing flow. Acts as a map and as a registry of components. */
+/**
+ * Context of a single processing flow. Acts as a map and as a registry of components. A clone shares
+ * the values and components of the packet from which it was made until either packet changes them,
+ * so that forking a child fiber with its own packet is cheap.
+ */
 public class Packet extends AbstractMap<String, Object> implements ComponentRegistry, ComponentEx {
-  private final ConcurrentMap<String, Component> components =
-      new ConcurrentHashMap<String, Component>();
-  private final ConcurrentMap<String, Object> delegate = new ConcurrentHashMap<String, Object>();
+  private final ForkableMap<String, Component> components;
+  private final ForkableMap<String, Object> delegate;
 
   public Packet() {
+    components = new ForkableMap<>();
+    delegate = new ForkableMap<>();
   }
 
   private Packet(Packet that) {
-    components.putAll(that.components);
-    delegate.putAll(that.delegate);
+    components = that.components.fork();
+    delegate = that.delegate.fork();
   }
 
   /**
-   * Clones a packet so that the new packet starts with identical values and components.
+   * Clones a packet so that the new packet starts with identical values and components. Later
+   * changes to either packet are not seen by the other.
    *
    * @return Cloned packet
    */
@@ -40,13 +44,7 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
    * @return implementation object
    */
   public <S> S getSpi(Class<S> spiType) {
-    for (Component c : components.values()) {
-      S s = c.getSpi(spiType);
-      if (s != null) {
-        return s;
-      }
-    }
-    return null;
+    return components.findFirst(c -> c.getSpi(spiType));
   }
 
   @Override
@@ -68,13 +66,52 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
     return delegate.entrySet();
   }
 
+  @Override
+  public Object get(Object key) {
+    return delegate.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return delegate.containsKey(key);
+  }
+
   @Override
   public Object put(String key, Object value) {
-    return value != null ? delegate.put(key, value) : delegate.remove(key);
+    return delegate.put(key, value);
+  }
+
+  /**
+   * Sets the value for a typed key.
+   *
+   * @param key the key
+   * @param value the new value; if null, the entry is removed
+   * @param <T> the type of the value
+   * @return the previous value, or null
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T put(PacketKey<T> key, T value) {
+    return (T) put(key.getName(), value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    return delegate.remove(key);
   }
 
   @SuppressWarnings("unchecked")
   public <T> T getValue(String key) {
     return (T) get(key);
   }
+
+  /**
+   * Returns the value for a typed key.
+   *
+   * @param key the key
+   * @param <T> the type of the value
+   * @return the value, or null
+   */
+  public <T> T getValue(PacketKey<T> key) {
+    return getValue(key.getName());
+  }
 }
@@ -0,0 +1,38 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+/**
+ * A key for a value in a {@link Packet}, which carries the type of the value, so that callers need
+ * not cast it. A typed key and a string equal to its name refer to the same entry.
+ *
+ * @param <T> the type of the value
+ */
+public final class PacketKey<T> {
+  private final String name;
+
+  private PacketKey(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Creates a key with the specified name.
+   *
+   * @param name the name of the packet entry
+   * @param <T> the type of the value
+   * @return a typed key
+   */
+  public static <T> PacketKey<T> of(String name) {
+    return new PacketKey<>(name);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
@@ -6,6 +6,8 @@ package oracle.kubernetes.operator.work;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -241,30 +243,25 @@ public abstract class Step {
    */
   protected NextAction doForkJoin(
       Step step, Packet packet, Collection<StepAndPacket> startDetails) {
-    return doSuspend(
-        step,
-        (fiber) -> {
-          CompletionCallback callback =
-              new JoinCompletionCallback(fiber, packet, startDetails.size()) {
-                @Override
-                public void onCompletion(Packet p) {
-                  if (count.decrementAndGet() == 0) {
-                    // no need to synchronize throwables as all fibers are done
-                    if (throwables.isEmpty()) {
-                      fiber.resume(packet);
-                    } else if (throwables.size() == 1) {
-                      fiber.terminate(throwables.get(0), packet);
-                    } else {
-                      fiber.terminate(new MultiThrowable(throwables), packet);
-                    }
-                  }
-                }
-              };
-          // start forked fibers
-          for (StepAndPacket sp : startDetails) {
-            fiber.createChildFiber().start(sp.step, sp.packet, callback);
-          }
-        });
+    return doForkJoin(step, packet, startDetails, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Create a {@link NextAction} that suspends the current {@link Fiber} and that runs child fibers
+   * for each step and packet pair, with at most the specified number running at once. The remaining
+   * pairs wait in order, and each is started when an earlier child fiber completes. When all of the
+   * child fibers complete, then this fiber is resumed with the indicated step and packet.
+   *
+   * @param step Step to invoke next when resumed after child fibers complete
+   * @param packet Resume packet
+   * @param startDetails Pairs of step and packet to use when starting child fibers
+   * @param maxInFlight the maximum number of child fibers to run at once. Values less than one
+   *     are treated as one.
+   * @return Next action
+   */
+  protected NextAction doForkJoin(
+      Step step, Packet packet, Collection<StepAndPacket> startDetails, int maxInFlight) {
+    return doSuspend(step, (fiber) -> new BoundedJoin(fiber, packet, startDetails).start(maxInFlight));
   }
 
   /**
@@ -352,6 +349,68 @@ public abstract class Step {
     }
   }
 
+  // Starts child fibers from a queue, starting the next waiting one as each child completes, so
+  // that the number in flight never exceeds the initial number started.
+  private static class BoundedJoin implements CompletionCallback {
+    private final Fiber fiber;
+    private final Packet packet;
+    private final Queue<StepAndPacket> waiting;
+    private final AtomicInteger remaining;
+    private final List<Throwable> throwables = new ArrayList<>();
+
+    BoundedJoin(Fiber fiber, Packet packet, Collection<StepAndPacket> startDetails) {
+      this.fiber = fiber;
+      this.packet = packet;
+      this.waiting = new ConcurrentLinkedQueue<>(startDetails);
+      this.remaining = new AtomicInteger(startDetails.size());
+    }
+
+    void start(int maxInFlight) {
+      if (remaining.get() == 0) {
+        fiber.resume(packet);
+        return;
+      }
+
+      int initialCount = Math.min(Math.max(1, maxInFlight), remaining.get());
+      for (int i = 0; i < initialCount; i++) {
+        startNext();
+      }
+    }
+
+    private void startNext() {
+      StepAndPacket sp = waiting.poll();
+      if (sp != null) {
+        fiber.createChildFiber().start(sp.step, sp.packet, this);
+      }
+    }
+
+    @Override
+    public void onCompletion(Packet p) {
+      childComplete();
+    }
+
+    @Override
+    public void onThrowable(Packet p, Throwable throwable) {
+      synchronized (throwables) {
+        throwables.add(throwable);
+      }
+      childComplete();
+    }
+
+    private void childComplete() {
+      if (remaining.decrementAndGet() > 0) {
+        startNext();
+      } else if (throwables.isEmpty()) {
+        // no need to synchronize throwables as all fibers are done
+        fiber.resume(packet);
+      } else if (throwables.size() == 1) {
+        fiber.terminate(throwables.get(0), packet);
+      } else {
+        fiber.terminate(new MultiThrowable(throwables), packet);
+      }
+    }
+  }
+
   public static class StepAndPacket {
     public final Step step;
     public final Packet packet;
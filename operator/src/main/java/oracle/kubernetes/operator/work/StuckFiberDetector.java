@@ -0,0 +1,148 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+/**
+ * Reports top-level fibers which stay suspended by the same step for longer than a threshold. When such a
+ * fiber suspends, it is placed in the slot of a timer wheel for the tick at which the threshold will pass,
+ * unless it is already in the wheel. Each tick then examines only the fibers in its own slot: those still
+ * in the same suspension are reported, and those which have since suspended again are moved to the slot
+ * for their latest suspension. The wheel therefore holds at most one entry for each fiber, and the cost of
+ * detection does not grow with the number of suspensions.
+ *
+ * <p>Child fibers are not watched themselves. A parent which waits for its children is suspended by the
+ * join, so when a top-level fiber is reported, each of its suspended descendants is reported with it, to
+ * show which child it is waiting for.
+ */
+public class StuckFiberDetector {
+  static final int WHEEL_SIZE = 64;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final int MASK = WHEEL_SIZE - 1;
+
+  private final long thresholdNanos;
+  private final long tickNanos;
+  private final long originNanos = System.nanoTime();
+  private final Queue<Suspension>[] wheel = createWheel();
+  private final Set<Fiber> watched = ConcurrentHashMap.newKeySet();
+  private volatile long lastTick;
+  private ScheduledFuture<?> ticker;
+
+  /**
+   * Creates a detector.
+   *
+   * @param threshold the time for which a fiber may stay suspended before it is reported
+   * @param unit the unit of the threshold
+   */
+  public StuckFiberDetector(long threshold, TimeUnit unit) {
+    thresholdNanos = unit.toNanos(threshold);
+    tickNanos = Math.max(1, thresholdNanos / WHEEL_SIZE);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Queue<Suspension>[] createWheel() {
+    Queue<Suspension>[] wheel = new Queue[WHEEL_SIZE];
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      wheel[i] = new ConcurrentLinkedQueue<>();
+    }
+    return wheel;
+  }
+
+  synchronized void start(ScheduledExecutorService executor) {
+    if (ticker == null) {
+      ticker = executor.scheduleWithFixedDelay(
+          () -> tick(System.nanoTime()), tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  synchronized void stop() {
+    if (ticker != null) {
+      ticker.cancel(false);
+      ticker = null;
+    }
+  }
+
+  private long toTick(long nanos) {
+    return (nanos - originNanos) / tickNanos;
+  }
+
+  void watch(Fiber fiber, long suspendedAtNanos) {
+    if (watched.add(fiber)) {
+      long deadlineTick = Math.max(lastTick + 1, toTick(suspendedAtNanos + thresholdNanos) + 1);
+      wheel[(int) (deadlineTick & MASK)].add(new Suspension(fiber, suspendedAtNanos, deadlineTick));
+    }
+  }
+
+  /**
+   * Examines the slots for every tick which has passed since the last call.
+   *
+   * @param now the current value of {@link System#nanoTime()}
+   */
+  synchronized void tick(long now) {
+    long currentTick = toTick(now);
+    for (long t = Math.max(lastTick + 1, currentTick - MASK); t <= currentTick; t++) {
+      expire(wheel[(int) (t & MASK)], currentTick, now);
+    }
+    lastTick = currentTick;
+  }
+
+  private void expire(Queue<Suspension> slot, long currentTick, long now) {
+    for (Iterator<Suspension> it = slot.iterator(); it.hasNext(); ) {
+      Suspension suspension = it.next();
+      if (suspension.deadlineTick <= currentTick) {
+        it.remove();
+        expire(suspension, now);
+      }
+    }
+  }
+
+  // The fiber is removed from the watched set before its state is read, so that a suspension which
+  // starts concurrently is either seen here, or added to the wheel by the fiber itself.
+  private void expire(Suspension suspension, long now) {
+    Fiber fiber = suspension.fiber;
+    watched.remove(fiber);
+    Step step = fiber.getSuspendingStep(suspension.suspendedAtNanos);
+    if (step != null) {
+      FiberMetrics.recordStuckFiber();
+      LOGGER.warning(MessageKeys.FIBER_STUCK, fiber, step.getName(),
+          TimeUnit.NANOSECONDS.toSeconds(now - suspension.suspendedAtNanos));
+      fiber.getStatus().getChildren().forEach(this::reportSuspended);
+    } else if (fiber.isSuspended()) {
+      watch(fiber, fiber.getSuspendedAtNanos());
+    }
+  }
+
+  private void reportSuspended(FiberStatus status) {
+    if (status.isSuspended()) {
+      LOGGER.warning(MessageKeys.FIBER_STUCK, status.getName(), status.getStepName(),
+          TimeUnit.NANOSECONDS.toSeconds(status.getSuspendedNanos()));
+    }
+    status.getChildren().forEach(this::reportSuspended);
+  }
+
+  private static class Suspension {
+    private final Fiber fiber;
+    private final long suspendedAtNanos;
+    private final long deadlineTick;
+
+    Suspension(Fiber fiber, long suspendedAtNanos, long deadlineTick) {
+      this.fiber = fiber;
+      this.suspendedAtNanos = suspendedAtNanos;
+      this.deadlineTick = deadlineTick;
+    }
+  }
+}
@@ -0,0 +1,219 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A scheduled executor which keeps its timer apart from the threads which run tasks. A single timer
+ * thread waits for the scheduled time of each delayed or periodic task and then hands the task to a
+ * work-stealing pool, so that tasks which are ready to run never queue behind waiting timers.
+ *
+ * <p>The pool does not add threads when its tasks block, so just as with a fixed thread pool, steps which
+ * make blocking calls hold a worker for the length of the call; if every worker is blocked, ready tasks
+ * wait. The pool is therefore given at least as many workers as the fixed pool it replaces.
+ */
+class WorkStealingScheduledExecutor extends AbstractExecutorService
+    implements ScheduledExecutorService, ExecutorGauges {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final String id;
+  private final ScheduledThreadPoolExecutor timer;
+  private final ForkJoinPool workers;
+
+  WorkStealingScheduledExecutor(String id, int parallelism) {
+    this.id = id;
+    timer = new ScheduledThreadPoolExecutor(1, new Engine.DaemonThreadFactory(id + "-timer"));
+    timer.setRemoveOnCancelPolicy(true);
+    timer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    workers = new ForkJoinPool(parallelism, new WorkerThreadFactory(id), null, true);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    workers.execute(() -> runReportingFailure(command));
+  }
+
+  // logs a failure rather than letting it retire the worker thread which ran the task
+  private static void runReportingFailure(Runnable command) {
+    try {
+      command.run();
+    } catch (Throwable t) {
+      LOGGER.severe(MessageKeys.EXCEPTION, t);
+    }
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return schedule(Executors.callable(command), delay, unit);
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+    TimedTask<V> task = new TimedTask<>(callable, unit.toNanos(delay), 0);
+    task.scheduleNext();
+    return task;
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(
+      Runnable command, long initialDelay, long period, TimeUnit unit) {
+    if (period <= 0) {
+      throw new IllegalArgumentException();
+    }
+    TimedTask<Object> task =
+        new TimedTask<>(Executors.callable(command), unit.toNanos(initialDelay), unit.toNanos(period));
+    task.scheduleNext();
+    return task;
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(
+      Runnable command, long initialDelay, long delay, TimeUnit unit) {
+    if (delay <= 0) {
+      throw new IllegalArgumentException();
+    }
+    TimedTask<Object> task =
+        new TimedTask<>(Executors.callable(command), unit.toNanos(initialDelay), -unit.toNanos(delay));
+    task.scheduleNext();
+    return task;
+  }
+
+  @Override
+  public void shutdown() {
+    Engine.unregisterExecutorGauges(id, this);
+    timer.shutdown();
+    workers.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    Engine.unregisterExecutorGauges(id, this);
+    List<Runnable> neverRun = timer.shutdownNow();
+    neverRun.addAll(workers.shutdownNow());
+    return neverRun;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return workers.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return timer.isTerminated() && workers.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    return timer.awaitTermination(timeout, unit)
+        && workers.awaitTermination(deadline - System.nanoTime(), NANOSECONDS);
+  }
+
+  @Override
+  public int getQueuedTaskCount() {
+    return workers.getQueuedSubmissionCount() + (int) workers.getQueuedTaskCount();
+  }
+
+  @Override
+  public int getScheduledTaskCount() {
+    return timer.getQueue().size();
+  }
+
+  @Override
+  public int getActiveThreadCount() {
+    return workers.getActiveThreadCount();
+  }
+
+  @Override
+  public int getPoolSize() {
+    return workers.getPoolSize();
+  }
+
+  private static class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+    private final AtomicInteger threadNumber = new AtomicInteger(1);
+    private final String namePrefix;
+
+    WorkerThreadFactory(String id) {
+      namePrefix = "engine-" + id + "-worker-";
+    }
+
+    @Override
+    public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+      ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      t.setName(namePrefix + threadNumber.getAndIncrement());
+      t.setDaemon(true);
+      return t;
+    }
+  }
+
+  /**
+   * A task which waits on the timer and then runs on the workers. As with the tasks of a
+   * {@link ScheduledThreadPoolExecutor}, a positive period means a fixed rate, a negative period a
+   * fixed delay and zero a single run; and a periodic task stops repeating once a run fails.
+   */
+  private class TimedTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+    private final long periodNanos;
+    private volatile long nextRunNanos;
+    private volatile ScheduledFuture<?> timerFuture;
+
+    TimedTask(Callable<V> callable, long initialDelayNanos, long periodNanos) {
+      super(callable);
+      this.periodNanos = periodNanos;
+      this.nextRunNanos = System.nanoTime() + initialDelayNanos;
+    }
+
+    void scheduleNext() {
+      timerFuture = timer.schedule(() -> workers.execute(this), nextRunNanos - System.nanoTime(), NANOSECONDS);
+    }
+
+    @Override
+    public void run() {
+      if (periodNanos == 0) {
+        super.run();
+      } else if (runAndReset() && !timer.isShutdown()) {
+        nextRunNanos = periodNanos > 0 ? nextRunNanos + periodNanos : System.nanoTime() - periodNanos;
+        scheduleNext();
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled) {
+        timerFuture.cancel(false);
+      }
+      return cancelled;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(nextRunNanos - System.nanoTime(), NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      return Long.compare(getDelay(NANOSECONDS), other.getDelay(NANOSECONDS));
+    }
+  }
+}
@@ -22,6 +22,7 @@ import okhttp3.Call;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
 
+import static oracle.kubernetes.operator.KubernetesConstants.ALL_DOMAINS_PATH;
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_PATH;
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_SCALE_PATH;
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_SPECIFIC_PATH;
@@ -560,9 +561,54 @@ public class WeblogicApi {
       Boolean watch,
       ApiCallback callback)
       throws ApiException {
+    return listDomainCall(
+        DOMAIN_PATH.replaceAll("\\{namespace\\}", this.localVarApiClient.escapeString(namespace)),
+        pretty, cont, fieldSelector, labelSelector, limit, resourceVersion, timeoutSeconds, watch, callback);
+  }
+
+  /**
+   * Generate call to list domains in all namespaces.
+   * @param pretty pretty flag
+   * @param cont continuation
+   * @param fieldSelector field selector
+   * @param labelSelector label selector
+   * @param limit limit
+   * @param resourceVersion resource version
+   * @param timeoutSeconds timeout
+   * @param watch if watch
+   * @param callback callback
+   * @return call
+   * @throws ApiException on failure
+   */
+  public Call listDomainForAllNamespacesCall(
+      String pretty,
+      String cont,
+      String fieldSelector,
+      String labelSelector,
+      Integer limit,
+      String resourceVersion,
+      Integer timeoutSeconds,
+      Boolean watch,
+      ApiCallback callback)
+      throws ApiException {
+    return listDomainCall(
+        ALL_DOMAINS_PATH,
+        pretty, cont, fieldSelector, labelSelector, limit, resourceVersion, timeoutSeconds, watch, callback);
+  }
+
+  private Call listDomainCall(
+      String localVarPath,
+      String pretty,
+      String cont,
+      String fieldSelector,
+      String labelSelector,
+      Integer limit,
+      String resourceVersion,
+      Integer timeoutSeconds,
+      Boolean watch,
+      ApiCallback callback)
+      throws ApiException {
     final Object localVarPostBody = null;
-    final String localVarPath =
-        DOMAIN_PATH.replaceAll("\\{namespace\\}", this.localVarApiClient.escapeString(namespace));
     final List<Pair> localVarQueryParams = new ArrayList();
     final List<Pair> localVarCollectionQueryParams = new ArrayList();
     if (pretty != null) {
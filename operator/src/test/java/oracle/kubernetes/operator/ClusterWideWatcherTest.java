@@ -0,0 +1,76 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.builders.WatchEvent.createAddedEvent;
+import static oracle.kubernetes.operator.builders.WatchEvent.createDeleteEvent;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ClusterWideWatcherTest {
+
+  private final ClusterWideWatcher<V1Pod> watcher = ClusterWideWatcher.forPods();
+  private final List<String> ns1Events = new ArrayList<>();
+  private final List<String> ns2Events = new ArrayList<>();
+
+  private static V1Pod createPod(String namespace, String name) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace(namespace).name(name));
+  }
+
+  private static String describe(Watch.Response<V1Pod> response) {
+    return response.type + " " + response.object.getMetadata().getName();
+  }
+
+  @Test
+  public void whenEventReceived_dispatchToListenerForNamespace() {
+    watcher.addNamespace("ns1", r -> ns1Events.add(describe(r)));
+    watcher.addNamespace("ns2", r -> ns2Events.add(describe(r)));
+
+    watcher.receivedResponse(createAddedEvent(createPod("ns1", "pod1")).toWatchResponse());
+    watcher.receivedResponse(createDeleteEvent(createPod("ns2", "pod2")).toWatchResponse());
+
+    assertThat(ns1Events, contains("ADDED pod1"));
+    assertThat(ns2Events, contains("DELETED pod2"));
+  }
+
+  @Test
+  public void whenEventReceivedForUnregisteredNamespace_discardIt() {
+    watcher.addNamespace("ns1", r -> ns1Events.add(describe(r)));
+
+    watcher.receivedResponse(createAddedEvent(createPod("other", "pod1")).toWatchResponse());
+
+    assertThat(ns1Events, empty());
+  }
+
+  @Test
+  public void whenJobEventReceived_dispatchToJobWatcherForNamespace() {
+    ClusterWideWatcher<V1Job> jobWatcher = ClusterWideWatcher.forJobs();
+    jobWatcher.addNamespace("ns1", r -> ns1Events.add(r.type + " " + r.object.getMetadata().getName()));
+
+    jobWatcher.receivedResponse(createAddedEvent(new V1Job().metadata(
+        new V1ObjectMeta().namespace("ns1").name("job1"))).toWatchResponse());
+
+    assertThat(ns1Events, contains("ADDED job1"));
+  }
+
+  @Test
+  public void afterNamespaceRemoved_stopDispatchingEvents() {
+    watcher.addNamespace("ns1", r -> ns1Events.add(describe(r)));
+    watcher.removeNamespace("ns1");
+
+    watcher.receivedResponse(createAddedEvent(createPod("ns1", "pod1")).toWatchResponse());
+
+    assertThat(ns1Events, empty());
+  }
+}
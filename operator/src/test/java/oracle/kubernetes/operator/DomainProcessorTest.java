@@ -20,8 +20,10 @@ import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.AnnotationHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainStatusWriter;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.LegalNames;
@@ -43,6 +45,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINNAME_LABEL;
@@ -56,6 +59,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.stringContainsInOrder;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -116,6 +120,7 @@ public class DomainProcessorTest {
     for (Memento memento : mementos) {
       memento.revert();
     }
+    DomainPresenceInfo.removeDomainState(NS, UID);
   }
 
   @Test
@@ -322,6 +327,55 @@ public class DomainProcessorTest {
     return Optional.ofNullable(updatedDomain).map(Domain::getStatus).map(DomainStatus::getMessage).orElse(null);
   }
 
+  @Test
+  public void whenDomainModifiedOnlyByOwnStatusWrite_dontProcessEvent() {
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    processor.makeRightDomainPresence(info, true, false, false);
+    info.getStatusWriter().recordProducedVersion(new V1ObjectMeta().resourceVersion("42"));
+    long selfInducedEvents = DomainStatusWriter.getSelfInducedEventCount();
+
+    Domain modified = createModifiedDomain("42", domain.getMetadata().getGeneration());
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(modified).toWatchResponse());
+
+    assertThat(DomainStatusWriter.getSelfInducedEventCount() - selfInducedEvents, equalTo(1L));
+    assertThat(info.getDomain(), sameInstance(modified));
+  }
+
+  @Test
+  public void whenDomainPresenceReplacedSinceOwnStatusWrite_dontProcessEvent() {
+    new DomainPresenceInfo(domain).getStatusWriter().recordProducedVersion(new V1ObjectMeta().resourceVersion("42"));
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    processor.makeRightDomainPresence(info, true, false, false);
+    long selfInducedEvents = DomainStatusWriter.getSelfInducedEventCount();
+
+    Domain modified = createModifiedDomain("42", domain.getMetadata().getGeneration());
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(modified).toWatchResponse());
+
+    assertThat(DomainStatusWriter.getSelfInducedEventCount() - selfInducedEvents, equalTo(1L));
+    assertThat(info.getDomain(), sameInstance(modified));
+  }
+
+  @Test
+  public void whenDomainSpecChangedSinceOwnStatusWrite_processEvent() {
+    domain.getMetadata().generation(1L);
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    processor.makeRightDomainPresence(info, true, false, false);
+    info.getStatusWriter().recordProducedVersion(new V1ObjectMeta().resourceVersion("42"));
+    long selfInducedEvents = DomainStatusWriter.getSelfInducedEventCount();
+
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(createModifiedDomain("42", 2L)).toWatchResponse());
+
+    assertThat(DomainStatusWriter.getSelfInducedEventCount(), equalTo(selfInducedEvents));
+  }
+
+  private Domain createModifiedDomain(String resourceVersion, Long generation) {
+    return new Domain()
+        .withMetadata(new V1ObjectMeta().name(UID).namespace(domain.getMetadata().getNamespace())
+            .creationTimestamp(domain.getMetadata().getCreationTimestamp())
+            .resourceVersion(resourceVersion).generation(generation))
+        .withSpec(domain.getSpec());
+  }
+
   private void defineDuplicateServerNames() {
     domain.getSpec().getManagedServers().add(new ManagedServer().withServerName("ms1"));
     domain.getSpec().getManagedServers().add(new ManagedServer().withServerName("ms1"));
@@ -6,17 +6,24 @@ package oracle.kubernetes.operator;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.collect.ImmutableMap;
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodStatus;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.KubernetesVersion;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.utils.RandomStringGenerator;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
@@ -35,6 +42,8 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static oracle.kubernetes.operator.DomainConditionMatcher.hasCondition;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
@@ -51,11 +60,14 @@ import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Progre
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class DomainStatusUpdaterTest {
   private static final String NAME = UID;
+  private static final int MIN_INTERVAL_MILLIS = 60_000;
   private final TerminalStep endStep = new TerminalStep();
   private final WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport("mydomain");
   private KubernetesTestSupport testSupport = new KubernetesTestSupport();
@@ -75,6 +87,7 @@ public class DomainStatusUpdaterTest {
   public void setUp() throws NoSuchFieldException {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
 
     domain.setStatus(new DomainStatus());
 
@@ -99,6 +112,7 @@ public class DomainStatusUpdaterTest {
     for (Memento memento : mementos) {
       memento.revert();
     }
+    DomainPresenceInfo.removeDomainState(NS, UID);
 
     testSupport.throwOnCompletionFailure();
   }
@@ -655,6 +669,38 @@ public class DomainStatusUpdaterTest {
     assertThat(testSupport.getNumCalls(), equalTo(0));
   }
 
+  @Test
+  public void whenStatusPatchFailsWithoutRetry_sameStatusIsWrittenByLaterStep() {
+    testSupport.failOnResource(KubernetesTestSupport.DOMAIN, NAME, NS, HTTP_BAD_REQUEST);
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    testSupport.verifyCompletionThrowable(ApiException.class);
+
+    testSupport.cancelFailures();
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withStatus("True").withReason(reason));
+  }
+
+  @Test
+  public void whenKubernetesVersionSupportsStatusSubresource_patchStatusSubresource() {
+    testSupport.addComponent("version", KubernetesVersion.class, new KubernetesVersion(1, 13));
+    testSupport.failOnResource(KubernetesTestSupport.DOMAIN + "Status", NAME, NS, HTTP_BAD_REQUEST);
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    testSupport.verifyCompletionThrowable(ApiException.class);
+  }
+
+  @Test
+  public void whenKubernetesVersionPrecedesStatusSubresource_patchDomain() {
+    testSupport.addComponent("version", KubernetesVersion.class, new KubernetesVersion(1, 12));
+    testSupport.failOnResource(KubernetesTestSupport.DOMAIN + "Status", NAME, NS, HTTP_BAD_REQUEST);
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withStatus("True").withReason(reason));
+  }
+
   @Test
   public void whenDomainHasFailedCondition_progressingStepRemovesIt() {
     domain.getStatus().addCondition(new DomainCondition(Failed));
@@ -823,6 +869,38 @@ public class DomainStatusUpdaterTest {
     assertThat(getRecordedDomain(), not(hasCondition(Available)));
   }
 
+  @Test
+  public void whenDomainPresenceReplaced_itSharesStatusWriter() {
+    assertThat(new DomainPresenceInfo(domain).getStatusWriter(), sameInstance(info.getStatusWriter()));
+  }
+
+  @Test
+  public void whenDomainPresenceReplacedWhileFlushPending_flushWritesThroughReplacement() throws Exception {
+    Map<String, DomainPresenceInfo> presenceInfos = new ConcurrentHashMap<>(ImmutableMap.of(UID, info));
+    mementos.add(StaticStubSupport.install(
+        DomainProcessorImpl.class, "DOMAINS", new ConcurrentHashMap<>(ImmutableMap.of(NS, presenceInfos))));
+    mementos.add(0, StaticStubSupport.install(
+        TuningParametersImpl.class, "INSTANCE", createStrictStub(ThrottlingTuningParametersStub.class)));
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("first", false, endStep));
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("second", false, endStep));
+
+    DomainPresenceInfo replacement = new DomainPresenceInfo(getRecordedDomain());
+    presenceInfos.put(UID, replacement);
+    testSupport.setTime(MIN_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withReason("second"));
+    assertThat(replacement.getDomain(), hasCondition(Progressing).withReason("second"));
+    assertThat(replacement.getStatusWriter().hasPendingStatus(), is(false));
+  }
+
+  // holds back any status change made within a minute of the previous write
+  abstract static class ThrottlingTuningParametersStub extends TuningParametersStub {
+    @Override
+    public MainTuning getMainTuning() {
+      return new MainTuning(2, 2, 2, 2, 2, 2, 2L, 2L, true, 10, 20, 20, false, 600, 0L, MIN_INTERVAL_MILLIS, 0);
+    }
+  }
+
   private Domain getRecordedDomain() {
     return testSupport.getResourceWithName(KubernetesTestSupport.DOMAIN, NAME);
   }
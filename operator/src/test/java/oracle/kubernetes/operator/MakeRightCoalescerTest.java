@@ -0,0 +1,143 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+public class MakeRightCoalescerTest {
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+  private static final long DEBOUNCE_MILLIS = 500;
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final ScheduledExecutorService executor = testSupport.createFiberGate().getExecutor();
+  private final List<MakeRight> makeRights = new ArrayList<>();
+  private final MakeRightCoalescer coalescer = new MakeRightCoalescer(
+      (info, isDeleting, isWillInterrupt) -> makeRights.add(new MakeRight(info, isDeleting, isWillInterrupt)));
+
+  private void request(DomainPresenceInfo info, boolean isWillInterrupt) {
+    coalescer.request(info, false, isWillInterrupt, false, executor, DEBOUNCE_MILLIS);
+  }
+
+  private void requestPriority(DomainPresenceInfo info, boolean isDeleting) {
+    coalescer.request(info, isDeleting, false, true, executor, DEBOUNCE_MILLIS);
+  }
+
+  private void endDebounceWindow() {
+    testSupport.setTime((int) DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  @Test
+  public void whenNoDebounceWindow_runMakeRightImmediately() {
+    DomainPresenceInfo info = new DomainPresenceInfo(NS, UID);
+
+    coalescer.request(info, false, false, false, executor, 0);
+
+    assertThat(makeRights, contains(new MakeRight(info, false, false)));
+  }
+
+  @Test
+  public void whenRequestMade_doNotRunMakeRightUntilWindowEnds() {
+    request(new DomainPresenceInfo(NS, UID), false);
+
+    assertThat(makeRights, empty());
+    assertThat(coalescer.isPending(NS, UID), equalTo(true));
+  }
+
+  @Test
+  public void whenSeveralRequestsMadeWithinWindow_runOneMakeRightWithLatestInfo() {
+    DomainPresenceInfo latest = new DomainPresenceInfo(NS, UID);
+
+    request(new DomainPresenceInfo(NS, UID), false);
+    request(new DomainPresenceInfo(NS, UID), false);
+    request(latest, false);
+    endDebounceWindow();
+
+    assertThat(makeRights, contains(new MakeRight(latest, false, false)));
+    assertThat(coalescer.isPending(NS, UID), equalTo(false));
+  }
+
+  @Test
+  public void whenAnyCoalescedRequestInterrupts_makeRightInterrupts() {
+    DomainPresenceInfo latest = new DomainPresenceInfo(NS, UID);
+
+    request(new DomainPresenceInfo(NS, UID), true);
+    request(latest, false);
+    endDebounceWindow();
+
+    assertThat(makeRights, contains(new MakeRight(latest, false, true)));
+  }
+
+  @Test
+  public void requestsForDifferentDomains_areNotCoalesced() {
+    request(new DomainPresenceInfo(NS, "domain1"), false);
+    request(new DomainPresenceInfo(NS, "domain2"), false);
+
+    assertThat(coalescer.isPending(NS, "domain1"), equalTo(true));
+    assertThat(coalescer.isPending(NS, "domain2"), equalTo(true));
+  }
+
+  @Test
+  public void whenPriorityRequestMade_runMakeRightImmediately() {
+    DomainPresenceInfo info = new DomainPresenceInfo(NS, UID);
+
+    requestPriority(info, false);
+
+    assertThat(makeRights, contains(new MakeRight(info, false, false)));
+  }
+
+  @Test
+  public void whenDeleteRequestedWithinWindow_replacePendingRequest() {
+    DomainPresenceInfo deleted = new DomainPresenceInfo(NS, UID);
+
+    request(new DomainPresenceInfo(NS, UID), true);
+    requestPriority(deleted, true);
+    endDebounceWindow();
+
+    assertThat(makeRights, contains(new MakeRight(deleted, true, true)));
+  }
+
+  static class MakeRight {
+    private final DomainPresenceInfo info;
+    private final boolean isDeleting;
+    private final boolean isWillInterrupt;
+
+    MakeRight(DomainPresenceInfo info, boolean isDeleting, boolean isWillInterrupt) {
+      this.info = info;
+      this.isDeleting = isDeleting;
+      this.isWillInterrupt = isWillInterrupt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof MakeRight)) {
+        return false;
+      }
+      MakeRight that = (MakeRight) o;
+      return info == that.info && isDeleting == that.isDeleting && isWillInterrupt == that.isWillInterrupt;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(info);
+    }
+
+    @Override
+    public String toString() {
+      return info.getDomainUid() + (isDeleting ? " deleting" : "") + (isWillInterrupt ? " interrupting" : "");
+    }
+  }
+}
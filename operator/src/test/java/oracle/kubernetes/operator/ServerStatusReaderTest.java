@@ -22,8 +22,12 @@ import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.LastKnownStatus;
 import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.utils.KubernetesExec;
 import oracle.kubernetes.operator.utils.KubernetesExecFactory;
@@ -35,6 +39,7 @@ import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import org.hamcrest.Matchers;
 import org.junit.After;
 import org.junit.Before;
@@ -44,6 +49,7 @@ import static com.meterware.simplestub.Stub.createStub;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -51,6 +57,8 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 public class ServerStatusReaderTest extends HttpUserAgentTest {
   private static final String NS = "namespace";
   private static final String UID = "uid";
+  private static final MainTuning POLL_TUNING
+      = new MainTuning(2, 2, 2, 2, 2, 5, 3L, 30L, true, 10, 20, 20, false, 600, 0L, 0L, 0);
   private final TerminalStep endStep = new TerminalStep();
   private final KubernetesExecFactoryFake execFactory = new KubernetesExecFactoryFake();
   private final ReadServerHealthStepFactoryFake stepFactory = new ReadServerHealthStepFactoryFake();
@@ -181,19 +189,153 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(stepFactory.serverNames, contains("server1"));
   }
 
+  private void makeReachableWithRest(String serverName) {
+    info.getServerPod(serverName).setStatus(new V1PodStatus().podIP("10.0.0.1"));
+    ServiceHelper.addToPresence(info, createServerService(serverName));
+  }
+
+  private V1Service createServerService(String serverName) {
+    return new V1Service().metadata(
+        withNames(new V1ObjectMeta().namespace(NS), serverName)
+            .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true")
+            .putLabelsItem("serviceType", "SERVER"));
+  }
+
+  @Test
+  public void whenPodNotReadyButReachableWithRest_recordStateFromRest() {
+    info.setServerPod("server1", createPod("server1"));
+    makeReachableWithRest("server1");
+    stepFactory.defineState("server1", "STARTING");
+    execFactory.defineResponse("server1", "state from exec");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(stepFactory.serverNames, contains("server1"));
+    assertThat(getServerStates(packet), hasEntry("server1", "STARTING"));
+  }
+
+  @Test
+  public void whenRestDoesNotReportState_recordStateFromExec() {
+    info.setServerPod("server1", createPod("server1"));
+    makeReachableWithRest("server1");
+    execFactory.defineResponse("server1", "state from exec");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "state from exec"));
+  }
+
+  @Test
+  public void whenServerReadNotDue_recordLastKnownStateWithoutReadingServer() {
+    info.setServerPod("server1", createPod("server1"));
+    setReadyStatus(info.getServerPod("server1"));
+    info.updateLastKnownServerStatus("server1", "RUNNING");
+    info.scheduleServerStatusPoll("server1", 60);
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(stepFactory.serverNames, empty());
+    assertThat(getServerStates(packet), hasEntry("server1", "RUNNING"));
+  }
+
+  @Test
+  public void afterServerRead_deferNextRead() {
+    info.setServerPod("server1", createPod("server1"));
+    execFactory.defineResponse("server1", "STARTING");
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(info.isServerStatusPollDue("server1"), is(false));
+  }
+
+  @Test
+  public void whenServerReadRequested_readIsDue() {
+    info.scheduleServerStatusPoll("server1", 60);
+
+    info.requestServerStatusPoll("server1");
+
+    assertThat(info.isServerStatusPollDue("server1"), is(true));
+  }
+
+  @Test
+  public void whenServerNotRunning_pollAtShortInterval() {
+    V1Pod pod = createPod("server1");
+    setReadyStatus(pod);
+
+    assertThat(
+        ServerStatusReader.getPollIntervalSeconds(
+            new LastKnownStatus("STARTING", 20), new ServerHealth().withOverallHealth("ok"), pod, POLL_TUNING),
+        is(3L));
+  }
+
+  @Test
+  public void whenServerUnhealthy_pollAtShortInterval() {
+    V1Pod pod = createPod("server1");
+    setReadyStatus(pod);
+
+    assertThat(
+        ServerStatusReader.getPollIntervalSeconds(
+            new LastKnownStatus("RUNNING", 20), new ServerHealth().withOverallHealth("warn"), pod, POLL_TUNING),
+        is(3L));
+  }
+
+  @Test
+  public void whenServerRecentlyStable_pollAtShortInterval() {
+    V1Pod pod = createPod("server1");
+    setReadyStatus(pod);
+
+    assertThat(
+        ServerStatusReader.getPollIntervalSeconds(
+            new LastKnownStatus("RUNNING", 4), new ServerHealth().withOverallHealth("ok"), pod, POLL_TUNING),
+        is(3L));
+  }
+
+  @Test
+  public void whenServerRemainsStable_increasePollIntervalUpToLongDelay() {
+    V1Pod pod = createPod("server1");
+    setReadyStatus(pod);
+    ServerHealth health = new ServerHealth().withOverallHealth("ok");
+
+    assertThat(
+        ServerStatusReader.getPollIntervalSeconds(new LastKnownStatus("RUNNING", 5), health, pod, POLL_TUNING),
+        is(6L));
+    assertThat(
+        ServerStatusReader.getPollIntervalSeconds(new LastKnownStatus("RUNNING", 6), health, pod, POLL_TUNING),
+        is(12L));
+    assertThat(
+        ServerStatusReader.getPollIntervalSeconds(new LastKnownStatus("RUNNING", 50), health, pod, POLL_TUNING),
+        is(30L));
+  }
+
   static class ReadServerHealthStepFactoryFake implements Function<Step, Step> {
     List<String> serverNames = new ArrayList<>();
+    private Map<String, String> states = new HashMap<>();
+
+    void defineState(String serverName, String state) {
+      states.put(serverName, state);
+    }
 
     @Override
     public Step apply(Step next) {
-      return new Step() {
+      return new Step(next) {
         @Override
         public NextAction apply(Packet packet) {
-          serverNames.add((String) packet.get(ProcessingConstants.SERVER_NAME));
+          String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+          serverNames.add(serverName);
+          Optional.ofNullable(states.get(serverName))
+              .ifPresent(state -> getServerStates(packet).put(serverName, state));
           return doNext(packet);
         }
       };
     }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> getServerStates(Packet packet) {
+      return (Map<String, String>) packet.get(SERVER_STATE_MAP);
+    }
   }
 
   static class KubernetesExecFactoryFake implements KubernetesExecFactory {
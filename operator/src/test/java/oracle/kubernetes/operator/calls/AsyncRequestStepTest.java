@@ -35,6 +35,7 @@ public class AsyncRequestStepTest {
 
   private static final int TIMEOUT_SECONDS = 10;
   private static final int MAX_RETRY_COUNT = 2;
+  private static final int QUEUED_CALL_TIMEOUT_SECONDS = 4;
   private FiberTestSupport testSupport = new FiberTestSupport();
   private RequestParams requestParams = new RequestParams("testcall", "junit", "testName", "body");
   private CallFactoryStub callFactory = new CallFactoryStub();
@@ -71,6 +72,7 @@ public class AsyncRequestStepTest {
     for (Memento memento : mementos) {
       memento.revert();
     }
+    CallScheduler.getInstance().setRate(0, 1);
   }
 
   @Test
@@ -131,6 +133,102 @@ public class AsyncRequestStepTest {
     assertTrue(callFactory.invokedWith(requestParams));
   }
 
+  @Test
+  public void afterFailedCallback_retryCounted() {
+    long initialRetryCount = CallMetrics.getRetryCount();
+
+    sendFailedCallback(HttpURLConnection.HTTP_UNAVAILABLE);
+
+    assertThat(CallMetrics.getRetryCount() - initialRetryCount, equalTo(1L));
+  }
+
+  @Test
+  public void afterTimeout_timeoutCounted() {
+    long initialTimeoutCount = CallMetrics.getTimeoutCount();
+
+    testSupport.setTime(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(CallMetrics.getTimeoutCount() - initialTimeoutCount, equalTo(1L));
+  }
+
+  @Test
+  public void whenBreakerOpen_postponeStatusCallWithoutCountingRetry() {
+    RequestParams statusParams = new RequestParams("replaceDomainStatus", "shed", "domain1", "body");
+    openBreakerFor(statusParams);
+    long initialRetryCount = CallMetrics.getRetryCount();
+
+    testSupport.runSteps(createStep(statusParams));
+
+    assertThat(callFactory.invokedWith(statusParams), equalTo(false));
+    assertThat(CallMetrics.getRetryCount(), equalTo(initialRetryCount));
+  }
+
+  @Test
+  public void whenCallStillQueuedAtDeadline_queueItAgainWithoutCountingRetryOrTimeout() {
+    long initialRetryCount = CallMetrics.getRetryCount();
+    long initialTimeoutCount = CallMetrics.getTimeoutCount();
+    long initialQueueTimeoutCount = CallMetrics.getQueueTimeoutCount();
+    RequestParams queuedParams = new RequestParams("readPod", "queued", "pod1", null);
+    CallFactoryStub queuedCallFactory = new CallFactoryStub();
+    holdCalls();
+    testSupport.runSteps(createQueuedStep(queuedParams, queuedCallFactory));
+
+    testSupport.setTime(QUEUED_CALL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(queuedCallFactory.invokedWith(queuedParams), equalTo(false));
+    assertThat(CallMetrics.getQueueTimeoutCount() - initialQueueTimeoutCount, equalTo(1L));
+    assertThat(CallMetrics.getRetryCount(), equalTo(initialRetryCount));
+    assertThat(CallMetrics.getTimeoutCount(), equalTo(initialTimeoutCount));
+  }
+
+  @Test
+  public void whenCallQueuedAgainIsMade_itsTimeoutIsNotDoubled() {
+    RequestParams queuedParams = new RequestParams("readPod", "queued", "pod1", null);
+    CallFactoryStub queuedCallFactory = new CallFactoryStub();
+    holdCalls();
+    testSupport.runSteps(createQueuedStep(queuedParams, queuedCallFactory));
+    testSupport.setTime(QUEUED_CALL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    releaseCalls();
+
+    assertThat(queuedCallFactory.invokedWith(queuedParams), equalTo(true));
+    assertThat(testSupport.hasItemScheduledAt(2 * QUEUED_CALL_TIMEOUT_SECONDS, TimeUnit.SECONDS), equalTo(false));
+  }
+
+  // the timeout differs from that of the step run by setUp, so that the queue deadline is scheduled separately
+  private AsyncRequestStep<Integer> createQueuedStep(RequestParams params, CallFactoryStub factory) {
+    return new AsyncRequestStep<>(
+        new TestStep(), params, factory, helper, QUEUED_CALL_TIMEOUT_SECONDS, MAX_RETRY_COUNT, null, null, null);
+  }
+
+  // limits the call rate so far that, once the only permit is used, later calls stay queued
+  private void holdCalls() {
+    CallScheduler.getInstance().setRate(0.001, 1);
+    testSupport.runSteps(createStep(new RequestParams("readPod", "holding", "pod1", null), new CallFactoryStub()));
+  }
+
+  // removes the call rate limit, and submits a status call so that the queued calls are made first
+  private void releaseCalls() {
+    CallScheduler.getInstance().setRate(0, 1);
+    testSupport.runSteps(
+        createStep(new RequestParams("replaceDomainStatus", "releasing", "domain1", "body"), new CallFactoryStub()));
+  }
+
+  private void openBreakerFor(RequestParams params) {
+    for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD; i++) {
+      CircuitBreaker.forCall(params).recordFailure();
+    }
+  }
+
+  private AsyncRequestStep<Integer> createStep(RequestParams params) {
+    return createStep(params, callFactory);
+  }
+
+  private AsyncRequestStep<Integer> createStep(RequestParams params, CallFactoryStub factory) {
+    return new AsyncRequestStep<>(
+        new TestStep(), params, factory, helper, TIMEOUT_SECONDS, MAX_RETRY_COUNT, null, null, null);
+  }
+
   // todo tests
   // can new request clear timeout action?
   // what is accessContinue?
@@ -0,0 +1,189 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.calls.CallScheduler.Priority;
+import org.junit.Test;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static com.meterware.simplestub.Stub.createStub;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+public class CallSchedulerTest {
+  private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private long now = 0;
+  private final CallScheduler scheduler = new CallScheduler(() -> now);
+  private final ExecutorStub executor = createStrictStub(ExecutorStub.class);
+  private final List<String> calls = new ArrayList<>();
+
+  private final List<String> abandonedCalls = new ArrayList<>();
+
+  private void submit(String call, String namespace, String name) {
+    scheduler.submit(new RequestParams(call, namespace, name, null), executor,
+        () -> abandonedCalls.contains(name), () -> calls.add(name));
+  }
+
+  private void advanceSeconds(long seconds) {
+    now += TimeUnit.SECONDS.toNanos(seconds);
+    executor.runScheduled();
+  }
+
+  @Test
+  public void whenRateNotLimited_makeCallsImmediately() {
+    submit("readPod", "ns1", "a");
+    submit("readPod", "ns1", "b");
+
+    assertThat(calls, contains("a", "b"));
+  }
+
+  @Test
+  public void whenRateLimited_makeOnlyBurstImmediately() {
+    scheduler.setRate(1, 2);
+
+    submit("readPod", "ns1", "a");
+    submit("readPod", "ns1", "b");
+    submit("readPod", "ns1", "c");
+
+    assertThat(calls, contains("a", "b"));
+    assertThat(scheduler.getQueuedCallCount(), equalTo(1));
+  }
+
+  @Test
+  public void whenRateLimited_waitForNextPermit() {
+    scheduler.setRate(2, 1);
+
+    submit("readPod", "ns1", "a");
+    submit("readPod", "ns1", "b");
+
+    assertThat(executor.delayNanos, equalTo(ONE_SECOND / 2));
+  }
+
+  @Test
+  public void whenPermitAvailable_makeQueuedCall() {
+    scheduler.setRate(1, 1);
+    submit("readPod", "ns1", "a");
+    submit("readPod", "ns1", "b");
+
+    advanceSeconds(1);
+
+    assertThat(calls, contains("a", "b"));
+    assertThat(scheduler.getQueuedCallCount(), equalTo(0));
+  }
+
+  @Test
+  public void queuedCalls_madeInPriorityOrder() {
+    scheduler.setRate(1, 1);
+    submit("readPod", "ns1", "first");
+
+    submit("replaceDomainStatus", "ns1", "status");
+    submit("listPod", "ns1", "list");
+    submit("createPod", "ns1", "create");
+    advanceSeconds(1);
+    advanceSeconds(1);
+    advanceSeconds(1);
+
+    assertThat(calls, contains("first", "create", "list", "status"));
+  }
+
+  @Test
+  public void queuedCallsOfOnePriority_madeForEachNamespaceInTurn() {
+    scheduler.setRate(1, 1);
+    submit("readPod", "ns1", "first");
+
+    submit("readPod", "ns1", "a1");
+    submit("readPod", "ns1", "a2");
+    submit("readPod", "ns1", "a3");
+    submit("readPod", "ns2", "b1");
+    for (int i = 0; i < 4; i++) {
+      advanceSeconds(1);
+    }
+
+    assertThat(calls, contains("first", "a1", "b1", "a2", "a3"));
+  }
+
+  @Test
+  public void whenQueuedCallAbandoned_dontMakeIt() {
+    scheduler.setRate(1, 1);
+    submit("readPod", "ns1", "a");
+    submit("readPod", "ns1", "b");
+
+    abandonedCalls.add("b");
+    advanceSeconds(1);
+
+    assertThat(calls, contains("a"));
+    assertThat(scheduler.getQueuedCallCount(), equalTo(0));
+  }
+
+  @Test
+  public void whenQueuedCallAbandoned_makeNextCallWithItsPermit() {
+    scheduler.setRate(1, 1);
+    submit("readPod", "ns1", "a");
+    submit("readPod", "ns1", "b");
+    submit("readPod", "ns1", "c");
+
+    abandonedCalls.add("b");
+    advanceSeconds(1);
+
+    assertThat(calls, contains("a", "c"));
+  }
+
+  @Test
+  public void whenRetryAfterReceived_makeNoCallsUntilDelayPasses() {
+    scheduler.pauseIfRequested(Collections.singletonMap("retry-after", Collections.singletonList("5")));
+
+    submit("readPod", "ns1", "a");
+    assertThat(calls, empty());
+
+    advanceSeconds(5);
+    assertThat(calls, contains("a"));
+  }
+
+  @Test
+  public void whenRetryAfterIsDate_ignoreIt() {
+    scheduler.pauseIfRequested(
+        Collections.singletonMap("Retry-After", Collections.singletonList("Wed, 21 Oct 2015 07:28:00 GMT")));
+
+    submit("readPod", "ns1", "a");
+
+    assertThat(calls, contains("a"));
+  }
+
+  @Test
+  public void callPriorities_orderStatusBelowReadsBelowWrites() {
+    assertThat(Priority.of("replaceDomainStatus"), equalTo(Priority.STATUS));
+    assertThat(Priority.of("listPod"), equalTo(Priority.READ));
+    assertThat(Priority.of("readConfigMap"), equalTo(Priority.READ));
+    assertThat(Priority.of("createPod"), equalTo(Priority.WRITE));
+    assertThat(Priority.of("deletePod"), equalTo(Priority.WRITE));
+  }
+
+  abstract static class ExecutorStub implements ScheduledExecutorService {
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private long delayNanos;
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+      scheduled.add(command);
+      delayNanos = unit.toNanos(delay);
+      return createStub(ScheduledFuture.class);
+    }
+
+    void runScheduled() {
+      List<Runnable> runnables = new ArrayList<>(scheduled);
+      scheduled.clear();
+      runnables.forEach(Runnable::run);
+    }
+  }
+}
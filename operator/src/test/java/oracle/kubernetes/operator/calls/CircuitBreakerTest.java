@@ -0,0 +1,138 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import oracle.kubernetes.operator.calls.CircuitBreaker.State;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.calls.CircuitBreaker.FAILURE_THRESHOLD;
+import static oracle.kubernetes.operator.calls.CircuitBreaker.OPEN_NANOS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class CircuitBreakerTest {
+  private static final String STATUS_CALL = "replaceDomainStatus";
+  private static final String WRITE_CALL = "createPod";
+
+  private long now = 0;
+  private final CircuitBreaker breaker = new CircuitBreaker(() -> now);
+
+  private void recordFailures(int count) {
+    for (int i = 0; i < count; i++) {
+      breaker.recordFailure();
+    }
+  }
+
+  private void openBreaker() {
+    recordFailures(FAILURE_THRESHOLD);
+  }
+
+  @Test
+  public void initially_breakerIsClosed() {
+    assertThat(breaker.getState(), equalTo(State.CLOSED));
+    assertThat(breaker.allows(STATUS_CALL), equalTo(true));
+  }
+
+  @Test
+  public void whenFewerFailuresThanThreshold_breakerStaysClosed() {
+    recordFailures(FAILURE_THRESHOLD - 1);
+
+    assertThat(breaker.getState(), equalTo(State.CLOSED));
+  }
+
+  @Test
+  public void whenSuccessInterruptsFailures_breakerStaysClosed() {
+    recordFailures(FAILURE_THRESHOLD - 1);
+    breaker.recordSuccess();
+    recordFailures(FAILURE_THRESHOLD - 1);
+
+    assertThat(breaker.getState(), equalTo(State.CLOSED));
+  }
+
+  @Test
+  public void whenFailuresReachThreshold_breakerOpens() {
+    openBreaker();
+
+    assertThat(breaker.getState(), equalTo(State.OPEN));
+  }
+
+  @Test
+  public void whenBreakerOpen_shedStatusCallsOnly() {
+    openBreaker();
+
+    assertThat(breaker.allows(STATUS_CALL), equalTo(false));
+    assertThat(breaker.allows(WRITE_CALL), equalTo(true));
+  }
+
+  @Test
+  public void afterOpenPeriod_breakerIsHalfOpenAndAllowsCalls() {
+    openBreaker();
+
+    now += OPEN_NANOS;
+
+    assertThat(breaker.getState(), equalTo(State.HALF_OPEN));
+    assertThat(breaker.allows(STATUS_CALL), equalTo(true));
+  }
+
+  @Test
+  public void whileBreakerOpen_reportTimeUntilHalfOpen() {
+    openBreaker();
+
+    now += OPEN_NANOS / 3;
+
+    assertThat(breaker.getNanosUntilHalfOpen(), equalTo(OPEN_NANOS - OPEN_NANOS / 3));
+  }
+
+  @Test
+  public void whenBreakerNotOpen_reportNoTimeUntilHalfOpen() {
+    assertThat(breaker.getNanosUntilHalfOpen(), equalTo(0L));
+  }
+
+  @Test
+  public void breakersForSameCall_areSeparatedByNamespace() {
+    CircuitBreaker breaker1 = CircuitBreaker.forCall(new RequestParams(STATUS_CALL, "ns1", "domain1", null));
+    CircuitBreaker breaker2 = CircuitBreaker.forCall(new RequestParams(STATUS_CALL, "ns2", "domain2", null));
+
+    assertThat(breaker1, not(sameInstance(breaker2)));
+    assertThat(breaker1.getNamespace(), equalTo("ns1"));
+  }
+
+  @Test
+  public void breakersForSameCallAndNamespace_areShared() {
+    CircuitBreaker breaker1 = CircuitBreaker.forCall(new RequestParams(STATUS_CALL, "ns1", "domain1", null));
+    CircuitBreaker breaker2 = CircuitBreaker.forCall(new RequestParams(STATUS_CALL, "ns1", "domain2", null));
+
+    assertThat(breaker1, sameInstance(breaker2));
+  }
+
+  @Test
+  public void whenHalfOpenBreakerSeesFailure_breakerOpensAgain() {
+    openBreaker();
+    now += OPEN_NANOS;
+
+    breaker.recordFailure();
+
+    assertThat(breaker.getState(), equalTo(State.OPEN));
+  }
+
+  @Test
+  public void whenHalfOpenBreakerSeesSuccess_breakerCloses() {
+    openBreaker();
+    now += OPEN_NANOS;
+
+    breaker.recordSuccess();
+
+    assertThat(breaker.getState(), equalTo(State.CLOSED));
+  }
+
+  @Test
+  public void tooManyRequestsAndServerErrors_countAsFailures() {
+    assertThat(CircuitBreaker.isFailure(429), equalTo(true));
+    assertThat(CircuitBreaker.isFailure(503), equalTo(true));
+    assertThat(CircuitBreaker.isFailure(404), equalTo(false));
+    assertThat(CircuitBreaker.isFailure(409), equalTo(false));
+  }
+}
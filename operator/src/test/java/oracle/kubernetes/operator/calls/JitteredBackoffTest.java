@@ -0,0 +1,74 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class JitteredBackoffTest {
+  private static final long BASE = 200;
+  private static final long CAP = 10000;
+
+  @Test
+  public void delays_stayBetweenBaseAndThreeTimesPreviousDelay() {
+    JitteredBackoff backoff = new JitteredBackoff(BASE, CAP, new Random(17));
+
+    long previous = BASE;
+    for (int i = 0; i < 20; i++) {
+      long delay = backoff.nextDelayMillis();
+      assertThat(delay, allOf(greaterThanOrEqualTo(BASE), lessThanOrEqualTo(Math.min(CAP, previous * 3))));
+      previous = delay;
+    }
+  }
+
+  @Test
+  public void whenRandomAlwaysHigh_delaysGrowToCap() {
+    JitteredBackoff backoff = new JitteredBackoff(BASE, CAP, new HighRandom());
+
+    assertThat(backoff.nextDelayMillis(), equalTo(BASE * 3));
+    assertThat(backoff.nextDelayMillis(), equalTo(BASE * 9));
+    assertThat(backoff.nextDelayMillis(), equalTo(BASE * 27));
+    assertThat(backoff.nextDelayMillis(), equalTo(CAP));
+  }
+
+  @Test
+  public void afterReset_delaysStartAgainFromBase() {
+    JitteredBackoff backoff = new JitteredBackoff(BASE, CAP, new HighRandom());
+    backoff.nextDelayMillis();
+    backoff.nextDelayMillis();
+
+    backoff.reset();
+
+    assertThat(backoff.nextDelayMillis(), equalTo(BASE * 3));
+  }
+
+  @Test
+  public void whenRandomAlwaysLow_delaysStayAtBase() {
+    JitteredBackoff backoff = new JitteredBackoff(BASE, CAP, new LowRandom());
+
+    assertThat(backoff.nextDelayMillis(), equalTo(BASE));
+    assertThat(backoff.nextDelayMillis(), equalTo(BASE));
+  }
+
+  static class HighRandom extends Random {
+    @Override
+    public double nextDouble() {
+      return 1.0;
+    }
+  }
+
+  static class LowRandom extends Random {
+    @Override
+    public double nextDouble() {
+      return 0.0;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import oracle.kubernetes.operator.helpers.ClientPool;
+import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ListCallFactoryTest {
+  private static final String[] CONTINUE_TOKENS = {"page2", "page3", null};
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final List<String> requestedContinues = new ArrayList<>();
+  private final ListCallFactory<V1PodList> factory = new ListCallFactory<>(this::listPage, V1PodList::getMetadata);
+  private final PageStep pageStep = new PageStep();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  // returns a page with one pod, named for the page, and the token for the next page
+  private CancellableCall listPage(
+      RequestParams requestParams, ApiClient client, String cont, ApiCallback<V1PodList> callback) {
+    int page = requestedContinues.size();
+    requestedContinues.add(cont);
+    V1PodList list = new V1PodList()
+        .metadata(new V1ListMeta()._continue(CONTINUE_TOKENS[page]))
+        .items(Collections.singletonList(new V1Pod().metadata(new V1ObjectMeta().name("pod" + (page + 1)))));
+    callback.onSuccess(list, HttpURLConnection.HTTP_OK, Collections.emptyMap());
+    return () -> { };
+  }
+
+  private void runListSteps() {
+    testSupport.runSteps(new AsyncRequestStep<>(pageStep, new RequestParams("listPod", "junit", null, null),
+        factory, ClientPool.getInstance(), 10, 2, null, null, null));
+  }
+
+  @Test
+  public void continueToken_isReadFromListMetadata() {
+    V1PodList list = new V1PodList().metadata(new V1ListMeta()._continue("next"));
+
+    assertThat(factory.getContinue(list), equalTo("next"));
+  }
+
+  @Test
+  public void whenNoResult_continueTokenIsNull() {
+    assertThat(factory.getContinue(null), nullValue());
+  }
+
+  @Test
+  public void pagedList_isHandedToResponseStepOnePageAtATime() {
+    runListSteps();
+
+    assertThat(pageStep.podNames, contains("pod1", "pod2", "pod3"));
+  }
+
+  @Test
+  public void pagedList_requestsEachPageWithPreviousContinueToken() {
+    runListSteps();
+
+    assertThat(requestedContinues, contains("", "page2", "page3"));
+  }
+
+  @Test
+  public void pagedList_marksFirstAndLastPages() {
+    runListSteps();
+
+    assertThat(pageStep.firstPages, contains(true, false, false));
+    assertThat(pageStep.lastPages, contains(false, false, true));
+  }
+
+  static class PageStep extends ResponseStep<V1PodList> {
+    private final List<String> podNames = new ArrayList<>();
+    private final List<Boolean> firstPages = new ArrayList<>();
+    private final List<Boolean> lastPages = new ArrayList<>();
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1PodList> callResponse) {
+      callResponse.getResult().getItems().forEach(pod -> podNames.add(pod.getMetadata().getName()));
+      firstPages.add(callResponse.isFirstPage());
+      lastPages.add(callResponse.isLastPage());
+      return doContinueListOrNext(callResponse, packet);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.util.Yaml;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.helpers.AnnotationHelper.SHA256_ANNOTATION;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+public class AnnotationHelperTest {
+
+  private static V1Pod createRecipe(String nodeName) {
+    return new V1Pod().metadata(new V1ObjectMeta().name("pod")).spec(new V1PodSpec().nodeName(nodeName));
+  }
+
+  // Annotates a pod as an earlier version of the operator did.
+  private static V1Pod withLegacyHash(V1Pod pod) {
+    pod.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, DigestUtils.sha256Hex(Yaml.dump(pod)));
+    return pod;
+  }
+
+  @Test
+  public void hashAnnotationIsVersioned() {
+    assertThat(AnnotationHelper.getHash(AnnotationHelper.withSha256Hash(createRecipe("node1"))), startsWith("v2:"));
+  }
+
+  @Test
+  public void whenHashesMatch_canUseCurrentPod() {
+    V1Pod model = AnnotationHelper.withSha256Hash(createRecipe("node1"));
+    V1Pod current = AnnotationHelper.withSha256Hash(createRecipe("node1"));
+
+    assertThat(AnnotationHelper.hasMatchingHash(model, current, () -> createRecipe("node1")), is(true));
+  }
+
+  @Test
+  public void whenHashesDiffer_cannotUseCurrentPod() {
+    V1Pod model = AnnotationHelper.withSha256Hash(createRecipe("node1"));
+    V1Pod current = AnnotationHelper.withSha256Hash(createRecipe("node2"));
+
+    assertThat(AnnotationHelper.hasMatchingHash(model, current, () -> createRecipe("node1")), is(false));
+  }
+
+  @Test
+  public void whenLegacyHashMatchesRecipe_canUseCurrentPod() {
+    V1Pod model = AnnotationHelper.withSha256Hash(createRecipe("node1"));
+    V1Pod current = withLegacyHash(createRecipe("node1"));
+
+    assertThat(AnnotationHelper.hasMatchingHash(model, current, () -> createRecipe("node1")), is(true));
+  }
+
+  @Test
+  public void whenLegacyHashDoesNotMatchRecipe_cannotUseCurrentPod() {
+    V1Pod model = AnnotationHelper.withSha256Hash(createRecipe("node1"));
+    V1Pod current = withLegacyHash(createRecipe("node2"));
+
+    assertThat(AnnotationHelper.hasMatchingHash(model, current, () -> createRecipe("node1")), is(false));
+  }
+
+  @Test
+  public void whenPodHasLegacyHash_reportIt() {
+    assertThat(AnnotationHelper.hasLegacyHash(withLegacyHash(createRecipe("node1"))), is(true));
+  }
+
+  @Test
+  public void whenPodHasCurrentHash_doNotReportLegacyHash() {
+    assertThat(AnnotationHelper.hasLegacyHash(AnnotationHelper.withSha256Hash(createRecipe("node1"))), is(false));
+  }
+}
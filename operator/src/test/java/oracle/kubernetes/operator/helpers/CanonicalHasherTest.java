@@ -0,0 +1,95 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+public class CanonicalHasherTest {
+
+  private static V1Pod createPod() {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta().name("domain1-ms1").putLabelsItem("a", "1").putLabelsItem("b", "2"))
+        .spec(new V1PodSpec()
+            .addContainersItem(new V1Container()
+                .name("weblogic-server")
+                .image("store/oracle/weblogic:12.2.1.4")
+                .addPortsItem(new V1ContainerPort().containerPort(8001).protocol("TCP"))
+                .resources(new V1ResourceRequirements().putLimitsItem("memory", Quantity.fromString("1Gi")))));
+  }
+
+  private static String hash(Object object) {
+    return CanonicalHasher.sha256Hex(object);
+  }
+
+  @Test
+  public void hashIsStableAcrossReleases() {
+    assertThat(hash(createPod()), equalTo("575e85f1381d075ac757a1b814ce827fcf4c07fce3faa399c70a12a03a0488d4"));
+  }
+
+  @Test
+  public void whenEqualObjectsHashed_hashesAreEqual() {
+    assertThat(hash(createPod()), equalTo(hash(createPod())));
+  }
+
+  @Test
+  public void whenFieldValueDiffers_hashesDiffer() {
+    V1Pod pod = createPod();
+    pod.getSpec().getContainers().get(0).image("store/oracle/weblogic:14.1.1.0");
+
+    assertThat(hash(pod), not(equalTo(hash(createPod()))));
+  }
+
+  @Test
+  public void whenMapEntriesAddedInDifferentOrder_hashesAreEqual() {
+    V1Pod pod = createPod();
+    pod.getMetadata().setLabels(new LinkedHashMap<>(Map.of("b", "2")));
+    pod.getMetadata().putLabelsItem("a", "1");
+
+    assertThat(hash(pod), equalTo(hash(createPod())));
+  }
+
+  @Test
+  public void whenCollectionIsEmpty_hashAsIfUnset() {
+    V1Pod pod = createPod();
+    pod.getSpec().setVolumes(new ArrayList<>());
+    pod.getMetadata().setAnnotations(Collections.emptyMap());
+
+    assertThat(hash(pod), equalTo(hash(createPod())));
+  }
+
+  @Test
+  public void whenNumbersHaveDifferentTypes_hashesAreEqual() {
+    assertThat(hash(Map.of("port", 8001)), equalTo(hash(Map.of("port", 8001L))));
+  }
+
+  @Test
+  public void whenIntOrStringHoldsNumber_hashLikeNumber() {
+    assertThat(hash(new IntOrString(8001)), equalTo(hash(8001)));
+  }
+
+  @Test
+  public void whenValueMovesBetweenFields_hashesDiffer() {
+    V1ObjectMeta first = new V1ObjectMeta().name("a").namespace("");
+    V1ObjectMeta second = new V1ObjectMeta().name("").namespace("a");
+
+    assertThat(hash(first), not(equalTo(hash(second))));
+  }
+}
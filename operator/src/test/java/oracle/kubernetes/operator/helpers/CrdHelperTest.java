@@ -32,6 +32,8 @@ import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.operator.VersionConstants.OPERATOR_V1;
 import static oracle.kubernetes.operator.logging.MessageKeys.CREATING_CRD;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -114,6 +116,21 @@ public class CrdHelperTest {
     testSupport.verifyCompletionThrowable(ApiException.class);
   }
 
+  @Test
+  public void whenKubernetesVersionSupportsStatusSubresource_declareIt() {
+    V1beta1CustomResourceDefinition crd = CrdHelper.CrdContext.createModel(new KubernetesVersion(1, 13));
+
+    assertThat(crd.getSpec().getSubresources().getStatus(), notNullValue());
+  }
+
+  @Test
+  public void whenKubernetesVersionPrecedesStatusSubresource_declareOnlyScale() {
+    V1beta1CustomResourceDefinition crd = CrdHelper.CrdContext.createModel(new KubernetesVersion(1, 12));
+
+    assertThat(crd.getSpec().getSubresources().getScale(), notNullValue());
+    assertThat(crd.getSpec().getSubresources().getStatus(), nullValue());
+  }
+
   @Test
   public void whenNoCrd_createIt() {
     expectReadCrd().failingWithStatus(HttpURLConnection.HTTP_NOT_FOUND);
@@ -0,0 +1,202 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import org.junit.Test;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static com.meterware.simplestub.Stub.createStub;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class DomainStatusWriterTest {
+  private static final long MIN_INTERVAL_MILLIS = 1000;
+
+  private long now = 5000;
+  private final DomainStatusWriter writer = new DomainStatusWriter(() -> MIN_INTERVAL_MILLIS, () -> now);
+  private final ExecutorStub executor = createStrictStub(ExecutorStub.class);
+  private final DomainStatus writtenStatus = new DomainStatus().withReplicas(1);
+
+  private boolean offer(DomainStatus status) {
+    return writer.offer(status, executor, () -> { });
+  }
+
+  @Test
+  public void firstStatusChange_isWrittenImmediately() {
+    assertThat(offer(new DomainStatus().withReplicas(2)), equalTo(true));
+  }
+
+  @Test
+  public void whenStatusChangedWithinInterval_holdItBack() {
+    offer(new DomainStatus().withReplicas(2));
+    now += MIN_INTERVAL_MILLIS / 2;
+
+    assertThat(offer(new DomainStatus().withReplicas(3)), equalTo(false));
+    assertThat(writer.isFlushScheduled(), equalTo(true));
+    assertThat(executor.delayMillis, equalTo(MIN_INTERVAL_MILLIS / 2));
+  }
+
+  @Test
+  public void whenStatusChangedAfterInterval_writeItImmediately() {
+    offer(new DomainStatus().withReplicas(2));
+    now += MIN_INTERVAL_MILLIS;
+
+    assertThat(offer(new DomainStatus().withReplicas(3)), equalTo(true));
+  }
+
+  @Test
+  public void whenSeveralChangesHeldBack_scheduleOneFlush() {
+    offer(new DomainStatus().withReplicas(2));
+    offer(new DomainStatus().withReplicas(3));
+    offer(new DomainStatus().withReplicas(4));
+
+    assertThat(executor.scheduled, hasSize(1));
+  }
+
+  @Test
+  public void whenFlushed_writeLatestHeldBackStatus() {
+    DomainStatus latest = new DomainStatus().withReplicas(4);
+    offer(new DomainStatus().withReplicas(2));
+    offer(new DomainStatus().withReplicas(3));
+    offer(latest);
+
+    assertThat(writer.startFlush(), sameInstance(latest));
+    assertThat(writer.isFlushScheduled(), equalTo(false));
+  }
+
+  @Test
+  public void whileChangeIsPending_latestStatusIsPendingStatus() {
+    DomainStatus pending = new DomainStatus().withReplicas(2);
+    offer(pending);
+
+    assertThat(writer.getLatestStatus(writtenStatus), sameInstance(pending));
+  }
+
+  @Test
+  public void afterPendingStatusWritten_latestStatusIsWrittenStatus() {
+    DomainStatus pending = new DomainStatus().withReplicas(2);
+    offer(pending);
+    writer.recordWritten(pending);
+
+    assertThat(writer.getLatestStatus(writtenStatus), sameInstance(writtenStatus));
+  }
+
+  @Test
+  public void whenLaterChangeHeldBack_writingEarlierStatusLeavesItPending() {
+    DomainStatus first = new DomainStatus().withReplicas(2);
+    DomainStatus second = new DomainStatus().withReplicas(3);
+    offer(first);
+    offer(second);
+    writer.recordWritten(first);
+
+    assertThat(writer.getLatestStatus(writtenStatus), sameInstance(second));
+  }
+
+  @Test
+  public void afterPendingStatusWriteFailed_nothingIsPending() {
+    DomainStatus pending = new DomainStatus().withReplicas(2);
+    offer(pending);
+    writer.recordWriteFailed(pending);
+
+    assertThat(writer.hasPendingStatus(), equalTo(false));
+    assertThat(writer.getLatestStatus(writtenStatus), sameInstance(writtenStatus));
+  }
+
+  @Test
+  public void whenLaterChangeHeldBack_failedWriteOfEarlierStatusLeavesItPending() {
+    DomainStatus first = new DomainStatus().withReplicas(2);
+    DomainStatus second = new DomainStatus().withReplicas(3);
+    offer(first);
+    offer(second);
+    writer.recordWriteFailed(first);
+
+    assertThat(writer.getLatestStatus(writtenStatus), sameInstance(second));
+  }
+
+  @Test
+  public void whenNothingPending_flushWritesNothing() {
+    assertThat(writer.startFlush(), nullValue());
+  }
+
+  @Test
+  public void heldBackChanges_areCounted() {
+    long sent = DomainStatusWriter.getPatchesSent();
+    long suppressed = DomainStatusWriter.getPatchesSuppressed();
+
+    offer(new DomainStatus().withReplicas(2));
+    offer(new DomainStatus().withReplicas(3));
+    offer(new DomainStatus().withReplicas(4));
+    writer.startFlush();
+
+    assertThat(DomainStatusWriter.getPatchesSent() - sent, equalTo(2L));
+    assertThat(DomainStatusWriter.getPatchesSuppressed() - suppressed, equalTo(2L));
+  }
+
+  @Test
+  public void whenEventReportsProducedVersionWithSameGeneration_itIsSelfInduced() {
+    writer.recordProducedVersion(new V1ObjectMeta().resourceVersion("42"));
+
+    assertThat(writer.isSelfInduced(createDomain("41", 3L), createDomain("42", 3L)), equalTo(true));
+  }
+
+  @Test
+  public void producedVersion_isRecognizedOnlyOnce() {
+    writer.recordProducedVersion(new V1ObjectMeta().resourceVersion("42"));
+    writer.isSelfInduced(createDomain("41", 3L), createDomain("42", 3L));
+
+    assertThat(writer.isSelfInduced(createDomain("41", 3L), createDomain("42", 3L)), equalTo(false));
+  }
+
+  @Test
+  public void whenEventReportsOtherVersion_itIsNotSelfInduced() {
+    writer.recordProducedVersion(new V1ObjectMeta().resourceVersion("42"));
+
+    assertThat(writer.isSelfInduced(createDomain("41", 3L), createDomain("43", 3L)), equalTo(false));
+  }
+
+  @Test
+  public void whenEventReportsNewGeneration_itIsNotSelfInduced() {
+    writer.recordProducedVersion(new V1ObjectMeta().resourceVersion("42"));
+
+    assertThat(writer.isSelfInduced(createDomain("41", 3L), createDomain("42", 4L)), equalTo(false));
+  }
+
+  @Test
+  public void onlyMostRecentProducedVersions_areRemembered() {
+    for (int i = 0; i <= DomainStatusWriter.MAX_PRODUCED_VERSIONS; i++) {
+      writer.recordProducedVersion(new V1ObjectMeta().resourceVersion(Integer.toString(i)));
+    }
+
+    assertThat(writer.isSelfInduced(createDomain("0", 3L), createDomain("0", 3L)), equalTo(false));
+    assertThat(writer.isSelfInduced(createDomain("0", 3L), createDomain("1", 3L)), equalTo(true));
+  }
+
+  private Domain createDomain(String resourceVersion, Long generation) {
+    return new Domain().withMetadata(new V1ObjectMeta().resourceVersion(resourceVersion).generation(generation));
+  }
+
+  abstract static class ExecutorStub implements ScheduledExecutorService {
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private long delayMillis;
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+      scheduled.add(command);
+      delayMillis = unit.toMillis(delay);
+      return createStub(ScheduledFuture.class);
+    }
+  }
+}
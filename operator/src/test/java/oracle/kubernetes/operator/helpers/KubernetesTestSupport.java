@@ -104,6 +104,9 @@ public class KubernetesTestSupport extends FiberTestSupport {
   public static final String SELF_SUBJECT_RULES_REVIEW = "SelfSubjectRulesReview";
   public static final String TOKEN_REVIEW = "TokenReview";
 
+  private static final String STATUS_SUBRESOURCE = "Status";
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
+
   private Map<String, DataRepository<?>> repositories = new HashMap<>();
   private Map<Class<?>, String> dataTypes = new HashMap<>();
   private Failure failure;
@@ -334,6 +337,13 @@ public class KubernetesTestSupport extends FiberTestSupport {
     failOnResource(resourceType, name, null, httpStatus);
   }
 
+  /**
+   * Cancels any failure specified earlier, so that later operations succeed.
+   */
+  public void cancelFailures() {
+    failure = null;
+  }
+
   @SuppressWarnings("unused")
   private enum Operation {
     create {
@@ -449,6 +459,17 @@ public class KubernetesTestSupport extends FiberTestSupport {
     public void revert() {
       CallBuilder.resetStepFactory();
       CallBuilder.resetCallDispatcher();
+      discardDomainState();
+    }
+
+    // the status writer and server read limiter of a domain outlive its presence info, and so each test
+    // must discard those of the domains it used
+    private void discardDomainState() {
+      for (Domain domain : KubernetesTestSupport.this.<Domain>getResources(DOMAIN)) {
+        DomainPresenceInfo.removeDomainState(domain.getMetadata().getNamespace(), domain.getDomainUid());
+      }
+      Optional.ofNullable(getPacket().getSpi(DomainPresenceInfo.class))
+          .ifPresent(info -> DomainPresenceInfo.removeDomainState(info.getNamespace(), info.getDomainUid()));
     }
 
     @Override
@@ -485,6 +506,9 @@ public class KubernetesTestSupport extends FiberTestSupport {
         return (T) new CallContext(requestParams).execute();
       } catch (HttpErrorException e) {
         throw e.getApiException();
+      } catch (JsonException e) {
+        // Kubernetes rejects a patch which cannot be applied, such as one whose test operation fails
+        throw new ApiException(HTTP_UNPROCESSABLE_ENTITY, e.getMessage());
       }
     }
   }
@@ -825,6 +849,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     private final String[] labelSelector;
     private String resourceType;
     private Operation operation;
+    private boolean isStatusSubresourceCall;
 
     CallContext(RequestParams requestParams) {
       this(requestParams, null, null);
@@ -845,9 +870,26 @@ public class KubernetesTestSupport extends FiberTestSupport {
 
       if (isDeleteCollection()) {
         selectDeleteCollectionOperation();
+      } else if (isStatusSubresource()) {
+        selectStatusSubresource();
       }
     }
 
+    // a call to the status subresource of a resource acts on the resource itself
+    private boolean isStatusSubresource() {
+      return resourceType.endsWith(STATUS_SUBRESOURCE)
+          && repositories.containsKey(getStatusSubresourceOwner());
+    }
+
+    private void selectStatusSubresource() {
+      resourceType = getStatusSubresourceOwner();
+      isStatusSubresourceCall = true;
+    }
+
+    private String getStatusSubresourceOwner() {
+      return resourceType.substring(0, resourceType.length() - STATUS_SUBRESOURCE.length());
+    }
+
     private boolean isDeleteCollection() {
       return resourceType.endsWith("Collection");
     }
@@ -868,13 +910,19 @@ public class KubernetesTestSupport extends FiberTestSupport {
     }
 
     private Object execute() {
-      if (failure != null && failure.matches(resourceType, requestParams, operation)) {
+      if (failure != null && isFailureSelected()) {
         throw failure.getException();
       }
 
       return operation.execute(this, repositories.get(resourceType));
     }
 
+    // a failure for a resource also applies to its status subresource, but not the reverse
+    private boolean isFailureSelected() {
+      return failure.matches(resourceType, requestParams, operation)
+          || isStatusSubresourceCall && failure.matches(resourceType + STATUS_SUBRESOURCE, requestParams, operation);
+    }
+
     @SuppressWarnings("unchecked")
     <T> T createResource(DataRepository<T> dataRepository) {
       return dataRepository.createResource(requestParams.namespace, (T) requestParams.body);
@@ -192,6 +192,20 @@ public class KubernetesTestSupportTest {
     assertThat(getCreationTimestamp(updatedDomain), equalTo(getCreationTimestamp(originalDomain)));
   }
 
+  @Test
+  public void afterPatchDomainStatus_domainHasNewStatus() {
+    testSupport.defineResources(createDomain(NS, "domain1"));
+
+    JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+    patchBuilder.add("/status", Json.createObjectBuilder().add("replicas", 3).build());
+    Step steps = new CallBuilder()
+          .patchDomainStatusAsync("domain1", NS, new V1Patch(patchBuilder.build().toString()), null);
+    testSupport.runSteps(steps);
+
+    Domain updatedDomain = testSupport.getResourceWithName(DOMAIN, "domain1");
+    assertThat(updatedDomain.getStatus().getReplicas(), equalTo(3));
+  }
+
   private DateTime getCreationTimestamp(Domain domain) {
     return domain.getMetadata().getCreationTimestamp();
   }
@@ -48,7 +48,7 @@ public abstract class TuningParametersStub implements TuningParameters {
 
   @Override
   public MainTuning getMainTuning() {
-    return new MainTuning(2, 2, 2, 2, 2, 2, 2L, 2L);
+    return new MainTuning(2, 2, 2, 2, 2, 2, 2L, 2L, true, 10, 20, 20, false, 600, 0L, 0L, 0);
   }
 
   @Override
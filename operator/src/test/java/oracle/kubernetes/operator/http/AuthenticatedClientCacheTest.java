@@ -0,0 +1,111 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import javax.ws.rs.core.Response.Status;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.Stub;
+import oracle.kubernetes.operator.http.HttpClientTest.ClientStub;
+import oracle.kubernetes.operator.http.HttpClientTest.ResponseStub;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class AuthenticatedClientCacheTest {
+  private static final String NS = "namespace";
+  private static final String SECRET_NAME = "weblogic-credentials";
+  private static final String URL = "http://server:7001";
+
+  private final AuthenticatedClientCache cache = AuthenticatedClientCache.getInstance();
+  private final HttpClient client = Stub.createStub(HttpClientStub.class);
+  private Memento memento;
+
+  @Before
+  public void setUp() {
+    memento = TestUtils.silenceOperatorLogger();
+  }
+
+  @After
+  public void tearDown() {
+    cache.removeNamespace(NS);
+    memento.revert();
+  }
+
+  @Test
+  public void afterClientCached_returnIt() {
+    cache.put(NS, SECRET_NAME, client);
+
+    assertThat(cache.get(NS, SECRET_NAME), sameInstance(client));
+  }
+
+  @Test
+  public void whenClientDiscarded_removeIt() {
+    cache.put(NS, SECRET_NAME, client);
+
+    cache.discard(client);
+
+    assertThat(cache.get(NS, SECRET_NAME), nullValue());
+  }
+
+  @Test
+  public void whenReplacedClientDiscarded_keepItsReplacement() {
+    cache.put(NS, SECRET_NAME, client);
+
+    cache.discard(Stub.createStub(HttpClientStub.class));
+
+    assertThat(cache.get(NS, SECRET_NAME), sameInstance(client));
+  }
+
+  @Test
+  public void whenNamespaceRemoved_discardItsClients() {
+    cache.put(NS, SECRET_NAME, client);
+
+    cache.removeNamespace(NS);
+
+    assertThat(cache.get(NS, SECRET_NAME), nullValue());
+  }
+
+  @Test
+  public void whenServerRejectsCredentials_discardCachedClient() {
+    HttpClient rejectedClient = createClientWithResponse(Status.UNAUTHORIZED);
+    cache.put(NS, SECRET_NAME, rejectedClient);
+
+    rejectedClient.executePostUrlOnServiceClusterIP("/request", URL, "{}");
+
+    assertThat(cache.get(NS, SECRET_NAME), nullValue());
+  }
+
+  @Test
+  public void whenServerReportsOtherFailure_keepCachedClient() {
+    HttpClient failingClient = createClientWithResponse(Status.NOT_FOUND);
+    cache.put(NS, SECRET_NAME, failingClient);
+
+    failingClient.executePostUrlOnServiceClusterIP("/request", URL, "{}");
+
+    assertThat(cache.get(NS, SECRET_NAME), sameInstance(failingClient));
+  }
+
+  private HttpClient createClientWithResponse(Status status) {
+    return new HttpClient(
+        Stub.createStub(ClientStub.class).withResponse(Stub.createStub(ResponseStub.class, status, null)), "");
+  }
+
+  @Test
+  public void whenClientCached_authenticatedClientStepUsesItWithoutReadingSecret() {
+    cache.put(NS, SECRET_NAME, client);
+    FiberTestSupport testSupport = new FiberTestSupport();
+
+    Packet packet = testSupport.runSteps(HttpClient.createAuthenticatedClientForServer(NS, SECRET_NAME, null));
+
+    assertThat(packet.get(HttpClient.KEY), sameInstance(client));
+  }
+}
@@ -3,11 +3,15 @@
 
 package oracle.kubernetes.operator.http;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 public abstract class HttpClientStub extends HttpClient {
 
   String response = "{}";
   int status = 200;
   boolean successful = true;
+  CompletableFuture<Result> deferredResult;
 
   public HttpClientStub() {
     super(null, null);
@@ -20,6 +24,23 @@ public abstract class HttpClientStub extends HttpClient {
     return new Result(response, status, successful);
   }
 
+  @Override
+  public CompletableFuture<Result> executePostUrlOnServiceClusterIPAsync(
+      String requestUrl, String serviceUrl, String payload, Duration timeout) {
+    return deferredResult != null
+        ? deferredResult
+        : CompletableFuture.completedFuture(new Result(response, status, successful));
+  }
+
+  /**
+   * Causes asynchronous requests to return a future which completes only when the test completes it.
+   * @return the future to be returned
+   */
+  public CompletableFuture<Result> withDeferredResult() {
+    deferredResult = new CompletableFuture<>();
+    return deferredResult;
+  }
+
   public HttpClientStub withResponse(String response) {
     this.response = response;
     return this;
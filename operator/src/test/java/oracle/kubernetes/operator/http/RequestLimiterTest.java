@@ -0,0 +1,108 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+public class RequestLimiterTest {
+
+  private static final Duration TIMEOUT = Duration.ofMinutes(1);
+
+  private final RequestLimiter limiter = new RequestLimiter(() -> 2);
+  private final List<CompletableFuture<String>> started = new ArrayList<>();
+
+  private CompletableFuture<String> startRequest() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    started.add(future);
+    return future;
+  }
+
+  @Test
+  public void whenBelowLimit_startRequestsImmediately() {
+    limiter.submit(this::startRequest, TIMEOUT);
+    limiter.submit(this::startRequest, TIMEOUT);
+
+    assertThat(started.size(), is(2));
+    assertThat(limiter.getInProgressCount(), is(2));
+  }
+
+  @Test
+  public void whenLimitReached_queueRequests() {
+    limiter.submit(this::startRequest, TIMEOUT);
+    limiter.submit(this::startRequest, TIMEOUT);
+    limiter.submit(this::startRequest, TIMEOUT);
+
+    assertThat(started.size(), is(2));
+    assertThat(limiter.getWaitingCount(), is(1));
+  }
+
+  @Test
+  public void whenRequestCompletes_startWaitingRequest() {
+    limiter.submit(this::startRequest, TIMEOUT);
+    limiter.submit(this::startRequest, TIMEOUT);
+    CompletableFuture<String> third = limiter.submit(this::startRequest, TIMEOUT);
+
+    started.get(0).complete("first");
+    started.get(2).complete("third");
+
+    assertThat(third.join(), is("third"));
+    assertThat(limiter.getInProgressCount(), is(1));
+    assertThat(limiter.getWaitingCount(), is(0));
+  }
+
+  @Test
+  public void whenRequestFails_releaseItsPermit() {
+    CompletableFuture<String> first = limiter.submit(this::startRequest, TIMEOUT);
+    limiter.submit(this::startRequest, TIMEOUT);
+
+    started.get(0).completeExceptionally(new IllegalStateException());
+
+    assertThat(first.isCompletedExceptionally(), is(true));
+    assertThat(limiter.getInProgressCount(), is(1));
+  }
+
+  @Test
+  public void whenRequestCannotBeStarted_completeExceptionallyAndReleasePermit() {
+    CompletableFuture<String> result = limiter.submit(() -> {
+      throw new IllegalStateException();
+    }, TIMEOUT);
+
+    assertThat(result.isCompletedExceptionally(), is(true));
+    assertThat(limiter.getInProgressCount(), is(0));
+  }
+
+  @Test
+  public void whenQueuedRequestTimesOut_failItWithoutStartingIt() {
+    limiter.submit(this::startRequest, TIMEOUT);
+    limiter.submit(this::startRequest, TIMEOUT);
+    CompletableFuture<String> third = limiter.submit(this::startRequest, Duration.ofMillis(10));
+
+    Throwable failure = getFailure(third);
+    started.get(0).complete("first");
+
+    assertThat(failure, instanceOf(TimeoutException.class));
+    assertThat(started.size(), is(2));
+    assertThat(limiter.getWaitingCount(), is(0));
+  }
+
+  private Throwable getFailure(CompletableFuture<String> future) {
+    try {
+      future.join();
+      return null;
+    } catch (CompletionException e) {
+      return e.getCause();
+    }
+  }
+}
@@ -0,0 +1,226 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.logging.AsyncLoggingHandler.OverflowPolicy.BLOCK;
+import static oracle.kubernetes.operator.logging.AsyncLoggingHandler.OverflowPolicy.DROP_FINE;
+import static oracle.kubernetes.operator.logging.MessageKeys.LOG_RECORDS_DROPPED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+
+public class AsyncLoggingHandlerTest {
+
+  private static final int CAPACITY = 4;
+
+  private final TargetHandler target = new TargetHandler();
+  private AsyncLoggingHandler handler;
+
+  private static LogRecord createRecord(Level level, String message) {
+    LogRecord record = new LogRecord(level, message);
+    record.setSourceClassName("SourceClass");
+    record.setSourceMethodName("sourceMethod");
+    return record;
+  }
+
+  @After
+  public void tearDown() {
+    target.release();
+    if (handler != null) {
+      handler.close();
+    }
+  }
+
+  // Publishes a record which the target holds until released, so that later records stay in the buffer.
+  private void blockWriter() throws InterruptedException {
+    target.block();
+    handler.publish(createRecord(Level.INFO, "blocking"));
+    target.awaitBlocked();
+  }
+
+  @Test
+  public void whenHandlerClosed_targetReceivedAllRecordsInOrder() {
+    handler = new AsyncLoggingHandler(target, CAPACITY, DROP_FINE);
+
+    handler.publish(createRecord(Level.INFO, "one"));
+    handler.publish(createRecord(Level.WARNING, "two"));
+    handler.close();
+
+    assertThat(target.getMessages(), contains("one", "two"));
+    assertThat(target.isClosed(), is(true));
+  }
+
+  @Test
+  public void whenBufferBeyondReserve_dropFineRecords() throws InterruptedException {
+    handler = new AsyncLoggingHandler(target, CAPACITY, DROP_FINE);
+    blockWriter();
+
+    for (int i = 0; i < CAPACITY; i++) {
+      handler.publish(createRecord(Level.FINE, "fine" + i));
+    }
+
+    assertThat(handler.getQueuedCount(), equalTo(CAPACITY - 1));
+    assertThat(handler.getDroppedCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenFineRecordsDropped_moreImportantRecordsUseReserve() throws InterruptedException {
+    handler = new AsyncLoggingHandler(target, CAPACITY, DROP_FINE);
+    blockWriter();
+
+    for (int i = 0; i < CAPACITY; i++) {
+      handler.publish(createRecord(Level.FINE, "fine" + i));
+    }
+    handler.publish(createRecord(Level.WARNING, "warning"));
+
+    assertThat(handler.getQueuedCount(), equalTo(CAPACITY));
+    assertThat(handler.getDroppedCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenBufferFull_dropMoreImportantRecordsWithoutWaiting() throws InterruptedException {
+    handler = new AsyncLoggingHandler(target, CAPACITY, DROP_FINE);
+    blockWriter();
+
+    for (int i = 0; i < CAPACITY + 1; i++) {
+      handler.publish(createRecord(Level.WARNING, "warning" + i));
+    }
+
+    assertThat(handler.getQueuedCount(), equalTo(CAPACITY));
+    assertThat(handler.getDroppedCount(), equalTo(1L));
+  }
+
+  @Test
+  public void afterRecordsDropped_reportCountToTarget() throws InterruptedException {
+    handler = new AsyncLoggingHandler(target, CAPACITY, DROP_FINE);
+    blockWriter();
+
+    for (int i = 0; i < CAPACITY + 1; i++) {
+      handler.publish(createRecord(Level.FINE, "fine" + i));
+    }
+    target.release();
+    handler.close();
+
+    assertThat(target.getMessages(), hasItem(LOG_RECORDS_DROPPED));
+  }
+
+  @Test
+  public void whenPolicyIsBlock_neverDropRecords() throws InterruptedException {
+    handler = new AsyncLoggingHandler(target, CAPACITY, BLOCK);
+    blockWriter();
+
+    Thread logger = new Thread(() -> {
+      for (int i = 0; i < CAPACITY + 2; i++) {
+        handler.publish(createRecord(Level.FINE, "fine" + i));
+      }
+    });
+    logger.start();
+    target.release();
+    logger.join(TimeUnit.SECONDS.toMillis(10));
+    handler.close();
+
+    assertThat(handler.getDroppedCount(), equalTo(0L));
+    assertThat(target.getMessages().size(), equalTo(CAPACITY + 3));
+  }
+
+  @Test
+  public void whenRecordFormattedOnWriterThread_reportLoggingThread() {
+    target.setFormatter(new LoggingFormatter());
+    handler = new AsyncLoggingHandler(target, CAPACITY, DROP_FINE);
+
+    handler.publish(createRecord(Level.INFO, "hello"));
+    handler.close();
+
+    assertThat(target.getFormatted().get(0),
+          containsString("\"thread\":" + Thread.currentThread().getId() + ","));
+  }
+
+  @Test
+  public void whenParameterModifiedAfterLogging_reportValueWhenLogged() {
+    target.setFormatter(new LoggingFormatter());
+    handler = new AsyncLoggingHandler(target, CAPACITY, DROP_FINE);
+    List<String> parameter = new ArrayList<>(Collections.singletonList("before"));
+    LogRecord record = createRecord(Level.INFO, "value is {0}");
+    record.setParameters(new Object[] {parameter});
+
+    handler.publish(record);
+    parameter.add("after");
+    handler.close();
+
+    assertThat(target.getFormatted().get(0), containsString("value is [before]"));
+  }
+
+  static class TargetHandler extends Handler {
+    private final List<LogRecord> records = new ArrayList<>();
+    private final List<String> formatted = new ArrayList<>();
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+    private boolean closed;
+
+    void block() {
+      gate = new CountDownLatch(1);
+    }
+
+    void awaitBlocked() throws InterruptedException {
+      blocked.await(10, TimeUnit.SECONDS);
+    }
+
+    void release() {
+      gate.countDown();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+      blocked.countDown();
+      try {
+        gate.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      synchronized (this) {
+        records.add(record);
+        if (getFormatter() != null) {
+          formatted.add(getFormatter().format(record));
+        }
+      }
+    }
+
+    synchronized List<String> getMessages() {
+      return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+    }
+
+    synchronized List<String> getFormatted() {
+      return formatted;
+    }
+
+    synchronized boolean isClosed() {
+      return closed;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public synchronized void close() {
+      closed = true;
+    }
+  }
+}
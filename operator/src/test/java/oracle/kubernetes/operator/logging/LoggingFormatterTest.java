@@ -0,0 +1,102 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kubernetes.client.openapi.ApiException;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class LoggingFormatterTest {
+
+  private final LoggingFormatter formatter = new LoggingFormatter();
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  private LogRecord createRecord(String message) {
+    LogRecord record = new LogRecord(Level.INFO, message);
+    record.setSourceClassName("SourceClass");
+    record.setSourceMethodName("sourceMethod");
+    record.setMillis(1234L);
+    return record;
+  }
+
+  private JsonNode format(LogRecord record) throws Exception {
+    return mapper.readTree(formatter.format(record));
+  }
+
+  @Test
+  public void formattedRecord_endsWithNewLine() {
+    assertThat(formatter.format(createRecord("hello")), endsWith("}\n"));
+  }
+
+  @Test
+  public void formattedRecord_containsFieldsInOrder() throws Exception {
+    List<String> names = new ArrayList<>();
+    format(createRecord("hello")).fieldNames().forEachRemaining(names::add);
+
+    assertThat(names, contains("timestamp", "thread", "fiber", "domainUID", "level", "class", "method",
+          "timeInMillis", "message", "exception", "code", "headers", "body"));
+  }
+
+  @Test
+  public void formattedRecord_containsRecordValues() throws Exception {
+    JsonNode node = format(createRecord("hello"));
+
+    assertThat(node.get("level").asText(), equalTo(Level.INFO.getLocalizedName()));
+    assertThat(node.get("class").asText(), equalTo("SourceClass"));
+    assertThat(node.get("method").asText(), equalTo("sourceMethod"));
+    assertThat(node.get("timeInMillis").asLong(), equalTo(1234L));
+    assertThat(node.get("message").asText(), equalTo("hello"));
+  }
+
+  @Test
+  public void whenMessageHasParameters_formatThem() throws Exception {
+    LogRecord record = createRecord("hello {0}");
+    record.setParameters(new Object[] {"world"});
+
+    assertThat(format(record).get("message").asText(), equalTo("hello world"));
+  }
+
+  @Test
+  public void whenMessageContainsSpecialCharacters_escapeThem() {
+    String formatted = formatter.format(createRecord("line one\nline \"two\""));
+
+    assertThat(formatted, containsString("\"message\":\"line one\\nline \\\"two\\\"\""));
+  }
+
+  @Test
+  public void whenExceptionIsApiException_includeResponseDetails() throws Exception {
+    LogRecord record = createRecord("failed");
+    Map<String, List<String>> headers = Collections.singletonMap("Retry-After", Collections.singletonList("5"));
+    record.setThrown(new ApiException(409, headers, "conflict"));
+
+    JsonNode node = format(record);
+
+    assertThat(node.get("code").asText(), equalTo("409"));
+    assertThat(node.get("headers").get("Retry-After").get(0).asText(), equalTo("5"));
+    assertThat(node.get("body").asText(), equalTo("conflict"));
+    assertThat(node.get("exception").asText(), containsString(ApiException.class.getName()));
+  }
+
+  @Test
+  public void afterLargeRecord_formatNextRecordCompletely() throws Exception {
+    formatter.format(createRecord(String.join("", Collections.nCopies(100_000, "x"))));
+
+    assertThat(format(createRecord("small")).get("message").asText(), is("small"));
+  }
+}
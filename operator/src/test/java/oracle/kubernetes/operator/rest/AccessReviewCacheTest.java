@@ -0,0 +1,104 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+public class AccessReviewCacheTest {
+  private static final long TTL_MILLIS = 1000;
+
+  private long ttlMillis = TTL_MILLIS;
+  private long nowNanos = 5000;
+  private int numReviews;
+  private final AccessReviewCache<String> cache = new AccessReviewCache<>(() -> ttlMillis, () -> nowNanos);
+
+  private String get(String key) {
+    return cache.get(key, this::review, result -> !result.startsWith("failed"));
+  }
+
+  private String review() {
+    return "result" + (++numReviews);
+  }
+
+  private void advanceMillis(long millis) {
+    nowNanos += TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  @Test
+  public void whenResultLive_returnItWithoutReview() {
+    get("key");
+    advanceMillis(TTL_MILLIS - 1);
+
+    assertThat(get("key"), equalTo("result1"));
+    assertThat(numReviews, equalTo(1));
+  }
+
+  @Test
+  public void whenResultExpired_reviewAgain() {
+    get("key");
+    advanceMillis(TTL_MILLIS);
+
+    assertThat(get("key"), equalTo("result2"));
+  }
+
+  @Test
+  public void resultsAreCachedByKey() {
+    get("key1");
+
+    assertThat(get("key2"), equalTo("result2"));
+  }
+
+  @Test
+  public void whenResultNotCacheable_reviewAgain() {
+    cache.get("key", () -> "failed", result -> !result.startsWith("failed"));
+
+    assertThat(get("key"), equalTo("result1"));
+  }
+
+  @Test
+  public void whenTtlNotPositive_dontCache() {
+    ttlMillis = 0;
+    get("key");
+
+    assertThat(get("key"), equalTo("result2"));
+  }
+
+  @Test
+  public void whenCacheFull_dropLeastRecentlyUsedResult() {
+    for (int i = 0; i < AccessReviewCache.MAX_ENTRIES; i++) {
+      get("key" + i);
+    }
+    get("key0");
+    get("another key");
+
+    assertThat(cache.size(), equalTo(AccessReviewCache.MAX_ENTRIES));
+    assertThat(get("key0"), equalTo("result1"));
+    assertThat(get("key1"), equalTo("result" + (AccessReviewCache.MAX_ENTRIES + 2)));
+  }
+
+  @Test
+  public void hitsAndMisses_areCounted() {
+    get("key");
+    get("key");
+    get("key");
+
+    assertThat(cache.getHits(), equalTo(2L));
+    assertThat(cache.getMisses(), equalTo(1L));
+  }
+
+  @Test
+  public void hashOfCredential_isStableAndDoesNotContainIt() {
+    String hash = AccessReviewCache.hash("secret token");
+
+    assertThat(hash, equalTo(AccessReviewCache.hash("secret token")));
+    assertThat(hash, not(containsString("secret")));
+  }
+}
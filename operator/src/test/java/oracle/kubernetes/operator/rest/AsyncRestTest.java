@@ -0,0 +1,171 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import com.google.gson.Gson;
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.rest.RestTest.RestBackendStub;
+import oracle.kubernetes.operator.rest.RestTest.RestConfigStub;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
+import oracle.kubernetes.operator.rest.model.ClusterScaleParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleClustersParamsModel;
+import oracle.kubernetes.utils.TestUtils;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.glassfish.jersey.test.grizzly.GrizzlyTestContainerFactory;
+import org.glassfish.jersey.test.spi.TestContainerException;
+import org.glassfish.jersey.test.spi.TestContainerFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static oracle.kubernetes.operator.rest.AuthenticationFilter.ACCESS_TOKEN_PREFIX;
+import static oracle.kubernetes.operator.rest.RestTest.JsonArrayMatcher.withValues;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+/**
+ * Tests the resources which complete their requests asynchronously. The in-memory container used by
+ * RestTest cannot suspend requests, so these run on a server listening on a local port.
+ */
+public class AsyncRestTest extends JerseyTest {
+  private static final String LATEST_HREF = "/operator/latest";
+  private static final String DOMAINS_HREF = LATEST_HREF + "/domains";
+  private static final String DOMAIN1_HREF = DOMAINS_HREF + "/uid1";
+  private static final String DOMAIN2_HREF = DOMAINS_HREF + "/uid2";
+  private static final String DOMAIN1_CLUSTERS_HREF = DOMAIN1_HREF + "/clusters";
+  private static final String ACCESS_TOKEN = "dummy token";
+
+  private List<Memento> mementos = new ArrayList<>();
+  private RestBackendStub restBackend = createStrictStub(RestBackendStub.class);
+
+  @Before
+  public void setupAsyncRestTest() {
+    mementos.add(TestUtils.silenceJsonPathLogger());
+  }
+
+  @After
+  public void restore() {
+    for (Memento memento : mementos) {
+      memento.revert();
+    }
+  }
+
+  @Override
+  protected Application configure() {
+    forceSet(TestProperties.CONTAINER_PORT, "0");
+    return RestServer.createResourceConfig(RestConfigStub.create(this::getRestBackend));
+  }
+
+  // the #configure method is called before the restBackend field is initialized; see RestTest
+  private RestBackend getRestBackend() {
+    return restBackend;
+  }
+
+  @Override
+  protected TestContainerFactory getTestContainerFactory() throws TestContainerException {
+    return new GrizzlyTestContainerFactory();
+  }
+
+  @Test
+  public void domainsEndPoint_returnsListOfDomainsAndLinks() {
+    restBackend.addDomain("uid1");
+    restBackend.addDomain("uid2");
+
+    Map result = getJsonResponse(DOMAINS_HREF);
+
+    assertThat(result, hasJsonPath("$.links[?(@.rel=='self')].href", withValues(DOMAINS_HREF)));
+    assertThat(result, hasJsonPath("$.links[?(@.rel=='parent')].href", withValues(LATEST_HREF)));
+    assertThat(result, hasJsonPath("$.items[*].domainUID", withValues("uid1", "uid2")));
+    assertThat(
+        result,
+        hasJsonPath("$.items[?(@.domainUID=='uid1')].links[*].href", withValues(DOMAIN1_HREF)));
+    assertThat(
+        result,
+        hasJsonPath("$.items[?(@.domainUID=='uid2')].links[*].href", withValues(DOMAIN2_HREF)));
+  }
+
+  @Test
+  public void clustersEndPoint_returnsListOfClustersAndLinks() {
+    restBackend.addDomain("uid1", "cluster1", "cluster2");
+
+    Map result = getJsonResponse(DOMAIN1_CLUSTERS_HREF);
+
+    assertThat(
+        result, hasJsonPath("$.links[?(@.rel=='self')].href", withValues(DOMAIN1_CLUSTERS_HREF)));
+    assertThat(result, hasJsonPath("$.links[?(@.rel=='parent')].href", withValues(DOMAIN1_HREF)));
+    assertThat(result, hasJsonPath("$.items[*].cluster", withValues("cluster1", "cluster2")));
+    assertThat(
+        result,
+        hasJsonPath(
+            "$.items[?(@.cluster=='cluster1')].links[*].href",
+            withValues(DOMAIN1_CLUSTERS_HREF + "/cluster1")));
+    assertThat(
+        result,
+        hasJsonPath(
+            "$.items[?(@.cluster=='cluster2')].links[*].href",
+            withValues(DOMAIN1_CLUSTERS_HREF + "/cluster2")));
+  }
+
+  @Test
+  public void scaleExistingCluster() {
+    restBackend.addDomain("uid1", "cluster1", "cluster2");
+
+    createRequest(DOMAIN1_CLUSTERS_HREF + "/cluster1/scale").post(createScaleRequest(3));
+
+    assertThat(restBackend.getNumManagedServers("uid1", "cluster1"), equalTo(3));
+  }
+
+  @Test
+  public void scaleSeveralClusters_returnsResultForEach() {
+    restBackend.addDomain("uid1", "cluster1", "cluster2");
+
+    Map result = new Gson().fromJson(
+        createRequest("/operator/v1/scale")
+            .post(createScaleClustersRequest(
+                new ClusterScaleParamsModel("uid1", "cluster1", 3),
+                new ClusterScaleParamsModel("uid1", "cluster3", 2)))
+            .readEntity(String.class),
+        Map.class);
+
+    assertThat(restBackend.getNumManagedServers("uid1", "cluster1"), equalTo(3));
+    assertThat(result, hasJsonPath("$.items[*].cluster", withValues("cluster1", "cluster3")));
+    assertThat(result, hasJsonPath("$.items[?(@.cluster=='cluster3')].status", withValues(404.0)));
+  }
+
+  private Map getJsonResponse(String href) {
+    return new Gson().fromJson(createRequest(href).get(String.class), Map.class);
+  }
+
+  private Invocation.Builder createRequest(String href) {
+    return target(href).request()
+        .header(HttpHeaders.AUTHORIZATION, ACCESS_TOKEN_PREFIX + " " + ACCESS_TOKEN)
+        .header("X-Requested-By", "TestClient");
+  }
+
+  private Entity<ScaleClusterParamsModel> createScaleRequest(int count) {
+    ScaleClusterParamsModel params = new ScaleClusterParamsModel();
+    params.setManagedServerCount(count);
+    return Entity.entity(params, MediaType.APPLICATION_JSON);
+  }
+
+  private Entity<ScaleClustersParamsModel> createScaleClustersRequest(ClusterScaleParamsModel... clusters) {
+    ScaleClustersParamsModel params = new ScaleClustersParamsModel();
+    params.setClusters(Arrays.asList(clusters));
+    return Entity.entity(params, MediaType.APPLICATION_JSON);
+  }
+}
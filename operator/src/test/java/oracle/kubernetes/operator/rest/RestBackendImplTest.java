@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.rest;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import javax.ws.rs.WebApplicationException;
@@ -16,10 +17,15 @@ import io.kubernetes.client.openapi.models.V1SubjectAccessReviewStatus;
 import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
+import oracle.kubernetes.operator.TuningParametersImpl;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.rest.RestBackendImpl.TopologyRetriever;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
+import oracle.kubernetes.operator.rest.model.ClusterScaleParamsModel;
+import oracle.kubernetes.operator.rest.model.ClusterScaleResultModel;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
+import oracle.kubernetes.operator.watcher.SharedInformers;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.ClusterConfigurator;
@@ -29,13 +35,18 @@ import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 import org.junit.After;
 import org.junit.Before;
-import org.junit.Ignore;
 import org.junit.Test;
 
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static java.net.HttpURLConnection.HTTP_CONFLICT;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -48,6 +59,7 @@ public class RestBackendImplTest {
   private static final String NS = "namespace1";
   private static final String NAME1 = "domain";
   private static final String NAME2 = "domain2";
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
   private WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport(NAME1);
 
   private List<Memento> mementos = new ArrayList<>();
@@ -58,6 +70,10 @@ public class RestBackendImplTest {
   private DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain);
   private KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private WlsDomainConfig config;
+  private int numAccessReviews;
+  private int numTokenReviews;
+  private int numDomainUpdates;
+  private boolean accessAllowed = true;
 
   private static Domain createDomain(String namespace, String name) {
     return new Domain()
@@ -73,25 +89,33 @@ public class RestBackendImplTest {
   public void setUp() throws Exception {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
     mementos.add(
         StaticStubSupport.install(RestBackendImpl.class, "INSTANCE", new TopologyRetrieverStub()));
 
     testSupport.defineResources(domain, domain2);
     testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
     testSupport.doOnCreate(SUBJECT_ACCESS_REVIEW, s -> allow((V1SubjectAccessReview) s));
-    testSupport.doOnUpdate(DOMAIN, d -> updatedDomain = (Domain) d);
+    testSupport.doOnUpdate(DOMAIN, this::recordUpdate);
     configSupport.addWlsCluster("cluster1", "ms1", "ms2", "ms3", "ms4", "ms5", "ms6");
     restBackend = new RestBackendImpl("", "", Collections.singletonList(NS));
 
     setupScanCache();
   }
 
+  private void recordUpdate(Object domain) {
+    numDomainUpdates++;
+    updatedDomain = (Domain) domain;
+  }
+
   private void authenticate(V1TokenReview tokenReview) {
+    numTokenReviews++;
     tokenReview.setStatus(new V1TokenReviewStatus().authenticated(true).user(new V1UserInfo()));
   }
 
   private void allow(V1SubjectAccessReview subjectAccessReview) {
-    subjectAccessReview.setStatus(new V1SubjectAccessReviewStatus().allowed(true));
+    numAccessReviews++;
+    subjectAccessReview.setStatus(new V1SubjectAccessReviewStatus().allowed(accessAllowed));
   }
 
   /**
@@ -102,6 +126,8 @@ public class RestBackendImplTest {
     for (Memento memento : mementos) {
       memento.revert();
     }
+    AccessReviewCache.clearAll();
+    SharedInformers.getInstance().removeNamespace(NS);
   }
 
   @Test(expected = WebApplicationException.class)
@@ -109,6 +135,13 @@ public class RestBackendImplTest {
     restBackend.scaleCluster(NAME1, "cluster1", -1);
   }
 
+  @Test(expected = WebApplicationException.class)
+  public void whenAccessDenied_refuseDiagnosticsAccess() {
+    accessAllowed = false;
+
+    restBackend.verifyDiagnosticsAccess();
+  }
+
   @Test
   public void whenPerClusterReplicaSettingMatchesScaleRequest_doNothing() {
     configureCluster("cluster1").withReplicas(5);
@@ -136,7 +169,6 @@ public class RestBackendImplTest {
   }
 
   @Test
-  @Ignore
   public void whenNoPerClusterReplicaSetting_scaleClusterCreatesOne() {
     restBackend.scaleCluster(NAME1, "cluster1", 5);
 
@@ -161,6 +193,131 @@ public class RestBackendImplTest {
     restBackend.scaleCluster(NAME2, "cluster1", 3);
   }
 
+  @Test
+  public void whenScalingSeveralClustersOfDomain_updateThemWithOnePatch() {
+    configSupport.addWlsCluster("cluster2", "ms7", "ms8");
+    setupScanCache();
+    configureCluster("cluster1").withReplicas(1);
+
+    List<ClusterScaleResultModel> results = restBackend.scaleClusters(
+        Arrays.asList(scaleRequest(NAME1, "cluster1", 5), scaleRequest(NAME1, "cluster2", 2)));
+
+    assertThat(getStatuses(results), contains(HTTP_OK, HTTP_OK));
+    assertThat(numDomainUpdates, equalTo(1));
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
+    assertThat(getUpdatedDomain().getReplicaCount("cluster2"), equalTo(2));
+  }
+
+  @Test
+  public void whenScalingClustersOfSeveralDomains_patchEachDomain() {
+    configureCluster("cluster1").withReplicas(1);
+    DomainConfiguratorFactory.forDomain(domain2).configureCluster("cluster1").withReplicas(1);
+
+    List<ClusterScaleResultModel> results = restBackend.scaleClusters(
+        Arrays.asList(scaleRequest(NAME1, "cluster1", 5), scaleRequest(NAME2, "cluster1", 3)));
+
+    assertThat(getStatuses(results), contains(HTTP_OK, HTTP_OK));
+    assertThat(numDomainUpdates, equalTo(2));
+  }
+
+  @Test
+  public void whenBatchContainsUnknownCluster_reportItNotFoundAndScaleTheOthers() {
+    configureCluster("cluster1").withReplicas(1);
+
+    List<ClusterScaleResultModel> results = restBackend.scaleClusters(
+        Arrays.asList(scaleRequest(NAME1, "noSuchCluster", 2), scaleRequest(NAME1, "cluster1", 5)));
+
+    assertThat(getStatuses(results), contains(HTTP_NOT_FOUND, HTTP_OK));
+    assertThat(results.get(0).getMessage(), notNullValue());
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
+  }
+
+  @Test
+  public void whenBatchScalesClusterTwice_rejectDuplicate() {
+    configureCluster("cluster1").withReplicas(1);
+
+    List<ClusterScaleResultModel> results = restBackend.scaleClusters(
+        Arrays.asList(scaleRequest(NAME1, "cluster1", 5), scaleRequest(NAME1, "cluster1", 2)));
+
+    assertThat(getStatuses(results), contains(HTTP_OK, HTTP_BAD_REQUEST));
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
+  }
+
+  @Test
+  public void whenBatchRequestExceedsClusterSize_rejectIt() {
+    configureCluster("cluster1").withReplicas(1);
+
+    List<ClusterScaleResultModel> results =
+        restBackend.scaleClusters(Collections.singletonList(scaleRequest(NAME1, "cluster1", 7)));
+
+    assertThat(getStatuses(results), contains(HTTP_BAD_REQUEST));
+    assertThat(getUpdatedDomain(), nullValue());
+  }
+
+  @Test
+  public void whenBatchContainsUnknownDomain_reportItNotFound() {
+    List<ClusterScaleResultModel> results =
+        restBackend.scaleClusters(Collections.singletonList(scaleRequest("NoSuchDomainUID", "cluster1", 2)));
+
+    assertThat(getStatuses(results), contains(HTTP_NOT_FOUND));
+  }
+
+  @Test
+  public void whenDomainPatchFails_reportFailureForEachClusterOfDomain() {
+    testSupport.failOnResource(DOMAIN, NAME2, NS, HTTP_CONFLICT);
+    DomainConfiguratorFactory.forDomain(domain2).configureCluster("cluster1").withReplicas(1);
+
+    List<ClusterScaleResultModel> results = restBackend.scaleClusters(
+        Arrays.asList(scaleRequest(NAME2, "cluster1", 3), scaleRequest(NAME2, "noSuchCluster", 2)));
+
+    assertThat(getStatuses(results), contains(HTTP_CONFLICT, HTTP_NOT_FOUND));
+  }
+
+  @Test
+  public void whenBatchContainsMissingItem_rejectItAndScaleTheOthers() {
+    configureCluster("cluster1").withReplicas(1);
+
+    List<ClusterScaleResultModel> results = restBackend.scaleClusters(
+        Arrays.asList(null, scaleRequest(NAME1, "cluster1", 5)));
+
+    assertThat(getStatuses(results), contains(HTTP_BAD_REQUEST, HTTP_OK));
+    assertThat(results.get(0).getMessage(), notNullValue());
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
+  }
+
+  @Test
+  public void whenCachedDomainListsClustersInOtherOrder_rejectScaleRequest() {
+    configureCluster("cluster1").withReplicas(1);
+    configureCluster("cluster2").withReplicas(1);
+    cacheDomains(withClusters("cluster2", "cluster1"), domain2);
+
+    List<ClusterScaleResultModel> results =
+        restBackend.scaleClusters(Collections.singletonList(scaleRequest(NAME1, "cluster1", 5)));
+
+    assertThat(getStatuses(results), contains(HTTP_UNPROCESSABLE_ENTITY));
+    assertThat(getUpdatedDomain(), nullValue());
+  }
+
+  private Domain withClusters(String... clusterNames) {
+    Domain cachedDomain = createDomain(NS, NAME1);
+    for (String clusterName : clusterNames) {
+      DomainConfiguratorFactory.forDomain(cachedDomain).configureCluster(clusterName).withReplicas(1);
+    }
+    return cachedDomain;
+  }
+
+  private ClusterScaleParamsModel scaleRequest(String domainUid, String cluster, int managedServerCount) {
+    return new ClusterScaleParamsModel(domainUid, cluster, managedServerCount);
+  }
+
+  private List<Integer> getStatuses(List<ClusterScaleResultModel> results) {
+    List<Integer> statuses = new ArrayList<>();
+    for (ClusterScaleResultModel result : results) {
+      statuses.add(result.getStatus());
+    }
+    return statuses;
+  }
+
   @Test
   public void verify_getWlsDomainConfig_returnsWlsDomainConfig() {
     WlsDomainConfig wlsDomainConfig = ((RestBackendImpl) restBackend).getWlsDomainConfig(NAME1);
@@ -185,6 +342,102 @@ public class RestBackendImplTest {
     assertThat(wlsDomainConfig, notNullValue());
   }
 
+  @Test
+  public void whenDomainCacheSynced_findDomainWithoutListing() {
+    cacheDomains();
+    testSupport.failOnResource(DOMAIN, null, NS, HTTP_INTERNAL_ERROR);
+
+    assertThat(restBackend.isDomainUid(NAME2), equalTo(true));
+  }
+
+  @Test
+  public void whenDomainCacheSynced_unknownDomainIsNotFound() {
+    cacheDomains();
+
+    assertThat(restBackend.isDomainUid("NoSuchDomainUID"), equalTo(false));
+  }
+
+  @Test
+  public void whenDomainCacheSynced_scaleClusterUpdatesSetting() {
+    cacheDomains();
+    testSupport.failOnResource(DOMAIN, null, NS, HTTP_INTERNAL_ERROR);
+    configureCluster("cluster1").withReplicas(1);
+
+    restBackend.scaleCluster(NAME1, "cluster1", 5);
+
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
+  }
+
+  @Test
+  public void whenScaleRequestChecksDomainAndCluster_reviewEachAccessOnlyOnce() {
+    configureCluster("cluster1").withReplicas(1);
+    numAccessReviews = 0;
+
+    restBackend.isDomainUid(NAME1);
+    restBackend.isCluster(NAME1, "cluster1");
+    restBackend.scaleCluster(NAME1, "cluster1", 3);
+
+    assertThat(numAccessReviews, equalTo(4));
+  }
+
+  @Test
+  public void whenAccessReviewsCached_laterRequestWithSameTokenMakesNoReviews() throws NoSuchFieldException {
+    cacheAccessReviews();
+    new RestBackendImpl("", "token", Collections.singletonList(NS)).isDomainUid(NAME1);
+    numTokenReviews = numAccessReviews = 0;
+
+    new RestBackendImpl("", "token", Collections.singletonList(NS)).isDomainUid(NAME1);
+
+    assertThat(numTokenReviews, equalTo(0));
+    assertThat(numAccessReviews, equalTo(0));
+  }
+
+  @Test
+  public void whenAccessReviewsCached_requestWithOtherTokenIsReviewed() throws NoSuchFieldException {
+    cacheAccessReviews();
+    new RestBackendImpl("", "token", Collections.singletonList(NS));
+
+    new RestBackendImpl("", "other token", Collections.singletonList(NS));
+
+    assertThat(numTokenReviews, equalTo(3));
+  }
+
+  @Test
+  public void whenAccessDenied_laterRequestIsReviewedAgain() throws NoSuchFieldException {
+    cacheAccessReviews();
+    RestBackend firstRequest = new RestBackendImpl("", "token", Collections.singletonList(NS));
+    RestBackend secondRequest = new RestBackendImpl("", "token", Collections.singletonList(NS));
+    accessAllowed = false;
+    isDomainUidIgnoringDenial(firstRequest);
+    numAccessReviews = 0;
+
+    isDomainUidIgnoringDenial(secondRequest);
+
+    assertThat(numAccessReviews, equalTo(1));
+  }
+
+  private void isDomainUidIgnoringDenial(RestBackend backend) {
+    try {
+      backend.isDomainUid(NAME1);
+    } catch (WebApplicationException ignored) {
+      // expected
+    }
+  }
+
+  // the tuning parameters stub must be reverted before the one installed by setUp, so it goes first
+  private void cacheAccessReviews() throws NoSuchFieldException {
+    mementos.add(0, StaticStubSupport.install(
+        TuningParametersImpl.class, "INSTANCE", createStrictStub(CachingTuningParametersStub.class)));
+  }
+
+  private void cacheDomains() {
+    cacheDomains(domain, domain2);
+  }
+
+  private void cacheDomains(Domain... domains) {
+    SharedInformers.getInstance().getDomains().replace(NS, Arrays.asList(domains), "1");
+  }
+
   private DomainConfigurator configureDomain() {
     return configurator;
   }
@@ -193,6 +446,13 @@ public class RestBackendImplTest {
     config = configSupport.createDomainConfig();
   }
 
+  abstract static class CachingTuningParametersStub extends TuningParametersStub {
+    @Override
+    public MainTuning getMainTuning() {
+      return new MainTuning(2, 2, 2, 2, 2, 2, 2L, 2L, true, 10, 20, 20, false, 600, 0L, 0L, 60);
+    }
+  }
+
   private class TopologyRetrieverStub implements TopologyRetriever {
     @Override
     public WlsDomainConfig getWlsDomainConfig(String ns, String domainUid) {
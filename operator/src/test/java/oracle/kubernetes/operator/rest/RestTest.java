@@ -11,9 +11,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.core.Application;
@@ -23,8 +26,20 @@ import javax.ws.rs.core.Response;
 
 import com.google.gson.Gson;
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
+import oracle.kubernetes.operator.rest.model.ClusterScaleParamsModel;
+import oracle.kubernetes.operator.rest.model.ClusterScaleResultModel;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleClustersParamsModel;
+import oracle.kubernetes.operator.watcher.WatchStreamMetrics;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.TestUtils;
 import org.glassfish.jersey.test.JerseyTest;
 import org.glassfish.jersey.test.inmemory.InMemoryTestContainerFactory;
@@ -38,11 +53,18 @@ import org.junit.Test;
 
 import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
 import static com.meterware.simplestub.Stub.createStrictStub;
+import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static oracle.kubernetes.operator.rest.AuthenticationFilter.ACCESS_TOKEN_PREFIX;
 import static oracle.kubernetes.operator.rest.RestTest.JsonArrayMatcher.withValues;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @SuppressWarnings("SameParameterValue")
@@ -57,9 +79,12 @@ public class RestTest extends JerseyTest {
   private static final String SWAGGER_HREF = LATEST_HREF + "/swagger";
   private static final String DOMAINS_HREF = LATEST_HREF + "/domains";
   private static final String DOMAIN1_HREF = DOMAINS_HREF + "/uid1";
-  private static final String DOMAIN2_HREF = DOMAINS_HREF + "/uid2";
   private static final String DOMAIN1_CLUSTERS_HREF = DOMAIN1_HREF + "/clusters";
+  private static final String METRICS_HREF = "/metrics";
+  private static final String FIBERS_HREF = "/fibers";
+  private static final String FIBER_TRACES_HREF = "/fibers/traces";
   private static final String ACCESS_TOKEN = "dummy token";
+  private static final String FIBER_NAMESPACE = "fiberNamespace";
 
   private List<Memento> mementos = new ArrayList<>();
   private RestBackendStub restBackend = createStrictStub(RestBackendStub.class);
@@ -129,6 +154,130 @@ public class RestTest extends JerseyTest {
     assertThat(result, hasJsonPath("$.items[0].links[?(@.rel=='self')].href", withValues(V1_HREF)));
   }
 
+  @Test
+  public void metricsEndPoint_returnsPrometheusHistograms() {
+    String result = createRequest(METRICS_HREF).get(String.class);
+
+    assertThat(result, containsString("# TYPE weblogic_operator_step_apply_seconds histogram\n"));
+  }
+
+  @Test
+  public void metricsEndPoint_returnsExecutorGauges() {
+    ScheduledExecutorService executor = Engine.wrappedExecutorService("metricsTest", null);
+
+    try {
+      String result = createRequest(METRICS_HREF).get(String.class);
+
+      assertThat(result, containsString("weblogic_operator_executor_queued_tasks{executor=\"metricsTest\"} 0\n"));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void whenExecutorShutDown_metricsEndPointOmitsItsGauges() {
+    Engine.wrappedExecutorService("metricsTest", null).shutdownNow();
+
+    String result = createRequest(METRICS_HREF).get(String.class);
+
+    assertThat(result, not(containsString("executor=\"metricsTest\"")));
+  }
+
+  @Test
+  public void metricsEndPoint_returnsWatchReconnectLagGauges() {
+    WatchStreamMetrics metrics = WatchStreamMetrics.register("lagTest");
+    metrics.recordReconnect(2500);
+    metrics.recordReconnect(500);
+
+    try {
+      String result = createRequest(METRICS_HREF).get(String.class);
+
+      assertThat(result, containsString("weblogic_operator_watch_reconnect_lag_seconds{stream=\"lagTest\"} 0.5\n"));
+      assertThat(result,
+          containsString("weblogic_operator_watch_reconnect_lag_max_seconds{stream=\"lagTest\"} 2.5\n"));
+    } finally {
+      metrics.unregister();
+    }
+  }
+
+  @Test
+  public void metricsEndPoint_returnsLongestSuspendedFiberGauges() {
+    String result = createRequest(METRICS_HREF).get(String.class);
+
+    assertThat(result, containsString("weblogic_operator_fiber_longest_suspended_seconds{gate=\"makeRight\"} "));
+  }
+
+  @Test
+  public void metricsEndPoint_returnsQueuedApiCallGauge() {
+    String result = createRequest(METRICS_HREF).get(String.class);
+
+    assertThat(result, containsString("weblogic_operator_api_calls_queued 0\n"));
+  }
+
+  @Test
+  public void metricsEndPoint_returnsApiCallRetryCounter() {
+    String result = createRequest(METRICS_HREF).get(String.class);
+
+    assertThat(result, containsString("# TYPE weblogic_operator_api_call_retries_total counter\n"));
+  }
+
+  @Test
+  public void fibersEndPoint_returnsJsonList() {
+    String result = createRequest(FIBERS_HREF).get(String.class);
+
+    assertThat(result, startsWith("["));
+  }
+
+  @Test
+  public void whenMakeRightFiberSuspended_fibersEndPointDescribesIt() throws NoSuchFieldException {
+    startSuspendedMakeRightFiber();
+
+    String result = createRequest(FIBERS_HREF).get(String.class);
+
+    assertThat(result, hasJsonPath(fiberInNamespace("gate"), contains("makeRight")));
+    assertThat(result, hasJsonPath(fiberInNamespace("domainUid"), contains("uid1")));
+    assertThat(result, hasJsonPath(fiberInNamespace("name"), contains(startsWith("fiber-"))));
+    assertThat(result, hasJsonPath(fiberInNamespace("step"), contains("RestTest$Suspending")));
+    assertThat(result, hasJsonPath(fiberInNamespace("suspended"), contains(true)));
+    assertThat(result, hasJsonPath(fiberInNamespace("children"), contains(empty())));
+  }
+
+  // installs a make-right gate for a namespace, whose fiber for uid1 suspends at once
+  private void startSuspendedMakeRightFiber() throws NoSuchFieldException {
+    FiberGate gate = new FiberTestSupport().createFiberGate();
+    Map<String, FiberGate> gates = new ConcurrentHashMap<>();
+    gates.put(FIBER_NAMESPACE, gate);
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "makeRightFiberGates", gates));
+
+    gate.startFiber("uid1", new SuspendingStep(), new Packet(), null);
+  }
+
+  private String fiberInNamespace(String property) {
+    return String.format("$[?(@.namespace=='%s')].%s", FIBER_NAMESPACE, property);
+  }
+
+  @Test
+  public void whenDiagnosticsAccessDenied_fibersEndPointIsForbidden() {
+    restBackend.denyDiagnosticsAccess();
+
+    assertThat(getResponseStatus(FIBERS_HREF), equalTo(HTTP_FORBIDDEN));
+  }
+
+  @Test
+  public void whenDiagnosticsAccessDenied_metricsEndPointIsForbidden() {
+    restBackend.denyDiagnosticsAccess();
+
+    assertThat(getResponseStatus(METRICS_HREF), equalTo(HTTP_FORBIDDEN));
+  }
+
+  @Test
+  public void fiberTracesEndPoint_returnsPlainText() {
+    Response response = createRequest(FIBER_TRACES_HREF).get();
+
+    assertThat(response.getStatus(), equalTo(HTTP_OK));
+    assertThat(response.getMediaType().toString(), startsWith("text/plain"));
+  }
+
   private Map getJsonResponse(String href) {
     return new Gson().fromJson(createRequest(href).get(String.class), Map.class);
   }
@@ -153,6 +302,7 @@ public class RestTest extends JerseyTest {
     assertThat(result, hasJsonPath("$.lifecycle", equalTo("active")));
     assertThat(
         result, hasJsonPath("$.links[*].href", withValues(V1_DOMAINS_HREF, V1_SWAGGER_HREF)));
+    assertThat(result, hasJsonPath("$.links[?(@.title=='scale')].href", withValues(V1_HREF + "/scale")));
   }
 
   @Test
@@ -179,23 +329,6 @@ public class RestTest extends JerseyTest {
     assertThat(result, hasJsonPath("$.paths./operator.get.tags", withValues("Version")));
   }
 
-  @Test
-  public void domainsEndPoint_returnsListOfDomainsAndLinks() {
-    defineDomains("uid1", "uid2");
-
-    Map result = getJsonResponse(DOMAINS_HREF);
-
-    assertThat(result, hasJsonPath("$.links[?(@.rel=='self')].href", withValues(DOMAINS_HREF)));
-    assertThat(result, hasJsonPath("$.links[?(@.rel=='parent')].href", withValues(LATEST_HREF)));
-    assertThat(result, hasJsonPath("$.items[*].domainUID", withValues("uid1", "uid2")));
-    assertThat(
-        result,
-        hasJsonPath("$.items[?(@.domainUID=='uid1')].links[*].href", withValues(DOMAIN1_HREF)));
-    assertThat(
-        result,
-        hasJsonPath("$.items[?(@.domainUID=='uid2')].links[*].href", withValues(DOMAIN2_HREF)));
-  }
-
   @Test
   public void existingDomainEndPoint_returnsDomainsUidAndClusterLink() {
     defineDomains("uid1", "uid2");
@@ -218,28 +351,6 @@ public class RestTest extends JerseyTest {
     assertThat(getResponseStatus(DOMAINS_HREF + "/uid3"), equalTo(HTTP_NOT_FOUND));
   }
 
-  @Test
-  public void clustersEndPoint_returnsListOfClustersAndLinks() {
-    defineClusters("uid1", "cluster1", "cluster2");
-
-    Map result = getJsonResponse(DOMAIN1_CLUSTERS_HREF);
-
-    assertThat(
-        result, hasJsonPath("$.links[?(@.rel=='self')].href", withValues(DOMAIN1_CLUSTERS_HREF)));
-    assertThat(result, hasJsonPath("$.links[?(@.rel=='parent')].href", withValues(DOMAIN1_HREF)));
-    assertThat(result, hasJsonPath("$.items[*].cluster", withValues("cluster1", "cluster2")));
-    assertThat(
-        result,
-        hasJsonPath(
-            "$.items[?(@.cluster=='cluster1')].links[*].href",
-            withValues(DOMAIN1_CLUSTERS_HREF + "/cluster1")));
-    assertThat(
-        result,
-        hasJsonPath(
-            "$.items[?(@.cluster=='cluster2')].links[*].href",
-            withValues(DOMAIN1_CLUSTERS_HREF + "/cluster2")));
-  }
-
   @Test
   public void existingClusterEndPoint_returnsClusterNameAndScalingLink() {
     defineClusters("uid1", "cluster1", "cluster2");
@@ -267,20 +378,22 @@ public class RestTest extends JerseyTest {
     assertThat(getResponseStatus(DOMAIN1_CLUSTERS_HREF + "/cluster3"), equalTo(HTTP_NOT_FOUND));
   }
 
-  @Test
-  public void scaleExistingCluster() {
-    defineClusters("uid1", "cluster1", "cluster2");
-
-    sendScaleRequest("cluster1", 3);
-
-    assertThat(restBackend.getNumManagedServers("uid1", "cluster1"), equalTo(3));
-  }
-
   private Response sendScaleRequest(String cluster, int numManagedServers) {
     return createRequest(DOMAIN1_CLUSTERS_HREF + String.format("/%s/scale", cluster))
         .post(createScaleRequest(numManagedServers));
   }
 
+  @Test
+  public void whenRequestedByHeaderMissing_batchScalingIsRejected() {
+    excludeRequestedByHeader();
+    defineClusters("uid1", "cluster1");
+
+    Response response = createRequest(V1_HREF + "/scale")
+        .post(createScaleClustersRequest(new ClusterScaleParamsModel("uid1", "cluster1", 3)));
+
+    assertThat(response.getStatus(), equalTo(HttpURLConnection.HTTP_BAD_REQUEST));
+  }
+
   @Test
   public void whenClusterUndefined_scalingIsRejected() {
     assertThat(sendScaleRequest("cluster1", 3).getStatus(), equalTo(HTTP_NOT_FOUND));
@@ -333,6 +446,23 @@ public class RestTest extends JerseyTest {
     return params;
   }
 
+  private Entity<ScaleClustersParamsModel> createScaleClustersRequest(ClusterScaleParamsModel... clusters) {
+    ScaleClustersParamsModel params = new ScaleClustersParamsModel();
+    params.setClusters(Arrays.asList(clusters));
+    return Entity.entity(params, MediaType.APPLICATION_JSON);
+  }
+
+  static class SuspendingStep extends Step {
+    SuspendingStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> { });
+    }
+  }
+
   @SuppressWarnings("unused")
   static class JsonArrayMatcher extends TypeSafeDiagnosingMatcher<List<Object>> {
     private Object[] expectedContents;
@@ -386,6 +516,11 @@ public class RestTest extends JerseyTest {
 
   abstract static class RestBackendStub implements RestBackend {
     private Map<String, List<ClusterState>> domainClusters = new HashMap<>();
+    private boolean diagnosticsAccessDenied;
+
+    void denyDiagnosticsAccess() {
+      diagnosticsAccessDenied = true;
+    }
 
     void addDomain(String domain, String... clusterNames) {
       domainClusters.put(
@@ -409,6 +544,13 @@ public class RestTest extends JerseyTest {
       return domainClusters.containsKey(domainUid);
     }
 
+    @Override
+    public void verifyDiagnosticsAccess() {
+      if (diagnosticsAccessDenied) {
+        throw new WebApplicationException(Response.Status.FORBIDDEN);
+      }
+    }
+
     @Override
     public Set<String> getClusters(String domainUid) {
       return domainClusters.get(domainUid).stream()
@@ -426,6 +568,21 @@ public class RestTest extends JerseyTest {
       getClusterStateStream(domainUid, cluster).forEach(cs -> cs.setScale(managedServerCount));
     }
 
+    @Override
+    public List<ClusterScaleResultModel> scaleClusters(List<ClusterScaleParamsModel> requests) {
+      List<ClusterScaleResultModel> results = new ArrayList<>();
+      for (ClusterScaleParamsModel request : requests) {
+        ClusterScaleResultModel result = new ClusterScaleResultModel(request);
+        if (isDomainUid(request.getDomainUid()) && isCluster(request.getDomainUid(), request.getCluster())) {
+          scaleCluster(request.getDomainUid(), request.getCluster(), request.getManagedServerCount());
+        } else {
+          result.setStatus(HTTP_NOT_FOUND);
+        }
+        results.add(result);
+      }
+      return results;
+    }
+
     Stream<ClusterState> getClusterStateStream(String domainUid, String cluster) {
       return domainClusters.get(domainUid).stream().filter(cs -> cs.hasClusterName(cluster));
     }
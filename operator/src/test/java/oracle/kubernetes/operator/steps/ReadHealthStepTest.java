@@ -3,9 +3,11 @@
 
 package oracle.kubernetes.operator.steps;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
@@ -19,11 +21,14 @@ import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesVersion;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.http.HttpClient;
 import oracle.kubernetes.operator.http.HttpClientStub;
+import oracle.kubernetes.operator.http.Result;
 import oracle.kubernetes.operator.steps.ReadHealthStep.ReadHealthWithHttpClientStep;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -75,12 +80,14 @@ public class ReadHealthStepTest {
   ReadHealthWithHttpClientStep withHttpClientStep;
   private List<LogRecord> logRecords = new ArrayList<>();
   private Memento consoleControl;
+  private Memento tuningParameters;
+  private final FiberTestSupport testSupport = new FiberTestSupport();
 
   /**
    * Setup test.
    */
   @Before
-  public void setup() {
+  public void setup() throws NoSuchFieldException {
     consoleControl =
         TestUtils.silenceOperatorLogger()
             .collectLogMessages(logRecords, LOG_KEYS)
@@ -90,11 +97,14 @@ public class ReadHealthStepTest {
     next = new MockStep(null);
     httpClientStub = Stub.createStub(HttpClientStub.class);
     withHttpClientStep = new ReadHealthWithHttpClientStep(service, null, next);
+    tuningParameters = TuningParametersStub.install();
   }
 
   @After
   public void tearDown() {
+    tuningParameters.revert();
     consoleControl.revert();
+    DomainPresenceInfo.removeDomainState(NAMESPACE, DOMAIN_UID);
   }
 
   @Test
@@ -183,6 +193,83 @@ public class ReadHealthStepTest {
     assertThat(serverStateMap.get(MANAGED_SERVER1), is("RUNNING"));
   }
 
+  @Test
+  public void withHttpClientStep_whenResponseDeferred_recordServerHealthWhenResponseArrives() {
+    CompletableFuture<Result> deferredResult = httpClientStub.withDeferredResult();
+    Packet packet = createFiberPacketForTest();
+
+    testSupport.runSteps(new ReadHealthWithHttpClientStep(service, null, null));
+    assertThat(getRemainingServersHealthToRead(packet), is(1));
+
+    deferredResult.complete(new Result(OK_RESPONSE, 200, true));
+
+    assertThat(getRemainingServersHealthToRead(packet), is(0));
+    Map<String, ServerHealth> serverHealthMap =
+        packet.getValue(ProcessingConstants.SERVER_HEALTH_MAP);
+    assertThat(serverHealthMap.get(MANAGED_SERVER1).getOverallHealth(), is("ok"));
+  }
+
+  @Test
+  public void withHttpClientStep_whenDeferredResponseFails_logFailure() {
+    CompletableFuture<Result> deferredResult = httpClientStub.withDeferredResult();
+    Packet packet = createFiberPacketForTest();
+
+    testSupport.runSteps(new ReadHealthWithHttpClientStep(service, null, null));
+    deferredResult.completeExceptionally(CLASSCAST_EXCEPTION);
+
+    assertThat(logRecords, containsInfo(WLS_HEALTH_READ_FAILED, MANAGED_SERVER1));
+    assertThat(getRemainingServersHealthToRead(packet), is(1));
+  }
+
+  @Test
+  public void withHttpClientStep_doNotSendMoreThanConfiguredConcurrentRequestsForDomain() {
+    List<CompletableFuture<Result>> pending = new ArrayList<>();
+    DomainPresenceInfo info = new DomainPresenceInfo(NAMESPACE, DOMAIN_UID);
+    for (int i = 0; i < 12; i++) {
+      info.getServerReadLimiter().submit(() -> addPending(pending), Duration.ofMinutes(1));
+    }
+
+    assertThat(pending.size(), is(10));
+    assertThat(info.getServerReadLimiter().getWaitingCount(), is(2));
+  }
+
+  @Test
+  public void withHttpClientStep_whenDomainPresenceReplaced_keepLimitingConcurrentRequestsForDomain() {
+    List<CompletableFuture<Result>> pending = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      new DomainPresenceInfo(NAMESPACE, DOMAIN_UID).getServerReadLimiter().submit(
+          () -> addPending(pending), Duration.ofMinutes(1));
+    }
+
+    DomainPresenceInfo replacement = new DomainPresenceInfo(NAMESPACE, DOMAIN_UID);
+    replacement.getServerReadLimiter().submit(() -> addPending(pending), Duration.ofMinutes(1));
+
+    assertThat(pending.size(), is(10));
+    assertThat(replacement.getServerReadLimiter().getWaitingCount(), is(1));
+  }
+
+  private CompletableFuture<Result> addPending(List<CompletableFuture<Result>> pending) {
+    CompletableFuture<Result> future = new CompletableFuture<>();
+    pending.add(future);
+    return future;
+  }
+
+  private int getRemainingServersHealthToRead(Packet packet) {
+    return ((AtomicInteger) packet.get(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ)).get();
+  }
+
+  private Packet createFiberPacketForTest() {
+    return testSupport
+        .addDomainPresenceInfo(new DomainPresenceInfo(NAMESPACE, DOMAIN_UID))
+        .addToPacket(HttpClient.KEY, httpClientStub)
+        .addToPacket(ProcessingConstants.SERVER_NAME, MANAGED_SERVER1)
+        .addToPacket(ProcessingConstants.DOMAIN_TOPOLOGY, configSupport.createDomainConfig())
+        .addToPacket(ProcessingConstants.SERVER_HEALTH_MAP, new ConcurrentHashMap<String, ServerHealth>())
+        .addToPacket(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, new AtomicInteger(1))
+        .addToPacket(SERVER_STATE_MAP, new ConcurrentHashMap<String, String>())
+        .getPacket();
+  }
+
   @Test
   public void withHttpClientStep_verifyServerHealthForServerOverloadedAddedToPacket() {
     httpClientStub.withStatus(500).withSuccessful(false);
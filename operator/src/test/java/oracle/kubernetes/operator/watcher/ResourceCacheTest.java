@@ -0,0 +1,238 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.LabelConstants;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ResourceCacheTest {
+  private static final String NS = "namespace";
+  private static final String UID1 = "domain1";
+  private static final String UID2 = "domain2";
+
+  private final ResourceCache<V1Pod> cache = new ResourceCache<>(V1Pod::getMetadata);
+
+  private static V1Pod createPod(String name, String domainUid, int resourceVersion) {
+    return new V1Pod().metadata(
+        new V1ObjectMeta()
+            .namespace(NS)
+            .name(name)
+            .resourceVersion(Integer.toString(resourceVersion))
+            .putLabelsItem(LabelConstants.DOMAINUID_LABEL, domainUid));
+  }
+
+  private static Watch.Response<V1Pod> event(String type, V1Pod pod) {
+    return new Watch.Response<>(type, pod);
+  }
+
+  @Test
+  public void beforeList_namespaceIsNotSynced() {
+    assertThat(cache.isSynced(NS), is(false));
+  }
+
+  @Test
+  public void afterList_namespaceIsSynced() {
+    cache.replace(NS, null, "10");
+
+    assertThat(cache.isSynced(NS), is(true));
+    assertThat(cache.getResourceVersion(NS), equalTo("10"));
+  }
+
+  @Test
+  public void afterList_canLookUpResourcesByDomainUid() {
+    V1Pod pod1 = createPod("pod1", UID1, 1);
+    V1Pod pod2 = createPod("pod2", UID2, 2);
+    V1Pod pod3 = createPod("pod3", UID1, 3);
+
+    cache.replace(NS, Arrays.asList(pod1, pod2, pod3), "3");
+
+    assertThat(cache.listForDomain(NS, UID1), containsInAnyOrder(pod1, pod3));
+    assertThat(cache.listForDomain(NS, UID2), contains(pod2));
+  }
+
+  @Test
+  public void whileListPagesArriving_namespaceIsNotSynced() {
+    cache.replace(NS, Arrays.asList(createPod("stale", UID1, 1)), "1");
+
+    cache.replacePage(NS, Arrays.asList(createPod("pod1", UID1, 2)), "10", true, false);
+
+    assertThat(cache.isSynced(NS), is(false));
+  }
+
+  @Test
+  public void afterLastListPage_discardUnlistedResourcesOlderThanList() {
+    cache.replace(NS, Arrays.asList(createPod("stale", UID1, 1)), "1");
+
+    cache.replacePage(NS, Arrays.asList(createPod("pod1", UID1, 2)), "10", true, false);
+    cache.replacePage(NS, Arrays.asList(createPod("pod2", UID1, 3)), "10", false, true);
+
+    assertThat(cache.get(NS, "stale"), nullValue());
+    assertThat(cache.listForDomain(NS, UID1).size(), equalTo(2));
+  }
+
+  @Test
+  public void afterList_keepUnlistedResourcesAddedByNewerEvents() {
+    V1Pod added = createPod("added", UID1, 12);
+    cache.receivedResponse(event("ADDED", added));
+
+    cache.replace(NS, Arrays.asList(createPod("pod1", UID1, 2)), "10");
+
+    assertThat(cache.get(NS, "added"), sameInstance(added));
+  }
+
+  @Test
+  public void afterList_keepResourcesModifiedByNewerEvents() {
+    V1Pod updated = createPod("pod1", UID1, 12);
+    cache.receivedResponse(event("MODIFIED", updated));
+
+    cache.replace(NS, Arrays.asList(createPod("pod1", UID1, 2)), "10");
+
+    assertThat(cache.get(NS, "pod1"), sameInstance(updated));
+  }
+
+  @Test
+  public void afterLastListPage_namespaceHoldsResourcesFromAllPages() {
+    cache.replacePage(NS, Arrays.asList(createPod("pod1", UID1, 1)), "10", true, false);
+    cache.replacePage(NS, Arrays.asList(createPod("pod2", UID1, 2)), "10", false, true);
+
+    assertThat(cache.isSynced(NS), is(true));
+    assertThat(cache.getResourceVersion(NS), equalTo("10"));
+    assertThat(cache.listForDomain(NS, UID1).size(), equalTo(2));
+  }
+
+  @Test
+  public void whenAddedEventReceived_resourceIsStored() {
+    V1Pod pod = createPod("pod1", UID1, 1);
+
+    cache.receivedResponse(event("ADDED", pod));
+
+    assertThat(cache.get(NS, "pod1"), sameInstance(pod));
+  }
+
+  @Test
+  public void whenModifiedEventIsNewer_replaceStoredResource() {
+    V1Pod updated = createPod("pod1", UID1, 5);
+    cache.replace(NS, Arrays.asList(createPod("pod1", UID1, 1)), "1");
+
+    cache.receivedResponse(event("MODIFIED", updated));
+
+    assertThat(cache.get(NS, "pod1"), sameInstance(updated));
+    assertThat(cache.getResourceVersion(NS), equalTo("5"));
+  }
+
+  @Test
+  public void whenModifiedEventIsOutdated_keepStoredResource() {
+    V1Pod current = createPod("pod1", UID1, 5);
+    cache.replace(NS, Arrays.asList(current), "5");
+
+    cache.receivedResponse(event("MODIFIED", createPod("pod1", UID1, 3)));
+
+    assertThat(cache.get(NS, "pod1"), sameInstance(current));
+  }
+
+  @Test
+  public void whenDomainUidSelectorSpecified_indexByIt() {
+    ResourceCache<V1Pod> cache = new ResourceCache<>(V1Pod::getMetadata, p -> p.getMetadata().getName() + "-uid");
+    V1Pod pod = createPod("pod1", UID1, 1);
+
+    cache.replace(NS, Arrays.asList(pod), "1");
+
+    assertThat(cache.listForDomain(NS, "pod1-uid"), contains(pod));
+    assertThat(cache.listForDomain(NS, UID1), empty());
+  }
+
+  @Test
+  public void whenDeletedEventReceived_removeResourceFromIndex() {
+    V1Pod pod = createPod("pod1", UID1, 1);
+    cache.replace(NS, Arrays.asList(pod), "1");
+
+    cache.receivedResponse(event("DELETED", createPod("pod1", UID1, 2)));
+
+    assertThat(cache.get(NS, "pod1"), nullValue());
+    assertThat(cache.listForDomain(NS, UID1), empty());
+  }
+
+  @Test
+  public void afterDeletion_outdatedModifiedEventDoesNotRestoreResource() {
+    cache.receivedResponse(event("ADDED", createPod("pod1", UID1, 1)));
+    cache.receivedResponse(event("DELETED", createPod("pod1", UID1, 5)));
+
+    cache.receivedResponse(event("MODIFIED", createPod("pod1", UID1, 3)));
+
+    assertThat(cache.get(NS, "pod1"), nullValue());
+  }
+
+  @Test
+  public void afterDeletion_outdatedListPageDoesNotRestoreResource() {
+    cache.receivedResponse(event("DELETED", createPod("pod1", UID1, 5)));
+
+    cache.replace(NS, Arrays.asList(createPod("pod1", UID1, 3)), "4");
+
+    assertThat(cache.get(NS, "pod1"), nullValue());
+  }
+
+  @Test
+  public void afterDeletion_newerAddedEventRestoresResource() {
+    V1Pod recreated = createPod("pod1", UID1, 7);
+    cache.receivedResponse(event("DELETED", createPod("pod1", UID1, 5)));
+
+    cache.receivedResponse(event("ADDED", recreated));
+
+    assertThat(cache.get(NS, "pod1"), sameInstance(recreated));
+  }
+
+  @Test
+  public void afterList_eventOlderThanListDoesNotRestoreUnlistedResource() {
+    cache.replace(NS, Arrays.asList(createPod("pod2", UID1, 2)), "10");
+
+    cache.receivedResponse(event("MODIFIED", createPod("pod1", UID1, 8)));
+
+    assertThat(cache.get(NS, "pod1"), nullValue());
+  }
+
+  @Test
+  public void whenDomainUidLabelChanges_reindexResource() {
+    cache.replace(NS, Arrays.asList(createPod("pod1", UID1, 1)), "1");
+
+    cache.receivedResponse(event("MODIFIED", createPod("pod1", UID2, 2)));
+
+    assertThat(cache.listForDomain(NS, UID1), empty());
+    assertThat(cache.listForDomain(NS, UID2).size(), equalTo(1));
+  }
+
+  @Test
+  public void chainedListener_seesUpdatedCache() {
+    V1Pod pod = createPod("pod1", UID1, 1);
+    AtomicReference<V1Pod> seen = new AtomicReference<>();
+
+    cache.andThen(r -> seen.set(cache.get(NS, "pod1"))).receivedResponse(event("ADDED", pod));
+
+    assertThat(seen.get(), sameInstance(pod));
+  }
+
+  @Test
+  public void afterNamespaceRemoved_namespaceIsNotSynced() {
+    cache.replace(NS, Arrays.asList(createPod("pod1", UID1, 1)), "1");
+
+    cache.removeNamespace(NS);
+
+    assertThat(cache.isSynced(NS), is(false));
+    assertThat(cache.list(NS), empty());
+  }
+}
@@ -0,0 +1,80 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class WatchStreamMetricsTest {
+  private static final String STREAM = "PodWatcher/ns1";
+
+  @After
+  public void tearDown() {
+    Optional.ofNullable(WatchStreamMetrics.getAll().get(STREAM)).ifPresent(WatchStreamMetrics::unregister);
+  }
+
+  @Test
+  public void afterRegistration_metricsAreReported() {
+    WatchStreamMetrics metrics = WatchStreamMetrics.register(STREAM);
+
+    assertThat(WatchStreamMetrics.getAll().get(STREAM), sameInstance(metrics));
+  }
+
+  @Test
+  public void whenStreamRegisteredAgain_reportNewMetrics() {
+    WatchStreamMetrics.register(STREAM);
+    WatchStreamMetrics metrics = WatchStreamMetrics.register(STREAM);
+
+    assertThat(WatchStreamMetrics.getAll().get(STREAM), sameInstance(metrics));
+  }
+
+  @Test
+  public void whenReplacedMetricsUnregistered_keepReportingTheirReplacement() {
+    WatchStreamMetrics oldMetrics = WatchStreamMetrics.register(STREAM);
+    WatchStreamMetrics metrics = WatchStreamMetrics.register(STREAM);
+
+    oldMetrics.unregister();
+
+    assertThat(WatchStreamMetrics.getAll().get(STREAM), sameInstance(metrics));
+  }
+
+  @Test
+  public void afterEventsRecorded_countIsUpdated() {
+    WatchStreamMetrics metrics = WatchStreamMetrics.register(STREAM);
+
+    metrics.recordEvent();
+    metrics.recordEvent();
+
+    assertThat(metrics.getEventsReceived(), equalTo(2L));
+  }
+
+  @Test
+  public void afterReconnectsRecorded_trackLastAndMaximumLag() {
+    WatchStreamMetrics metrics = WatchStreamMetrics.register(STREAM);
+
+    metrics.recordReconnect(500);
+    metrics.recordReconnect(200);
+
+    assertThat(metrics.getReconnects(), equalTo(2L));
+    assertThat(metrics.getLastReconnectLagMillis(), equalTo(200L));
+    assertThat(metrics.getMaxReconnectLagMillis(), equalTo(500L));
+  }
+
+  @Test
+  public void afterStreamRemoved_metricsNoLongerReported() {
+    WatchStreamMetrics metrics = WatchStreamMetrics.register(STREAM);
+
+    metrics.unregister();
+
+    assertThat(WatchStreamMetrics.getAll(), not(hasKey(STREAM)));
+  }
+}
@@ -0,0 +1,102 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class FiberMetricsTest {
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+
+  private static long getApplyCount(Class<? extends Step> stepClass) {
+    return getStepMetrics(stepClass).map(m -> m.getApplyTime().getCount()).orElse(0L);
+  }
+
+  private static long getSuspendedCount(Class<? extends Step> stepClass) {
+    return getStepMetrics(stepClass).map(m -> m.getSuspendedTime().getCount()).orElse(0L);
+  }
+
+  private static Optional<FiberMetrics.StepMetrics> getStepMetrics(Class<? extends Step> stepClass) {
+    return Optional.ofNullable(FiberMetrics.getStepMetrics().get(stepClass.getName()));
+  }
+
+  private static long getFiberCount(Class<? extends Step> stepClass) {
+    return Optional.ofNullable(FiberMetrics.getFiberDurations().get(stepClass.getName()))
+        .map(Histogram::getCount).orElse(0L);
+  }
+
+  @Test
+  public void whenStepsRun_countInvocationsByStepClass() {
+    long initialCount = getApplyCount(CountedStep.class);
+
+    testSupport.runSteps(new CountedStep(new CountedStep(null)));
+
+    assertThat(getApplyCount(CountedStep.class), equalTo(initialCount + 2));
+  }
+
+  @Test
+  public void whenFiberResumed_recordSuspendedTimeForSuspendingStep() {
+    long initialCount = getSuspendedCount(SuspendingStep.class);
+    SuspendingStep step = new SuspendingStep();
+
+    testSupport.runSteps(step);
+    step.fiber.resume(testSupport.getPacket());
+
+    assertThat(getSuspendedCount(SuspendingStep.class), equalTo(initialCount + 1));
+  }
+
+  @Test
+  public void whenFiberCompletes_recordDurationByFirstStep() {
+    long initialCount = getFiberCount(FirstStep.class);
+
+    testSupport.runSteps(new FirstStep(new CountedStep(null)));
+
+    assertThat(getFiberCount(FirstStep.class), equalTo(initialCount + 1));
+  }
+
+  @Test
+  public void histogramBucketCountsAreCumulative() {
+    Histogram histogram = new Histogram();
+
+    histogram.record(500_000L);
+    histogram.record(2_000_000_000L);
+
+    long[] counts = histogram.getCumulativeCounts();
+    assertThat(counts[0], equalTo(1L));
+    assertThat(counts[counts.length - 1], equalTo(2L));
+    assertThat(histogram.getSumSeconds(), greaterThan(2.0));
+  }
+
+  static class CountedStep extends Step {
+    CountedStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  static class FirstStep extends CountedStep {
+    FirstStep(Step next) {
+      super(next);
+    }
+  }
+
+  static class SuspendingStep extends Step {
+    private Fiber fiber;
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(f -> fiber = f);
+    }
+  }
+}
@@ -273,6 +273,8 @@ public class FiberTestSupport {
             "Attempt to move clock backwards from " + currentTime + " to " + newTime);
       }
 
+      // the items are run only once all due items have been removed, since they may schedule new items
+      List<ScheduledItem> dueItems = new ArrayList<>();
       List<ScheduledItem> rescheduledItems = new ArrayList<>();
       for (Iterator<ScheduledItem> it = scheduledItems.iterator(); it.hasNext(); ) {
         ScheduledItem item = it.next();
@@ -281,8 +283,9 @@ public class FiberTestSupport {
         }
         it.remove();
         Optional.ofNullable(item.rescheduled()).ifPresent(rescheduledItems::add);
-        execute(item.runnable);
+        dueItems.add(item);
       }
+      dueItems.forEach(item -> execute(item.runnable));
       scheduledItems.addAll(rescheduledItems);
 
       currentTime = newTime;
@@ -0,0 +1,166 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+public class FiberTraceTest {
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final SuspendingStep suspendingStep = new SuspendingStep(null);
+
+  @After
+  public void tearDown() {
+    Fiber.setTracingEnabled(false);
+  }
+
+  private String getTrace() {
+    return Fiber.getTraces().get(suspendingStep.fiber.toString());
+  }
+
+  @Test
+  public void whenTracingEnabled_suspendedFiberReportsStepsRun() {
+    Fiber.setTracingEnabled(true);
+
+    testSupport.runSteps(new TraceStep(new TraceStep(suspendingStep)));
+
+    assertThat(getTrace(), matchesPattern("\\[Trace@\\d+ms,Trace@\\d+ms,Suspending@\\d+ms]\\[]"));
+  }
+
+  @Test
+  public void whenFiberResumed_traceContinuesInNewGroup() {
+    Fiber.setTracingEnabled(true);
+    SuspendingStep firstSuspendingStep = new SuspendingStep(new TraceStep(suspendingStep));
+
+    testSupport.runSteps(firstSuspendingStep);
+    firstSuspendingStep.fiber.resume(testSupport.getPacket());
+
+    assertThat(getTrace(), matchesPattern("\\[Suspending@\\d+ms]\\[Trace@\\d+ms,Suspending@\\d+ms]\\[]"));
+  }
+
+  @Test
+  public void whenFiberCompletes_itNoLongerReportsTrace() {
+    Fiber.setTracingEnabled(true);
+
+    testSupport.runSteps(suspendingStep);
+    String fiberName = suspendingStep.fiber.toString();
+    suspendingStep.fiber.resume(testSupport.getPacket());
+
+    assertThat(Fiber.getTraces(), not(hasKey(fiberName)));
+  }
+
+  @Test
+  public void whenTracingDisabled_fiberReportsNoTrace() {
+    testSupport.runSteps(suspendingStep);
+
+    assertThat(Fiber.getTraces(), not(hasKey(suspendingStep.fiber.toString())));
+  }
+
+  @Test
+  public void whenFiberForksChildren_traceIncludesChildTraces() {
+    Fiber.setTracingEnabled(true);
+
+    testSupport.runSteps(new ForkingStep(suspendingStep));
+
+    assertThat(Fiber.getTraces().values().toString(), containsString("{child-"));
+  }
+
+  @Test
+  public void whenMoreEntriesThanCapacity_traceShowsOnlyMostRecent() {
+    FiberTrace trace = new FiberTrace();
+    for (int i = 0; i < FiberTrace.CAPACITY + 1; i++) {
+      trace.recordInvoke(suspendingStep);
+    }
+    trace.recordInvoke(new TraceStep(null));
+
+    StringBuilder sb = new StringBuilder();
+    trace.writeTo(sb);
+
+    assertThat(sb.toString(), startsWith("[...,Suspending@"));
+    assertThat(sb.toString(), matchesPattern(".*,Trace@\\d+ms]"));
+  }
+
+  @Test
+  public void whenExceptionRecorded_traceShowsItsClassName() {
+    FiberTrace trace = new FiberTrace();
+    trace.recordThrow(new IllegalStateException());
+
+    StringBuilder sb = new StringBuilder();
+    trace.writeTo(sb);
+
+    assertThat(sb.toString(), matchesPattern("\\[\\(IllegalStateException\\)@\\d+ms]"));
+  }
+
+  @Test
+  public void whileFiberRuns_itsNameStartsWithThreadName() {
+    NamingStep namingStep = new NamingStep();
+
+    testSupport.runSteps(namingStep);
+
+    assertThat(namingStep.fiberName, startsWith(Thread.currentThread().getName() + "-fiber-"));
+  }
+
+  static class TraceStep extends Step {
+    TraceStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  static class SuspendingStep extends Step {
+    private Fiber fiber;
+
+    SuspendingStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(getNext(), f -> fiber = f);
+    }
+  }
+
+  static class NamingStep extends Step {
+    private String fiberName;
+
+    NamingStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      fiberName = Fiber.getCurrentIfSet().toString();
+      return doNext(packet);
+    }
+  }
+
+  static class ForkingStep extends Step {
+    private final Step childStep;
+
+    ForkingStep(Step childStep) {
+      super(null);
+      this.childStep = childStep;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doForkJoin(getNext(), packet,
+          Collections.singletonList(new StepAndPacket(childStep, packet.clone())));
+    }
+  }
+}
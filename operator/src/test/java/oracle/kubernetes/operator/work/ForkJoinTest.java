@@ -0,0 +1,152 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import oracle.kubernetes.operator.work.Step.StepAndPacket;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+public class ForkJoinTest {
+  private static final String JOINED = "joined";
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final List<Fiber> suspendedChildren = new ArrayList<>();
+  private final List<String> startedChildren = new ArrayList<>();
+
+  private void resumeOldestChild() {
+    Fiber child = suspendedChildren.remove(0);
+    child.resume(testSupport.getPacket());
+  }
+
+  private void failOldestChild() {
+    Fiber child = suspendedChildren.remove(0);
+    child.terminate(new IllegalStateException(), testSupport.getPacket());
+  }
+
+  private boolean isJoined() {
+    return testSupport.getPacket().get(JOINED) != null;
+  }
+
+  @Test
+  public void whenMaxInFlightIsLessThanChildCount_startOnlyMaxChildren() {
+    testSupport.runSteps(new ForkStep(2, "a", "b", "c", "d"));
+
+    assertThat(startedChildren, contains("a", "b"));
+  }
+
+  @Test
+  public void whenChildCompletes_startNextWaitingChild() {
+    testSupport.runSteps(new ForkStep(2, "a", "b", "c", "d"));
+
+    resumeOldestChild();
+
+    assertThat(startedChildren, contains("a", "b", "c"));
+    assertThat(suspendedChildren, hasSize(2));
+  }
+
+  @Test
+  public void whenAllChildrenComplete_resumeParent() {
+    testSupport.runSteps(new ForkStep(2, "a", "b", "c"));
+
+    resumeOldestChild();
+    resumeOldestChild();
+    assertThat(isJoined(), equalTo(false));
+    resumeOldestChild();
+
+    assertThat(isJoined(), equalTo(true));
+  }
+
+  @Test
+  public void whenMaxInFlightNotPositive_runChildrenOneAtATime() {
+    testSupport.runSteps(new ForkStep(0, "a", "b"));
+
+    assertThat(startedChildren, contains("a"));
+  }
+
+  @Test
+  public void whenNoChildren_resumeParentImmediately() {
+    testSupport.runSteps(new ForkStep(2));
+
+    assertThat(startedChildren, empty());
+    assertThat(isJoined(), equalTo(true));
+  }
+
+  @Test
+  public void whenChildFails_runRemainingChildrenAndTerminateParent() {
+    testSupport.runSteps(new ForkStep(1, "a", "b"));
+
+    failOldestChild();
+    resumeOldestChild();
+
+    assertThat(startedChildren, contains("a", "b"));
+    assertThat(isJoined(), equalTo(false));
+    testSupport.verifyCompletionThrowable(IllegalStateException.class);
+  }
+
+  @Test
+  public void whenSeveralChildrenFail_terminateParentWithMultiThrowable() {
+    testSupport.runSteps(new ForkStep(2, "a", "b"));
+
+    failOldestChild();
+    failOldestChild();
+
+    testSupport.verifyCompletionThrowable(Step.MultiThrowable.class);
+  }
+
+  private class ForkStep extends Step {
+    private final int maxInFlight;
+    private final String[] names;
+
+    ForkStep(int maxInFlight, String... names) {
+      super(new JoinedStep());
+      this.maxInFlight = maxInFlight;
+      this.names = names;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Collection<StepAndPacket> startDetails = new ArrayList<>();
+      for (String name : names) {
+        startDetails.add(new StepAndPacket(new ChildStep(name), packet.clone()));
+      }
+      return doForkJoin(getNext(), packet, startDetails, maxInFlight);
+    }
+  }
+
+  private class ChildStep extends Step {
+    private final String name;
+
+    ChildStep(String name) {
+      super(null);
+      this.name = name;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      startedChildren.add(name);
+      return doSuspend(suspendedChildren::add);
+    }
+  }
+
+  private static class JoinedStep extends Step {
+    JoinedStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.put(JOINED, true);
+      return doNext(packet);
+    }
+  }
+}
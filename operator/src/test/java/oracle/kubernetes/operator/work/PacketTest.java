@@ -0,0 +1,152 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class PacketTest {
+  private static final PacketKey<Integer> COUNT = PacketKey.of("count");
+
+  private final Packet packet = new Packet();
+
+  @Test
+  public void cloneHasValuesOfOriginal() {
+    packet.put("a", "1");
+
+    assertThat(packet.clone(), hasEntry("a", "1"));
+  }
+
+  @Test
+  public void whenCloneChanged_originalIsUnchanged() {
+    packet.put("a", "1");
+
+    Packet clone = packet.clone();
+    clone.put("a", "2");
+    clone.put("b", "3");
+
+    assertThat(packet.get("a"), equalTo("1"));
+    assertThat(packet.containsKey("b"), equalTo(false));
+  }
+
+  @Test
+  public void whenOriginalChangedAfterClone_cloneIsUnchanged() {
+    packet.put("a", "1");
+
+    Packet clone = packet.clone();
+    packet.put("a", "2");
+    packet.remove("a");
+
+    assertThat(clone.get("a"), equalTo("1"));
+  }
+
+  @Test
+  public void whenValueRemovedFromClone_originalKeepsIt() {
+    packet.put("a", "1");
+
+    Packet clone = packet.clone();
+    clone.remove("a");
+
+    assertThat(clone.containsKey("a"), equalTo(false));
+    assertThat(packet.get("a"), equalTo("1"));
+  }
+
+  @Test
+  public void whenNullPut_removeEntry() {
+    packet.put("a", "1");
+
+    packet.put("a", null);
+
+    assertThat(packet.containsKey("a"), equalTo(false));
+  }
+
+  @Test
+  public void whenChangedAfterClones_entriesCombineSharedAndChangedValues() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+    Packet clone = packet.clone().clone();
+
+    clone.put("b", "3");
+    clone.put("c", "4");
+    clone.remove("a");
+
+    assertThat(clone, aMapWithSize(2));
+    assertThat(clone, hasEntry("b", "3"));
+    assertThat(clone, hasEntry("c", "4"));
+  }
+
+  @Test
+  public void whenEntryRemovedThroughIterator_removeFromPacket() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    Iterator<Map.Entry<String, Object>> iterator = clone.entrySet().iterator();
+    iterator.next();
+    iterator.remove();
+
+    assertThat(clone.isEmpty(), equalTo(true));
+    assertThat(packet.isEmpty(), equalTo(false));
+  }
+
+  @Test
+  public void whenComponentAddedToClone_originalDoesNotSeeIt() {
+    Packet clone = packet.clone();
+
+    clone.getComponents().put("c", Component.createFor(String.class, "spi"));
+
+    assertThat(clone.getSpi(String.class), equalTo("spi"));
+    assertThat(packet.getSpi(String.class), nullValue());
+  }
+
+  @Test
+  public void whenComponentReplacedInClone_spiComesFromReplacement() {
+    packet.getComponents().put("c", Component.createFor(String.class, "original"));
+
+    Packet clone = packet.clone();
+    clone.getComponents().put("c", Component.createFor(String.class, "replacement"));
+
+    assertThat(clone.getSpi(String.class), equalTo("replacement"));
+    assertThat(packet.getSpi(String.class), equalTo("original"));
+  }
+
+  @Test
+  public void typedKeyReadsEntryWithSameName() {
+    packet.put("count", 3);
+
+    int count = packet.getValue(COUNT);
+
+    assertThat(count, equalTo(3));
+  }
+
+  @Test
+  public void typedKeySetsEntryWithSameName() {
+    packet.put(COUNT, 4);
+
+    assertThat(packet.get("count"), equalTo(4));
+  }
+
+  @Test
+  public void componentReturnsObjectsByKeyClass() {
+    Object value = new Object();
+    Component component = Component.createFor(Object.class, value, "text");
+
+    assertThat(component.getSpi(Object.class), sameInstance(value));
+    assertThat(component.getSpi(String.class), equalTo("text"));
+    assertThat(component.getSpi(Integer.class), nullValue());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void whenComponentKeyRepeated_throwException() {
+    Component.createFor("first", "second");
+  }
+}
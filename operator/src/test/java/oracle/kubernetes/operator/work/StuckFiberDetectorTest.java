@@ -0,0 +1,190 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.logging.MessageKeys.FIBER_STUCK;
+import static oracle.kubernetes.utils.LogMatcher.containsWarning;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+public class StuckFiberDetectorTest {
+  private static final long THRESHOLD_SECONDS = 60;
+  private static final long PAST_THRESHOLD = TimeUnit.SECONDS.toNanos(THRESHOLD_SECONDS * 2);
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final StuckFiberDetector detector = new StuckFiberDetector(THRESHOLD_SECONDS, TimeUnit.SECONDS);
+  private final SuspendingStep suspendingStep = new SuspendingStep(null);
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+  private long initialStuckCount;
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger().collectLogMessages(logRecords, FIBER_STUCK));
+    testSupport.getEngine().setStuckFiberDetector(detector);
+    initialStuckCount = FiberMetrics.getStuckFiberCount();
+  }
+
+  @After
+  public void tearDown() {
+    testSupport.getEngine().setStuckFiberDetector(null);
+    mementos.forEach(Memento::revert);
+  }
+
+  private long getNewStuckFiberCount() {
+    return FiberMetrics.getStuckFiberCount() - initialStuckCount;
+  }
+
+  @Test
+  public void whenFiberStaysSuspendedPastThreshold_reportIt() {
+    testSupport.runSteps(suspendingStep);
+
+    detector.tick(System.nanoTime() + PAST_THRESHOLD);
+
+    assertThat(getNewStuckFiberCount(), equalTo(1L));
+    assertThat(logRecords, containsWarning(FIBER_STUCK));
+  }
+
+  @Test
+  public void whenFiberSuspendedForLessThanThreshold_doNotReportIt() {
+    testSupport.runSteps(suspendingStep);
+
+    detector.tick(System.nanoTime());
+
+    assertThat(getNewStuckFiberCount(), equalTo(0L));
+  }
+
+  @Test
+  public void whenFiberResumedBeforeThreshold_doNotReportIt() {
+    testSupport.runSteps(suspendingStep);
+    suspendingStep.fiber.resume(testSupport.getPacket());
+
+    detector.tick(System.nanoTime() + PAST_THRESHOLD);
+
+    assertThat(getNewStuckFiberCount(), equalTo(0L));
+  }
+
+  @Test
+  public void whenFiberSuspendedAgainBeforeThreshold_watchLatestSuspension() {
+    SuspendingStep firstSuspendingStep = new SuspendingStep(suspendingStep);
+    testSupport.runSteps(firstSuspendingStep);
+    firstSuspendingStep.fiber.resume(testSupport.getPacket());
+
+    detector.tick(System.nanoTime() + PAST_THRESHOLD);
+    detector.tick(System.nanoTime() + PAST_THRESHOLD * 2);
+
+    assertThat(getNewStuckFiberCount(), equalTo(1L));
+    assertThat(logRecords, containsWarning(FIBER_STUCK));
+  }
+
+  @Test
+  public void whenFiberStuck_reportItOnlyOnce() {
+    testSupport.runSteps(suspendingStep);
+
+    detector.tick(System.nanoTime() + PAST_THRESHOLD);
+    detector.tick(System.nanoTime() + PAST_THRESHOLD * 2);
+
+    assertThat(getNewStuckFiberCount(), equalTo(1L));
+    assertThat(logRecords, containsWarning(FIBER_STUCK));
+  }
+
+  @Test
+  public void whenFiberWithSuspendedChildStuck_reportChildToo() {
+    testSupport.runSteps(new ForkingStep(suspendingStep));
+
+    detector.tick(System.nanoTime() + PAST_THRESHOLD);
+
+    assertThat(getNewStuckFiberCount(), equalTo(1L));
+    assertThat(logRecords, hasSize(2));
+    assertThat(logRecords.get(1).getParameters()[0].toString(), containsString("-child-"));
+    assertThat(logRecords.get(1).getParameters()[1].toString(), containsString("Suspending"));
+    logRecords.clear();
+  }
+
+  @Test
+  public void suspendedFiberStatusNamesSuspendingStep() {
+    testSupport.runSteps(suspendingStep);
+
+    FiberStatus status = suspendingStep.fiber.getStatus();
+
+    assertThat(status.isSuspended(), equalTo(true));
+    assertThat(status.getStepName(), containsString("Suspending"));
+  }
+
+  @Test
+  public void fiberStatusIncludesRunningChildren() {
+    ForkingStep forkingStep = new ForkingStep(suspendingStep);
+    testSupport.runSteps(forkingStep);
+
+    assertThat(forkingStep.parent.getStatus().getChildren(), hasSize(1));
+    assertThat(suspendingStep.fiber.getStatus().getChildren(), empty());
+  }
+
+  @Test
+  public void fiberGateReportsFibersUntilTheyComplete() {
+    FiberGate gate = testSupport.createFiberGate();
+
+    gate.startFiber("domain1", suspendingStep, new Packet(), new NullCompletionCallback());
+    assertThat(gate.getCurrentFibers().keySet(), contains("domain1"));
+
+    suspendingStep.fiber.resume(new Packet());
+    assertThat(gate.getCurrentFibers().keySet(), empty());
+  }
+
+  static class SuspendingStep extends Step {
+    private Fiber fiber;
+
+    SuspendingStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(getNext(), f -> fiber = f);
+    }
+  }
+
+  static class ForkingStep extends Step {
+    private final Step childStep;
+    private Fiber parent;
+
+    ForkingStep(Step childStep) {
+      super(null);
+      this.childStep = childStep;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      parent = Fiber.current();
+      return doForkJoin(getNext(), packet,
+          Collections.singletonList(new StepAndPacket(childStep, packet.clone())));
+    }
+  }
+
+  static class NullCompletionCallback implements Fiber.CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+    }
+  }
+}
@@ -0,0 +1,222 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.work.Engine.ExecutorMode;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.logging.MessageKeys.EXCEPTION;
+import static oracle.kubernetes.utils.LogMatcher.containsSevere;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+public class WorkStealingScheduledExecutorTest {
+  private static final long TIMEOUT_SECONDS = 5;
+
+  private final WorkStealingScheduledExecutor executor = new WorkStealingScheduledExecutor("test", 2);
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @After
+  public void tearDown() throws InterruptedException {
+    executor.shutdownNow();
+    executor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    mementos.forEach(Memento::revert);
+  }
+
+  private static void await(CountDownLatch latch) throws InterruptedException {
+    assertThat(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), equalTo(true));
+  }
+
+  @Test
+  public void executedTasksRunOnWorkerThreads() throws InterruptedException {
+    AtomicReference<String> threadName = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(1);
+
+    executor.execute(() -> {
+      threadName.set(Thread.currentThread().getName());
+      done.countDown();
+    });
+
+    await(done);
+    assertThat(threadName.get(), startsWith("engine-test-worker-"));
+  }
+
+  @Test
+  public void scheduledTasksRunOnWorkerThreads() throws Exception {
+    ScheduledFuture<String> future =
+        executor.schedule(() -> Thread.currentThread().getName(), 10, TimeUnit.MILLISECONDS);
+
+    assertThat(future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), startsWith("engine-test-worker-"));
+  }
+
+  // a cancelled task leaves the timer at once, so nothing remains which could hand it to the workers
+  @Test
+  public void whenScheduledTaskCancelled_itDoesNotRun() {
+    AtomicInteger runs = new AtomicInteger();
+    ScheduledFuture<?> future = executor.schedule(runs::incrementAndGet, 1, TimeUnit.MINUTES);
+
+    future.cancel(false);
+
+    assertThat(future.isCancelled(), equalTo(true));
+    assertThat(executor.getScheduledTaskCount(), equalTo(0));
+    assertThat(runs.get(), equalTo(0));
+  }
+
+  @Test
+  public void periodicTasksRepeatUntilCancelled() throws InterruptedException {
+    CountDownLatch threeRuns = new CountDownLatch(3);
+    ScheduledFuture<?> future =
+        executor.scheduleWithFixedDelay(threeRuns::countDown, 0, 10, TimeUnit.MILLISECONDS);
+
+    await(threeRuns);
+    future.cancel(false);
+
+    assertThat(future.isCancelled(), equalTo(true));
+  }
+
+  @Test
+  public void whenExecutedTaskFails_logItAndKeepRunningTasks() throws InterruptedException {
+    IllegalStateException failure = new IllegalStateException();
+    List<LogRecord> logRecords = new CopyOnWriteArrayList<>();
+    mementos.add(
+        TestUtils.silenceOperatorLogger().collectLogMessages(logRecords, EXCEPTION).ignoringLoggedExceptions(failure));
+    CountDownLatch done = new CountDownLatch(1);
+
+    executor.execute(() -> {
+      throw failure;
+    });
+    executor.execute(done::countDown);
+
+    await(done);
+    assertThat(logRecords, containsSevere(EXCEPTION));
+  }
+
+  // a failed run completes the task's future and does not schedule another run
+  @Test
+  public void whenPeriodicTaskFails_itStopsRepeating() throws Exception {
+    AtomicInteger runs = new AtomicInteger();
+    ScheduledFuture<?> future = executor.scheduleAtFixedRate(() -> {
+      runs.incrementAndGet();
+      throw new IllegalStateException();
+    }, 0, 10, TimeUnit.MILLISECONDS);
+
+    try {
+      future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+    }
+
+    assertThat(future.isDone(), equalTo(true));
+    assertThat(executor.getScheduledTaskCount(), equalTo(0));
+    assertThat(runs.get(), equalTo(1));
+  }
+
+  @Test
+  public void whenTaskWaitsForTimer_countItAsScheduled() {
+    executor.schedule(() -> { }, 1, TimeUnit.MINUTES);
+
+    assertThat(executor.getScheduledTaskCount(), equalTo(1));
+    assertThat(executor.getQueuedTaskCount(), equalTo(0));
+  }
+
+  @Test
+  public void fibersRunToCompletionOnWorkStealingEngine() throws InterruptedException {
+    Engine engine = new Engine(executor);
+    CountDownLatch done = new CountDownLatch(1);
+
+    engine.createFiber().start(new DelayStep(), new Packet(), new Fiber.CompletionCallback() {
+      @Override
+      public void onCompletion(Packet packet) {
+        done.countDown();
+      }
+
+      @Override
+      public void onThrowable(Packet packet, Throwable throwable) {
+      }
+    });
+
+    await(done);
+  }
+
+  @Test
+  public void whenEngineExecutorCreated_registerGauges() {
+    ScheduledExecutorService engineExecutor = Engine.wrappedExecutorService("gauged", null, ExecutorMode.WORK_STEALING);
+
+    try {
+      assertThat(Engine.getExecutorGauges(), hasKey("gauged"));
+      assertThat(Engine.getExecutorGauges().get("gauged").getPoolSize(), greaterThanOrEqualTo(0));
+    } finally {
+      engineExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void whenEngineExecutorShutDown_unregisterGauges() {
+    Engine.wrappedExecutorService("gauged", null, ExecutorMode.WORK_STEALING).shutdown();
+
+    assertThat(Engine.getExecutorGauges(), not(hasKey("gauged")));
+  }
+
+  @Test
+  public void whenScheduledEngineExecutorShutDown_unregisterGauges() {
+    Engine.wrappedExecutorService("gauged", null, ExecutorMode.SCHEDULED).shutdownNow();
+
+    assertThat(Engine.getExecutorGauges(), not(hasKey("gauged")));
+  }
+
+  @Test
+  public void whenReplacedEngineExecutorShutDown_keepReplacementGauges() {
+    ScheduledExecutorService first = Engine.wrappedExecutorService("gauged", null, ExecutorMode.SCHEDULED);
+    ScheduledExecutorService second = Engine.wrappedExecutorService("gauged", null, ExecutorMode.SCHEDULED);
+
+    try {
+      first.shutdownNow();
+
+      assertThat(Engine.getExecutorGauges(), hasKey("gauged"));
+    } finally {
+      second.shutdownNow();
+    }
+  }
+
+  @Test
+  public void executorModeIsParsedIgnoringCase() {
+    assertThat(ExecutorMode.fromName("work_stealing"), equalTo(ExecutorMode.WORK_STEALING));
+  }
+
+  @Test
+  public void whenExecutorModeUnknown_useScheduled() {
+    assertThat(ExecutorMode.fromName(null), equalTo(ExecutorMode.SCHEDULED));
+  }
+
+  private static class DelayStep extends Step {
+    DelayStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doDelay(null, packet, 10, TimeUnit.MILLISECONDS);
+    }
+  }
+}